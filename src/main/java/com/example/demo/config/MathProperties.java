@@ -0,0 +1,231 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Ajustes de los cálculos de {@code MathService}, con prefijo {@code math} en
+ * {@code application.properties} o en cualquier otra fuente de Spring:
+ * <pre>
+ *   math.compute.parallelism=8
+ *   math.cache.max-bytes=268435456
+ *   math.cache.max-entry-bytes=67108864
+ *   math.external.run-length=8388608
+ *   math.external.temp-dir=/var/tmp
+ *   math.external.memory-budget=536870912
+ *   math.graphs.max-graphs=100
+ *   math.graphs.max-total-edges=10000000
+ *   math.sessions.max-entries=100
+ *   math.sessions.idle-timeout=10m
+ *   math.sessions.max-distinct-values=1000000
+ *   math.sketches.max-entries=1000
+ *   math.sketches.idle-timeout=1h
+ * </pre>
+ * Los valores por defecto son los de cada campo.
+ */
+@ConfigurationProperties(prefix = "math")
+public class MathProperties {
+
+    private final Compute compute = new Compute();
+    private final Cache cache = new Cache();
+    private final External external = new External();
+    private final Graphs graphs = new Graphs();
+    private final Sessions sessions = new Sessions();
+
+    /** Resúmenes de cuantiles de {@code /api/math/sketches}, de unos pocos KB cada uno. */
+    private final Retention sketches = new Retention(10_000, Duration.ofMinutes(30));
+
+    public Compute getCompute() {
+        return compute;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public External getExternal() {
+        return external;
+    }
+
+    public Graphs getGraphs() {
+        return graphs;
+    }
+
+    public Sessions getSessions() {
+        return sessions;
+    }
+
+    public Retention getSketches() {
+        return sketches;
+    }
+
+    /**
+     * Pool de fork-join de las reducciones en paralelo.
+     */
+    public static class Compute {
+        /** Número de hilos del pool; por defecto uno por núcleo. */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    /**
+     * Caché de resultados de ordenaciones y modas.
+     */
+    public static class Cache {
+        /** Presupuesto en bytes; 0 desactiva la caché. Por defecto 64 MB. */
+        private long maxBytes = 64L << 20;
+
+        /**
+         * Tamaño máximo de una entrada; los resultados mayores se calculan pero no
+         * se guardan. 0 usa el tamaño del segmento de prueba (20% del presupuesto).
+         */
+        private long maxEntryBytes;
+
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        public long getMaxEntryBytes() {
+            return maxEntryBytes;
+        }
+
+        public void setMaxEntryBytes(long maxEntryBytes) {
+            this.maxEntryBytes = maxEntryBytes;
+        }
+    }
+
+    /**
+     * Ordenación externa de listas empaquetadas.
+     */
+    public static class External {
+        /** Elementos por tramo: 4M por defecto (16 MB en int32, 32 MB en float64). */
+        private int runLength = 1 << 22;
+
+        /** Directorio de los ficheros temporales; por defecto {@code java.io.tmpdir}. */
+        private String tempDir = System.getProperty("java.io.tmpdir");
+
+        /**
+         * Bytes de tramos en memoria a la vez, el que se lee más los que se
+         * ordenan; por defecto 256 MB. Siempre cabe al menos un tramo.
+         */
+        private long memoryBudget = 256L << 20;
+
+        public int getRunLength() {
+            return runLength;
+        }
+
+        public void setRunLength(int runLength) {
+            this.runLength = runLength;
+        }
+
+        public String getTempDir() {
+            return tempDir;
+        }
+
+        public void setTempDir(String tempDir) {
+            this.tempDir = tempDir;
+        }
+
+        public long getMemoryBudget() {
+            return memoryBudget;
+        }
+
+        public void setMemoryBudget(long memoryBudget) {
+            this.memoryBudget = memoryBudget;
+        }
+    }
+
+    /**
+     * Registro de grafos compilados de {@code /api/dijkstra/graphs}.
+     */
+    public static class Graphs {
+        /** Número máximo de grafos registrados a la vez. */
+        private int maxGraphs = 1_000;
+
+        /** Suma máxima de aristas de todos los grafos; 8 bytes por arista en CSR. */
+        private long maxTotalEdges = 20_000_000;
+
+        public int getMaxGraphs() {
+            return maxGraphs;
+        }
+
+        public void setMaxGraphs(int maxGraphs) {
+            this.maxGraphs = maxGraphs;
+        }
+
+        public long getMaxTotalEdges() {
+            return maxTotalEdges;
+        }
+
+        public void setMaxTotalEdges(long maxTotalEdges) {
+            this.maxTotalEdges = maxTotalEdges;
+        }
+    }
+
+    /**
+     * Límites de un registro de objetos en memoria creados por los clientes.
+     */
+    public static class Retention {
+        /** Número máximo de objetos a la vez. */
+        private int maxEntries;
+
+        /** Inactividad tras la que un objeto caduca; cero para que no caduquen. */
+        private Duration idleTimeout;
+
+        Retention(int maxEntries, Duration idleTimeout) {
+            this.maxEntries = maxEntries;
+            this.idleTimeout = idleTimeout;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+    }
+
+    /**
+     * Sesiones de estadísticas incrementales de {@code /api/math/sessions}. Cada
+     * una guarda la frecuencia de cada valor distinto (unos 16 bytes por valor),
+     * así que el peor caso es {@code max-entries × max-distinct-values}: 500
+     * sesiones de 65.536 valores, unos 500 MB, con los valores por defecto.
+     */
+    public static class Sessions extends Retention {
+        /** Valores distintos máximos por sesión. */
+        private int maxDistinctValues = 1 << 16;
+
+        Sessions() {
+            super(500, Duration.ofMinutes(30));
+        }
+
+        public int getMaxDistinctValues() {
+            return maxDistinctValues;
+        }
+
+        public void setMaxDistinctValues(int maxDistinctValues) {
+            this.maxDistinctValues = maxDistinctValues;
+        }
+    }
+}
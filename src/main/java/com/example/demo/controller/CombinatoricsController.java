@@ -0,0 +1,95 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.BinomialBatchRequest;
+import com.example.demo.service.CombinatoricsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Controlador REST de combinatoria: factoriales, combinaciones y variaciones
+ * módulo {@link CombinatoricsService#MODULUS}, y logaritmos de factorial y gamma.
+ *
+ * Todas las respuestas incluyen {@code result} y {@code operation}; las modulares
+ * añaden {@code modulus}. Un argumento fuera de rango devuelve 400 con el motivo.
+ */
+@RestController
+@RequestMapping("/api/math/combinatorics")
+public class CombinatoricsController {
+
+    private final CombinatoricsService combinatoricsService;
+
+    @Autowired
+    public CombinatoricsController(CombinatoricsService combinatoricsService) {
+        this.combinatoricsService = combinatoricsService;
+    }
+
+    @GetMapping("/factorial")
+    public ResponseEntity<Map<String, Object>> factorialMod(@RequestParam int n) {
+        return ResponseEntity.ok(Map.of(
+            "result", combinatoricsService.factorialMod(n),
+            "operation", "factorial-mod",
+            "modulus", CombinatoricsService.MODULUS,
+            "n", n
+        ));
+    }
+
+    @GetMapping("/binomial")
+    public ResponseEntity<Map<String, Object>> binomialMod(@RequestParam int n, @RequestParam int k) {
+        return ResponseEntity.ok(Map.of(
+            "result", combinatoricsService.binomialMod(n, k),
+            "operation", "binomial-mod",
+            "modulus", CombinatoricsService.MODULUS,
+            "n", n,
+            "k", k
+        ));
+    }
+
+    /**
+     * Evalúa un lote de combinaciones: {@code result[i] = C(n[i], k[i]) mod p}.
+     */
+    @PostMapping("/binomial")
+    public ResponseEntity<Map<String, Object>> binomialModBatch(@RequestBody BinomialBatchRequest request) {
+        return ResponseEntity.ok(Map.of(
+            "result", combinatoricsService.binomialModBatch(request.getN(), request.getK()),
+            "operation", "binomial-mod",
+            "modulus", CombinatoricsService.MODULUS
+        ));
+    }
+
+    @GetMapping("/permutation")
+    public ResponseEntity<Map<String, Object>> permutationMod(@RequestParam int n, @RequestParam int k) {
+        return ResponseEntity.ok(Map.of(
+            "result", combinatoricsService.permutationMod(n, k),
+            "operation", "permutation-mod",
+            "modulus", CombinatoricsService.MODULUS,
+            "n", n,
+            "k", k
+        ));
+    }
+
+    @GetMapping("/log-factorial")
+    public ResponseEntity<Map<String, Object>> logFactorial(@RequestParam long n) {
+        return ResponseEntity.ok(Map.of(
+            "result", combinatoricsService.logFactorial(n),
+            "operation", "log-factorial",
+            "n", n
+        ));
+    }
+
+    @GetMapping("/lgamma")
+    public ResponseEntity<Map<String, Object>> logGamma(@RequestParam double x) {
+        return ResponseEntity.ok(Map.of(
+            "result", combinatoricsService.logGamma(x),
+            "operation", "lgamma",
+            "x", x
+        ));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
@@ -2,11 +2,17 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.DijkstraResult;
 import com.example.demo.dto.Graph;
+import com.example.demo.dto.ShortestPathTree;
 import com.example.demo.service.DijkstraService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 /**
  * Controlador REST para operaciones del algoritmo de Dijkstra
  */
@@ -16,9 +22,17 @@ public class DijkstraController {
 
     private final DijkstraService dijkstraService;
 
+    /** JSON del grafo predefinido, serializado una sola vez al arrancar. */
+    private final byte[] defaultGraphJson;
+
     @Autowired
-    public DijkstraController(DijkstraService dijkstraService) {
+    public DijkstraController(DijkstraService dijkstraService, ObjectMapper objectMapper) {
         this.dijkstraService = dijkstraService;
+        try {
+            this.defaultGraphJson = objectMapper.writeValueAsBytes(dijkstraService.createDefaultGraph());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el grafo predefinido", e);
+        }
     }
 
     /**
@@ -34,8 +48,7 @@ public class DijkstraController {
             @RequestParam String destination) {
         
         try {
-            Graph defaultGraph = dijkstraService.createDefaultGraph();
-            DijkstraResult result = dijkstraService.findShortestPath(defaultGraph, source, destination);
+            DijkstraResult result = dijkstraService.findShortestPathInDefaultGraph(source, destination);
             return ResponseEntity.ok(result);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(
@@ -68,15 +81,41 @@ public class DijkstraController {
         }
     }
 
+    /**
+     * Distancia y predecesor de todos los nodos alcanzables desde {@code source}
+     * en el grafo predefinido
+     *
+     * @param source nodo origen
+     * @return árbol de caminos más cortos desde el origen
+     */
+    @GetMapping("/shortest-path-tree")
+    public ResponseEntity<ShortestPathTree> findShortestPathTree(@RequestParam String source) {
+        return ResponseEntity.ok(dijkstraService.findShortestPathTreeInDefaultGraph(source));
+    }
+
+    /**
+     * Distancia y predecesor de todos los nodos alcanzables desde {@code source}
+     * en un grafo personalizado
+     *
+     * @param graph grafo personalizado
+     * @param source nodo origen
+     * @return árbol de caminos más cortos desde el origen
+     */
+    @PostMapping("/shortest-path-tree")
+    public ResponseEntity<ShortestPathTree> findShortestPathTreeCustomGraph(
+            @RequestBody Graph graph,
+            @RequestParam String source) {
+        return ResponseEntity.ok(dijkstraService.findShortestPathTree(graph, source));
+    }
+
     /**
      * Obtiene el grafo predefinido usado en las pruebas
      * 
      * @return grafo predefinido con nodos A, B, C, D, E, F
      */
     @GetMapping("/default-graph")
-    public ResponseEntity<Graph> getDefaultGraph() {
-        Graph defaultGraph = dijkstraService.createDefaultGraph();
-        return ResponseEntity.ok(defaultGraph);
+    public ResponseEntity<byte[]> getDefaultGraph() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(defaultGraphJson);
     }
 
     /**
@@ -86,8 +125,12 @@ public class DijkstraController {
      */
     @GetMapping("/path-a-to-f")
     public ResponseEntity<DijkstraResult> findPathAToF() {
-        Graph defaultGraph = dijkstraService.createDefaultGraph();
-        DijkstraResult result = dijkstraService.findShortestPath(defaultGraph, "A", "F");
+        DijkstraResult result = dijkstraService.findShortestPathInDefaultGraph("A", "F");
         return ResponseEntity.ok(result);
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
 }
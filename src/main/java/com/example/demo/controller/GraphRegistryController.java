@@ -0,0 +1,114 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.DijkstraResult;
+import com.example.demo.dto.Graph;
+import com.example.demo.dto.GraphInfo;
+import com.example.demo.dto.ShortestPathTree;
+import com.example.demo.service.GraphRegistryService;
+import com.example.demo.service.GraphVersionConflictException;
+import com.example.demo.service.StorageLimitExceededException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Controlador REST del registro de grafos.
+ *
+ * Flujo típico:
+ * <ol>
+ *   <li>{@code POST /api/dijkstra/graphs} sube el grafo y devuelve su {@code id} y {@code version};
+ *       responde 507 si el registro ya está lleno</li>
+ *   <li>{@code GET /api/dijkstra/graphs/{id}/shortest-path?source=..&destination=..}
+ *       consulta caminos tantas veces como haga falta; con {@code version} la
+ *       consulta falla con 409 si el grafo se ha sustituido entretanto</li>
+ *   <li>{@code GET /api/dijkstra/graphs/{id}/shortest-path-tree?source=..} devuelve
+ *       de una vez las distancias desde el origen a todos los nodos alcanzables</li>
+ *   <li>{@code PUT /api/dijkstra/graphs/{id}} sustituye el grafo y sube la versión</li>
+ *   <li>{@code DELETE /api/dijkstra/graphs/{id}} libera el grafo</li>
+ * </ol>
+ */
+@RestController
+@RequestMapping("/api/dijkstra/graphs")
+public class GraphRegistryController {
+
+    private final GraphRegistryService registryService;
+
+    @Autowired
+    public GraphRegistryController(GraphRegistryService registryService) {
+        this.registryService = registryService;
+    }
+
+    @PostMapping
+    public ResponseEntity<GraphInfo> register(@RequestBody Graph graph) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(registryService.register(graph));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<GraphInfo> replace(@PathVariable String id, @RequestBody Graph graph) {
+        return ResponseEntity.ok(registryService.replace(id, graph));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<GraphInfo> info(@PathVariable String id) {
+        return ResponseEntity.ok(registryService.info(id));
+    }
+
+    /**
+     * Camino más corto en un grafo registrado; los nodos inválidos se responden
+     * con 400 y el mismo cuerpo que {@code /api/dijkstra/shortest-path}.
+     */
+    @GetMapping("/{id}/shortest-path")
+    public ResponseEntity<DijkstraResult> findShortestPath(
+            @PathVariable String id,
+            @RequestParam String source,
+            @RequestParam String destination,
+            @RequestParam(required = false) Long version) {
+
+        try {
+            return ResponseEntity.ok(registryService.findShortestPath(id, version, source, destination));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                new DijkstraResult(source, destination, null, -1, false)
+            );
+        }
+    }
+
+    @GetMapping("/{id}/shortest-path-tree")
+    public ResponseEntity<ShortestPathTree> findShortestPathTree(
+            @PathVariable String id,
+            @RequestParam String source,
+            @RequestParam(required = false) Long version) {
+        return ResponseEntity.ok(registryService.findShortestPathTree(id, version, source));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable String id) {
+        return registryService.delete(id)
+            ? ResponseEntity.noContent().build()
+            : ResponseEntity.notFound().build();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidGraph(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, String>> handleUnknownGraph(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(GraphVersionConflictException.class)
+    public ResponseEntity<Map<String, String>> handleStaleVersion(GraphVersionConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(StorageLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleRegistryFull(StorageLimitExceededException e) {
+        return ResponseEntity.status(HttpStatus.INSUFFICIENT_STORAGE).body(Map.of("error", e.getMessage()));
+    }
+}
@@ -1,142 +1,481 @@
 package com.example.demo.controller;
 
+import com.example.demo.converter.PackedArrayMediaTypes;
+import com.example.demo.dto.BatchRequest;
+import com.example.demo.dto.BatchResult;
+import com.example.demo.dto.CacheStats;
+import com.example.demo.dto.DoubleListRequest;
+import com.example.demo.dto.FactorialRequest;
+import com.example.demo.dto.FactorialResult;
+import com.example.demo.dto.HeavyHittersResult;
+import com.example.demo.dto.IntListRequest;
+import com.example.demo.dto.IntListSummary;
+import com.example.demo.dto.NumberCheck;
+import com.example.demo.dto.OperandsRequest;
+import com.example.demo.dto.OperationResult;
+import com.example.demo.dto.OrderStatistics;
+import com.example.demo.dto.ReductionResult;
+import com.example.demo.dto.SortResult;
+import com.example.demo.dto.VectorRequest;
+import com.example.demo.dto.VectorResult;
 import com.example.demo.service.MathService;
+import com.example.demo.service.SortedRuns;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/math")
 public class MathController {
 
+    /** Cabecera con la estrategia de ordenación en las respuestas binarias. */
+    static final String STRATEGY_HEADER = "X-Sort-Strategy";
+
+    /** Cabecera con el número de posiciones inválidas en las respuestas binarias. */
+    static final String INVALID_COUNT_HEADER = "X-Invalid-Count";
+
+    /** Cabecera con el número de tramos de una ordenación externa. */
+    static final String RUNS_HEADER = "X-Sort-Runs";
+
+    /**
+     * Número de operandos a partir del cual las respuestas JSON dejan de
+     * devolverlos si el cliente no pide {@code operands} en {@code fields}.
+     * {@code sum-list} y {@code mean} no guardan la lista más allá de este
+     * límite, así que por encima de él no los devuelven aunque se pidan.
+     */
+    static final int OPERANDS_ECHO_LIMIT = IntListSummary.MAX_OPERANDS;
+
+    private static final Set<String> WITHOUT_OPERANDS = Set.of("result", "operation", "partitions", "strategy");
+
     @Autowired
     private MathService mathService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping("/sum")
-    public ResponseEntity<Map<String, Object>> sum(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<?> sum(@RequestBody OperandsRequest request) {
         try {
-            int a = (Integer) request.get("a");
-            int b = (Integer) request.get("b");
+            int a = request.getA();
+            int b = request.getB();
             int result = mathService.add(a, b);
             
+            return ResponseEntity.ok(new OperationResult<>(result, "sum", new int[]{a, b}));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
+        }
+    }
+
+    @PostMapping("/sum-list")
+    public ResponseEntity<?> sumList(@RequestBody IntListSummary request,
+                                     @RequestParam(required = false) Set<String> fields) {
+        try {
+            if (!request.hasNumbers()) {
+                throw new IllegalArgumentException("El campo 'numbers' es obligatorio");
+            }
+            // El conversor ya ha sumado la lista al leerla
+            int[] operands = request.getOperands();
+            
+            return ResponseEntity.ok(project(new OperationResult<>(request.getSum(), "sum-list", operands),
+                fields, operands != null ? operands.length : 0));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
+        }
+    }
+
+    /**
+     * Ejecuta en una sola petición un lote de operaciones escalares
+     * ({@code add}/{@code sum}, {@code subtract}, {@code multiply}, {@code divide},
+     * {@code sqrt}) en formato columnar.
+     * 
+     * Request body formato JSON:
+     * {
+     *   "ops": ["add", "divide", "sqrt"],
+     *   "a": [2, 7, -4],
+     *   "b": [3, 0, 0]
+     * }
+     * 
+     * Respuesta exitosa (200 OK), con un estado por operación:
+     * {
+     *   "results": [5.0, 0.0, 0.0],
+     *   "statuses": ["OK", "DIVISION_BY_ZERO", "NEGATIVE_OPERAND"],
+     *   "failed": 2,
+     *   "operation": "batch"
+     * }
+     * 
+     * Sólo los errores de estructura del lote (columnas ausentes o de distinta
+     * longitud, lote demasiado grande) devuelven 400.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, Object>> batch(@RequestBody BatchRequest request) {
+        try {
+            BatchResult result = mathService.batch(request.getOps(), request.getA(), request.getB());
+            
             return ResponseEntity.ok(Map.of(
-                "result", result,
-                "operation", "sum",
-                "operands", List.of(a, b)
+                "results", result.getResults(),
+                "statuses", result.getStatuses(),
+                "failed", result.getFailed(),
+                "operation", "batch"
             ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
         }
     }
 
-    @PostMapping("/sum-list")
-    public ResponseEntity<Map<String, Object>> sumList(@RequestBody Map<String, List<Integer>> request) {
+    /**
+     * Operación elemento a elemento entre columnas: {@code add}, {@code subtract},
+     * {@code multiply}, {@code divide} o {@code sqrt} (sólo usa {@code a}).
+     * 
+     * Request body: {"a": [1.0, 4.0, 9.0], "b": [2.0, 0.0, 3.0]}
+     * 
+     * Respuesta exitosa (200 OK) de {@code /vector/divide}:
+     * {
+     *   "result": [0.5, NaN, 3.0],
+     *   "invalid": "Ag==",
+     *   "invalidCount": 1,
+     *   "operation": "vector-divide"
+     * }
+     * 
+     * Las posiciones sin resultado valen NaN y se marcan en {@code invalid}, un
+     * bitmap en Base64 con el bit {@code i % 8} del byte {@code i / 8} para la
+     * posición {@code i}.
+     */
+    @PostMapping("/vector/{operation}")
+    public ResponseEntity<Map<String, Object>> vector(@PathVariable String operation,
+                                                      @RequestBody VectorRequest request) {
         try {
-            List<Integer> numbers = request.get("numbers");
-            int result = mathService.sumList(numbers);
+            VectorResult result = mathService.elementwise(operation, request.getA(), request.getB());
             
             return ResponseEntity.ok(Map.of(
-                "result", result,
-                "operation", "sum-list",
-                "operands", numbers
+                "result", result.getResults(),
+                "invalid", result.getInvalid(),
+                "invalidCount", result.getInvalidCount(),
+                "operation", "vector-" + operation
             ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
         }
     }
 
+    /**
+     * Variante binaria de {@code /vector/{operation}}: los resultados en float64
+     * little-endian, con NaN en las posiciones inválidas y su número en
+     * {@link #INVALID_COUNT_HEADER}.
+     */
+    @PostMapping(value = "/vector/{operation}", produces = PackedArrayMediaTypes.FLOAT64_LE_VALUE)
+    public ResponseEntity<double[]> vectorPacked(@PathVariable String operation,
+                                                 @RequestBody VectorRequest request) {
+        try {
+            VectorResult result = mathService.elementwise(operation, request.getA(), request.getB());
+            return ResponseEntity.ok()
+                .header(INVALID_COUNT_HEADER, String.valueOf(result.getInvalidCount()))
+                .body(result.getResults());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/check/{number}")
-    public ResponseEntity<Map<String, Object>> checkNumber(@PathVariable int number) {
-        return ResponseEntity.ok(Map.of(
-            "number", number,
-            "isEven", mathService.isEven(number),
-            "isPositive", mathService.isPositive(number)
-        ));
+    public ResponseEntity<NumberCheck> checkNumber(@PathVariable int number) {
+        return ResponseEntity.ok(new NumberCheck(number, mathService.isEven(number), mathService.isPositive(number)));
+    }
+
+    /**
+     * Contadores de la caché de resultados de ordenaciones y modas.
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStats> cacheStats() {
+        return ResponseEntity.ok(mathService.cacheStats());
     }
 
     @PostMapping("/multiply")
-    public ResponseEntity<Map<String, Object>> multiply(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<?> multiply(@RequestBody OperandsRequest request) {
         try {
-            int a = (Integer) request.get("a");
-            int b = (Integer) request.get("b");
+            int a = request.getA();
+            int b = request.getB();
             int result = mathService.multiply(a, b);
             
-            return ResponseEntity.ok(Map.of(
-                "result", result,
-                "operation", "multiply",
-                "operands", List.of(a, b)
-            ));
+            return ResponseEntity.ok(new OperationResult<>(result, "multiply", new int[]{a, b}));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
         }
     }
 
     @PostMapping("/mean")
-    public ResponseEntity<Map<String, Object>> calculateMean(@RequestBody Map<String, List<Integer>> request) {
+    public ResponseEntity<?> calculateMean(@RequestBody IntListSummary request,
+                                           @RequestParam(required = false) Set<String> fields) {
         try {
-            List<Integer> numbers = request.get("numbers");
-            double result = mathService.calculateMean(numbers);
+            double result = mathService.mean(request.getSum(), request.getCount());
+            int[] operands = request.hasNumbers() ? request.getOperands() : new int[0];
             
-            return ResponseEntity.ok(Map.of(
-                "result", result,
-                "operation", "mean",
-                "operands", numbers != null ? numbers : List.of()
-            ));
+            return ResponseEntity.ok(project(new OperationResult<>(result, "mean", operands),
+                fields, operands != null ? operands.length : 0));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
+        }
+    }
+
+    @PostMapping("/mean-rational")
+    public ResponseEntity<?> calculateMeanRational(@RequestBody DoubleListRequest request,
+                                                   @RequestParam(required = false) Set<String> fields) {
+        try {
+            double[] numbers = request.getNumbers();
+            ReductionResult<Double> result = mathService.reduceMeanRational(numbers);
+            double[] operands = numbers != null ? numbers : new double[0];
+            
+            return ResponseEntity.ok(project(new OperationResult<>(result.getValue(), "mean-rational", operands,
+                result.getPartitions()), fields, operands.length));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
         }
     }
 
     @PostMapping("/quicksort")
-    public ResponseEntity<Map<String, Object>> quicksort(@RequestBody Map<String, List<Integer>> request) {
+    public ResponseEntity<?> quicksort(@RequestBody IntListRequest request,
+                                       @RequestParam(required = false) Set<String> fields) {
         try {
-            List<Integer> numbers = request.get("numbers");
-            List<Integer> result = mathService.quicksort(numbers);
+            int[] numbers = request.getNumbers() != null ? request.getNumbers() : new int[0];
+            SortResult<int[]> result = mathService.sortIntegers(numbers);
             
-            return ResponseEntity.ok(Map.of(
-                "result", result,
-                "operation", "quicksort",
-                "operands", numbers != null ? numbers : List.of()
-            ));
+            return ResponseEntity.ok(project(new OperationResult<>(result.getValues(), "quicksort", numbers,
+                result.getStrategy().getLabel()), fields, numbers.length));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
         }
     }
 
+    /**
+     * Variante binaria de {@code /quicksort}: responde el array ordenado empaquetado
+     * en int32 little-endian cuando el cliente lo pide en la cabecera Accept. La
+     * estrategia usada viaja en la cabecera {@value #STRATEGY_HEADER}.
+     */
+    @PostMapping(value = "/quicksort", produces = PackedArrayMediaTypes.INT32_LE_VALUE)
+    public ResponseEntity<int[]> quicksortPacked(@RequestBody IntListRequest request) {
+        try {
+            int[] numbers = request.getNumbers() != null ? request.getNumbers() : new int[0];
+            SortResult<int[]> result = mathService.sortIntegers(numbers);
+            
+            return ResponseEntity.ok()
+                .header(STRATEGY_HEADER, result.getStrategy().getLabel())
+                .body(result.getValues());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping("/quicksort-rational")
-    public ResponseEntity<Map<String, Object>> quicksortRational(@RequestBody Map<String, List<Double>> request) {
+    public ResponseEntity<?> quicksortRational(@RequestBody DoubleListRequest request,
+                                               @RequestParam(required = false) Set<String> fields) {
+        try {
+            double[] numbers = request.getNumbers() != null ? request.getNumbers() : new double[0];
+            SortResult<double[]> result = mathService.sortRationals(numbers);
+            
+            return ResponseEntity.ok(project(new OperationResult<>(result.getValues(), "quicksort-rational", numbers,
+                result.getStrategy().getLabel()), fields, numbers.length));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
+        }
+    }
+
+    /**
+     * Variante binaria de {@code /quicksort-rational} en float64 little-endian.
+     */
+    @PostMapping(value = "/quicksort-rational", produces = PackedArrayMediaTypes.FLOAT64_LE_VALUE)
+    public ResponseEntity<double[]> quicksortRationalPacked(@RequestBody DoubleListRequest request) {
+        try {
+            double[] numbers = request.getNumbers() != null ? request.getNumbers() : new double[0];
+            SortResult<double[]> result = mathService.sortRationals(numbers);
+            
+            return ResponseEntity.ok()
+                .header(STRATEGY_HEADER, result.getStrategy().getLabel())
+                .body(result.getValues());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Ordenación externa para listas mayores que la memoria del servidor: el cuerpo
+     * int32 little-endian se lee como flujo, se ordena por tramos en ficheros
+     * temporales y la respuesta, en el mismo formato, se escribe mientras se
+     * mezclan. El número de tramos viaja en la cabecera {@value #RUNS_HEADER}.
+     */
+    @PostMapping(value = "/quicksort/external", consumes = PackedArrayMediaTypes.INT32_LE_VALUE,
+                 produces = PackedArrayMediaTypes.INT32_LE_VALUE)
+    public void externalQuicksort(InputStream body, HttpServletResponse response) throws IOException {
+        SortedRuns runs;
+        try {
+            runs = mathService.externalSortIntegers(body);
+        } catch (IllegalArgumentException e) {
+            writeBadRequest(e.getMessage(), response);
+            return;
+        }
+        writeSortedRuns(runs, PackedArrayMediaTypes.INT32_LE, response);
+    }
+
+    /**
+     * Variante de {@code /quicksort/external} para float64 little-endian.
+     */
+    @PostMapping(value = "/quicksort-rational/external", consumes = PackedArrayMediaTypes.FLOAT64_LE_VALUE,
+                 produces = PackedArrayMediaTypes.FLOAT64_LE_VALUE)
+    public void externalQuicksortRational(InputStream body, HttpServletResponse response) throws IOException {
+        SortedRuns runs;
         try {
-            List<Double> numbers = request.get("numbers");
-            List<Double> result = mathService.quicksortRational(numbers);
+            runs = mathService.externalSortRationals(body);
+        } catch (IllegalArgumentException e) {
+            writeBadRequest(e.getMessage(), response);
+            return;
+        }
+        writeSortedRuns(runs, PackedArrayMediaTypes.FLOAT64_LE, response);
+    }
+
+    /**
+     * Escribe el mismo cuerpo {@code {"error": ...}} que el resto de endpoints; el
+     * {@code produces} binario impide devolverlo como {@code ResponseEntity}.
+     */
+    private void writeBadRequest(String message, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getOutputStream().write(objectMapper.writeValueAsBytes(Map.of("error", message)));
+    }
+
+    /**
+     * Escribe la mezcla directamente sobre la respuesta, en el hilo de la
+     * petición: una respuesta asíncrona quedaría sujeta al timeout del contenedor
+     * y la mezcla de varios GB puede superarlo.
+     */
+    private static void writeSortedRuns(SortedRuns runs, MediaType contentType,
+                                        HttpServletResponse response) throws IOException {
+        try (runs) {
+            response.setContentType(contentType.toString());
+            response.setContentLengthLong(runs.byteLength());
+            response.setHeader(RUNS_HEADER, String.valueOf(runs.runs()));
+            runs.writeTo(response.getOutputStream());
+        }
+    }
+
+    @PostMapping("/mode")
+    public ResponseEntity<?> calculateMode(@RequestBody IntListRequest request,
+                                           @RequestParam(required = false) Set<String> fields) {
+        try {
+            int[] numbers = request.getNumbers();
+            ReductionResult<int[]> result = mathService.reduceMode(numbers);
+            int[] operands = numbers != null ? numbers : new int[0];
+            
+            return ResponseEntity.ok(project(new OperationResult<>(result.getValue(), "mode", operands,
+                result.getPartitions()), fields, operands.length));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
+        }
+    }
+
+    /**
+     * Moda aproximada: los {@code k} valores más frecuentes estimados con
+     * {@code capacity} contadores, con la cota de error de cada uno.
+     * 
+     * Request body: el mismo que {@code /mode}, en JSON o binario.
+     * Parámetros: {@code k} (por defecto 10) y {@code capacity} (por defecto 1000).
+     * 
+     * Respuesta exitosa (200 OK):
+     * {
+     *   "result": [{"value": 7, "count": 120, "error": 3, "minCount": 117}],
+     *   "operation": "mode-approximate",
+     *   "total": 5000,
+     *   "capacity": 1000,
+     *   "maxError": 3
+     * }
+     */
+    @PostMapping("/mode/approximate")
+    public ResponseEntity<Map<String, Object>> approximateMode(@RequestBody IntListRequest request,
+                                                               @RequestParam(defaultValue = "10") int k,
+                                                               @RequestParam(defaultValue = "1000") int capacity) {
+        try {
+            HeavyHittersResult result = mathService.approximateMode(request.getNumbers(), k, capacity);
             
             return ResponseEntity.ok(Map.of(
-                "result", result,
-                "operation", "quicksort-rational",
-                "operands", numbers != null ? numbers : List.of()
+                "result", result.getHitters(),
+                "operation", "mode-approximate",
+                "total", result.getTotal(),
+                "capacity", result.getCapacity(),
+                "maxError", result.getMaxError()
             ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
         }
     }
 
-    @PostMapping("/mode")
-    public ResponseEntity<Map<String, Object>> calculateMode(@RequestBody Map<String, List<Integer>> request) {
+    /**
+     * Estadísticos de orden sin ordenar ni devolver la lista completa.
+     * 
+     * Request body: el mismo que {@code /mode}, en JSON o binario.
+     * Parámetros: {@code percentiles} (lista separada por comas, p. ej. {@code 90,99,99.9}),
+     * {@code top} y {@code bottom} (por defecto 0).
+     * 
+     * Respuesta exitosa (200 OK):
+     * {
+     *   "count": 1000,
+     *   "min": 1,
+     *   "max": 950,
+     *   "median": 120.5,
+     *   "percentiles": {"90": 410.0, "99.9": 930.0},
+     *   "top": [950, 948],
+     *   "bottom": [1, 2],
+     *   "operation": "order-statistics"
+     * }
+     */
+    @PostMapping("/order-statistics")
+    public ResponseEntity<Map<String, Object>> orderStatistics(@RequestBody IntListRequest request,
+                                                               @RequestParam(required = false) double[] percentiles,
+                                                               @RequestParam(defaultValue = "0") int top,
+                                                               @RequestParam(defaultValue = "0") int bottom) {
         try {
-            List<Integer> numbers = request.get("numbers");
-            List<Integer> result = mathService.calculateMode(numbers);
+            OrderStatistics result = mathService.orderStatistics(request.getNumbers(), percentiles, top, bottom);
             
             return ResponseEntity.ok(Map.of(
-                "result", result,
-                "operation", "mode",
-                "operands", numbers != null ? numbers : List.of()
+                "count", result.getCount(),
+                "min", result.getMin(),
+                "max", result.getMax(),
+                "median", result.getMedian(),
+                "percentiles", result.getPercentiles(),
+                "top", result.getTop(),
+                "bottom", result.getBottom(),
+                "operation", "order-statistics"
             ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
         }
     }
 
+    /**
+     * Variante binaria de {@code /mode}: las modas en int32 little-endian.
+     */
+    @PostMapping(value = "/mode", produces = PackedArrayMediaTypes.INT32_LE_VALUE)
+    public ResponseEntity<int[]> calculateModePacked(@RequestBody IntListRequest request) {
+        try {
+            return ResponseEntity.ok(mathService.mode(request.getNumbers()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Endpoint POST para calcular el factorial de un número entero.
      * 
@@ -157,43 +496,28 @@ public class MathController {
      *   "error": "Mensaje de error descriptivo"
      * }
      * 
-     * @param request Map con la clave "number" (Integer)
+     * @param request petición con el campo "number"; los decimales se truncan
      * @return ResponseEntity con el resultado o mensaje de error
      */
     @PostMapping("/factorial")
-    public ResponseEntity<Map<String, Object>> factorial(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<?> factorial(@RequestBody FactorialRequest request) {
+        // Validación de entrada: número debe estar presente
+        if (!request.hasNumber()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "El campo 'number' es obligatorio"
+            ));
+        }
+        // null, texto u otros valores que no son números JSON
+        if (!request.isNumeric()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "El campo 'number' debe ser un número entero"
+            ));
+        }
+        int number = (int) request.getNumber();
+        
         try {
-            // Validación de entrada: número debe estar presente
-            if (!request.containsKey("number")) {
-                return ResponseEntity.badRequest().body(Map.of(
-                    "error", "El campo 'number' es obligatorio"
-                ));
-            }
-            
-            // Extraer número del request
-            Object numberObj = request.get("number");
-            int number;
-            
-            // Manejar diferentes tipos numéricos
-            if (numberObj instanceof Integer) {
-                number = (Integer) numberObj;
-            } else if (numberObj instanceof Number) {
-                number = ((Number) numberObj).intValue();
-            } else {
-                return ResponseEntity.badRequest().body(Map.of(
-                    "error", "El campo 'number' debe ser un número entero"
-                ));
-            }
-            
-            // Calcular factorial
             long result = mathService.factorial(number);
-            
-            // Respuesta exitosa
-            return ResponseEntity.ok(Map.of(
-                "result", result,
-                "operation", "factorial",
-                "operand", number
-            ));
+            return ResponseEntity.ok(new FactorialResult<>(result, "factorial", number));
             
         } catch (IllegalArgumentException e) {
             // Errores de validación (número negativo o overflow)
@@ -207,4 +531,89 @@ public class MathController {
             ));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Endpoint POST para calcular el factorial exacto de números grandes
+     * (hasta {@link MathService#MAX_BIG_FACTORIAL}).
+     * 
+     * Request body formato JSON:
+     * {
+     *   "number": 25
+     * }
+     * 
+     * Respuesta exitosa (200 OK), con el resultado en decimal como cadena:
+     * {
+     *   "result": "15511210043330985984000000",
+     *   "operation": "factorial-big",
+     *   "operand": 25,
+     *   "digits": 26
+     * }
+     * 
+     * Con {@code Accept: text/plain} se devuelven sólo los dígitos y con
+     * {@code Accept: application/octet-stream} la magnitud en binario big-endian
+     * ({@link BigInteger#toByteArray()}), que evita la conversión a decimal.
+     */
+    @PostMapping("/factorial/big")
+    public ResponseEntity<?> bigFactorial(@RequestBody FactorialRequest request) {
+        try {
+            int number = readFactorialOperand(request);
+            String result = mathService.bigFactorial(number).toString();
+            
+            return ResponseEntity.ok(new FactorialResult<>(result, "factorial-big", number, result.length()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid input"));
+        }
+    }
+
+    /**
+     * Variante de {@code /factorial/big} que responde sólo los dígitos decimales.
+     */
+    @PostMapping(value = "/factorial/big", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> bigFactorialText(@RequestBody FactorialRequest request) {
+        try {
+            return ResponseEntity.ok(mathService.bigFactorial(readFactorialOperand(request)).toString());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Variante de {@code /factorial/big} que responde la magnitud en binario big-endian.
+     */
+    @PostMapping(value = "/factorial/big", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> bigFactorialBinary(@RequestBody FactorialRequest request) {
+        try {
+            return ResponseEntity.ok(mathService.bigFactorial(readFactorialOperand(request)).toByteArray());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Aplica la proyección {@code fields} (p. ej. {@code ?fields=result,strategy}).
+     * Sin ella se devuelven todos los campos, salvo los operandos cuando pasan de
+     * {@link #OPERANDS_ECHO_LIMIT}: el cliente ya los tiene y duplicarían el
+     * tamaño de la respuesta.
+     */
+    private static <T> OperationResult<T> project(OperationResult<T> response, Set<String> fields, int operandCount) {
+        if (fields != null) {
+            return response.project(fields);
+        }
+        if (operandCount > OPERANDS_ECHO_LIMIT) {
+            return response.project(WITHOUT_OPERANDS);
+        }
+        return response;
+    }
+
+    private static int readFactorialOperand(FactorialRequest request) {
+        if (!request.hasNumber() || request.isNull()) {
+            throw new IllegalArgumentException("El campo 'number' es obligatorio");
+        }
+        if (!request.isInteger()) {
+            throw new IllegalArgumentException("El campo 'number' debe ser un número entero");
+        }
+        return (int) request.getNumber();
+    }
+}
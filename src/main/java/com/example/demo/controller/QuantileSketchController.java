@@ -0,0 +1,89 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.DoubleListRequest;
+import com.example.demo.dto.SketchState;
+import com.example.demo.dto.SketchSummary;
+import com.example.demo.service.QuantileSketchService;
+import com.example.demo.service.StorageLimitExceededException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Controlador REST para resúmenes de cuantiles en streaming (t-digest).
+ *
+ * Flujo típico:
+ * <ol>
+ *   <li>{@code POST /api/math/sketches?compression=100} crea el resumen y devuelve su {@code id}</li>
+ *   <li>{@code POST /api/math/sketches/{id}/values} añade un bloque
+ *       ({@code {"numbers": [...]}} o float64 empaquetado)</li>
+ *   <li>{@code GET /api/math/sketches/{id}?q=0.5,0.99} estima cuantiles</li>
+ *   <li>{@code GET /api/math/sketches/{id}/state} exporta el resumen y
+ *       {@code POST /api/math/sketches/{id}/merge} lo mezcla en otro</li>
+ *   <li>{@code DELETE /api/math/sketches/{id}} libera el resumen</li>
+ * </ol>
+ * Los resúmenes inactivos caducan; crear uno con el máximo alcanzado responde 507.
+ */
+@RestController
+@RequestMapping("/api/math/sketches")
+public class QuantileSketchController {
+
+    private final QuantileSketchService sketchService;
+
+    @Autowired
+    public QuantileSketchController(QuantileSketchService sketchService) {
+        this.sketchService = sketchService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SketchSummary> create(@RequestParam(defaultValue = "100") int compression) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(sketchService.create(compression));
+    }
+
+    @PostMapping("/{id}/values")
+    public ResponseEntity<SketchSummary> add(@PathVariable String id, @RequestBody DoubleListRequest request) {
+        return ResponseEntity.ok(sketchService.add(id, request.getNumbers()));
+    }
+
+    @PostMapping("/{id}/merge")
+    public ResponseEntity<SketchSummary> merge(@PathVariable String id, @RequestBody SketchState state) {
+        return ResponseEntity.ok(sketchService.merge(id, state));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SketchSummary> quantiles(@PathVariable String id,
+                                                   @RequestParam(name = "q", required = false) double[] quantiles) {
+        return ResponseEntity.ok(sketchService.quantiles(id, quantiles));
+    }
+
+    @GetMapping("/{id}/state")
+    public ResponseEntity<SketchState> state(@PathVariable String id) {
+        return ResponseEntity.ok(sketchService.state(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable String id) {
+        return sketchService.delete(id)
+            ? ResponseEntity.noContent().build()
+            : ResponseEntity.notFound().build();
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, String>> handleUnknownSketch(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(StorageLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleLimitExceeded(StorageLimitExceededException e) {
+        return ResponseEntity.status(HttpStatus.INSUFFICIENT_STORAGE).body(Map.of("error", e.getMessage()));
+    }
+}
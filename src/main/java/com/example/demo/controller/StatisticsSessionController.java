@@ -0,0 +1,71 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.IntListRequest;
+import com.example.demo.dto.StatisticsSnapshot;
+import com.example.demo.service.StatisticsSessionService;
+import com.example.demo.service.StorageLimitExceededException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Controlador REST para sesiones de estadísticas incrementales.
+ *
+ * Flujo típico:
+ * <ol>
+ *   <li>{@code POST /api/math/sessions} crea la sesión y devuelve su {@code id}</li>
+ *   <li>{@code POST /api/math/sessions/{id}/numbers} añade un bloque
+ *       ({@code {"numbers": [...]}} o binario empaquetado)</li>
+ *   <li>{@code GET /api/math/sessions/{id}} consulta las estadísticas acumuladas</li>
+ *   <li>{@code DELETE /api/math/sessions/{id}} libera la sesión</li>
+ * </ol>
+ * Las sesiones inactivas caducan; crear una con el máximo alcanzado, o añadir
+ * un bloque que supere el máximo de valores distintos, responde 507.
+ */
+@RestController
+@RequestMapping("/api/math/sessions")
+public class StatisticsSessionController {
+
+    private final StatisticsSessionService sessionService;
+
+    @Autowired
+    public StatisticsSessionController(StatisticsSessionService sessionService) {
+        this.sessionService = sessionService;
+    }
+
+    @PostMapping
+    public ResponseEntity<StatisticsSnapshot> create() {
+        return ResponseEntity.status(HttpStatus.CREATED).body(sessionService.create());
+    }
+
+    @PostMapping("/{id}/numbers")
+    public ResponseEntity<StatisticsSnapshot> append(@PathVariable String id, @RequestBody IntListRequest request) {
+        return ResponseEntity.ok(sessionService.append(id, request.getNumbers()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<StatisticsSnapshot> snapshot(@PathVariable String id) {
+        return ResponseEntity.ok(sessionService.snapshot(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable String id) {
+        return sessionService.delete(id)
+            ? ResponseEntity.noContent().build()
+            : ResponseEntity.notFound().build();
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, String>> handleUnknownSession(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(StorageLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleLimitExceeded(StorageLimitExceededException e) {
+        return ResponseEntity.status(HttpStatus.INSUFFICIENT_STORAGE).body(Map.of("error", e.getMessage()));
+    }
+}
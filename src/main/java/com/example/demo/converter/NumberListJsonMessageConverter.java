@@ -0,0 +1,198 @@
+package com.example.demo.converter;
+
+import com.example.demo.dto.DoubleListRequest;
+import com.example.demo.dto.IntListRequest;
+import com.example.demo.dto.IntListSummary;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Lee {@code {"numbers": [...]}} en un {@link IntListRequest}, un
+ * {@link DoubleListRequest} o un {@link IntListSummary} token a token.
+ *
+ * A diferencia de enlazar un {@code Map<String, List<Integer>>}, no construye el
+ * árbol JSON ni crea un objeto por elemento: cada número se vuelca directamente
+ * en un array primitivo que crece por duplicación o, para {@link IntListSummary},
+ * en una suma y un contador sin guardar la lista. El resto de campos del objeto
+ * se ignoran sin materializarlos.
+ *
+ * Para {@link IntListRequest} e {@link IntListSummary} sólo se admiten enteros en
+ * el rango de {@code int}; para {@link DoubleListRequest} cualquier número JSON.
+ * Otro valor dentro de la lista produce un {@link HttpMessageNotReadableException}.
+ */
+@Component
+public class NumberListJsonMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    static final String NUMBERS_FIELD = "numbers";
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final JsonFactory jsonFactory;
+
+    public NumberListJsonMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return IntListRequest.class == clazz || DoubleListRequest.class == clazz || IntListSummary.class == clazz;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        // Sólo lectura: las respuestas siguen saliendo por Jackson
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(inputMessage.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new HttpMessageNotReadableException("Se esperaba un objeto JSON", inputMessage);
+            }
+            Object numbers = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (NUMBERS_FIELD.equals(field)) {
+                    numbers = readNumbers(clazz, parser, value, inputMessage);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (IntListRequest.class == clazz) {
+                return new IntListRequest((int[]) numbers);
+            }
+            if (DoubleListRequest.class == clazz) {
+                return new DoubleListRequest((double[]) numbers);
+            }
+            return numbers != null ? numbers : IntListSummary.absent();
+        } catch (HttpMessageNotReadableException e) {
+            throw e;
+        } catch (IOException e) {
+            // JSON mal formado o número fuera del rango de int
+            throw new HttpMessageNotReadableException("JSON inválido", e, inputMessage);
+        }
+    }
+
+    private Object readNumbers(Class<?> clazz, JsonParser parser, JsonToken token, HttpInputMessage inputMessage)
+            throws IOException {
+        if (IntListRequest.class == clazz) {
+            return readInts(parser, token, inputMessage);
+        }
+        if (DoubleListRequest.class == clazz) {
+            return readDoubles(parser, token, inputMessage);
+        }
+        return readSummary(parser, token, inputMessage);
+    }
+
+    private int[] readInts(JsonParser parser, JsonToken token, HttpInputMessage inputMessage) throws IOException {
+        if (!startList(token, inputMessage)) {
+            return null;
+        }
+        int[] buffer = new int[INITIAL_CAPACITY];
+        int size = 0;
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (element != JsonToken.VALUE_NUMBER_INT) {
+                throw new HttpMessageNotReadableException("El campo 'numbers' sólo admite enteros", inputMessage);
+            }
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length << 1);
+            }
+            buffer[size++] = parser.getIntValue();
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    private double[] readDoubles(JsonParser parser, JsonToken token, HttpInputMessage inputMessage) throws IOException {
+        if (!startList(token, inputMessage)) {
+            return null;
+        }
+        double[] buffer = new double[INITIAL_CAPACITY];
+        int size = 0;
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (element != JsonToken.VALUE_NUMBER_INT && element != JsonToken.VALUE_NUMBER_FLOAT) {
+                throw new HttpMessageNotReadableException("El campo 'numbers' sólo admite números", inputMessage);
+            }
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length << 1);
+            }
+            buffer[size++] = parser.getDoubleValue();
+        }
+        return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Acumula la suma y el número de elementos sin guardar la lista; sólo
+     * conserva los valores mientras no pasen de {@link IntListSummary#MAX_OPERANDS}.
+     */
+    private IntListSummary readSummary(JsonParser parser, JsonToken token, HttpInputMessage inputMessage)
+            throws IOException {
+        if (!startList(token, inputMessage)) {
+            return null;
+        }
+        int[] operands = new int[INITIAL_CAPACITY];
+        long count = 0;
+        long sum = 0;
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (element != JsonToken.VALUE_NUMBER_INT) {
+                throw new HttpMessageNotReadableException("El campo 'numbers' sólo admite enteros", inputMessage);
+            }
+            int value = parser.getIntValue();
+            sum += value;
+            if (operands != null) {
+                if (count == IntListSummary.MAX_OPERANDS) {
+                    operands = null;
+                } else {
+                    if (count == operands.length) {
+                        operands = Arrays.copyOf(operands, Math.min(operands.length << 1, IntListSummary.MAX_OPERANDS));
+                    }
+                    operands[(int) count] = value;
+                }
+            }
+            count++;
+        }
+        if (operands != null && count < operands.length) {
+            operands = Arrays.copyOf(operands, (int) count);
+        }
+        return new IntListSummary(count, sum, operands);
+    }
+
+    /**
+     * @return true si empieza una lista; false si el campo es null
+     */
+    private static boolean startList(JsonToken token, HttpInputMessage inputMessage) {
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new HttpMessageNotReadableException("El campo 'numbers' debe ser una lista", inputMessage);
+        }
+        return true;
+    }
+
+    /**
+     * No se llega aquí porque {@link #canWrite(MediaType)} lo impide; si alguien
+     * llama directamente, falla como una respuesta que no se puede escribir.
+     */
+    @Override
+    protected void writeInternal(Object request, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("Las listas de números sólo se usan como cuerpo de petición");
+    }
+}
@@ -0,0 +1,296 @@
+package com.example.demo.converter;
+
+import com.example.demo.dto.OperationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escribe un {@link OperationResult} en JSON directamente sobre el cuerpo de la
+ * respuesta, por tramos de {@link #CHUNK_SIZE} bytes.
+ *
+ * Los {@code int[]} y {@code double[]} de {@code result} y {@code operands} se
+ * formatean número a número en un único buffer de bytes reutilizado, que se
+ * vuelca cada vez que se llena: nunca hay en memoria más de un tramo de la
+ * respuesta ni un objeto por elemento. La salida es la misma que produciría
+ * Jackson (campos nulos omitidos, NaN e infinitos como cadenas); otros tipos de
+ * resultado se delegan en el {@link ObjectMapper}.
+ */
+@Component
+public class OperationResultJsonMessageConverter extends AbstractHttpMessageConverter<OperationResult<?>> {
+
+    /** Tamaño del buffer en el que se formatea la respuesta. */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    /** Mayor número de bytes de un número: {@code Long.MIN_VALUE} o un double en notación científica. */
+    private static final int MAX_NUMBER_BYTES = 26;
+
+    private final ObjectMapper objectMapper;
+
+    public OperationResultJsonMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return OperationResult.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        // Sólo escritura: las peticiones llegan como IntListRequest o DoubleListRequest
+        return false;
+    }
+
+    /**
+     * No se llega aquí porque {@link #canRead(MediaType)} lo impide; si alguien
+     * llama directamente, falla como una petición ilegible.
+     */
+    @Override
+    protected OperationResult<?> readInternal(Class<? extends OperationResult<?>> clazz,
+                                              HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("OperationResult sólo se usa como respuesta", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(OperationResult<?> response, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = outputMessage.getBody();
+        ChunkWriter writer = new ChunkWriter(out, CHUNK_SIZE);
+        writer.writeByte('{');
+        boolean first = true;
+        first = writeField(writer, "result", response.getResult(), first);
+        first = writeField(writer, "operation", response.getOperation(), first);
+        first = writeField(writer, "operands", response.getOperands(), first);
+        first = writeField(writer, "partitions", response.getPartitions(), first);
+        writeField(writer, "strategy", response.getStrategy(), first);
+        writer.writeByte('}');
+        writer.flush();
+        out.flush();
+    }
+
+    /**
+     * @return false si se ha escrito el campo, para separar el siguiente con una coma
+     */
+    private boolean writeField(ChunkWriter writer, String name, Object value, boolean first) throws IOException {
+        if (value == null) {
+            return first;
+        }
+        if (!first) {
+            writer.writeByte(',');
+        }
+        writer.writeString(name);
+        writer.writeByte(':');
+        if (value instanceof int[] ints) {
+            writer.writeInts(ints);
+        } else if (value instanceof double[] doubles) {
+            writer.writeDoubles(doubles);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+            writer.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            writer.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+            writer.writeAscii(value.toString());
+        } else if (value instanceof String string) {
+            writer.writeString(string);
+        } else if (value instanceof Boolean bool) {
+            writer.writeAscii(bool.toString());
+        } else {
+            writer.writeBytes(objectMapper.writeValueAsBytes(value));
+        }
+        return false;
+    }
+
+    /**
+     * Buffer de salida que formatea números y cadenas JSON en bytes y los vuelca
+     * al {@link OutputStream} al llenarse.
+     */
+    static final class ChunkWriter {
+        private final OutputStream out;
+        private final byte[] buffer;
+        private final byte[] digits = new byte[20];
+        private int position;
+
+        ChunkWriter(OutputStream out, int chunkSize) {
+            this.out = out;
+            this.buffer = new byte[chunkSize];
+        }
+
+        void writeInts(int[] values) throws IOException {
+            writeByte('[');
+            for (int i = 0; i < values.length; i++) {
+                ensure(MAX_NUMBER_BYTES + 1);
+                if (i > 0) {
+                    buffer[position++] = ',';
+                }
+                putLong(values[i]);
+            }
+            writeByte(']');
+        }
+
+        void writeDoubles(double[] values) throws IOException {
+            writeByte('[');
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writeByte(',');
+                }
+                writeDouble(values[i]);
+            }
+            writeByte(']');
+        }
+
+        void writeLong(long value) throws IOException {
+            ensure(MAX_NUMBER_BYTES);
+            putLong(value);
+        }
+
+        /**
+         * Mismo formato que Jackson: {@link Double#toString(double)}, y NaN o
+         * infinitos entre comillas porque JSON no tiene literales para ellos.
+         */
+        void writeDouble(double value) throws IOException {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                writeString(Double.toString(value));
+            } else {
+                writeAscii(Double.toString(value));
+            }
+        }
+
+        void writeAscii(String text) throws IOException {
+            int length = text.length();
+            if (length > buffer.length) {
+                writeBytes(text.getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            ensure(length);
+            for (int i = 0; i < length; i++) {
+                buffer[position++] = (byte) text.charAt(i);
+            }
+        }
+
+        void writeString(String text) throws IOException {
+            writeByte('"');
+            int length = text.length();
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                if (c >= 0x80) {
+                    // Fuera de ASCII se codifica el resto de golpe en UTF-8
+                    writeEscapedUtf8(text.substring(i));
+                    break;
+                }
+                writeEscapedAscii(c);
+            }
+            writeByte('"');
+        }
+
+        void writeByte(char c) throws IOException {
+            ensure(1);
+            buffer[position++] = (byte) c;
+        }
+
+        void writeBytes(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.length - position) {
+                flush();
+                if (bytes.length > buffer.length) {
+                    out.write(bytes);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void flush() throws IOException {
+            if (position > 0) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+
+        private void writeEscapedUtf8(String text) throws IOException {
+            StringBuilder escaped = new StringBuilder(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"' || c == '\\') {
+                    escaped.append('\\').append(c);
+                } else if (c < 0x20) {
+                    escaped.append(controlEscape(c));
+                } else {
+                    escaped.append(c);
+                }
+            }
+            writeBytes(escaped.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void writeEscapedAscii(char c) throws IOException {
+            ensure(6);
+            if (c == '"' || c == '\\') {
+                buffer[position++] = '\\';
+                buffer[position++] = (byte) c;
+            } else if (c < 0x20) {
+                String escape = controlEscape(c);
+                for (int j = 0; j < escape.length(); j++) {
+                    buffer[position++] = (byte) escape.charAt(j);
+                }
+            } else {
+                buffer[position++] = (byte) c;
+            }
+        }
+
+        /** Escape de un carácter de control, con las formas cortas que usa Jackson. */
+        private static String controlEscape(char c) {
+            switch (c) {
+                case '\b':
+                    return "\\b";
+                case '\t':
+                    return "\\t";
+                case '\n':
+                    return "\\n";
+                case '\f':
+                    return "\\f";
+                case '\r':
+                    return "\\r";
+                default:
+                    return String.format("\\u%04X", (int) c);
+            }
+        }
+
+        /** Escribe los dígitos de {@code value}; el llamador garantiza el espacio. */
+        private void putLong(long value) {
+            if (value == Long.MIN_VALUE) {
+                for (byte b : "-9223372036854775808".getBytes(StandardCharsets.US_ASCII)) {
+                    buffer[position++] = b;
+                }
+                return;
+            }
+            if (value < 0) {
+                buffer[position++] = '-';
+                value = -value;
+            }
+            int start = digits.length;
+            do {
+                digits[--start] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            int count = digits.length - start;
+            System.arraycopy(digits, start, buffer, position, count);
+            position += count;
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (position + bytes > buffer.length) {
+                flush();
+            }
+        }
+    }
+}
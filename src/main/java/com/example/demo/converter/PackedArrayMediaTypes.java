@@ -0,0 +1,24 @@
+package com.example.demo.converter;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Tipos de contenido binarios para listas de números empaquetadas en columna:
+ * valores consecutivos de ancho fijo en little-endian, sin cabecera ni separadores.
+ * El número de elementos es la longitud del cuerpo dividida entre el ancho.
+ */
+public final class PackedArrayMediaTypes {
+
+    /** Enteros de 32 bits con signo, 4 bytes por valor. */
+    public static final String INT32_LE_VALUE = "application/x-int32-le";
+
+    /** Doubles IEEE 754 de 64 bits, 8 bytes por valor. */
+    public static final String FLOAT64_LE_VALUE = "application/x-float64-le";
+
+    public static final MediaType INT32_LE = MediaType.parseMediaType(INT32_LE_VALUE);
+
+    public static final MediaType FLOAT64_LE = MediaType.parseMediaType(FLOAT64_LE_VALUE);
+
+    private PackedArrayMediaTypes() {
+    }
+}
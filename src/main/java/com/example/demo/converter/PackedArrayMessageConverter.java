@@ -0,0 +1,193 @@
+package com.example.demo.converter;
+
+import com.example.demo.dto.DoubleListRequest;
+import com.example.demo.dto.IntListRequest;
+import com.example.demo.dto.IntListSummary;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Convierte listas de números empaquetadas en binario (ver {@link PackedArrayMediaTypes}).
+ *
+ * Lectura: {@code application/x-int32-le} a {@link IntListRequest} o
+ * {@link IntListSummary} y {@code application/x-float64-le} a {@link DoubleListRequest}.
+ * Un {@link IntListSummary} se acumula por tramos de {@link #CHUNK_SIZE} bytes
+ * sin leer el cuerpo entero.
+ * Escritura: {@code int[]} como int32 y {@code double[]} como float64.
+ *
+ * Los bytes se interpretan a través de una vista {@link IntBuffer} o
+ * {@link DoubleBuffer} en little-endian con copias en bloque, sin crear ningún
+ * objeto por elemento. La escritura se hace por tramos de {@link #CHUNK_SIZE}
+ * bytes para no duplicar en memoria el array completo.
+ */
+@Component
+public class PackedArrayMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    /** Tamaño del tramo usado al escribir la respuesta y al resumir la petición. */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    public PackedArrayMessageConverter() {
+        super(PackedArrayMediaTypes.INT32_LE, PackedArrayMediaTypes.FLOAT64_LE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return IntListRequest.class == clazz || IntListSummary.class == clazz || DoubleListRequest.class == clazz
+            || int[].class == clazz || double[].class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+        if (IntListRequest.class == clazz || IntListSummary.class == clazz) {
+            return PackedArrayMediaTypes.INT32_LE.includes(mediaType);
+        }
+        return DoubleListRequest.class == clazz && PackedArrayMediaTypes.FLOAT64_LE.includes(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        if (int[].class == clazz) {
+            return mediaType == null || mediaType.isCompatibleWith(PackedArrayMediaTypes.INT32_LE);
+        }
+        return double[].class == clazz
+            && (mediaType == null || mediaType.isCompatibleWith(PackedArrayMediaTypes.FLOAT64_LE));
+    }
+
+    @Override
+    protected MediaType getDefaultContentType(Object values) {
+        return values instanceof int[] ? PackedArrayMediaTypes.INT32_LE : PackedArrayMediaTypes.FLOAT64_LE;
+    }
+
+    @Override
+    protected Long getContentLength(Object values, MediaType contentType) {
+        return values instanceof int[]
+            ? (long) ((int[]) values).length * Integer.BYTES
+            : (long) ((double[]) values).length * Double.BYTES;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        if (IntListSummary.class == clazz) {
+            return readSummary(inputMessage);
+        }
+        boolean integers = IntListRequest.class == clazz;
+        int width = integers ? Integer.BYTES : Double.BYTES;
+        ByteBuffer bytes = ByteBuffer.wrap(readBody(inputMessage)).order(ByteOrder.LITTLE_ENDIAN);
+        if (bytes.remaining() % width != 0) {
+            throw new HttpMessageNotReadableException(
+                "La longitud del cuerpo no es múltiplo de " + width + " bytes", inputMessage);
+        }
+        if (integers) {
+            IntBuffer view = bytes.asIntBuffer();
+            int[] numbers = new int[view.remaining()];
+            view.get(numbers);
+            return new IntListRequest(numbers);
+        }
+        DoubleBuffer view = bytes.asDoubleBuffer();
+        double[] numbers = new double[view.remaining()];
+        view.get(numbers);
+        return new DoubleListRequest(numbers);
+    }
+
+    /**
+     * Acumula la suma y el número de enteros tramo a tramo; sólo conserva los
+     * valores mientras no pasen de {@link IntListSummary#MAX_OPERANDS}.
+     */
+    private static IntListSummary readSummary(HttpInputMessage inputMessage) throws IOException {
+        InputStream body = inputMessage.getBody();
+        byte[] chunk = new byte[CHUNK_SIZE];
+        IntBuffer view = ByteBuffer.wrap(chunk).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        int[] operands = new int[IntListSummary.MAX_OPERANDS];
+        long count = 0;
+        long sum = 0;
+        int read;
+        while ((read = body.readNBytes(chunk, 0, chunk.length)) > 0) {
+            // Un tramo incompleto sólo puede ser el último
+            if (read % Integer.BYTES != 0) {
+                throw new HttpMessageNotReadableException(
+                    "La longitud del cuerpo no es múltiplo de " + Integer.BYTES + " bytes", inputMessage);
+            }
+            for (int i = 0; i < read / Integer.BYTES; i++) {
+                int value = view.get(i);
+                sum += value;
+                if (count < operands.length) {
+                    operands[(int) count] = value;
+                }
+                count++;
+            }
+        }
+        return new IntListSummary(count, sum, count <= operands.length ? Arrays.copyOf(operands, (int) count) : null);
+    }
+
+    /**
+     * Lee el cuerpo completo; si la petición declara Content-Length se reserva
+     * el array exacto de una vez.
+     */
+    private static byte[] readBody(HttpInputMessage inputMessage) throws IOException {
+        InputStream body = inputMessage.getBody();
+        long contentLength = inputMessage.getHeaders().getContentLength();
+        if (contentLength < 0 || contentLength > Integer.MAX_VALUE - 8) {
+            return body.readAllBytes();
+        }
+        byte[] bytes = body.readNBytes((int) contentLength);
+        if (bytes.length != contentLength) {
+            throw new HttpMessageNotReadableException("Cuerpo truncado", inputMessage);
+        }
+        return bytes;
+    }
+
+    @Override
+    protected void writeInternal(Object values, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = outputMessage.getBody();
+        if (values instanceof int[]) {
+            writeInts((int[]) values, out);
+        } else {
+            writeDoubles((double[]) values, out);
+        }
+        out.flush();
+    }
+
+    private static void writeInts(int[] values, OutputStream out) throws IOException {
+        ByteBuffer chunk = newChunk((long) values.length * Integer.BYTES);
+        IntBuffer view = chunk.asIntBuffer();
+        for (int offset = 0; offset < values.length; ) {
+            int count = Math.min(view.capacity(), values.length - offset);
+            view.clear();
+            view.put(values, offset, count);
+            out.write(chunk.array(), 0, count * Integer.BYTES);
+            offset += count;
+        }
+    }
+
+    private static void writeDoubles(double[] values, OutputStream out) throws IOException {
+        ByteBuffer chunk = newChunk((long) values.length * Double.BYTES);
+        DoubleBuffer view = chunk.asDoubleBuffer();
+        for (int offset = 0; offset < values.length; ) {
+            int count = Math.min(view.capacity(), values.length - offset);
+            view.clear();
+            view.put(values, offset, count);
+            out.write(chunk.array(), 0, count * Double.BYTES);
+            offset += count;
+        }
+    }
+
+    private static ByteBuffer newChunk(long totalBytes) {
+        return ByteBuffer.allocate((int) Math.min(CHUNK_SIZE, totalBytes)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
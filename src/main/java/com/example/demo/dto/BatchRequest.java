@@ -0,0 +1,58 @@
+package com.example.demo.dto;
+
+/**
+ * DTO para un lote de operaciones escalares en formato columnar:
+ * <pre>
+ * {
+ *   "ops": ["add", "divide", "sqrt"],
+ *   "a":   [2, 7, 16],
+ *   "b":   [3, 2, 0]
+ * }
+ * </pre>
+ * La operación {@code i} usa {@code a[i]} y {@code b[i]}; {@code b} se ignora en
+ * las operaciones de un solo operando y puede omitirse si todas lo son.
+ */
+public class BatchRequest {
+    private String[] ops;
+    private double[] a;
+    private double[] b;
+
+    public BatchRequest() {}
+
+    public BatchRequest(String[] ops, double[] a, double[] b) {
+        this.ops = ops;
+        this.a = a;
+        this.b = b;
+    }
+
+    public String[] getOps() {
+        return ops;
+    }
+
+    public void setOps(String[] ops) {
+        this.ops = ops;
+    }
+
+    public double[] getA() {
+        return a;
+    }
+
+    public void setA(double[] a) {
+        this.a = a;
+    }
+
+    public double[] getB() {
+        return b;
+    }
+
+    public void setB(double[] b) {
+        this.b = b;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRequest{" +
+                "ops=" + (ops != null ? ops.length + " operations" : "null") +
+                '}';
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.dto;
+
+/**
+ * DTO con el resultado de un lote de operaciones, en el mismo orden que la
+ * petición. {@code results[i]} sólo es significativo si {@code statuses[i]} es
+ * {@link BatchStatus#OK}; en otro caso vale 0.
+ */
+public class BatchResult {
+    private final double[] results;
+    private final BatchStatus[] statuses;
+    private final int failed;
+
+    public BatchResult(double[] results, BatchStatus[] statuses, int failed) {
+        this.results = results;
+        this.statuses = statuses;
+        this.failed = failed;
+    }
+
+    public double[] getResults() {
+        return results;
+    }
+
+    public BatchStatus[] getStatuses() {
+        return statuses;
+    }
+
+    /** Número de operaciones que no terminaron en {@link BatchStatus#OK}. */
+    public int getFailed() {
+        return failed;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{" +
+                "size=" + results.length +
+                ", failed=" + failed +
+                '}';
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+/**
+ * Resultado de cada operación de un lote. Un error en una operación no
+ * interrumpe el resto del lote.
+ */
+public enum BatchStatus {
+    OK,
+    /** Operación desconocida. */
+    UNKNOWN_OPERATION,
+    /** Falta un operando, no es finito o no es un entero de 32 bits cuando la operación lo exige. */
+    INVALID_OPERAND,
+    /** {@code add} con operandos negativos o {@code sqrt} de un número negativo. */
+    NEGATIVE_OPERAND,
+    /** {@code divide} con divisor 0. */
+    DIVISION_BY_ZERO
+}
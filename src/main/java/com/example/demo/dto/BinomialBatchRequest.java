@@ -0,0 +1,40 @@
+package com.example.demo.dto;
+
+/**
+ * DTO para evaluar muchas combinaciones en una petición, en formato columnar:
+ * {@code {"n": [10, 52], "k": [3, 5]}}.
+ */
+public class BinomialBatchRequest {
+    private int[] n;
+    private int[] k;
+
+    public BinomialBatchRequest() {}
+
+    public BinomialBatchRequest(int[] n, int[] k) {
+        this.n = n;
+        this.k = k;
+    }
+
+    public int[] getN() {
+        return n;
+    }
+
+    public void setN(int[] n) {
+        this.n = n;
+    }
+
+    public int[] getK() {
+        return k;
+    }
+
+    public void setK(int[] k) {
+        this.k = k;
+    }
+
+    @Override
+    public String toString() {
+        return "BinomialBatchRequest{" +
+                "n=" + (n != null ? n.length + " values" : "null") +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.dto;
+
+/**
+ * DTO con los contadores de la caché de resultados de {@code MathService}.
+ */
+public class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long oversized;
+    private final int entries;
+    private final long bytes;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    public CacheStats(long hits, long misses, long evictions, long oversized, int entries, long bytes,
+                      long maxBytes, long maxEntryBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.oversized = oversized;
+        this.entries = entries;
+        this.bytes = bytes;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /** Resultados calculados que no se guardaron por superar {@link #getMaxEntryBytes()}. */
+    public long getOversized() {
+        return oversized;
+    }
+
+    public int getEntries() {
+        return entries;
+    }
+
+    /** Tamaño estimado de las entradas guardadas. */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /** Presupuesto de la caché; 0 si está desactivada. */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /** Tamaño máximo de una entrada guardada. */
+    public long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /** Proporción de consultas servidas desde la caché; 0.0 si aún no hay ninguna. */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                ", oversized=" + oversized +
+                '}';
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+/**
+ * DTO para peticiones con una lista de números decimales: {@code {"numbers": [1.5, 2.0]}}.
+ *
+ * Los valores se guardan en un array primitivo, sin un {@code Double} por elemento.
+ * {@code numbers} es null cuando la petición no incluye el campo o lo envía a null.
+ */
+public class DoubleListRequest {
+
+    private final double[] numbers;
+
+    public DoubleListRequest(double[] numbers) {
+        this.numbers = numbers;
+    }
+
+    public double[] getNumbers() {
+        return numbers;
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleListRequest{" +
+                "numbers=" + (numbers != null ? numbers.length + " values" : "null") +
+                '}';
+    }
+}
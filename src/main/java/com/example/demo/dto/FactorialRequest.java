@@ -0,0 +1,69 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * DTO para los endpoints de factorial: {@code {"number": 5}}.
+ *
+ * El campo se lee como nodo JSON y se guarda qué llegó: nada, null, un número
+ * (entero o con decimales) u otra cosa. Así el controlador responde a cada caso
+ * con su propio mensaje de error. Un texto como {@code "5"} no es un número y
+ * se rechaza, sin convertirlo.
+ */
+public class FactorialRequest {
+    private double number;
+    private boolean present;
+    private boolean nullValue;
+    private boolean numeric;
+    private boolean integer;
+
+    public FactorialRequest() {}
+
+    public FactorialRequest(double number) {
+        this.number = number;
+        this.present = true;
+        this.numeric = true;
+        this.integer = number == (int) number;
+    }
+
+    public double getNumber() {
+        return number;
+    }
+
+    @JsonSetter("number")
+    public void setNumber(JsonNode value) {
+        this.present = true;
+        this.nullValue = value == null || value.isNull();
+        this.numeric = value != null && value.isNumber();
+        this.integer = value != null && value.isInt();
+        this.number = numeric ? value.doubleValue() : 0.0;
+    }
+
+    /** Indica si la petición incluía el campo {@code number}, aunque fuera null. */
+    public boolean hasNumber() {
+        return present;
+    }
+
+    /** Indica si el campo es un número JSON, entero o con decimales. */
+    public boolean isNumeric() {
+        return numeric;
+    }
+
+    /** Indica si el campo es un literal entero que cabe en un {@code int}. */
+    public boolean isInteger() {
+        return integer;
+    }
+
+    /** Indica si el campo venía con valor null. */
+    public boolean isNull() {
+        return nullValue;
+    }
+
+    @Override
+    public String toString() {
+        return "FactorialRequest{" +
+                "number=" + (numeric ? number : "null") +
+                '}';
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Respuesta de los endpoints de factorial: {@code {"result": 120, "operation": "factorial", "operand": 5}}.
+ *
+ * @param <T> tipo del resultado: {@code Long} o, para factoriales grandes, los
+ *            dígitos decimales como {@code String}
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FactorialResult<T> {
+    private final T result;
+    private final String operation;
+    private final int operand;
+    private final Integer digits;
+
+    public FactorialResult(T result, String operation, int operand) {
+        this(result, operation, operand, null);
+    }
+
+    public FactorialResult(T result, String operation, int operand, Integer digits) {
+        this.result = result;
+        this.operation = operation;
+        this.operand = operand;
+        this.digits = digits;
+    }
+
+    public T getResult() {
+        return result;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public int getOperand() {
+        return operand;
+    }
+
+    /** Número de dígitos decimales del resultado; sólo en factoriales grandes. */
+    public Integer getDigits() {
+        return digits;
+    }
+
+    @Override
+    public String toString() {
+        return "FactorialResult{" +
+                "operation='" + operation + '\'' +
+                ", operand=" + operand +
+                '}';
+    }
+}
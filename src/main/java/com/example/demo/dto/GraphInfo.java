@@ -0,0 +1,37 @@
+package com.example.demo.dto;
+
+/**
+ * DTO con la identificación de un grafo registrado y su tamaño.
+ *
+ * La versión empieza en 1 y sube cada vez que se sustituye el grafo, de modo
+ * que un cliente puede exigir en sus consultas la versión que subió.
+ */
+public class GraphInfo {
+    private final String id;
+    private final long version;
+    private final int nodes;
+    private final int edges;
+
+    public GraphInfo(String id, long version, int nodes, int edges) {
+        this.id = id;
+        this.version = version;
+        this.nodes = nodes;
+        this.edges = edges;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getNodes() {
+        return nodes;
+    }
+
+    public int getEdges() {
+        return edges;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.dto;
+
+/**
+ * DTO con un valor frecuente estimado por la moda aproximada.
+ *
+ * {@code count} es una cota superior de la frecuencia real y {@code error} lo
+ * que puede sobrar: la frecuencia real está en {@code [count - error, count]}.
+ */
+public class HeavyHitter {
+    private final int value;
+    private final long count;
+    private final long error;
+
+    public HeavyHitter(int value, long count, long error) {
+        this.value = value;
+        this.count = count;
+        this.error = error;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getError() {
+        return error;
+    }
+
+    /**
+     * @return cota inferior de la frecuencia real
+     */
+    public long getMinCount() {
+        return count - error;
+    }
+
+    @Override
+    public String toString() {
+        return "HeavyHitter{" +
+                "value=" + value +
+                ", count=" + count +
+                ", error=" + error +
+                '}';
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de la moda aproximada: los valores más frecuentes,
+ * ordenados de mayor a menor frecuencia estimada, y las cotas de error globales.
+ */
+public class HeavyHittersResult {
+    private final List<HeavyHitter> hitters;
+    private final long total;
+    private final int capacity;
+    private final long maxError;
+
+    public HeavyHittersResult(List<HeavyHitter> hitters, long total, int capacity, long maxError) {
+        this.hitters = hitters;
+        this.total = total;
+        this.capacity = capacity;
+        this.maxError = maxError;
+    }
+
+    public List<HeavyHitter> getHitters() {
+        return hitters;
+    }
+
+    /** Número de elementos procesados. */
+    public long getTotal() {
+        return total;
+    }
+
+    /** Número de contadores usados, que fija la memoria del cálculo. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sobreestimación máxima de cualquier contador, como mucho {@code total / capacity}.
+     * Todo valor con frecuencia mayor que esta cota aparece en el resumen.
+     */
+    public long getMaxError() {
+        return maxError;
+    }
+
+    @Override
+    public String toString() {
+        return "HeavyHittersResult{" +
+                "hitters=" + hitters.size() +
+                ", total=" + total +
+                ", capacity=" + capacity +
+                ", maxError=" + maxError +
+                '}';
+    }
+}
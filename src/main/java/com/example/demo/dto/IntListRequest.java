@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+/**
+ * DTO para peticiones con una lista de enteros: {@code {"numbers": [1, 2, 3]}}.
+ *
+ * Los valores se guardan en un array primitivo, sin un {@code Integer} por elemento.
+ * {@code numbers} es null cuando la petición no incluye el campo o lo envía a null.
+ */
+public class IntListRequest {
+
+    private final int[] numbers;
+
+    public IntListRequest(int[] numbers) {
+        this.numbers = numbers;
+    }
+
+    public int[] getNumbers() {
+        return numbers;
+    }
+
+    @Override
+    public String toString() {
+        return "IntListRequest{" +
+                "numbers=" + (numbers != null ? numbers.length + " values" : "null") +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.dto;
+
+/**
+ * DTO para peticiones con una lista de enteros, {@code {"numbers": [1, 2, 3]}},
+ * que sólo necesitan su suma y su número de elementos.
+ *
+ * La lista no se guarda: según se lee, cada valor se acumula en {@code sum} y
+ * {@code count}, así que la memoria no depende del tamaño de la petición. Sólo
+ * se conservan los primeros {@link #MAX_OPERANDS} valores para devolverlos como
+ * operandos; si la lista es más larga, {@code operands} es null.
+ */
+public class IntListSummary {
+
+    /** Número máximo de valores que se conservan para devolverlos como operandos. */
+    public static final int MAX_OPERANDS = 10_000;
+
+    private static final IntListSummary ABSENT = new IntListSummary(false, 0, 0, null);
+
+    private final boolean present;
+    private final long count;
+    private final long sum;
+    private final int[] operands;
+
+    /**
+     * @param sum suma exacta de los valores; no desborda mientras la lista tenga
+     *        menos de 2<sup>32</sup> elementos
+     * @param operands los valores si son como mucho {@link #MAX_OPERANDS}; si no, null
+     */
+    public IntListSummary(long count, long sum, int[] operands) {
+        this(true, count, sum, operands);
+    }
+
+    private IntListSummary(boolean present, long count, long sum, int[] operands) {
+        this.present = present;
+        this.count = count;
+        this.sum = sum;
+        this.operands = operands;
+    }
+
+    /** Resumen de una petición sin el campo {@code numbers} o con él a null. */
+    public static IntListSummary absent() {
+        return ABSENT;
+    }
+
+    public boolean hasNumbers() {
+        return present;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public int[] getOperands() {
+        return operands;
+    }
+
+    @Override
+    public String toString() {
+        return "IntListSummary{" +
+                "numbers=" + (present ? count + " values" : "null") +
+                ", sum=" + sum +
+                '}';
+    }
+}
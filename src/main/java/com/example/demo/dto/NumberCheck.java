@@ -0,0 +1,41 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Respuesta de {@code /check/{number}}: {@code {"number": 4, "isEven": true, "isPositive": true}}.
+ */
+public class NumberCheck {
+    private final int number;
+    private final boolean even;
+    private final boolean positive;
+
+    public NumberCheck(int number, boolean even, boolean positive) {
+        this.number = number;
+        this.even = even;
+        this.positive = positive;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    @JsonProperty("isEven")
+    public boolean isEven() {
+        return even;
+    }
+
+    @JsonProperty("isPositive")
+    public boolean isPositive() {
+        return positive;
+    }
+
+    @Override
+    public String toString() {
+        return "NumberCheck{" +
+                "number=" + number +
+                ", isEven=" + even +
+                ", isPositive=" + positive +
+                '}';
+    }
+}
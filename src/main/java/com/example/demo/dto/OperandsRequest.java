@@ -0,0 +1,71 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * DTO para operaciones con dos enteros: {@code {"a": 5, "b": 3}}.
+ *
+ * Jackson enlaza los operandos directamente en campos {@code int}. Si falta
+ * alguno, es null o no es un número entero, la lectura falla antes de llegar al
+ * controlador y {@code GlobalExceptionHandler} responde 400. Los operandos con
+ * decimales ({@code 3.5}) o escritos como texto ({@code "5"}) también se
+ * rechazan, en lugar de truncarse o convertirse como haría Jackson por defecto.
+ */
+public class OperandsRequest {
+    private final int a;
+    private final int b;
+
+    @JsonCreator
+    public OperandsRequest(@JsonProperty(value = "a", required = true) @JsonSetter(nulls = Nulls.FAIL)
+                           @JsonDeserialize(using = StrictIntDeserializer.class) int a,
+                           @JsonProperty(value = "b", required = true) @JsonSetter(nulls = Nulls.FAIL)
+                           @JsonDeserialize(using = StrictIntDeserializer.class) int b) {
+        this.a = a;
+        this.b = b;
+    }
+
+    public int getA() {
+        return a;
+    }
+
+    public int getB() {
+        return b;
+    }
+
+    @Override
+    public String toString() {
+        return "OperandsRequest{" +
+                "a=" + a +
+                ", b=" + b +
+                '}';
+    }
+
+    /**
+     * Sólo acepta literales enteros JSON que quepan en un {@code int}.
+     */
+    static final class StrictIntDeserializer extends StdDeserializer<Integer> {
+
+        StrictIntDeserializer() {
+            super(Integer.class);
+        }
+
+        @Override
+        public Integer deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT) {
+                return (Integer) context.handleUnexpectedToken(Integer.class, parser);
+            }
+            // getIntValue falla si el literal no cabe en un int
+            return parser.getIntValue();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Set;
+
+/**
+ * Respuesta de las operaciones sobre una lista o un par de números:
+ * <pre>
+ * {
+ *   "result": [1, 2, 3],
+ *   "operation": "quicksort",
+ *   "operands": [3, 1, 2],
+ *   "strategy": "introsort"
+ * }
+ * </pre>
+ * En las respuestas HTTP la escribe {@code OperationResultJsonMessageConverter},
+ * que formatea los arrays primitivos número a número sin pasar por un mapa.
+ * Con un {@code ObjectMapper} se serializa igual, por sus getters.
+ *
+ * {@code partitions} y {@code strategy} sólo aparecen en las operaciones que los
+ * informan, y {@link #project} quita los campos que el cliente no necesita.
+ *
+ * @param <T> tipo del resultado
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OperationResult<T> {
+
+    /** Nombres de todos los campos que admite {@link #project}; el conjunto no tiene orden. */
+    public static final Set<String> FIELDS = Set.of("result", "operation", "operands", "partitions", "strategy");
+
+    private final T result;
+    private final String operation;
+    private final Object operands;
+    private final Integer partitions;
+    private final String strategy;
+
+    public OperationResult(T result, String operation, Object operands) {
+        this(result, operation, operands, null, null);
+    }
+
+    public OperationResult(T result, String operation, Object operands, int partitions) {
+        this(result, operation, operands, partitions, null);
+    }
+
+    public OperationResult(T result, String operation, Object operands, String strategy) {
+        this(result, operation, operands, null, strategy);
+    }
+
+    private OperationResult(T result, String operation, Object operands, Integer partitions, String strategy) {
+        this.result = result;
+        this.operation = operation;
+        this.operands = operands;
+        this.partitions = partitions;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Copia con sólo los campos de {@code fields}; los demás quedan a null y no
+     * se escriben. La copia no retiene las referencias descartadas, así que los
+     * operandos pueden liberarse antes de serializar la respuesta.
+     *
+     * @throws IllegalArgumentException si algún nombre no está en {@link #FIELDS}
+     */
+    public OperationResult<T> project(Set<String> fields) {
+        for (String field : fields) {
+            if (!FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Campo desconocido: " + field);
+            }
+        }
+        return new OperationResult<>(
+            fields.contains("result") ? result : null,
+            fields.contains("operation") ? operation : null,
+            fields.contains("operands") ? operands : null,
+            fields.contains("partitions") ? partitions : null,
+            fields.contains("strategy") ? strategy : null);
+    }
+
+    public T getResult() {
+        return result;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    /** Operandos de la petición: un {@code int[]} o un {@code double[]}. */
+    public Object getOperands() {
+        return operands;
+    }
+
+    /** Particiones en que se repartió el cálculo; null si la operación no las informa. */
+    public Integer getPartitions() {
+        return partitions;
+    }
+
+    /** Estrategia de ordenación usada; null fuera de las ordenaciones. */
+    public String getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationResult{" +
+                "operation='" + operation + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.dto;
+
+import java.util.Map;
+
+/**
+ * DTO con los estadísticos de orden de una lista: extremos, mediana, los
+ * percentiles pedidos (clave: el percentil tal como se pidió, p. ej. {@code "99.9"})
+ * y los k mayores y menores valores.
+ */
+public class OrderStatistics {
+    private final int count;
+    private final int min;
+    private final int max;
+    private final double median;
+    private final Map<String, Double> percentiles;
+    private final int[] top;
+    private final int[] bottom;
+
+    public OrderStatistics(int count, int min, int max, double median, Map<String, Double> percentiles,
+                           int[] top, int[] bottom) {
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.median = median;
+        this.percentiles = percentiles;
+        this.top = top;
+        this.bottom = bottom;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public double getMedian() {
+        return median;
+    }
+
+    /** Valor de cada percentil pedido, en el orden de la petición. */
+    public Map<String, Double> getPercentiles() {
+        return percentiles;
+    }
+
+    /** Los mayores valores, de mayor a menor. */
+    public int[] getTop() {
+        return top;
+    }
+
+    /** Los menores valores, de menor a mayor. */
+    public int[] getBottom() {
+        return bottom;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderStatistics{" +
+                "count=" + count +
+                ", median=" + median +
+                '}';
+    }
+}
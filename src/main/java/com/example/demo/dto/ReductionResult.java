@@ -0,0 +1,32 @@
+package com.example.demo.dto;
+
+/**
+ * DTO con el resultado de una reducción (suma, media, moda) y el número de
+ * particiones en que se repartió el cálculo; 1 si se hizo en el hilo de la petición
+ *
+ * @param <T> tipo del resultado
+ */
+public class ReductionResult<T> {
+    private final T value;
+    private final int partitions;
+
+    public ReductionResult(T value, int partitions) {
+        this.value = value;
+        this.partitions = partitions;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    @Override
+    public String toString() {
+        return "ReductionResult{" +
+                "partitions=" + partitions +
+                '}';
+    }
+}
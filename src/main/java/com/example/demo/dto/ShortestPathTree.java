@@ -0,0 +1,41 @@
+package com.example.demo.dto;
+
+/**
+ * DTO con el árbol de caminos más cortos desde un nodo origen.
+ *
+ * Sólo incluye los nodos alcanzables, en el orden en que Dijkstra los fija (de
+ * menor a mayor distancia), como tres arrays paralelos: {@code nodes[i]} está a
+ * {@code distances[i]} del origen y su predecesor en el camino es
+ * {@code nodes[predecessors[i]]}. El origen va siempre primero, con distancia 0
+ * y predecesor -1, y cada predecesor aparece antes que sus sucesores, así que
+ * un camino se reconstruye siguiendo los índices hacia atrás.
+ */
+public class ShortestPathTree {
+    private final String source;
+    private final String[] nodes;
+    private final int[] distances;
+    private final int[] predecessors;
+
+    public ShortestPathTree(String source, String[] nodes, int[] distances, int[] predecessors) {
+        this.source = source;
+        this.nodes = nodes;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String[] getNodes() {
+        return nodes;
+    }
+
+    public int[] getDistances() {
+        return distances;
+    }
+
+    public int[] getPredecessors() {
+        return predecessors;
+    }
+}
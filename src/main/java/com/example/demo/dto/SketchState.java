@@ -0,0 +1,94 @@
+package com.example.demo.dto;
+
+/**
+ * DTO con el contenido completo de un resumen de cuantiles (t-digest), para
+ * exportarlo desde un nodo y mezclarlo en otro:
+ * <pre>
+ * {
+ *   "compression": 100,
+ *   "count": 5000,
+ *   "min": 0.8,
+ *   "max": 912.5,
+ *   "means":   [0.8, 1.1, ...],
+ *   "weights": [1, 2, ...]
+ * }
+ * </pre>
+ * Los centroides van en orden ascendente de media. {@code min} y {@code max}
+ * son null si el resumen está vacío.
+ */
+public class SketchState {
+    private int compression;
+    private long count;
+    private Double min;
+    private Double max;
+    private double[] means;
+    private long[] weights;
+
+    public SketchState() {}
+
+    public SketchState(int compression, long count, Double min, Double max, double[] means, long[] weights) {
+        this.compression = compression;
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.means = means;
+        this.weights = weights;
+    }
+
+    public int getCompression() {
+        return compression;
+    }
+
+    public void setCompression(int compression) {
+        this.compression = compression;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Double getMin() {
+        return min;
+    }
+
+    public void setMin(Double min) {
+        this.min = min;
+    }
+
+    public Double getMax() {
+        return max;
+    }
+
+    public void setMax(Double max) {
+        this.max = max;
+    }
+
+    public double[] getMeans() {
+        return means;
+    }
+
+    public void setMeans(double[] means) {
+        this.means = means;
+    }
+
+    public long[] getWeights() {
+        return weights;
+    }
+
+    public void setWeights(long[] weights) {
+        this.weights = weights;
+    }
+
+    @Override
+    public String toString() {
+        return "SketchState{" +
+                "compression=" + compression +
+                ", count=" + count +
+                ", centroids=" + (means != null ? means.length : 0) +
+                '}';
+    }
+}
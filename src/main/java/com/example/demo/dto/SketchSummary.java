@@ -0,0 +1,68 @@
+package com.example.demo.dto;
+
+import java.util.Map;
+
+/**
+ * DTO con el estado de un resumen de cuantiles y, si se pidieron, los cuantiles
+ * estimados (clave: el cuantil tal como se pidió, p. ej. {@code "0.99"}).
+ *
+ * {@code min} y {@code max} son exactos y null mientras el resumen está vacío.
+ */
+public class SketchSummary {
+    private final String id;
+    private final int compression;
+    private final long count;
+    private final Double min;
+    private final Double max;
+    private final int centroids;
+    private final Map<String, Double> quantiles;
+
+    public SketchSummary(String id, int compression, long count, Double min, Double max, int centroids,
+                         Map<String, Double> quantiles) {
+        this.id = id;
+        this.compression = compression;
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.centroids = centroids;
+        this.quantiles = quantiles;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getCompression() {
+        return compression;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Double getMin() {
+        return min;
+    }
+
+    public Double getMax() {
+        return max;
+    }
+
+    /** Número de centroides: la memoria del resumen es proporcional a él. */
+    public int getCentroids() {
+        return centroids;
+    }
+
+    public Map<String, Double> getQuantiles() {
+        return quantiles;
+    }
+
+    @Override
+    public String toString() {
+        return "SketchSummary{" +
+                "id='" + id + '\'' +
+                ", count=" + count +
+                ", centroids=" + centroids +
+                '}';
+    }
+}
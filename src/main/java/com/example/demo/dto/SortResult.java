@@ -0,0 +1,31 @@
+package com.example.demo.dto;
+
+/**
+ * DTO con el resultado de una ordenación y el algoritmo que se usó para obtenerlo
+ *
+ * @param <T> tipo del array ordenado ({@code int[]} o {@code double[]})
+ */
+public class SortResult<T> {
+    private final T values;
+    private final SortStrategy strategy;
+
+    public SortResult(T values, SortStrategy strategy) {
+        this.values = values;
+        this.strategy = strategy;
+    }
+
+    public T getValues() {
+        return values;
+    }
+
+    public SortStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public String toString() {
+        return "SortResult{" +
+                "strategy=" + strategy +
+                '}';
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.dto;
+
+/**
+ * Algoritmo elegido por el planificador de ordenación para una entrada concreta
+ */
+public enum SortStrategy {
+    /** Ordenación por conteo, para rangos de valores estrechos */
+    COUNTING("counting"),
+    /** Radix sort LSD, para enteros de rango amplio y distribución uniforme */
+    RADIX("radix"),
+    /** Mezcla de las secuencias ya ordenadas de la entrada, para datos casi ordenados */
+    RUN_MERGE("run-merge"),
+    /** Introsort secuencial, para el caso general */
+    INTROSORT("introsort"),
+    /** Quicksort de doble pivote de {@code Arrays.sort}, para listas de doubles pequeñas o sin paralelismo */
+    DUAL_PIVOT_QUICKSORT("dual-pivot-quicksort"),
+    /** Ordenación en paralelo sobre fork-join, para entradas muy grandes */
+    PARALLEL("parallel");
+
+    private final String label;
+
+    SortStrategy(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
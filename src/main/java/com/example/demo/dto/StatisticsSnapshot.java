@@ -0,0 +1,99 @@
+package com.example.demo.dto;
+
+/**
+ * DTO con las estadísticas acumuladas de una sesión en un instante dado.
+ *
+ * {@code min} y {@code max} son null mientras la sesión no tiene números; la
+ * media y las varianzas valen 0.0 en ese caso, igual que {@code /api/math/mean}.
+ *
+ * Las modas se resumen para que el tamaño de la respuesta no crezca con los
+ * datos: {@code modes} trae como mucho las 100 menores, {@code modeCount} cuántas
+ * hay en total y {@code modeFrequency} cuántas veces aparece cada una.
+ */
+public class StatisticsSnapshot {
+    private final String id;
+    private final long count;
+    private final long sum;
+    private final double mean;
+    private final double variance;
+    private final double sampleVariance;
+    private final Integer min;
+    private final Integer max;
+    private final int[] modes;
+    private final int modeFrequency;
+    private final int modeCount;
+
+    public StatisticsSnapshot(String id, long count, long sum, double mean, double variance,
+                              double sampleVariance, Integer min, Integer max, int[] modes,
+                              int modeFrequency, int modeCount) {
+        this.id = id;
+        this.count = count;
+        this.sum = sum;
+        this.mean = mean;
+        this.variance = variance;
+        this.sampleVariance = sampleVariance;
+        this.min = min;
+        this.max = max;
+        this.modes = modes;
+        this.modeFrequency = modeFrequency;
+        this.modeCount = modeCount;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /** Varianza poblacional (dividiendo entre n). */
+    public double getVariance() {
+        return variance;
+    }
+
+    /** Varianza muestral (dividiendo entre n - 1); 0.0 con menos de dos números. */
+    public double getSampleVariance() {
+        return sampleVariance;
+    }
+
+    public Integer getMin() {
+        return min;
+    }
+
+    public Integer getMax() {
+        return max;
+    }
+
+    /** Las modas menores en orden ascendente; todas si {@code modes.length == modeCount}. */
+    public int[] getModes() {
+        return modes;
+    }
+
+    /** Frecuencia de las modas; 0 sin números. */
+    public int getModeFrequency() {
+        return modeFrequency;
+    }
+
+    /** Número total de modas, aunque no se devuelvan todas. */
+    public int getModeCount() {
+        return modeCount;
+    }
+
+    @Override
+    public String toString() {
+        return "StatisticsSnapshot{" +
+                "id='" + id + '\'' +
+                ", count=" + count +
+                ", mean=" + mean +
+                '}';
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.dto;
+
+/**
+ * DTO para una operación elemento a elemento entre dos columnas:
+ * <pre>
+ * {
+ *   "a": [1.5, 4.0, 9.0],
+ *   "b": [2.0, 0.0, 3.0]
+ * }
+ * </pre>
+ * {@code b} debe tener la misma longitud que {@code a} y puede omitirse en las
+ * operaciones de un solo operando.
+ */
+public class VectorRequest {
+    private double[] a;
+    private double[] b;
+
+    public VectorRequest() {}
+
+    public VectorRequest(double[] a, double[] b) {
+        this.a = a;
+        this.b = b;
+    }
+
+    public double[] getA() {
+        return a;
+    }
+
+    public void setA(double[] a) {
+        this.a = a;
+    }
+
+    public double[] getB() {
+        return b;
+    }
+
+    public void setB(double[] b) {
+        this.b = b;
+    }
+
+    @Override
+    public String toString() {
+        return "VectorRequest{" +
+                "a=" + (a != null ? a.length + " values" : "null") +
+                '}';
+    }
+}
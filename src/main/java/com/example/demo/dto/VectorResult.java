@@ -0,0 +1,48 @@
+package com.example.demo.dto;
+
+/**
+ * DTO con el resultado de una operación elemento a elemento.
+ *
+ * Las posiciones sin resultado (división por 0, raíz de un negativo) valen NaN y
+ * se marcan en {@code invalid}, un bitmap con el bit {@code i % 8} del byte
+ * {@code i / 8} para la posición {@code i}. En JSON el bitmap viaja en Base64.
+ */
+public class VectorResult {
+    private final double[] results;
+    private final byte[] invalid;
+    private final int invalidCount;
+
+    public VectorResult(double[] results, byte[] invalid, int invalidCount) {
+        this.results = results;
+        this.invalid = invalid;
+        this.invalidCount = invalidCount;
+    }
+
+    public double[] getResults() {
+        return results;
+    }
+
+    public byte[] getInvalid() {
+        return invalid;
+    }
+
+    /** Número de posiciones marcadas en {@link #getInvalid()}. */
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * @return true si la posición {@code index} no tiene resultado
+     */
+    public boolean isInvalid(int index) {
+        return (invalid[index >>> 3] & (1 << (index & 7))) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "VectorResult{" +
+                "size=" + results.length +
+                ", invalidCount=" + invalidCount +
+                '}';
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.service;
+
+/**
+ * Aritmética elemento a elemento sobre arrays de doubles.
+ *
+ * Usa {@link VectorArithmetic} con las mismas condiciones que
+ * {@link ReductionKernels} y, si no, un bucle escalar equivalente. Las
+ * operaciones que pueden fallar (división por 0, raíz de un negativo) no lanzan
+ * excepciones: dejan NaN en la posición y la marcan en un bitmap de {@code long}
+ * (bit {@code i & 63} de la palabra {@code i >>> 6}).
+ */
+final class ArithmeticKernels {
+
+    private ArithmeticKernels() {
+    }
+
+    /**
+     * @return palabras de bitmap necesarias para {@code length} posiciones
+     */
+    static int bitmapWords(int length) {
+        return (length + 63) >>> 6;
+    }
+
+    static void add(double[] a, double[] b, double[] out) {
+        if (vectorized(a.length)) {
+            VectorArithmetic.add(a, b, out);
+            return;
+        }
+        for (int i = 0; i < a.length; i++) {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    static void subtract(double[] a, double[] b, double[] out) {
+        if (vectorized(a.length)) {
+            VectorArithmetic.subtract(a, b, out);
+            return;
+        }
+        for (int i = 0; i < a.length; i++) {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    static void multiply(double[] a, double[] b, double[] out) {
+        if (vectorized(a.length)) {
+            VectorArithmetic.multiply(a, b, out);
+            return;
+        }
+        for (int i = 0; i < a.length; i++) {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    /**
+     * @return número de divisores 0, marcados en {@code invalid}
+     */
+    static int divide(double[] a, double[] b, double[] out, long[] invalid) {
+        return vectorized(a.length) ? VectorArithmetic.divide(a, b, out, invalid) : scalarDivide(a, b, out, invalid);
+    }
+
+    /**
+     * @return número de negativos, marcados en {@code invalid}
+     */
+    static int sqrt(double[] a, double[] out, long[] invalid) {
+        return vectorized(a.length) ? VectorArithmetic.sqrt(a, out, invalid) : scalarSqrt(a, out, invalid);
+    }
+
+    static int scalarDivide(double[] a, double[] b, double[] out, long[] invalid) {
+        int count = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (b[i] == 0) {
+                out[i] = Double.NaN;
+                invalid[i >>> 6] |= 1L << i;
+                count++;
+            } else {
+                out[i] = a[i] / b[i];
+            }
+        }
+        return count;
+    }
+
+    static int scalarSqrt(double[] a, double[] out, long[] invalid) {
+        int count = 0;
+        for (int i = 0; i < a.length; i++) {
+            out[i] = Math.sqrt(a[i]);
+            if (a[i] < 0) {
+                invalid[i >>> 6] |= 1L << i;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean vectorized(int length) {
+        return ReductionKernels.VECTORIZED && length >= ReductionKernels.VECTOR_MIN_LENGTH;
+    }
+}
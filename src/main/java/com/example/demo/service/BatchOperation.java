@@ -0,0 +1,116 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.BatchStatus;
+
+/**
+ * Operaciones escalares admitidas en un lote, con las mismas reglas que los
+ * métodos individuales de {@link MathService}: {@code add} rechaza negativos y
+ * desborda como {@code int}, {@code divide} rechaza el divisor 0, etc.
+ *
+ * Cada operación valida sus operandos y devuelve un {@link BatchStatus} en lugar
+ * de lanzar una excepción, para que un lote con muchos errores no pague el coste
+ * de crear una excepción por elemento.
+ */
+enum BatchOperation {
+
+    ADD(true) {
+        @Override
+        BatchStatus check(double a, double b) {
+            return a < 0 || b < 0 ? BatchStatus.NEGATIVE_OPERAND : BatchStatus.OK;
+        }
+
+        @Override
+        double apply(double a, double b) {
+            return (int) a + (int) b;
+        }
+    },
+    SUBTRACT(true) {
+        @Override
+        double apply(double a, double b) {
+            return (int) a - (int) b;
+        }
+    },
+    MULTIPLY(true) {
+        @Override
+        double apply(double a, double b) {
+            return (int) a * (int) b;
+        }
+    },
+    DIVIDE(true) {
+        @Override
+        BatchStatus check(double a, double b) {
+            return b == 0 ? BatchStatus.DIVISION_BY_ZERO : BatchStatus.OK;
+        }
+
+        @Override
+        double apply(double a, double b) {
+            return (double) (int) a / (int) b;
+        }
+    },
+    SQRT(false) {
+        @Override
+        BatchStatus check(double a, double b) {
+            return a < 0 ? BatchStatus.NEGATIVE_OPERAND : BatchStatus.OK;
+        }
+
+        @Override
+        double apply(double a, double b) {
+            return Math.sqrt(a);
+        }
+    };
+
+    private final boolean binaryIntegral;
+
+    BatchOperation(boolean binaryIntegral) {
+        this.binaryIntegral = binaryIntegral;
+    }
+
+    /**
+     * @return true si la operación usa dos operandos enteros de 32 bits
+     */
+    boolean isBinaryIntegral() {
+        return binaryIntegral;
+    }
+
+    /**
+     * Comprueba las reglas propias de la operación, una vez validado el tipo de
+     * los operandos.
+     */
+    BatchStatus check(double a, double b) {
+        return BatchStatus.OK;
+    }
+
+    abstract double apply(double a, double b);
+
+    /**
+     * @return la operación con ese nombre ({@code sum} es un alias de {@code add}),
+     *         o null si no existe
+     */
+    static BatchOperation fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "add":
+            case "sum":
+                return ADD;
+            case "subtract":
+                return SUBTRACT;
+            case "multiply":
+                return MULTIPLY;
+            case "divide":
+                return DIVIDE;
+            case "sqrt":
+                return SQRT;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return true si {@code value} es un entero representable como {@code int}
+     */
+    static boolean isInt(double value) {
+        return value == (int) value;
+    }
+}
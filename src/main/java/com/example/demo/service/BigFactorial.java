@@ -0,0 +1,213 @@
+package com.example.demo.service;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Factorial de precisión arbitraria por descomposición en primos.
+ *
+ * Por la fórmula de Legendre el exponente de cada primo {@code p} en {@code n!}
+ * es {@code e(p) = sum(n / p^i)}. Agrupando los primos por los bits de su
+ * exponente se obtiene la misma estructura que el algoritmo prime-swing de
+ * Luschny:
+ * <pre>
+ *   n! = 2^e(2) * prod_k ( prod_{p : bit k de e(p)} p )^(2^k)
+ * </pre>
+ * de modo que el resultado se construye elevando al cuadrado y multiplicando por
+ * el producto de cada nivel, del bit más alto al más bajo. Sólo hay
+ * {@code log2(n)} productos grandes y la mayor parte de la multiplicación se hace
+ * entre números de tamaño parecido, que es donde Karatsuba y Toom-Cook rinden.
+ *
+ * Los productos de todos los niveles son independientes y se calculan a la vez
+ * con árboles de productos en el pool de fork-join. El factor 2 se aplica al
+ * final con un desplazamiento.
+ */
+final class BigFactorial {
+
+    /** Mayor número cuyo factorial cabe en un {@code long}. */
+    static final int LONG_LIMIT = 20;
+
+    /** Número de factores a partir del cual un producto se reparte en subtareas. */
+    private static final int PARALLEL_FACTORS = 1 << 9;
+
+    /** Factores por hoja del árbol de productos. */
+    private static final int LEAF_FACTORS = 16;
+
+    private BigFactorial() {
+    }
+
+    /**
+     * @param n número no negativo
+     * @return {@code n!}
+     */
+    static BigInteger factorial(int n) {
+        return factorial(n, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param n número no negativo
+     * @param pool pool donde se calculan los productos de cada nivel
+     * @return {@code n!}
+     */
+    static BigInteger factorial(int n, ForkJoinPool pool) {
+        if (n <= LONG_LIMIT) {
+            long result = 1;
+            for (int i = 2; i <= n; i++) {
+                result *= i;
+            }
+            return BigInteger.valueOf(result);
+        }
+
+        int[] primes = oddPrimes(n);
+        // El exponente de 3 es el mayor entre los primos impares y fija el número de niveles
+        int levels = 32 - Integer.numberOfLeadingZeros(legendre(n, 3));
+        long[][] factors = new long[levels][];
+        int[] sizes = new int[levels];
+        for (int level = 0; level < levels; level++) {
+            factors[level] = new long[16];
+        }
+        for (int prime : primes) {
+            int exponent = legendre(n, prime);
+            for (int level = 0; exponent != 0; level++, exponent >>>= 1) {
+                if ((exponent & 1) != 0) {
+                    if (sizes[level] == factors[level].length) {
+                        factors[level] = Arrays.copyOf(factors[level], sizes[level] << 1);
+                    }
+                    factors[level][sizes[level]++] = prime;
+                }
+            }
+        }
+
+        ProductTask[] tasks = new ProductTask[levels];
+        for (int level = 0; level < levels; level++) {
+            tasks[level] = new ProductTask(factors[level], 0, sizes[level]);
+        }
+        BigInteger[] products = pool.invoke(new LevelsTask(tasks));
+
+        BigInteger result = BigInteger.ONE;
+        for (int level = levels - 1; level >= 0; level--) {
+            result = result.multiply(result).multiply(products[level]);
+        }
+        return result.shiftLeft(legendre(n, 2));
+    }
+
+    /**
+     * Exponente de {@code p} en {@code n!}.
+     */
+    static int legendre(int n, int p) {
+        int exponent = 0;
+        for (int q = n / p; q > 0; q /= p) {
+            exponent += q;
+        }
+        return exponent;
+    }
+
+    /**
+     * Primos impares hasta {@code n} con una criba de Eratóstenes sobre los impares.
+     */
+    static int[] oddPrimes(int n) {
+        // composite[i] representa el impar 2i + 1
+        boolean[] composite = new boolean[(n + 1) / 2];
+        for (int i = 1; (2L * i + 1) * (2L * i + 1) <= n; i++) {
+            if (!composite[i]) {
+                int prime = 2 * i + 1;
+                for (long multiple = (long) prime * prime; multiple <= n; multiple += 2L * prime) {
+                    composite[(int) (multiple / 2)] = true;
+                }
+            }
+        }
+        int count = 0;
+        for (int i = 1; i < composite.length; i++) {
+            if (!composite[i]) {
+                count++;
+            }
+        }
+        int[] primes = new int[count];
+        int index = 0;
+        for (int i = 1; i < composite.length; i++) {
+            if (!composite[i]) {
+                primes[index++] = 2 * i + 1;
+            }
+        }
+        return primes;
+    }
+
+    /**
+     * Producto de [from, to) de {@code factors} por mitades, para que se
+     * multipliquen números de tamaño parecido.
+     */
+    private static BigInteger product(long[] factors, int from, int to) {
+        int length = to - from;
+        if (length == 0) {
+            return BigInteger.ONE;
+        }
+        if (length <= LEAF_FACTORS) {
+            BigInteger result = BigInteger.ONE;
+            long partial = 1;
+            for (int i = from; i < to; i++) {
+                long factor = factors[i];
+                // Acumular en un long mientras no desborde
+                if (partial > Long.MAX_VALUE / factor) {
+                    result = result.multiply(BigInteger.valueOf(partial));
+                    partial = factor;
+                } else {
+                    partial *= factor;
+                }
+            }
+            return result.multiply(BigInteger.valueOf(partial));
+        }
+        int mid = (from + to) >>> 1;
+        return product(factors, from, mid).multiply(product(factors, mid, to));
+    }
+
+    /**
+     * Calcula en paralelo los productos de todos los niveles.
+     */
+    private static final class LevelsTask extends RecursiveTask<BigInteger[]> {
+        private final ProductTask[] tasks;
+
+        LevelsTask(ProductTask[] tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected BigInteger[] compute() {
+            invokeAll(tasks);
+            BigInteger[] products = new BigInteger[tasks.length];
+            for (int i = 0; i < tasks.length; i++) {
+                products[i] = tasks[i].join();
+            }
+            return products;
+        }
+    }
+
+    /**
+     * Árbol de productos que reparte las dos mitades en subtareas mientras el
+     * rango supera {@link #PARALLEL_FACTORS}.
+     */
+    private static final class ProductTask extends RecursiveTask<BigInteger> {
+        private final long[] factors;
+        private final int from;
+        private final int to;
+
+        ProductTask(long[] factors, int from, int to) {
+            this.factors = factors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            if (to - from <= PARALLEL_FACTORS) {
+                return product(factors, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ProductTask left = new ProductTask(factors, from, mid);
+            left.fork();
+            BigInteger right = new ProductTask(factors, mid, to).compute();
+            return left.join().multiply(right);
+        }
+    }
+}
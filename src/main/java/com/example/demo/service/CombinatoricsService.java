@@ -0,0 +1,205 @@
+package com.example.demo.service;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Servicio de combinatoria sobre tablas precalculadas.
+ *
+ * Al construirse prepara, una sola vez, tres tablas de {@code tableSize} entradas:
+ * <ul>
+ *   <li>{@code n! mod p} y su inverso modular, con {@code p = }{@link #MODULUS}, de
+ *       modo que nCr y nPr módulo p cuestan dos o tres multiplicaciones</li>
+ *   <li>{@code ln(n!)}, para tamaños donde el valor exacto no es útil; por encima
+ *       de la tabla se usa la serie de Stirling, también en O(1)</li>
+ * </ul>
+ * Los inversos se obtienen con una única exponenciación (pequeño teorema de
+ * Fermat) sobre el último factorial y bajando después:
+ * {@code (i-1)!^-1 = i!^-1 * i}.
+ */
+@Service
+public class CombinatoricsService {
+
+    /** Primo módulo el que se calculan factoriales, combinaciones y permutaciones. */
+    public static final int MODULUS = 1_000_000_007;
+
+    /** Número de entradas por defecto de las tablas: n admitido hasta 2^20 - 1. */
+    public static final int DEFAULT_TABLE_SIZE = 1 << 20;
+
+    /** Número de evaluaciones máximo en una llamada por lotes. */
+    public static final int MAX_BATCH_SIZE = 1_000_000;
+
+    private static final double HALF_LOG_TWO_PI = 0.5 * Math.log(2 * Math.PI);
+
+    /** Por debajo de este valor lgamma desplaza el argumento antes de aplicar Stirling. */
+    private static final double STIRLING_MIN = 10.0;
+
+    private final int tableSize;
+    private final int[] factorials;
+    private final int[] inverseFactorials;
+    private final double[] logFactorials;
+
+    public CombinatoricsService() {
+        this(DEFAULT_TABLE_SIZE);
+    }
+
+    CombinatoricsService(int tableSize) {
+        this.tableSize = tableSize;
+        this.factorials = new int[tableSize];
+        this.inverseFactorials = new int[tableSize];
+        this.logFactorials = new double[tableSize];
+
+        factorials[0] = 1;
+        for (int i = 1; i < tableSize; i++) {
+            factorials[i] = (int) ((long) factorials[i - 1] * i % MODULUS);
+            logFactorials[i] = logFactorials[i - 1] + Math.log(i);
+        }
+        inverseFactorials[tableSize - 1] = (int) modPow(factorials[tableSize - 1], MODULUS - 2);
+        for (int i = tableSize - 1; i > 0; i--) {
+            inverseFactorials[i - 1] = (int) ((long) inverseFactorials[i] * i % MODULUS);
+        }
+    }
+
+    /**
+     * @return {@code n! mod p}
+     * @throws IllegalArgumentException si n es negativo o no cabe en la tabla
+     */
+    public int factorialMod(int n) {
+        checkN(n);
+        return factorials[n];
+    }
+
+    /**
+     * Número de combinaciones {@code C(n, k) mod p}; 0 si {@code k > n}.
+     *
+     * @throws IllegalArgumentException si n o k son negativos o n no cabe en la tabla
+     */
+    public int binomialMod(int n, int k) {
+        checkN(n);
+        if (k < 0) {
+            throw new IllegalArgumentException("k no puede ser negativo");
+        }
+        if (k > n) {
+            return 0;
+        }
+        return (int) ((long) factorials[n] * inverseFactorials[k] % MODULUS * inverseFactorials[n - k] % MODULUS);
+    }
+
+    /**
+     * Número de variaciones {@code P(n, k) = n! / (n - k)! mod p}; 0 si {@code k > n}.
+     *
+     * @throws IllegalArgumentException si n o k son negativos o n no cabe en la tabla
+     */
+    public int permutationMod(int n, int k) {
+        checkN(n);
+        if (k < 0) {
+            throw new IllegalArgumentException("k no puede ser negativo");
+        }
+        if (k > n) {
+            return 0;
+        }
+        return (int) ((long) factorials[n] * inverseFactorials[n - k] % MODULUS);
+    }
+
+    /**
+     * Evalúa {@code C(n[i], k[i]) mod p} para cada posición. Valida todo el lote
+     * antes de calcular para que el bucle principal sólo lea de las tablas.
+     *
+     * @throws IllegalArgumentException si los arrays faltan, tienen distinta
+     *         longitud, superan {@link #MAX_BATCH_SIZE} o algún par es inválido
+     */
+    public int[] binomialModBatch(int[] n, int[] k) {
+        if (n == null || k == null || n.length != k.length) {
+            throw new IllegalArgumentException("Los campos 'n' y 'k' son obligatorios y deben tener la misma longitud");
+        }
+        if (n.length > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("El lote no puede superar " + MAX_BATCH_SIZE + " evaluaciones");
+        }
+        for (int i = 0; i < n.length; i++) {
+            if (n[i] < 0 || n[i] >= tableSize || k[i] < 0) {
+                throw new IllegalArgumentException("Par inválido en la posición " + i + ": n=" + n[i] + ", k=" + k[i]);
+            }
+        }
+        int[] results = new int[n.length];
+        for (int i = 0; i < n.length; i++) {
+            int ni = n[i];
+            int ki = k[i];
+            if (ki <= ni) {
+                results[i] = (int) ((long) factorials[ni] * inverseFactorials[ki] % MODULUS
+                    * inverseFactorials[ni - ki] % MODULUS);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Logaritmo natural de {@code n!}: de la tabla si cabe y por la serie de
+     * Stirling en otro caso (error relativo del orden de 1e-15).
+     *
+     * @throws IllegalArgumentException si n es negativo
+     */
+    public double logFactorial(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n no puede ser negativo");
+        }
+        if (n < tableSize) {
+            return logFactorials[(int) n];
+        }
+        return stirling(n + 1.0);
+    }
+
+    /**
+     * Logaritmo natural de la función gamma para {@code x > 0}; {@code lgamma(n + 1) = ln(n!)}.
+     *
+     * @throws IllegalArgumentException si x no es un número positivo finito
+     */
+    public double logGamma(double x) {
+        if (!(x > 0) || Double.isInfinite(x)) {
+            throw new IllegalArgumentException("x debe ser un número positivo finito");
+        }
+        // Subir el argumento con lgamma(x) = lgamma(x + 1) - ln(x) hasta que Stirling sea preciso
+        double shift = 0.0;
+        while (x < STIRLING_MIN) {
+            shift += Math.log(x);
+            x += 1.0;
+        }
+        return stirling(x) - shift;
+    }
+
+    /** Número de entradas de las tablas: n admitido en las operaciones modulares. */
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    /**
+     * Serie de Stirling para {@code ln(Gamma(x))}, con {@code x >= 10}.
+     */
+    private static double stirling(double x) {
+        double inverse = 1.0 / x;
+        double inverseSquared = inverse * inverse;
+        double series = inverse * (1.0 / 12 - inverseSquared * (1.0 / 360 - inverseSquared * (1.0 / 1260
+            - inverseSquared * (1.0 / 1680 - inverseSquared / 1188))));
+        return (x - 0.5) * Math.log(x) - x + HALF_LOG_TWO_PI + series;
+    }
+
+    private void checkN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n no puede ser negativo");
+        }
+        if (n >= tableSize) {
+            throw new IllegalArgumentException("n debe ser menor que " + tableSize);
+        }
+    }
+
+    private static long modPow(long base, long exponent) {
+        long result = 1;
+        base %= MODULUS;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result = result * base % MODULUS;
+            }
+            base = base * base % MODULUS;
+            exponent >>= 1;
+        }
+        return result;
+    }
+}
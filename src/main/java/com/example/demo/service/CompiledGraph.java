@@ -0,0 +1,134 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.Graph;
+import com.example.demo.dto.GraphEdge;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grafo dirigido compilado a formato CSR (compressed sparse row), inmutable.
+ *
+ * Los nodos se numeran de 0 a {@code n - 1} en el orden de la lista de
+ * adyacencias y el nombre sólo se traduce al entrar y al salir, con un
+ * diccionario en cada sentido. Las aristas de todos los nodos van seguidas en
+ * dos arrays paralelos ({@code targets}, {@code weights}); las del nodo
+ * {@code u} ocupan {@code [offsets[u], offsets[u + 1])}. Recorrer los vecinos
+ * es así un bucle sobre enteros contiguos, sin hashing, boxing ni un objeto
+ * por arista.
+ */
+public final class CompiledGraph {
+
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    private CompiledGraph(String[] names, Map<String, Integer> indexes, int[] offsets, int[] targets, int[] weights) {
+        this.names = names;
+        this.indexes = indexes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Compila {@code graph}; un nodo con lista de vecinos nula no tiene aristas.
+     *
+     * @throws IllegalArgumentException si el grafo es nulo, una arista apunta a un
+     *         nodo que no existe o tiene peso negativo
+     */
+    public static CompiledGraph compile(Graph graph) {
+        if (graph == null || graph.getAdjacencyList() == null) {
+            throw new IllegalArgumentException("El grafo no puede ser nulo");
+        }
+        Map<String, List<GraphEdge>> adjacencyList = graph.getAdjacencyList();
+        if (adjacencyList.containsKey(null)) {
+            throw new IllegalArgumentException("Los nombres de los nodos no pueden ser nulos");
+        }
+
+        int nodeCount = adjacencyList.size();
+        String[] names = new String[nodeCount];
+        Map<String, Integer> indexes = new HashMap<>(nodeCount * 2);
+        long edgeCount = 0;
+        int node = 0;
+        for (Map.Entry<String, List<GraphEdge>> entry : adjacencyList.entrySet()) {
+            names[node] = entry.getKey();
+            indexes.put(entry.getKey(), node++);
+            if (entry.getValue() != null) {
+                edgeCount += entry.getValue().size();
+            }
+        }
+        if (edgeCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("El grafo tiene demasiadas aristas: " + edgeCount);
+        }
+
+        int[] offsets = new int[nodeCount + 1];
+        int[] targets = new int[(int) edgeCount];
+        int[] weights = new int[(int) edgeCount];
+        int edge = 0;
+        for (int from = 0; from < nodeCount; from++) {
+            offsets[from] = edge;
+            List<GraphEdge> neighbors = adjacencyList.get(names[from]);
+            if (neighbors == null) {
+                continue;
+            }
+            for (GraphEdge graphEdge : neighbors) {
+                Integer to = graphEdge == null ? null : indexes.get(graphEdge.getTo());
+                if (to == null) {
+                    throw new IllegalArgumentException("El nodo '" + names[from]
+                        + "' tiene una arista a un nodo que no existe en el grafo");
+                }
+                if (graphEdge.getWeight() < 0) {
+                    throw new IllegalArgumentException("La arista '" + names[from] + "' -> '"
+                        + graphEdge.getTo() + "' tiene peso negativo");
+                }
+                targets[edge] = to;
+                weights[edge] = graphEdge.getWeight();
+                edge++;
+            }
+        }
+        offsets[nodeCount] = edge;
+        return new CompiledGraph(names, indexes, offsets, targets, weights);
+    }
+
+    public int nodeCount() {
+        return names.length;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * @return índice de {@code name}, o -1 si no es un nodo del grafo
+     */
+    public int indexOf(String name) {
+        Integer index = name == null ? null : indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    public String name(int node) {
+        return names[node];
+    }
+
+    /** Primera arista de {@code node}. */
+    int edgesFrom(int node) {
+        return offsets[node];
+    }
+
+    /** Posición siguiente a la última arista de {@code node}. */
+    int edgesTo(int node) {
+        return offsets[node + 1];
+    }
+
+    int target(int edge) {
+        return targets[edge];
+    }
+
+    int weight(int edge) {
+        return weights[edge];
+    }
+}
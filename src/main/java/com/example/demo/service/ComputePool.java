@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import com.example.demo.config.MathProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Pool de fork-join propio para los cálculos en paralelo de {@link MathService}.
+ *
+ * Separarlo del pool común evita que una reducción enorme deje sin hilos al resto
+ * de usuarios del pool común (streams paralelos, {@code CompletableFuture}, etc.)
+ * y permite dimensionarlo por separado con {@code math.compute.parallelism}; por
+ * defecto usa un hilo por núcleo.
+ *
+ * Los hilos se crean según hacen falta y son daemon; el pool se cierra al parar
+ * el contexto de Spring.
+ */
+@Component
+final class ComputePool {
+
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    @Autowired
+    ComputePool(MathProperties properties) {
+        this(properties.getCompute().getParallelism());
+    }
+
+    ComputePool(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        this.pool = new ForkJoinPool(this.parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("math-compute-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    ForkJoinPool get() {
+        return pool;
+    }
+
+    /** Número de hilos del pool. */
+    int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Número de particiones para {@code length} elementos: tantas como hilos del
+     * pool, sin bajar de {@code minPartition} elementos por partición.
+     */
+    int partitions(int length, int minPartition) {
+        return Math.max(1, Math.min(parallelism, length / minPartition));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+}
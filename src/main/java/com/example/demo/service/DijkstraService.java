@@ -3,6 +3,7 @@ package com.example.demo.service;
 import com.example.demo.dto.DijkstraResult;
 import com.example.demo.dto.Graph;
 import com.example.demo.dto.GraphEdge;
+import com.example.demo.dto.ShortestPathTree;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -14,6 +15,36 @@ import java.util.*;
 @Service
 public class DijkstraService {
 
+    /**
+     * Grafo predefinido compilado una sola vez, con la tabla de caminos entre
+     * todos los pares y el árbol de cada origen: cada consulta sobre él es una
+     * búsqueda en la tabla.
+     */
+    private final CompiledGraph defaultGraph;
+    private final int[][] defaultDistances;
+    private final List<String>[][] defaultPaths;
+    private final ShortestPathTree[] defaultTrees;
+
+    @SuppressWarnings("unchecked")
+    public DijkstraService() {
+        defaultGraph = CompiledGraph.compile(createDefaultGraph());
+        int nodeCount = defaultGraph.nodeCount();
+        defaultDistances = new int[nodeCount][nodeCount];
+        defaultPaths = new List[nodeCount][nodeCount];
+        defaultTrees = new ShortestPathTree[nodeCount];
+        int[] previous = new int[nodeCount];
+        int[] order = new int[nodeCount];
+        for (int source = 0; source < nodeCount; source++) {
+            int reached = search(defaultGraph, source, -1, defaultDistances[source], previous, order);
+            defaultTrees[source] = toTree(defaultGraph, defaultDistances[source], previous, order, reached);
+            for (int destination = 0; destination < nodeCount; destination++) {
+                defaultPaths[source][destination] = defaultDistances[source][destination] == Integer.MAX_VALUE
+                    ? Collections.emptyList()
+                    : Collections.unmodifiableList(reconstructPath(defaultGraph, previous, destination));
+            }
+        }
+    }
+
     /**
      * Encuentra el camino más corto entre dos nodos usando el algoritmo de Dijkstra
      * 
@@ -26,69 +57,196 @@ public class DijkstraService {
         if (graph == null || graph.getAdjacencyList() == null) {
             throw new IllegalArgumentException("El grafo no puede ser nulo");
         }
-        
+        return findShortestPathCompiled(CompiledGraph.compile(graph), source, destination);
+    }
+
+    /**
+     * Dijkstra sobre un grafo ya compilado, sin hashing ni objetos por arista.
+     *
+     * @param graph grafo compilado con {@link CompiledGraph#compile}
+     * @param source nodo origen
+     * @param destination nodo destino
+     * @return resultado con el camino más corto y la distancia
+     */
+    public DijkstraResult findShortestPathCompiled(CompiledGraph graph, String source, String destination) {
+        if (graph == null) {
+            throw new IllegalArgumentException("El grafo no puede ser nulo");
+        }
+
         if (source == null || destination == null) {
             throw new IllegalArgumentException("Los nodos origen y destino no pueden ser nulos");
         }
-        
-        if (!graph.getAdjacencyList().containsKey(source)) {
-            throw new IllegalArgumentException("El nodo origen '" + source + "' no existe en el grafo");
+
+        int sourceIndex = requireNode(graph, source, "origen");
+        int destinationIndex = requireNode(graph, destination, "destino");
+
+        int nodeCount = graph.nodeCount();
+        int[] distances = new int[nodeCount];
+        int[] previous = new int[nodeCount];
+        search(graph, sourceIndex, destinationIndex, distances, previous, null);
+
+        int distance = distances[destinationIndex];
+        boolean pathFound = distance != Integer.MAX_VALUE;
+        List<String> path = pathFound ? reconstructPath(graph, previous, destinationIndex) : new ArrayList<>();
+
+        return new DijkstraResult(source, destination, path,
+                                pathFound ? distance : -1, pathFound);
+    }
+
+    /**
+     * Camino más corto en el grafo predefinido, leído de la tabla precalculada.
+     *
+     * @param source nodo origen
+     * @param destination nodo destino
+     * @return resultado con el camino más corto y la distancia; el camino no es modificable
+     */
+    public DijkstraResult findShortestPathInDefaultGraph(String source, String destination) {
+        if (source == null || destination == null) {
+            throw new IllegalArgumentException("Los nodos origen y destino no pueden ser nulos");
         }
-        
-        if (!graph.getAdjacencyList().containsKey(destination)) {
-            throw new IllegalArgumentException("El nodo destino '" + destination + "' no existe en el grafo");
+
+        int sourceIndex = requireNode(defaultGraph, source, "origen");
+        int destinationIndex = requireNode(defaultGraph, destination, "destino");
+
+        int distance = defaultDistances[sourceIndex][destinationIndex];
+        boolean pathFound = distance != Integer.MAX_VALUE;
+        return new DijkstraResult(source, destination, defaultPaths[sourceIndex][destinationIndex],
+                                pathFound ? distance : -1, pathFound);
+    }
+
+    /**
+     * Árbol de caminos más cortos desde {@code source} a todos los nodos alcanzables.
+     *
+     * @param graph el grafo representado como lista de adyacencias
+     * @param source nodo origen
+     * @return distancia y predecesor de cada nodo alcanzable
+     */
+    public ShortestPathTree findShortestPathTree(Graph graph, String source) {
+        if (graph == null || graph.getAdjacencyList() == null) {
+            throw new IllegalArgumentException("El grafo no puede ser nulo");
         }
+        return findShortestPathTreeCompiled(CompiledGraph.compile(graph), source);
+    }
 
-        Map<String, Integer> distances = new HashMap<>();
-        Map<String, String> previous = new HashMap<>();
-        Set<String> visited = new HashSet<>();
-        PriorityQueue<NodeDistance> queue = new PriorityQueue<>(Comparator.comparingInt(nd -> nd.distance));
+    /**
+     * Árbol de caminos más cortos sobre un grafo ya compilado: una única búsqueda
+     * sin destino, que recorre todo lo alcanzable.
+     *
+     * @param graph grafo compilado con {@link CompiledGraph#compile}
+     * @param source nodo origen
+     * @return distancia y predecesor de cada nodo alcanzable
+     */
+    public ShortestPathTree findShortestPathTreeCompiled(CompiledGraph graph, String source) {
+        if (graph == null) {
+            throw new IllegalArgumentException("El grafo no puede ser nulo");
+        }
+        if (source == null) {
+            throw new IllegalArgumentException("El nodo origen no puede ser nulo");
+        }
+        int sourceIndex = requireNode(graph, source, "origen");
 
-        // Inicializar distancias
-        for (String node : graph.getAdjacencyList().keySet()) {
-            distances.put(node, Integer.MAX_VALUE);
+        int nodeCount = graph.nodeCount();
+        int[] distances = new int[nodeCount];
+        int[] previous = new int[nodeCount];
+        int[] order = new int[nodeCount];
+        int reached = search(graph, sourceIndex, -1, distances, previous, order);
+        return toTree(graph, distances, previous, order, reached);
+    }
+
+    /**
+     * Árbol de caminos más cortos en el grafo predefinido, precalculado al construir
+     * el servicio.
+     *
+     * @param source nodo origen
+     * @return distancia y predecesor de cada nodo alcanzable
+     */
+    public ShortestPathTree findShortestPathTreeInDefaultGraph(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("El nodo origen no puede ser nulo");
         }
-        distances.put(source, 0);
-        queue.offer(new NodeDistance(source, 0));
+        return defaultTrees[requireNode(defaultGraph, source, "origen")];
+    }
 
-        while (!queue.isEmpty()) {
-            NodeDistance current = queue.poll();
-            String currentNode = current.node;
+    /**
+     * @param role "origen" o "destino", para el mensaje de error
+     * @return índice de {@code node} en el grafo
+     */
+    private static int requireNode(CompiledGraph graph, String node, String role) {
+        int index = graph.indexOf(node);
+        if (index < 0) {
+            throw new IllegalArgumentException("El nodo " + role + " '" + node + "' no existe en el grafo");
+        }
+        return index;
+    }
 
-            if (visited.contains(currentNode)) {
-                continue;
-            }
+    /**
+     * Dijkstra desde {@code source} sobre arrays indexados por nodo y un
+     * {@link IndexedDaryHeap} con decrease-key, así que cada nodo entra una sola
+     * vez en la cola y no hay que llevar visitados.
+     *
+     * @param target nodo en el que parar al extraerlo, o -1 para recorrer todo lo alcanzable
+     * @param distances salida: distancia a cada nodo, {@code Integer.MAX_VALUE} si no se alcanza
+     * @param previous salida: predecesor de cada nodo, -1 para el origen y los no alcanzados
+     * @param order salida opcional: nodos en el orden en que se fijan
+     * @return número de nodos fijados
+     */
+    private static int search(CompiledGraph graph, int source, int target, int[] distances, int[] previous,
+                              int[] order) {
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(previous, -1);
+        IndexedDaryHeap queue = new IndexedDaryHeap(graph.nodeCount());
 
-            visited.add(currentNode);
+        distances[source] = 0;
+        queue.insertOrDecrease(source, 0);
+
+        int settled = 0;
+        while (!queue.isEmpty()) {
+            int current = queue.pollMin();
+            if (order != null) {
+                order[settled] = current;
+            }
+            settled++;
 
             // Si llegamos al destino, podemos terminar temprano
-            if (currentNode.equals(destination)) {
+            if (current == target) {
                 break;
             }
 
-            // Procesar vecinos
-            List<GraphEdge> neighbors = graph.getAdjacencyList().get(currentNode);
-            if (neighbors != null) {
-                for (GraphEdge edge : neighbors) {
-                    String neighbor = edge.getTo();
-                    int newDistance = distances.get(currentNode) + edge.getWeight();
-
-                    if (newDistance < distances.get(neighbor)) {
-                        distances.put(neighbor, newDistance);
-                        previous.put(neighbor, currentNode);
-                        queue.offer(new NodeDistance(neighbor, newDistance));
-                    }
+            // Con pesos no negativos un nodo extraído ya no mejora: basta con relajar
+            long currentDistance = distances[current];
+            for (int edge = graph.edgesFrom(current), end = graph.edgesTo(current); edge < end; edge++) {
+                int neighbor = graph.target(edge);
+                long newDistance = currentDistance + graph.weight(edge);
+
+                if (newDistance < distances[neighbor]) {
+                    distances[neighbor] = (int) newDistance;
+                    previous[neighbor] = current;
+                    queue.insertOrDecrease(neighbor, (int) newDistance);
                 }
             }
         }
+        return settled;
+    }
 
-        // Reconstruir el camino
-        List<String> path = reconstructPath(previous, source, destination);
-        int distance = distances.get(destination);
-        boolean pathFound = distance != Integer.MAX_VALUE;
-
-        return new DijkstraResult(source, destination, path, 
-                                pathFound ? distance : -1, pathFound);
+    /**
+     * Pasa el resultado de una búsqueda completa a la forma compacta de
+     * {@link ShortestPathTree}, con los predecesores como posiciones del árbol.
+     */
+    private static ShortestPathTree toTree(CompiledGraph graph, int[] distances, int[] previous, int[] order,
+                                           int reached) {
+        String[] nodes = new String[reached];
+        int[] treeDistances = new int[reached];
+        int[] predecessors = new int[reached];
+        int[] positions = new int[graph.nodeCount()];
+        for (int i = 0; i < reached; i++) {
+            int node = order[i];
+            positions[node] = i;
+            nodes[i] = graph.name(node);
+            treeDistances[i] = distances[node];
+            // El predecesor se fija antes que el nodo, así que ya tiene posición
+            predecessors[i] = previous[node] < 0 ? -1 : positions[previous[node]];
+        }
+        return new ShortestPathTree(nodes[0], nodes, treeDistances, predecessors);
     }
 
     /**
@@ -145,39 +303,20 @@ public class DijkstraService {
 
     /**
      * Reconstruye el camino más corto desde el nodo origen al destino
-     * @param previous mapa de nodos anteriores
-     * @param source nodo origen
-     * @param destination nodo destino
+     * @param graph grafo con los nombres de los nodos
+     * @param previous predecesor de cada nodo, o -1 para el origen
+     * @param destination índice del nodo destino, alcanzable desde el origen
      * @return lista con el camino más corto
      */
-    private List<String> reconstructPath(Map<String, String> previous, String source, String destination) {
-        List<String> path = new ArrayList<>();
-        String current = destination;
-
-        // Si no hay camino al destino
-        if (!previous.containsKey(destination) && !source.equals(destination)) {
-            return path;
+    private static List<String> reconstructPath(CompiledGraph graph, int[] previous, int destination) {
+        int length = 0;
+        for (int node = destination; node >= 0; node = previous[node]) {
+            length++;
         }
-
-        // Reconstruir el camino hacia atrás
-        while (current != null) {
-            path.add(0, current);
-            current = previous.get(current);
-        }
-
-        return path;
-    }
-
-    /**
-     * Clase interna para representar un nodo con su distancia en la cola de prioridad
-     */
-    private static class NodeDistance {
-        String node;
-        int distance;
-
-        NodeDistance(String node, int distance) {
-            this.node = node;
-            this.distance = distance;
+        String[] path = new String[length];
+        for (int node = destination; node >= 0; node = previous[node]) {
+            path[--length] = graph.name(node);
         }
+        return new ArrayList<>(Arrays.asList(path));
     }
 }
@@ -0,0 +1,338 @@
+package com.example.demo.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Motor de ordenación en paralelo sobre arrays primitivos {@code double[]}.
+ *
+ * Ordena según el orden total de {@link Double#compare(double, double)}:
+ * {@code -0.0} va antes que {@code 0.0} y todos los NaN van al final. La
+ * ordenación es un merge sort fork-join: el array se divide en hojas que se
+ * ordenan de forma independiente y después se mezclan, también en paralelo,
+ * dividiendo cada mezcla por búsqueda binaria.
+ *
+ * Para entradas muy grandes ({@link #RADIX_THRESHOLD}) las hojas se ordenan con
+ * radix sort LSD sobre los patrones de bits ordenables de cada double, que es
+ * lineal y evita las comparaciones en coma flotante.
+ *
+ * Incluye además la variante por mezcla de secuencias que elige
+ * {@link SortPlanner} para entradas casi ordenadas.
+ */
+final class DoubleSortEngine {
+
+    /** Tamaño por debajo del cual no compensa repartir el trabajo entre hilos. */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    /** Tamaño total a partir del cual las hojas se ordenan con radix sort. */
+    static final int RADIX_THRESHOLD = 1 << 22;
+
+    /** Tamaño mínimo de una mezcla para dividirla en dos subtareas. */
+    private static final int MERGE_SPLIT_THRESHOLD = 1 << 14;
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_BUCKETS = 1 << RADIX_BITS;
+
+    private DoubleSortEngine() {
+    }
+
+    /**
+     * Ordena el array completo en el pool común de fork-join.
+     *
+     * @param values array a ordenar (se modifica in situ)
+     */
+    static void sort(double[] values) {
+        sort(values, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ordena el array completo en el pool indicado.
+     *
+     * @param values array a ordenar (se modifica in situ)
+     * @param pool pool de fork-join donde se ejecutan las subtareas
+     */
+    static void sort(double[] values, ForkJoinPool pool) {
+        int length = values.length;
+        if (length < 2) {
+            return;
+        }
+        boolean radix = length >= RADIX_THRESHOLD;
+        if (length < SEQUENTIAL_THRESHOLD || pool.getParallelism() <= 1) {
+            sortLeaf(values, 0, length, radix);
+            return;
+        }
+        // Unas cuatro hojas por hilo equilibran la carga sin trocear en exceso
+        int leafSize = Math.max(SEQUENTIAL_THRESHOLD, length / (pool.getParallelism() * 4));
+        double[] buffer = new double[length];
+        pool.invoke(new SortTask(values, buffer, 0, length, leafSize, radix));
+    }
+
+    /**
+     * Ordena un rango con un único hilo.
+     */
+    static void sortLeaf(double[] values, int from, int to, boolean radix) {
+        if (radix) {
+            radixSort(values, from, to);
+        } else {
+            // Arrays.sort(double[]) ya aplica el orden total de Double.compare
+            Arrays.sort(values, from, to);
+        }
+    }
+
+    /**
+     * Ordena aprovechando las secuencias que ya vienen ordenadas en la entrada,
+     * igual que {@link IntSortEngine#runMergeSort(int[])} pero comparando con
+     * {@link Double#compare(double, double)}.
+     */
+    static void runMergeSort(double[] values) {
+        int length = values.length;
+        if (length < 2) {
+            return;
+        }
+
+        int[] bounds = new int[16];
+        int runCount = 0;
+        int start = 0;
+        while (start < length) {
+            int end = start + 1;
+            if (end < length && Double.compare(values[end], values[start]) < 0) {
+                while (end < length && Double.compare(values[end], values[end - 1]) < 0) {
+                    end++;
+                }
+                reverse(values, start, end - 1);
+            } else {
+                while (end < length && Double.compare(values[end], values[end - 1]) >= 0) {
+                    end++;
+                }
+            }
+            if (runCount + 2 > bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            bounds[runCount++] = start;
+            start = end;
+        }
+        bounds[runCount] = length;
+        if (runCount == 1) {
+            return;
+        }
+
+        double[] source = values;
+        double[] target = new double[length];
+        while (runCount > 1) {
+            int merged = 0;
+            for (int k = 0; k < runCount; k += 2) {
+                int from = bounds[k];
+                int mid = bounds[Math.min(k + 1, runCount)];
+                int to = bounds[Math.min(k + 2, runCount)];
+                new MergeTask(source, from, mid, mid, to, target, from).mergeSequential();
+                bounds[merged++] = from;
+            }
+            bounds[merged] = length;
+            runCount = merged;
+            double[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != values) {
+            System.arraycopy(source, 0, values, 0, length);
+        }
+    }
+
+    private static void reverse(double[] values, int from, int to) {
+        while (from < to) {
+            double tmp = values[from];
+            values[from++] = values[to];
+            values[to--] = tmp;
+        }
+    }
+
+    /**
+     * Convierte un double en un long cuyo orden sin signo coincide con el orden
+     * total de {@link Double#compare(double, double)}. Se parte de
+     * {@link Double#doubleToLongBits(double)} para que todos los NaN compartan
+     * la representación canónica y queden al final.
+     */
+    static long toSortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    /**
+     * Inversa de {@link #toSortableBits(double)}.
+     */
+    static double fromSortableBits(long key) {
+        long bits = key < 0 ? key ^ Long.MIN_VALUE : ~key;
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static void radixSort(double[] values, int from, int to) {
+        int length = to - from;
+        long[] keys = new long[length];
+        long[] scratch = new long[length];
+        for (int i = 0; i < length; i++) {
+            keys[i] = toSortableBits(values[from + i]);
+        }
+
+        int[] counts = new int[RADIX_BUCKETS];
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (long key : keys) {
+                counts[(int) (key >>> shift) & (RADIX_BUCKETS - 1)]++;
+            }
+            // Si todos los elementos comparten este dígito la pasada no cambia nada
+            if (counts[(int) (keys[0] >>> shift) & (RADIX_BUCKETS - 1)] == length) {
+                continue;
+            }
+            int offset = 0;
+            for (int bucket = 0; bucket < RADIX_BUCKETS; bucket++) {
+                int count = counts[bucket];
+                counts[bucket] = offset;
+                offset += count;
+            }
+            for (long key : keys) {
+                scratch[counts[(int) (key >>> shift) & (RADIX_BUCKETS - 1)]++] = key;
+            }
+            long[] swap = keys;
+            keys = scratch;
+            scratch = swap;
+        }
+
+        for (int i = 0; i < length; i++) {
+            values[from + i] = fromSortableBits(keys[i]);
+        }
+    }
+
+    /**
+     * Ordena [from, to) de {@code values} usando {@code buffer} como espacio auxiliar.
+     */
+    private static final class SortTask extends RecursiveAction {
+        private final double[] values;
+        private final double[] buffer;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final boolean radix;
+
+        SortTask(double[] values, double[] buffer, int from, int to, int leafSize, boolean radix) {
+            this.values = values;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.radix = radix;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                sortLeaf(values, from, to, radix);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(values, buffer, from, mid, leafSize, radix),
+                      new SortTask(values, buffer, mid, to, leafSize, radix));
+
+            // Las dos mitades ya ordenadas no necesitan mezcla
+            if (Double.compare(values[mid - 1], values[mid]) <= 0) {
+                return;
+            }
+            new MergeTask(values, from, mid, mid, to, buffer, from).compute();
+            System.arraycopy(buffer, from, values, from, to - from);
+        }
+    }
+
+    /**
+     * Mezcla los rangos ordenados [leftFrom, leftTo) y [rightFrom, rightTo) de
+     * {@code source} en {@code target} a partir de {@code targetFrom}.
+     */
+    private static final class MergeTask extends RecursiveAction {
+        private final double[] source;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final double[] target;
+        private final int targetFrom;
+
+        MergeTask(double[] source, int leftFrom, int leftTo, int rightFrom, int rightTo,
+                  double[] target, int targetFrom) {
+            this.source = source;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.target = target;
+            this.targetFrom = targetFrom;
+        }
+
+        @Override
+        protected void compute() {
+            int leftLength = leftTo - leftFrom;
+            int rightLength = rightTo - rightFrom;
+            if (leftLength + rightLength < MERGE_SPLIT_THRESHOLD) {
+                mergeSequential();
+                return;
+            }
+
+            // Partir el rango mayor por la mitad y localizar el corte en el otro
+            int leftSplit;
+            int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = (leftFrom + leftTo) >>> 1;
+                rightSplit = lowerBound(source, rightFrom, rightTo, source[leftSplit]);
+            } else {
+                rightSplit = (rightFrom + rightTo) >>> 1;
+                leftSplit = upperBound(source, leftFrom, leftTo, source[rightSplit]);
+            }
+            int targetSplit = targetFrom + (leftSplit - leftFrom) + (rightSplit - rightFrom);
+            invokeAll(new MergeTask(source, leftFrom, leftSplit, rightFrom, rightSplit, target, targetFrom),
+                      new MergeTask(source, leftSplit, leftTo, rightSplit, rightTo, target, targetSplit));
+        }
+
+        private void mergeSequential() {
+            int i = leftFrom;
+            int j = rightFrom;
+            int k = targetFrom;
+            while (i < leftTo && j < rightTo) {
+                double left = source[i];
+                double right = source[j];
+                if (Double.compare(left, right) <= 0) {
+                    target[k++] = left;
+                    i++;
+                } else {
+                    target[k++] = right;
+                    j++;
+                }
+            }
+            System.arraycopy(source, i, target, k, leftTo - i);
+            System.arraycopy(source, j, target, k + (leftTo - i), rightTo - j);
+        }
+    }
+
+    /** Primer índice de [from, to) cuyo valor no es menor que {@code key}. */
+    private static int lowerBound(double[] values, int from, int to, double key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (Double.compare(values[mid], key) < 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /** Primer índice de [from, to) cuyo valor es mayor que {@code key}. */
+    private static int upperBound(double[] values, int from, int to, double key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (Double.compare(values[mid], key) <= 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.demo.service;
+
+import com.example.demo.config.MathProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Ordenación externa de listas empaquetadas (int32 o float64 little-endian)
+ * mayores que la memoria disponible.
+ *
+ * <ol>
+ *   <li>La entrada se lee por tramos de {@code runLength} elementos. El primero
+ *       empieza pequeño y crece según llegan datos, así que una entrada corta no
+ *       reserva un tramo entero.</li>
+ *   <li>Cada tramo se ordena con {@link SortPlanner} en el {@link ComputePool}
+ *       mientras se lee el siguiente. Contando el que se está leyendo, en memoria
+ *       hay como mucho un tramo por hilo del pool más uno, y nunca más de los que
+ *       caben en {@code math.external.memory-budget}; si sólo cabe uno, cada
+ *       tramo se ordena antes de leer el siguiente.</li>
+ *   <li>Los tramos ordenados se vuelcan a ficheros temporales mapeados en memoria.</li>
+ *   <li>{@link SortedRuns#writeTo} los mezcla con un montículo de k vías y
+ *       escribe el resultado por bloques sin cargarlos enteros.</li>
+ * </ol>
+ * Si la entrada cabe en un solo tramo se ordena en memoria y no se escribe a disco.
+ *
+ * Los doubles siguen el orden total de {@link Double#compare(double, double)};
+ * en la mezcla se comparan por {@link DoubleSortEngine#toSortableBits} sin
+ * signo, así que los NaN salen con su representación canónica.
+ *
+ * El tramo, el presupuesto y el directorio temporal se configuran con
+ * {@code math.external.*}.
+ */
+@Component
+final class ExternalMergeSort {
+
+    /** Mayor tramo que cabe en un único mapeo de fichero en float64. */
+    static final int MAX_RUN_LENGTH = Integer.MAX_VALUE / Double.BYTES;
+
+    /** Capacidad inicial del primer tramo, que crece hasta {@code runLength} si llegan más datos. */
+    static final int INITIAL_RUN_CAPACITY = 1 << 14;
+
+    /** Tamaño de los bloques de lectura y escritura. */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    private final int runLength;
+    private final long memoryBudget;
+    private final Path tempDirectory;
+    private final ComputePool pool;
+
+    @Autowired
+    ExternalMergeSort(MathProperties properties, ComputePool pool) {
+        this(properties.getExternal().getRunLength(), properties.getExternal().getMemoryBudget(),
+            Paths.get(properties.getExternal().getTempDir()), pool);
+    }
+
+    /** Sin más límite de memoria que un tramo por hilo del pool más uno. */
+    ExternalMergeSort(int runLength, Path tempDirectory, ComputePool pool) {
+        this(runLength, Long.MAX_VALUE, tempDirectory, pool);
+    }
+
+    ExternalMergeSort(int runLength, long memoryBudget, Path tempDirectory, ComputePool pool) {
+        if (runLength < 1 || runLength > MAX_RUN_LENGTH) {
+            throw new IllegalArgumentException("El tramo debe tener entre 1 y " + MAX_RUN_LENGTH + " elementos");
+        }
+        this.runLength = runLength;
+        this.memoryBudget = memoryBudget;
+        this.tempDirectory = tempDirectory;
+        this.pool = pool;
+    }
+
+    /**
+     * Lee y ordena por tramos una lista de int32 little-endian.
+     *
+     * @throws IllegalArgumentException si la longitud no es múltiplo de 4 bytes
+     */
+    SortedRuns sortInts(InputStream input) throws IOException {
+        return sort(input, false);
+    }
+
+    /**
+     * Lee y ordena por tramos una lista de float64 little-endian.
+     *
+     * @throws IllegalArgumentException si la longitud no es múltiplo de 8 bytes
+     */
+    SortedRuns sortDoubles(InputStream input) throws IOException {
+        return sort(input, true);
+    }
+
+    private SortedRuns sort(InputStream input, boolean doubles) throws IOException {
+        int width = doubles ? Double.BYTES : Integer.BYTES;
+        byte[] chunk = new byte[CHUNK_SIZE];
+        // El primer tramo crece por duplicación: una entrada pequeña no reserva un tramo entero
+        int capacity = Math.min(runLength, INITIAL_RUN_CAPACITY);
+        Object run = doubles ? new double[capacity] : new int[capacity];
+        int count = fill(input, run, 0, chunk, width);
+        while (count == capacity && capacity < runLength) {
+            capacity = (int) Math.min(runLength, 2L * capacity);
+            run = doubles ? Arrays.copyOf((double[]) run, capacity) : Arrays.copyOf((int[]) run, capacity);
+            count = fill(input, run, count, chunk, width);
+        }
+        if (count < runLength) {
+            // Cabe en un tramo: se ordena en memoria sin pasar por disco
+            Object values = count == capacity ? run
+                : doubles ? Arrays.copyOf((double[]) run, count) : Arrays.copyOf((int[]) run, count);
+            sortRun(values);
+            return new SortedRuns(doubles, count, values, List.of());
+        }
+
+        int maxInFlight = maxRunsInMemory(pool.parallelism(), memoryBudget, (long) runLength * width);
+        Deque<Future<Path>> inFlight = new ArrayDeque<>();
+        List<Path> files = new ArrayList<>();
+        long size = 0;
+        try {
+            while (count > 0) {
+                size += count;
+                Object pending = run;
+                int pendingCount = count;
+                inFlight.add(pool.get().submit(() -> spill(pending, pendingCount, doubles)));
+                // Tras esperar quedan en vuelo maxInFlight - 1 tramos más el que se va a leer
+                if (inFlight.size() >= maxInFlight) {
+                    files.add(await(inFlight.poll()));
+                }
+                run = doubles ? new double[runLength] : new int[runLength];
+                count = fill(input, run, 0, chunk, width);
+            }
+            while (!inFlight.isEmpty()) {
+                files.add(await(inFlight.poll()));
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Future<Path> future : inFlight) {
+                try {
+                    files.add(await(future));
+                } catch (IOException | RuntimeException ignored) {
+                    // Se informa del primer error
+                }
+            }
+            SortedRuns.delete(files);
+            throw e;
+        }
+        return new SortedRuns(doubles, size, null, files);
+    }
+
+    /**
+     * Tramos en memoria a la vez, contando el que se está leyendo: uno por hilo
+     * más el de lectura, limitado por lo que cabe en {@code memoryBudget} y como
+     * mínimo uno.
+     */
+    static int maxRunsInMemory(int parallelism, long memoryBudget, long runBytes) {
+        long fitting = Math.max(1, memoryBudget / runBytes);
+        return (int) Math.min(parallelism + 1L, fitting);
+    }
+
+    /**
+     * Rellena {@code run} a partir de la posición {@code from} hasta llenarlo o
+     * agotar la entrada.
+     *
+     * @return número de elementos de {@code run} ocupados
+     */
+    private static int fill(InputStream input, Object run, int from, byte[] chunk, int width) throws IOException {
+        int capacity = run instanceof int[] ints ? ints.length : ((double[]) run).length;
+        int count = from;
+        while (count < capacity) {
+            int wanted = (int) Math.min(chunk.length, (long) (capacity - count) * width);
+            int read = input.readNBytes(chunk, 0, wanted);
+            if (read % width != 0) {
+                throw new IllegalArgumentException("La longitud del cuerpo no es múltiplo de " + width + " bytes");
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(chunk, 0, read).order(ByteOrder.LITTLE_ENDIAN);
+            if (run instanceof int[] ints) {
+                bytes.asIntBuffer().get(ints, count, read / width);
+            } else {
+                bytes.asDoubleBuffer().get((double[]) run, count, read / width);
+            }
+            count += read / width;
+            if (read < wanted) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private static void sortRun(Object values) {
+        if (values instanceof int[] ints) {
+            SortPlanner.sort(ints);
+        } else {
+            SortPlanner.sort((double[]) values);
+        }
+    }
+
+    /**
+     * Ordena un tramo y lo vuelca a un fichero temporal mapeado en memoria.
+     */
+    private Path spill(Object run, int count, boolean doubles) throws IOException {
+        Object values = count == runLength ? run
+            : doubles ? Arrays.copyOf((double[]) run, count) : Arrays.copyOf((int[]) run, count);
+        sortRun(values);
+        Path file = Files.createTempFile(tempDirectory, "sort-run-", ".bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long bytes = (long) count * (doubles ? Double.BYTES : Integer.BYTES);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (doubles) {
+                mapped.asDoubleBuffer().put((double[]) values, 0, count);
+            } else {
+                mapped.asIntBuffer().put((int[]) values, 0, count);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private static Path await(Future<Path> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Ordenación externa interrumpida", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Mezcla de k vías de los ficheros de tramos ordenados sobre {@code out}.
+     */
+    static void merge(List<Path> files, boolean doubles, OutputStream out) throws IOException {
+        int k = files.size();
+        IntBuffer[] intRuns = new IntBuffer[k];
+        DoubleBuffer[] doubleRuns = new DoubleBuffer[k];
+        for (int i = 0; i < k; i++) {
+            try (FileChannel channel = FileChannel.open(files.get(i), StandardOpenOption.READ)) {
+                // El mapeo sigue siendo válido después de cerrar el canal
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                mapped.order(ByteOrder.LITTLE_ENDIAN);
+                if (doubles) {
+                    doubleRuns[i] = mapped.asDoubleBuffer();
+                } else {
+                    intRuns[i] = mapped.asIntBuffer();
+                }
+            }
+        }
+
+        // Montículo de mínimos de índices de tramo, ordenado sin signo por la cabeza de
+        // cada tramo: los doubles con su clave ordenable y los int con el bit de signo
+        // invertido, que deja intactos los 32 bits bajos
+        long[] heads = new long[k];
+        int[] heap = new int[k];
+        int size = 0;
+        for (int i = 0; i < k; i++) {
+            if (doubles ? doubleRuns[i].hasRemaining() : intRuns[i].hasRemaining()) {
+                heads[i] = doubles ? DoubleSortEngine.toSortableBits(doubleRuns[i].get()) : intKey(intRuns[i].get());
+                heap[size++] = i;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(heap, heads, i, size);
+        }
+
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (size > 0) {
+            int top = heap[0];
+            if (chunk.remaining() < Double.BYTES) {
+                out.write(chunk.array(), 0, chunk.position());
+                chunk.clear();
+            }
+            if (doubles) {
+                chunk.putDouble(DoubleSortEngine.fromSortableBits(heads[top]));
+                if (doubleRuns[top].hasRemaining()) {
+                    heads[top] = DoubleSortEngine.toSortableBits(doubleRuns[top].get());
+                } else {
+                    heap[0] = heap[--size];
+                }
+            } else {
+                chunk.putInt((int) heads[top]);
+                if (intRuns[top].hasRemaining()) {
+                    heads[top] = intKey(intRuns[top].get());
+                } else {
+                    heap[0] = heap[--size];
+                }
+            }
+            siftDown(heap, heads, 0, size);
+        }
+        out.write(chunk.array(), 0, chunk.position());
+    }
+
+    private static void siftDown(int[] heap, long[] heads, int position, int size) {
+        int run = heap[position];
+        long head = heads[run];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && Long.compareUnsigned(heads[heap[child + 1]], heads[heap[child]]) < 0) {
+                child++;
+            }
+            if (Long.compareUnsigned(heads[heap[child]], head) >= 0) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = run;
+    }
+
+    /** Clave de un int cuyo orden sin signo es el orden con signo del int. */
+    private static long intKey(int value) {
+        return value ^ Long.MIN_VALUE;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo.service;
+
+import com.example.demo.config.MathProperties;
+import com.example.demo.dto.DijkstraResult;
+import com.example.demo.dto.Graph;
+import com.example.demo.dto.GraphInfo;
+import com.example.demo.dto.ShortestPathTree;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de grafos compilados para consultar muchas veces sin reenviarlos.
+ *
+ * Un cliente sube el grafo una vez y recibe un identificador y una versión; el
+ * grafo se compila en ese momento a un {@link CompiledGraph} inmutable y la
+ * lista de adyacencias original se descarta. Las consultas leen la entrada
+ * vigente sin bloqueos y sustituir un grafo publica una entrada nueva, así que
+ * una consulta en curso termina sobre la versión con la que empezó. Los grafos
+ * viven en memoria hasta que se eliminan.
+ *
+ * Para que las subidas no agoten el heap, el número de grafos y la suma de sus
+ * aristas están limitados por {@code math.graphs.max-graphs} y
+ * {@code math.graphs.max-total-edges}; una subida que los superaría se rechaza
+ * con {@link StorageLimitExceededException}. Las altas, sustituciones y bajas
+ * se serializan para llevar esa cuenta; las consultas no toman el cerrojo.
+ */
+@Service
+public class GraphRegistryService {
+
+    private final DijkstraService dijkstraService;
+    private final Map<String, RegisteredGraph> graphs = new ConcurrentHashMap<>();
+    private final int maxGraphs;
+    private final long maxTotalEdges;
+
+    /** Aristas de todos los grafos registrados; se actualiza con el cerrojo de {@code this}. */
+    private long totalEdges;
+
+    @Autowired
+    public GraphRegistryService(DijkstraService dijkstraService, MathProperties properties) {
+        this(dijkstraService, properties.getGraphs().getMaxGraphs(), properties.getGraphs().getMaxTotalEdges());
+    }
+
+    GraphRegistryService(DijkstraService dijkstraService, int maxGraphs, long maxTotalEdges) {
+        this.dijkstraService = dijkstraService;
+        this.maxGraphs = maxGraphs;
+        this.maxTotalEdges = maxTotalEdges;
+    }
+
+    /**
+     * Compila y registra un grafo nuevo.
+     *
+     * @return identificador, versión 1 y tamaño del grafo
+     * @throws IllegalArgumentException si el grafo no es válido
+     * @throws StorageLimitExceededException si no caben más grafos o aristas
+     */
+    public GraphInfo register(Graph graph) {
+        RegisteredGraph registered = new RegisteredGraph(UUID.randomUUID().toString(), 1, CompiledGraph.compile(graph));
+        synchronized (this) {
+            if (graphs.size() >= maxGraphs) {
+                throw new StorageLimitExceededException("Ya hay " + graphs.size() + " grafos registrados; elimina alguno");
+            }
+            reserveEdges(registered.graph.edgeCount());
+            graphs.put(registered.id, registered);
+        }
+        return registered.info();
+    }
+
+    /**
+     * Sustituye el grafo de {@code id} y sube su versión.
+     *
+     * @return identificador, nueva versión y tamaño del grafo
+     * @throws IllegalArgumentException si el grafo no es válido
+     * @throws NoSuchElementException si el grafo no existe
+     * @throws StorageLimitExceededException si el grafo nuevo no cabe en el límite de aristas
+     */
+    public GraphInfo replace(String id, Graph graph) {
+        // Compilar fuera del cerrojo, que sólo protege la cuenta de aristas
+        CompiledGraph compiled = CompiledGraph.compile(graph);
+        RegisteredGraph replaced;
+        synchronized (this) {
+            RegisteredGraph current = find(id);
+            reserveEdges((long) compiled.edgeCount() - current.graph.edgeCount());
+            replaced = new RegisteredGraph(id, current.version + 1, compiled);
+            graphs.put(id, replaced);
+        }
+        return replaced.info();
+    }
+
+    /**
+     * @return identificador, versión vigente y tamaño del grafo
+     * @throws NoSuchElementException si el grafo no existe
+     */
+    public GraphInfo info(String id) {
+        return find(id).info();
+    }
+
+    /**
+     * Camino más corto en un grafo registrado.
+     *
+     * @param version versión exigida, o null para usar la vigente
+     * @throws NoSuchElementException si el grafo no existe
+     * @throws GraphVersionConflictException si se pide una versión que ya no es la vigente
+     * @throws IllegalArgumentException si los nodos no son válidos
+     */
+    public DijkstraResult findShortestPath(String id, Long version, String source, String destination) {
+        return dijkstraService.findShortestPathCompiled(find(id, version), source, destination);
+    }
+
+    /**
+     * Árbol de caminos más cortos desde {@code source} en un grafo registrado.
+     *
+     * @param version versión exigida, o null para usar la vigente
+     * @throws NoSuchElementException si el grafo no existe
+     * @throws GraphVersionConflictException si se pide una versión que ya no es la vigente
+     * @throws IllegalArgumentException si el origen no es válido
+     */
+    public ShortestPathTree findShortestPathTree(String id, Long version, String source) {
+        return dijkstraService.findShortestPathTreeCompiled(find(id, version), source);
+    }
+
+    /**
+     * Elimina un grafo y libera su memoria.
+     *
+     * @return true si el grafo existía
+     */
+    public synchronized boolean delete(String id) {
+        RegisteredGraph removed = graphs.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        totalEdges -= removed.graph.edgeCount();
+        return true;
+    }
+
+    /** Suma {@code edges} (negativo al encoger) a la cuenta si no supera el límite. */
+    private void reserveEdges(long edges) {
+        if (edges > 0 && totalEdges + edges > maxTotalEdges) {
+            throw new StorageLimitExceededException("El registro admite " + maxTotalEdges
+                + " aristas en total y ya tiene " + totalEdges);
+        }
+        totalEdges += edges;
+    }
+
+    private RegisteredGraph find(String id) {
+        RegisteredGraph registered = graphs.get(id);
+        if (registered == null) {
+            throw notFound(id);
+        }
+        return registered;
+    }
+
+    /**
+     * @return grafo vigente de {@code id}, comprobando la versión si se indica
+     */
+    private CompiledGraph find(String id, Long version) {
+        RegisteredGraph registered = find(id);
+        if (version != null && version != registered.version) {
+            throw new GraphVersionConflictException(id, registered.version, version);
+        }
+        return registered.graph;
+    }
+
+    private static NoSuchElementException notFound(String id) {
+        return new NoSuchElementException("No existe el grafo " + id);
+    }
+
+    /**
+     * Versión inmutable de un grafo registrado.
+     */
+    private static final class RegisteredGraph {
+        private final String id;
+        private final long version;
+        private final CompiledGraph graph;
+
+        RegisteredGraph(String id, long version, CompiledGraph graph) {
+            this.id = id;
+            this.version = version;
+            this.graph = graph;
+        }
+
+        GraphInfo info() {
+            return new GraphInfo(id, version, graph.nodeCount(), graph.edgeCount());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.service;
+
+/**
+ * Se pidió una versión de un grafo registrado que ya no es la vigente.
+ */
+public class GraphVersionConflictException extends RuntimeException {
+
+    public GraphVersionConflictException(String id, long currentVersion, long requestedVersion) {
+        super("El grafo " + id + " está en la versión " + currentVersion + ", no en la " + requestedVersion);
+    }
+}
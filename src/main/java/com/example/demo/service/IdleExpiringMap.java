@@ -0,0 +1,119 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Mapa de objetos en memoria por identificador, con número máximo de entradas y
+ * caducidad por inactividad.
+ *
+ * Cada lectura renueva la entrada; una entrada sin lecturas durante más de
+ * {@code idleTimeout} deja de verse y se libera en la siguiente alta. Si al dar
+ * de alta el mapa sigue lleno tras purgar las caducadas, se rechaza con
+ * {@link StorageLimitExceededException}, así que la memoria total queda acotada
+ * aunque los clientes no eliminen lo que crean.
+ *
+ * Las lecturas no toman cerrojo; las altas se serializan para no superar el
+ * máximo.
+ *
+ * @param <V> tipo de los objetos guardados
+ */
+final class IdleExpiringMap<V> {
+
+    private final String kind;
+    private final int maxEntries;
+    private final long idleTimeoutNanos;
+    private final LongSupplier clock;
+    private final Map<String, Slot<V>> slots = new ConcurrentHashMap<>();
+    private long lastPurge;
+
+    /**
+     * @param kind nombre en plural de lo que se guarda, para los mensajes de error
+     * @param idleTimeout inactividad tras la que caduca una entrada; cero o
+     *        negativo para que no caduquen
+     */
+    IdleExpiringMap(String kind, int maxEntries, Duration idleTimeout) {
+        this(kind, maxEntries, idleTimeout, System::nanoTime);
+    }
+
+    /**
+     * @param clock reloj en nanosegundos, como {@link System#nanoTime()}
+     */
+    IdleExpiringMap(String kind, int maxEntries, Duration idleTimeout, LongSupplier clock) {
+        this.kind = kind;
+        this.maxEntries = maxEntries;
+        this.idleTimeoutNanos = idleTimeout.isNegative() || idleTimeout.isZero() ? Long.MAX_VALUE : idleTimeout.toNanos();
+        this.clock = clock;
+        this.lastPurge = clock.getAsLong();
+    }
+
+    /**
+     * Da de alta {@code value}; antes purga las entradas caducadas si el mapa
+     * está lleno o si no se ha purgado en el último {@code idleTimeout}.
+     *
+     * @throws StorageLimitExceededException si sigue habiendo {@code maxEntries} entradas
+     */
+    synchronized void put(String key, V value) {
+        long now = clock.getAsLong();
+        if (slots.size() >= maxEntries || now - lastPurge >= idleTimeoutNanos) {
+            purgeExpired(now);
+        }
+        if (slots.size() >= maxEntries) {
+            throw new StorageLimitExceededException("Ya hay " + slots.size() + " " + kind
+                + " en memoria; elimina alguna o espera a que caduquen");
+        }
+        slots.put(key, new Slot<>(value, now));
+    }
+
+    /**
+     * @return el objeto de {@code key}, renovando su caducidad, o null si no
+     *         existe o ha caducado
+     */
+    V get(String key) {
+        Slot<V> slot = slots.get(key);
+        if (slot == null) {
+            return null;
+        }
+        long now = clock.getAsLong();
+        if (expired(slot, now)) {
+            slots.remove(key, slot);
+            return null;
+        }
+        slot.lastAccess = now;
+        return slot.value;
+    }
+
+    /**
+     * @return true si la entrada existía y no había caducado
+     */
+    boolean remove(String key) {
+        Slot<V> slot = slots.remove(key);
+        return slot != null && !expired(slot, clock.getAsLong());
+    }
+
+    /** Número de entradas guardadas, incluidas las caducadas aún sin purgar. */
+    int size() {
+        return slots.size();
+    }
+
+    private void purgeExpired(long now) {
+        slots.entrySet().removeIf(entry -> expired(entry.getValue(), now));
+        lastPurge = now;
+    }
+
+    private boolean expired(Slot<V> slot, long now) {
+        return now - slot.lastAccess > idleTimeoutNanos;
+    }
+
+    private static final class Slot<V> {
+        final V value;
+        volatile long lastAccess;
+
+        Slot(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
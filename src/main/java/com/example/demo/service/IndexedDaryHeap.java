@@ -0,0 +1,127 @@
+package com.example.demo.service;
+
+import java.util.Arrays;
+
+/**
+ * Montículo de mínimos d-ario indexado sobre los nodos {@code 0..capacity-1}.
+ *
+ * Cada nodo está en el montículo como mucho una vez: {@code positions} guarda
+ * su posición en {@code heap}, de modo que bajar la clave de un nodo que ya
+ * está es un {@code siftUp} en su sitio, sin duplicados ni entradas obsoletas
+ * que descartar al extraer. Con aridad 4 el árbol tiene la mitad de altura que
+ * uno binario y los hijos de un nodo quedan contiguos en memoria, lo que
+ * abarata {@code siftDown}, que es la operación que domina en Dijkstra.
+ */
+final class IndexedDaryHeap {
+
+    /** Número de hijos por nodo del árbol. */
+    static final int ARITY = 4;
+
+    private final int[] heap;
+    private final int[] keys;
+    private final int[] positions;
+    private int size;
+
+    /**
+     * @param capacity número de nodos, identificados de 0 a {@code capacity - 1}
+     */
+    IndexedDaryHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.keys = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Inserta {@code node} con clave {@code key} o, si ya está, baja su clave.
+     *
+     * @throws IllegalArgumentException si el nodo ya está con una clave menor
+     */
+    void insertOrDecrease(int node, int key) {
+        int position = positions[node];
+        if (position < 0) {
+            position = size++;
+            heap[position] = node;
+            positions[node] = position;
+        } else if (key > keys[node]) {
+            throw new IllegalArgumentException("La clave del nodo " + node + " sólo puede disminuir");
+        }
+        keys[node] = key;
+        siftUp(position);
+    }
+
+    /**
+     * Extrae el nodo de menor clave.
+     *
+     * @throws IllegalStateException si el montículo está vacío
+     */
+    int pollMin() {
+        if (size == 0) {
+            throw new IllegalStateException("El montículo está vacío");
+        }
+        int min = heap[0];
+        positions[min] = -1;
+        int last = heap[--size];
+        if (size > 0) {
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void siftUp(int position) {
+        int node = heap[position];
+        int key = keys[node];
+        while (position > 0) {
+            int parent = (position - 1) / ARITY;
+            int parentNode = heap[parent];
+            if (keys[parentNode] <= key) {
+                break;
+            }
+            heap[position] = parentNode;
+            positions[parentNode] = position;
+            position = parent;
+        }
+        heap[position] = node;
+        positions[node] = position;
+    }
+
+    private void siftDown(int position) {
+        int node = heap[position];
+        int key = keys[node];
+        while (true) {
+            int first = position * ARITY + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + ARITY, size);
+            int smallest = first;
+            int smallestKey = keys[heap[first]];
+            for (int child = first + 1; child < last; child++) {
+                int childKey = keys[heap[child]];
+                if (childKey < smallestKey) {
+                    smallest = child;
+                    smallestKey = childKey;
+                }
+            }
+            if (smallestKey >= key) {
+                break;
+            }
+            int childNode = heap[smallest];
+            heap[position] = childNode;
+            positions[childNode] = position;
+            position = smallest;
+        }
+        heap[position] = node;
+        positions[node] = position;
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.demo.service;
+
+/**
+ * Contador {@code int -> int} con direccionamiento abierto y sondeo lineal.
+ *
+ * Claves y contadores viven en dos arrays primitivos paralelos, sin objetos por
+ * entrada ni boxing. Sólo admite contadores positivos, así que un contador a 0
+ * marca la casilla como libre y no hace falta un valor centinela para las
+ * claves: cualquier {@code int}, incluido 0, es una clave válida.
+ *
+ * La capacidad es siempre potencia de dos y la tabla crece al superar la mitad
+ * de ocupación, lo que mantiene cortas las cadenas de sondeo. Los borrados
+ * desplazan hacia atrás las entradas siguientes de la cadena en lugar de dejar
+ * lápidas, así que la tabla no se degrada con altas y bajas continuas.
+ */
+final class IntIntHashMap {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private int[] keys;
+    private int[] counts;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    /**
+     * @param expectedSize número de claves distintas esperado; la tabla crece si se supera
+     */
+    IntIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Suma {@code delta} al contador de {@code key}, creándolo si no existe.
+     *
+     * @param delta incremento, debe ser positivo
+     * @return nuevo valor del contador
+     */
+    int add(int key, int delta) {
+        int slot = slot(key);
+        while (counts[slot] != 0) {
+            if (keys[slot] == key) {
+                return counts[slot] += delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        counts[slot] = delta;
+        if (++size > resizeAt) {
+            rehash(counts.length << 1);
+        }
+        return delta;
+    }
+
+    /**
+     * Incrementa en uno el contador de {@code key}.
+     *
+     * @return nuevo valor del contador
+     */
+    int increment(int key) {
+        return add(key, 1);
+    }
+
+    /**
+     * @return contador de {@code key}, o 0 si no está
+     */
+    int get(int key) {
+        int slot = slot(key);
+        while (counts[slot] != 0) {
+            if (keys[slot] == key) {
+                return counts[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Asigna el valor de {@code key}, sustituyendo el anterior.
+     *
+     * @param value nuevo valor, debe ser positivo
+     */
+    void put(int key, int value) {
+        int slot = slot(key);
+        while (counts[slot] != 0) {
+            if (keys[slot] == key) {
+                counts[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        counts[slot] = value;
+        if (++size > resizeAt) {
+            rehash(counts.length << 1);
+        }
+    }
+
+    /**
+     * Elimina {@code key}.
+     *
+     * @return valor que tenía, o 0 si no estaba
+     */
+    int remove(int key) {
+        int slot = slot(key);
+        while (counts[slot] != 0) {
+            if (keys[slot] == key) {
+                int removed = counts[slot];
+                shiftBack(slot);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Rellena el hueco dejado en {@code gap} con las entradas posteriores de la
+     * cadena cuya casilla de origen no queda entre el hueco y su posición actual.
+     */
+    private void shiftBack(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (counts[slot] == 0) {
+                break;
+            }
+            int home = slot(keys[slot]);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                counts[gap] = counts[slot];
+                gap = slot;
+            }
+        }
+        counts[gap] = 0;
+    }
+
+    /**
+     * Suma todos los contadores de {@code other} a este mapa.
+     */
+    void addAll(IntIntHashMap other) {
+        int[] otherKeys = other.keys;
+        int[] otherCounts = other.counts;
+        for (int slot = 0; slot < otherCounts.length; slot++) {
+            if (otherCounts[slot] != 0) {
+                add(otherKeys[slot], otherCounts[slot]);
+            }
+        }
+    }
+
+    /** Número de claves distintas. */
+    int size() {
+        return size;
+    }
+
+    /** Número de casillas de la tabla, para recorrerla con {@link #keyAt} y {@link #countAt}. */
+    int capacity() {
+        return counts.length;
+    }
+
+    int keyAt(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * @return contador de la casilla, o 0 si está libre
+     */
+    int countAt(int slot) {
+        return counts[slot];
+    }
+
+    private int slot(int key) {
+        // Hash de Fibonacci: reparte bien también claves consecutivas
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        counts = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : capacity >>> 1;
+    }
+
+    private void rehash(int capacity) {
+        if (counts.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Demasiadas claves distintas: " + size);
+        }
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        allocate(capacity);
+        for (int old = 0; old < oldCounts.length; old++) {
+            if (oldCounts[old] != 0) {
+                int slot = slot(oldKeys[old]);
+                while (counts[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[old];
+                counts[slot] = oldCounts[old];
+            }
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long wanted = Math.max(MIN_CAPACITY, 2L * expectedSize);
+        if (wanted >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+}
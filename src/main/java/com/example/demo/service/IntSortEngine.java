@@ -0,0 +1,309 @@
+package com.example.demo.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Motor de ordenación sobre arrays primitivos {@code int[]}.
+ *
+ * Implementa introsort: quicksort con pivote mediana de tres y partición en tres
+ * vías (menores, iguales y mayores que el pivote), con profundidad de recursión
+ * acotada a 2·log2(n). Si se supera esa profundidad el subrango se termina con
+ * heapsort, de modo que el peor caso es O(n log n) y la pila nunca pasa de
+ * O(log n) marcos. Las entradas ya ordenadas o con todos los valores iguales se
+ * resuelven en O(n log n) y O(n) respectivamente.
+ *
+ * Por encima de {@link #PARALLEL_THRESHOLD} elementos delega en
+ * {@link Arrays#parallelSort(int[], int, int)}, que reparte el trabajo en el
+ * pool común de fork-join.
+ *
+ * Incluye además las variantes por conteo, radix y mezcla de secuencias que
+ * elige {@link SortPlanner} según la forma de la entrada.
+ */
+final class IntSortEngine {
+
+    /** Tamaño por debajo del cual se usa ordenación por inserción. */
+    static final int INSERTION_THRESHOLD = 24;
+
+    /**
+     * Tamaño a partir del cual compensa ordenar en paralelo. Se calcula según el
+     * paralelismo disponible en el pool común: con un único hilo no se paraleliza nunca.
+     */
+    static final int PARALLEL_THRESHOLD = ForkJoinPool.getCommonPoolParallelism() > 1 ? 1 << 16 : Integer.MAX_VALUE;
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_BUCKETS = 1 << RADIX_BITS;
+
+    private IntSortEngine() {
+    }
+
+    /**
+     * Ordena el array completo en orden ascendente.
+     *
+     * @param values array a ordenar (se modifica in situ)
+     */
+    static void sort(int[] values) {
+        sort(values, 0, values.length);
+    }
+
+    /**
+     * Ordena el rango [from, to) en orden ascendente.
+     *
+     * @param values array a ordenar (se modifica in situ)
+     * @param from índice inicial inclusivo
+     * @param to índice final exclusivo
+     */
+    static void sort(int[] values, int from, int to) {
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        if (length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(values, from, to);
+            return;
+        }
+        introsort(values, from, to - 1, 2 * (31 - Integer.numberOfLeadingZeros(length)));
+    }
+
+    /**
+     * Ordena el rango [from, to) sin recurrir nunca a la ordenación en paralelo.
+     * Útil cuando el llamador ya reparte el trabajo entre hilos.
+     */
+    static void sortSequential(int[] values, int from, int to) {
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        introsort(values, from, to - 1, 2 * (31 - Integer.numberOfLeadingZeros(length)));
+    }
+
+    /**
+     * Ordenación por conteo para valores en [min, max]. Reserva un contador por
+     * cada valor del rango, así que sólo conviene con rangos estrechos.
+     */
+    static void countingSort(int[] values, int min, int max) {
+        int[] counts = new int[max - min + 1];
+        for (int value : values) {
+            counts[value - min]++;
+        }
+        int index = 0;
+        for (int offset = 0; offset < counts.length; offset++) {
+            int count = counts[offset];
+            int value = min + offset;
+            for (int c = 0; c < count; c++) {
+                values[index++] = value;
+            }
+        }
+    }
+
+    /**
+     * Radix sort LSD en cuatro pasadas de 8 bits. El bit de signo se invierte
+     * para que los negativos queden delante; las pasadas en las que todos los
+     * elementos comparten dígito se omiten.
+     */
+    static void radixSort(int[] values) {
+        int length = values.length;
+        int[] source = values;
+        int[] target = new int[length];
+        int[] counts = new int[RADIX_BUCKETS];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int value : source) {
+                counts[radixDigit(value, shift)]++;
+            }
+            if (counts[radixDigit(source[0], shift)] == length) {
+                continue;
+            }
+            int offset = 0;
+            for (int bucket = 0; bucket < RADIX_BUCKETS; bucket++) {
+                int count = counts[bucket];
+                counts[bucket] = offset;
+                offset += count;
+            }
+            for (int value : source) {
+                target[counts[radixDigit(value, shift)]++] = value;
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != values) {
+            System.arraycopy(source, 0, values, 0, length);
+        }
+    }
+
+    private static int radixDigit(int value, int shift) {
+        return ((value ^ Integer.MIN_VALUE) >>> shift) & (RADIX_BUCKETS - 1);
+    }
+
+    /**
+     * Ordena aprovechando las secuencias que ya vienen ordenadas en la entrada:
+     * detecta las secuencias ascendentes (y las estrictamente descendentes, que
+     * invierte) y las mezcla por parejas hasta que sólo queda una. Con r
+     * secuencias el coste es O(n log r).
+     */
+    static void runMergeSort(int[] values) {
+        int length = values.length;
+        if (length < 2) {
+            return;
+        }
+
+        // Límites de las secuencias: [bounds[k], bounds[k + 1])
+        int[] bounds = new int[16];
+        int runCount = 0;
+        int start = 0;
+        while (start < length) {
+            int end = start + 1;
+            if (end < length && values[end] < values[start]) {
+                while (end < length && values[end] < values[end - 1]) {
+                    end++;
+                }
+                reverse(values, start, end - 1);
+            } else {
+                while (end < length && values[end] >= values[end - 1]) {
+                    end++;
+                }
+            }
+            if (runCount + 2 > bounds.length) {
+                bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            }
+            bounds[runCount++] = start;
+            start = end;
+        }
+        bounds[runCount] = length;
+        if (runCount == 1) {
+            return;
+        }
+
+        int[] source = values;
+        int[] target = new int[length];
+        while (runCount > 1) {
+            int merged = 0;
+            for (int k = 0; k < runCount; k += 2) {
+                int from = bounds[k];
+                int mid = bounds[Math.min(k + 1, runCount)];
+                int to = bounds[Math.min(k + 2, runCount)];
+                merge(source, from, mid, to, target);
+                bounds[merged++] = from;
+            }
+            bounds[merged] = length;
+            runCount = merged;
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != values) {
+            System.arraycopy(source, 0, values, 0, length);
+        }
+    }
+
+    private static void merge(int[] source, int from, int mid, int to, int[] target) {
+        int i = from;
+        int j = mid;
+        int k = from;
+        while (i < mid && j < to) {
+            target[k++] = source[i] <= source[j] ? source[i++] : source[j++];
+        }
+        System.arraycopy(source, i, target, k, mid - i);
+        System.arraycopy(source, j, target, k + (mid - i), to - j);
+    }
+
+    private static void reverse(int[] values, int from, int to) {
+        while (from < to) {
+            int tmp = values[from];
+            values[from++] = values[to];
+            values[to--] = tmp;
+        }
+    }
+
+    private static void introsort(int[] a, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapsort(a, low, high);
+                return;
+            }
+
+            int pivot = medianOfThree(a, low, low + ((high - low) >>> 1), high);
+
+            // Partición en tres vías: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int value = a[i];
+                if (value < pivot) {
+                    a[i++] = a[lt];
+                    a[lt++] = value;
+                } else if (value > pivot) {
+                    a[i] = a[gt];
+                    a[gt--] = value;
+                } else {
+                    i++;
+                }
+            }
+
+            // Recursión sobre la parte menor y bucle sobre la mayor para acotar la pila
+            if (lt - low < high - gt) {
+                introsort(a, low, lt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                introsort(a, gt + 1, high, depthLimit);
+                high = lt - 1;
+            }
+        }
+        insertionSort(a, low, high);
+    }
+
+    private static int medianOfThree(int[] a, int i, int j, int k) {
+        int x = a[i];
+        int y = a[j];
+        int z = a[k];
+        if (x < y) {
+            return y < z ? y : Math.max(x, z);
+        }
+        return x < z ? x : Math.max(y, z);
+    }
+
+    private static void insertionSort(int[] a, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int value = a[i];
+            int j = i - 1;
+            while (j >= low && a[j] > value) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    private static void heapsort(int[] a, int low, int high) {
+        int n = high - low + 1;
+        for (int i = (n >>> 1) - 1; i >= 0; i--) {
+            siftDown(a, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            int top = a[low];
+            a[low] = a[low + end];
+            a[low + end] = top;
+            siftDown(a, low, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] a, int offset, int node, int size) {
+        int value = a[offset + node];
+        int half = size >>> 1;
+        while (node < half) {
+            int child = 2 * node + 1;
+            int right = child + 1;
+            if (right < size && a[offset + right] > a[offset + child]) {
+                child = right;
+            }
+            if (a[offset + child] <= value) {
+                break;
+            }
+            a[offset + node] = a[offset + child];
+            node = child;
+        }
+        a[offset + node] = value;
+    }
+}
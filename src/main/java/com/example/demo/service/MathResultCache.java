@@ -0,0 +1,317 @@
+package com.example.demo.service;
+
+import com.example.demo.config.MathProperties;
+import com.example.demo.dto.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Caché de resultados direccionada por contenido: la clave es la operación más
+ * un hash de 64 bits de la entrada, y la entrada se guarda con el resultado para
+ * compararla entera al encontrar el hash, así que una colisión nunca devuelve un
+ * resultado ajeno. La comparación se hace fuera del cerrojo: bajo él sólo se
+ * busca la candidata por la clave y se actualizan los segmentos.
+ *
+ * El reemplazo es LRU segmentado con presupuesto en bytes:
+ * <ul>
+ *   <li>las entradas nuevas entran en el segmento de prueba</li>
+ *   <li>un acierto en prueba las pasa al segmento protegido (80% del presupuesto)</li>
+ *   <li>si el protegido se llena, su entrada menos reciente vuelve a prueba</li>
+ *   <li>al superar el presupuesto se expulsa primero la menos reciente de prueba</li>
+ * </ul>
+ * Así una ráfaga de peticiones distintas sólo desplaza a otras vistas una vez y
+ * las repetidas sobreviven. El tamaño de cada entrada se estima con la entrada,
+ * el resultado y una sobrecarga fija.
+ *
+ * Una entrada mayor que {@code math.cache.max-entry-bytes} no se guarda: por
+ * defecto el límite es el tamaño del segmento de prueba (12,8 MB con el
+ * presupuesto de 64 MB), porque una entrada mayor expulsaría todo lo que hay en
+ * prueba. Se puede subir hasta el presupuesto entero; los resultados
+ * descartados por tamaño se cuentan en {@link CacheStats#getOversized()}.
+ *
+ * Los resultados se devuelven tal cual, sin copiarlos: quien los reciba no debe
+ * modificarlos. El cálculo de un fallo se hace fuera del cerrojo. El presupuesto
+ * se configura con {@code math.cache.max-bytes}.
+ */
+@Component
+final class MathResultCache {
+
+    /** Sobrecarga estimada por entrada: clave, nodos de los mapas y cabeceras de objetos. */
+    static final long ENTRY_OVERHEAD = 128;
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long P1 = 0xC2B2AE3D27D4EB4FL;
+    private static final long P2 = 0x165667B19E3779F9L;
+
+    private final long maxBytes;
+    private final long protectedMaxBytes;
+    private final long maxEntryBytes;
+    private final LinkedHashMap<Key, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Key, Entry> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private long probationBytes;
+    private long protectedBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long oversized;
+
+    @Autowired
+    MathResultCache(MathProperties properties) {
+        this(properties.getCache().getMaxBytes(), properties.getCache().getMaxEntryBytes());
+    }
+
+    MathResultCache(long maxBytes) {
+        this(maxBytes, 0);
+    }
+
+    /**
+     * @param maxEntryBytes tamaño máximo de una entrada, como mucho {@code maxBytes};
+     *        0 o negativo usa el tamaño del segmento de prueba
+     */
+    MathResultCache(long maxBytes, long maxEntryBytes) {
+        this.maxBytes = Math.max(0, maxBytes);
+        this.protectedMaxBytes = this.maxBytes / 5 * 4;
+        this.maxEntryBytes = maxEntryBytes > 0
+            ? Math.min(maxEntryBytes, this.maxBytes)
+            : this.maxBytes - protectedMaxBytes;
+    }
+
+    /**
+     * Devuelve el resultado de {@code operation} para {@code input}, calculándolo
+     * con {@code compute} sólo si no está en caché.
+     *
+     * @param resultBytes estimación del tamaño del resultado
+     */
+    <T> T get(String operation, int[] input, Function<int[], T> compute, ToLongFunction<T> resultBytes) {
+        if (maxBytes == 0) {
+            return compute.apply(input);
+        }
+        Key key = new Key(operation, hash(input));
+        Entry candidate = find(key);
+        if (candidate != null && candidate.input instanceof int[] stored && Arrays.equals(stored, input)) {
+            return hit(key, candidate);
+        }
+        recordMiss();
+        T result = compute.apply(input);
+        long bytes = ENTRY_OVERHEAD + 4L * input.length + resultBytes.applyAsLong(result);
+        if (admits(bytes)) {
+            insert(key, new Entry(input.clone(), result, bytes));
+        }
+        return result;
+    }
+
+    <T> T get(String operation, double[] input, Function<double[], T> compute, ToLongFunction<T> resultBytes) {
+        if (maxBytes == 0) {
+            return compute.apply(input);
+        }
+        Key key = new Key(operation, hash(input));
+        Entry candidate = find(key);
+        if (candidate != null && candidate.input instanceof double[] stored && Arrays.equals(stored, input)) {
+            return hit(key, candidate);
+        }
+        recordMiss();
+        T result = compute.apply(input);
+        long bytes = ENTRY_OVERHEAD + 8L * input.length + resultBytes.applyAsLong(result);
+        if (admits(bytes)) {
+            insert(key, new Entry(input.clone(), result, bytes));
+        }
+        return result;
+    }
+
+    private <T> T hit(Key key, Entry entry) {
+        recordHit(key, entry);
+        @SuppressWarnings("unchecked")
+        T result = (T) entry.value;
+        return result;
+    }
+
+    /**
+     * Indica si una entrada de {@code bytes} cabe en el límite por entrada; si no,
+     * la cuenta como descartada. Se comprueba antes de copiar la entrada, para
+     * que un resultado que no se va a guardar no cueste otro array del tamaño de
+     * la petición.
+     */
+    private boolean admits(long bytes) {
+        if (bytes <= maxEntryBytes) {
+            return true;
+        }
+        recordOversized();
+        return false;
+    }
+
+    synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, oversized, probation.size() + protectedSegment.size(),
+            probationBytes + protectedBytes, maxBytes, maxEntryBytes);
+    }
+
+    private synchronized void recordOversized() {
+        oversized++;
+    }
+
+    /** Candidata para {@code key}; quien llama compara su entrada fuera del cerrojo. */
+    private synchronized Entry find(Key key) {
+        Entry entry = protectedSegment.get(key);
+        return entry != null ? entry : probation.get(key);
+    }
+
+    private synchronized void recordMiss() {
+        misses++;
+    }
+
+    /**
+     * Anota un acierto de {@code entry} y la promueve si sigue en prueba. Si entre
+     * tanto se expulsó, el acierto cuenta igual pero la entrada no vuelve.
+     */
+    private synchronized void recordHit(Key key, Entry entry) {
+        hits++;
+        if (protectedSegment.get(key) == entry || probation.get(key) != entry) {
+            return;
+        }
+        probation.remove(key);
+        probationBytes -= entry.bytes;
+        protectedSegment.put(key, entry);
+        protectedBytes += entry.bytes;
+        while (protectedBytes > protectedMaxBytes) {
+            Iterator<Map.Entry<Key, Entry>> eldest = protectedSegment.entrySet().iterator();
+            Map.Entry<Key, Entry> demoted = eldest.next();
+            eldest.remove();
+            protectedBytes -= demoted.getValue().bytes;
+            probation.put(demoted.getKey(), demoted.getValue());
+            probationBytes += demoted.getValue().bytes;
+        }
+        evict();
+    }
+
+    private synchronized void insert(Key key, Entry entry) {
+        // Otra petición pudo guardar el mismo resultado mientras tanto o, en una
+        // colisión de hash, otra entrada con la misma clave: se conserva la que hay
+        if (protectedSegment.containsKey(key) || probation.containsKey(key)) {
+            return;
+        }
+        probation.put(key, entry);
+        probationBytes += entry.bytes;
+        evict();
+    }
+
+    private void evict() {
+        while (probationBytes + protectedBytes > maxBytes) {
+            LinkedHashMap<Key, Entry> segment = probation.isEmpty() ? protectedSegment : probation;
+            Iterator<Map.Entry<Key, Entry>> eldest = segment.entrySet().iterator();
+            long bytes = eldest.next().getValue().bytes;
+            eldest.remove();
+            if (segment == probation) {
+                probationBytes -= bytes;
+            } else {
+                protectedBytes -= bytes;
+            }
+            evictions++;
+        }
+    }
+
+    /**
+     * Hash de 64 bits con cuatro acumuladores independientes, para que el
+     * procesador solape las multiplicaciones (8 enteros por iteración).
+     */
+    static long hash(int[] values) {
+        int length = values.length;
+        long h1 = SEED;
+        long h2 = SEED ^ P1;
+        long h3 = SEED ^ P2;
+        long h4 = SEED + P1 + P2;
+        int i = 0;
+        for (; i + 8 <= length; i += 8) {
+            h1 = round(h1, pack(values[i], values[i + 1]));
+            h2 = round(h2, pack(values[i + 2], values[i + 3]));
+            h3 = round(h3, pack(values[i + 4], values[i + 5]));
+            h4 = round(h4, pack(values[i + 6], values[i + 7]));
+        }
+        long h = Long.rotateLeft(h1, 1) + Long.rotateLeft(h2, 7) + Long.rotateLeft(h3, 12) + Long.rotateLeft(h4, 18);
+        for (; i < length; i++) {
+            h = round(h, values[i]);
+        }
+        return finish(h ^ length);
+    }
+
+    /**
+     * Como {@link #hash(int[])} sobre {@link Double#doubleToLongBits}, que
+     * identifica todos los NaN igual que {@link Arrays#equals(double[], double[])}.
+     */
+    static long hash(double[] values) {
+        int length = values.length;
+        long h1 = SEED;
+        long h2 = SEED ^ P1;
+        long h3 = SEED ^ P2;
+        long h4 = SEED + P1 + P2;
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            h1 = round(h1, Double.doubleToLongBits(values[i]));
+            h2 = round(h2, Double.doubleToLongBits(values[i + 1]));
+            h3 = round(h3, Double.doubleToLongBits(values[i + 2]));
+            h4 = round(h4, Double.doubleToLongBits(values[i + 3]));
+        }
+        long h = Long.rotateLeft(h1, 1) + Long.rotateLeft(h2, 7) + Long.rotateLeft(h3, 12) + Long.rotateLeft(h4, 18);
+        for (; i < length; i++) {
+            h = round(h, Double.doubleToLongBits(values[i]));
+        }
+        return finish(h ^ length);
+    }
+
+    private static long pack(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    private static long round(long accumulator, long input) {
+        return Long.rotateLeft(accumulator + input * P2, 31) * P1;
+    }
+
+    /** Mezcla final de MurmurHash3: cada bit de entrada afecta a todos los de salida. */
+    private static long finish(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Entry {
+        /** Copia de la entrada, para descartar colisiones de hash. */
+        final Object input;
+        final Object value;
+        final long bytes;
+
+        Entry(Object input, Object value, long bytes) {
+            this.input = input;
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+
+    /** Clave de la caché: operación y hash de la entrada, sin la entrada. */
+    private static final class Key {
+        final String operation;
+        final long hash;
+
+        Key(String operation, long hash) {
+            this.operation = operation;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && key.hash == hash && key.operation.equals(operation);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash) * 31 + operation.hashCode();
+        }
+    }
+}
@@ -1,15 +1,31 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.BatchResult;
+import com.example.demo.dto.BatchStatus;
+import com.example.demo.dto.CacheStats;
+import com.example.demo.dto.HeavyHittersResult;
+import com.example.demo.dto.OrderStatistics;
+import com.example.demo.dto.ReductionResult;
+import com.example.demo.dto.SortResult;
+import com.example.demo.dto.SortStrategy;
+import com.example.demo.dto.VectorResult;
+import com.example.demo.config.MathProperties;
 import org.springframework.stereotype.Service;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
-import java.util.HashMap;
 import java.util.Collections;
 import java.util.Base64;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import javax.crypto.Cipher;
@@ -21,6 +37,45 @@ import javax.crypto.spec.SecretKeySpec;
 public class MathService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MathService.class);
+
+    /** Número máximo de operaciones en un lote de {@link #batch}. */
+    public static final int MAX_BATCH_SIZE = 100_000;
+
+    /** Número máximo de percentiles en una llamada a {@link #orderStatistics}. */
+    public static final int MAX_PERCENTILES = 1_000;
+
+    /** Mayor número admitido por {@link #bigFactorial}. */
+    public static final int MAX_BIG_FACTORIAL = 1_000_000;
+
+    private final ComputePool computePool;
+
+    /** Resultados de ordenaciones y modas, direccionados por el contenido de la entrada. */
+    private final MathResultCache resultCache;
+
+    private final ExternalMergeSort externalSort;
+
+    /**
+     * Servicio con la configuración por defecto de {@link MathProperties}, para
+     * usarlo fuera de Spring.
+     */
+    public MathService() {
+        this(new MathProperties());
+    }
+
+    private MathService(MathProperties properties) {
+        this(properties, new ComputePool(properties));
+    }
+
+    private MathService(MathProperties properties, ComputePool computePool) {
+        this(computePool, new MathResultCache(properties), new ExternalMergeSort(properties, computePool));
+    }
+
+    @Autowired
+    MathService(ComputePool computePool, MathResultCache resultCache, ExternalMergeSort externalSort) {
+        this.computePool = computePool;
+        this.resultCache = resultCache;
+        this.externalSort = externalSort;
+    }
     
     // ⚠️ ADVERTENCIA DE SEGURIDAD ⚠️
     // Esta función demuestra las mejores prácticas de seguridad según jon-security space.
@@ -152,11 +207,136 @@ public class MathService {
         return num1 + num2;
     }
 
-    public int sumList(List<Integer> numbers) {
+    public long sumList(List<Integer> numbers) {
         if (numbers == null || numbers.isEmpty()) {
             return 0;
         }
-        return numbers.stream().mapToInt(Integer::intValue).sum();
+        return sum(toIntArray(numbers));
+    }
+
+    /**
+     * Suma un array de enteros sin boxing, acumulando en {@code long} para que la
+     * suma no desborde. Usa la Vector API si está disponible.
+     * 
+     * @param numbers números a sumar
+     * @return la suma; 0 si el array es null o está vacío
+     */
+    public long sum(int[] numbers) {
+        return reduceSum(numbers).getValue();
+    }
+
+    /**
+     * Suma un array de enteros repartiéndolo por núcleos en un pool propio cuando
+     * es lo bastante grande (ver {@link ParallelReductions}).
+     * 
+     * @param numbers números a sumar
+     * @return la suma (0 si el array es null o está vacío) y las particiones usadas
+     */
+    public ReductionResult<Long> reduceSum(int[] numbers) {
+        if (numbers == null) {
+            return new ReductionResult<>(0L, 1);
+        }
+        int partitions = computePool.partitions(numbers.length, ParallelReductions.MIN_PARTITION);
+        return new ReductionResult<>(ParallelReductions.sum(numbers, partitions, computePool), partitions);
+    }
+
+    /**
+     * Ejecuta un lote de operaciones escalares en formato columnar: la operación
+     * {@code i} es {@code ops[i]} sobre {@code a[i]} y {@code b[i]}.
+     * 
+     * Los nombres se resuelven primero en una columna de operaciones y después se
+     * recorren los arrays primitivos en un único bucle. Cada operación tiene su
+     * propio estado: un error en una no afecta al resto del lote.
+     * 
+     * @param ops nombres de las operaciones: add (o sum), subtract, multiply, divide, sqrt
+     * @param a primer operando de cada operación
+     * @param b segundo operando; puede ser null si todas las operaciones son sqrt
+     * @return resultados y estados en el mismo orden que {@code ops}
+     * @throws IllegalArgumentException si faltan columnas, sus longitudes no
+     *         coinciden o el lote supera {@link #MAX_BATCH_SIZE}
+     */
+    public BatchResult batch(String[] ops, double[] a, double[] b) {
+        if (ops == null || a == null) {
+            throw new IllegalArgumentException("Los campos 'ops' y 'a' son obligatorios");
+        }
+        int length = ops.length;
+        if (a.length != length || (b != null && b.length != length)) {
+            throw new IllegalArgumentException("Los campos 'ops', 'a' y 'b' deben tener la misma longitud");
+        }
+        if (length > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("El lote no puede superar " + MAX_BATCH_SIZE + " operaciones");
+        }
+        
+        BatchOperation[] operations = new BatchOperation[length];
+        for (int i = 0; i < length; i++) {
+            operations[i] = BatchOperation.fromName(ops[i]);
+        }
+        
+        double[] results = new double[length];
+        BatchStatus[] statuses = new BatchStatus[length];
+        int failed = 0;
+        for (int i = 0; i < length; i++) {
+            BatchOperation operation = operations[i];
+            double left = a[i];
+            double right = b != null ? b[i] : Double.NaN;
+            BatchStatus status;
+            if (operation == null) {
+                status = BatchStatus.UNKNOWN_OPERATION;
+            } else if (operation.isBinaryIntegral()
+                    ? !BatchOperation.isInt(left) || !BatchOperation.isInt(right)
+                    : !Double.isFinite(left)) {
+                status = BatchStatus.INVALID_OPERAND;
+            } else {
+                status = operation.check(left, right);
+            }
+            if (status == BatchStatus.OK) {
+                results[i] = operation.apply(left, right);
+            } else {
+                failed++;
+            }
+            statuses[i] = status;
+        }
+        return new BatchResult(results, statuses, failed);
+    }
+
+    /**
+     * Aplica una operación elemento a elemento a dos columnas de doubles
+     * ({@code add}, {@code subtract}, {@code multiply}, {@code divide}) o a una
+     * sola ({@code sqrt}) con kernels de la Vector API si está disponible.
+     * 
+     * Los divisores 0 y las raíces de negativos no lanzan excepción: dejan NaN en
+     * la posición y la marcan en el bitmap {@code invalid} del resultado.
+     * 
+     * @param operation nombre de la operación
+     * @param a primer operando de cada posición
+     * @param b segundo operando; se ignora en {@code sqrt}
+     * @return resultados en el mismo orden que {@code a} y bitmap de posiciones inválidas
+     * @throws IllegalArgumentException si la operación no existe, falta {@code a}
+     *         o {@code b} no tiene la misma longitud que {@code a}
+     */
+    public VectorResult elementwise(String operation, double[] a, double[] b) {
+        VectorOperation vectorOperation = VectorOperation.fromName(operation);
+        if (vectorOperation == null) {
+            throw new IllegalArgumentException("Operación desconocida: " + operation);
+        }
+        if (a == null) {
+            throw new IllegalArgumentException("El campo 'a' es obligatorio");
+        }
+        if (vectorOperation.isBinary() && (b == null || b.length != a.length)) {
+            throw new IllegalArgumentException("Los campos 'a' y 'b' deben tener la misma longitud");
+        }
+        
+        int length = a.length;
+        double[] results = new double[length];
+        long[] words = new long[ArithmeticKernels.bitmapWords(length)];
+        int invalidCount = vectorOperation.apply(a, b, results, words);
+        
+        // Bitmap de palabras de 64 bits a bytes en little-endian
+        byte[] invalid = new byte[(length + 7) >>> 3];
+        for (int i = 0; i < invalid.length; i++) {
+            invalid[i] = (byte) (words[i >>> 3] >>> ((i & 7) << 3));
+        }
+        return new VectorResult(results, invalid, invalidCount);
     }
 
     public boolean isEven(int number) {
@@ -193,8 +373,67 @@ public class MathService {
         if (numbers == null || numbers.isEmpty()) {
             return 0.0;
         }
-        double sum = numbers.stream().mapToInt(Integer::intValue).sum();
-        return sum / numbers.size();
+        return mean(toIntArray(numbers));
+    }
+
+    /**
+     * Calcula la media aritmética de un array de enteros sin boxing.
+     * 
+     * @param numbers números de los que calcular la media
+     * @return la media; 0.0 si el array es null o está vacío
+     */
+    public double mean(int[] numbers) {
+        return reduceMean(numbers).getValue();
+    }
+
+    /**
+     * Calcula la media de un array de enteros con la suma en paralelo de
+     * {@link #reduceSum}; la suma exacta en {@code long} se divide una sola vez.
+     * 
+     * @param numbers números de los que calcular la media
+     * @return la media (0.0 si el array es null o está vacío) y las particiones usadas
+     */
+    public ReductionResult<Double> reduceMean(int[] numbers) {
+        if (numbers == null || numbers.length == 0) {
+            return new ReductionResult<>(0.0, 1);
+        }
+        ReductionResult<Long> sum = reduceSum(numbers);
+        return new ReductionResult<>((double) sum.getValue() / numbers.length, sum.getPartitions());
+    }
+
+    /**
+     * Calcula la media de una lista de la que sólo se conocen la suma exacta y el
+     * número de elementos, como la de un {@link IntListSummary}.
+     * 
+     * @return la media; 0.0 si no hay elementos
+     */
+    public double mean(long sum, long count) {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Calcula la media aritmética de un array de decimales sin boxing.
+     * 
+     * @param numbers números de los que calcular la media
+     * @return la media; 0.0 si el array es null o está vacío
+     */
+    public double meanRational(double[] numbers) {
+        return reduceMeanRational(numbers).getValue();
+    }
+
+    /**
+     * Calcula la media de un array de decimales sumando en paralelo si es grande.
+     * 
+     * @param numbers números de los que calcular la media
+     * @return la media (0.0 si el array es null o está vacío) y las particiones usadas
+     */
+    public ReductionResult<Double> reduceMeanRational(double[] numbers) {
+        if (numbers == null || numbers.length == 0) {
+            return new ReductionResult<>(0.0, 1);
+        }
+        int partitions = computePool.partitions(numbers.length, ParallelReductions.MIN_PARTITION);
+        return new ReductionResult<>(ParallelReductions.sum(numbers, partitions, computePool) / numbers.length,
+            partitions);
     }
 
     public List<Integer> quicksort(List<Integer> numbers) {
@@ -202,10 +441,38 @@ public class MathService {
             return new ArrayList<>();
         }
         
-        // Crear una copia para no modificar la lista original
-        List<Integer> sortedNumbers = new ArrayList<>(numbers);
-        quicksortHelperInteger(sortedNumbers, 0, sortedNumbers.size() - 1);
-        return sortedNumbers;
+        // Ordenar sobre un array primitivo para no boxear en cada comparación
+        int[] sortedNumbers = sortIntegers(toIntArray(numbers)).getValues();
+        List<Integer> result = new ArrayList<>(sortedNumbers.length);
+        for (int number : sortedNumbers) {
+            result.add(number);
+        }
+        return result;
+    }
+
+    /**
+     * Ordena un array de enteros en orden ascendente. {@link SortPlanner} mide la
+     * entrada y elige entre conteo, radix, mezcla de secuencias, introsort u
+     * ordenación en paralelo.
+     * 
+     * Los resultados se guardan en una caché direccionada por el contenido de la
+     * entrada: una petición repetida devuelve el mismo objeto sin recalcularlo, así
+     * que el resultado se comparte y no debe modificarse.
+     * 
+     * @param numbers números a ordenar (no se modifica)
+     * @return copia ordenada del array junto con la estrategia usada; array vacío si la entrada es null
+     */
+    public SortResult<int[]> sortIntegers(int[] numbers) {
+        if (numbers == null || numbers.length == 0) {
+            return new SortResult<>(new int[0], SortStrategy.INTROSORT);
+        }
+        
+        return resultCache.get("sort-integers", numbers, input -> {
+            // Crear una copia para no modificar el array original
+            int[] sortedNumbers = input.clone();
+            SortStrategy strategy = SortPlanner.sort(sortedNumbers);
+            return new SortResult<>(sortedNumbers, strategy);
+        }, result -> 4L * result.getValues().length);
     }
 
     public List<Double> quicksortRational(List<Double> numbers) {
@@ -213,98 +480,206 @@ public class MathService {
             return new ArrayList<>();
         }
         
-        // Crear una copia para no modificar la lista original
-        List<Double> sortedNumbers = new ArrayList<>(numbers);
-        quicksortHelperDouble(sortedNumbers, 0, sortedNumbers.size() - 1);
-        return sortedNumbers;
+        // Ordenar sobre un array primitivo con el orden total de Double.compare
+        double[] sortedNumbers = sortRationals(toDoubleArray(numbers)).getValues();
+        List<Double> result = new ArrayList<>(sortedNumbers.length);
+        for (double number : sortedNumbers) {
+            result.add(number);
+        }
+        return result;
     }
 
-    private void quicksortHelperInteger(List<Integer> numbers, int low, int high) {
-        if (low < high) {
-            int pivotIndex = partitionInteger(numbers, low, high);
-            quicksortHelperInteger(numbers, low, pivotIndex - 1);
-            quicksortHelperInteger(numbers, pivotIndex + 1, high);
+    /**
+     * Ordena un array de doubles en orden ascendente con la estrategia que elija
+     * {@link SortPlanner}. Usa el orden total de {@link Double#compare(double, double)}: -0.0 va antes
+     * que 0.0 y los NaN quedan al final.
+     * 
+     * Usa la misma caché de resultados que {@link #sortIntegers}: el array
+     * devuelto puede ser compartido y no debe modificarse.
+     * 
+     * @param numbers números a ordenar (no se modifica)
+     * @return copia ordenada del array junto con la estrategia usada; array vacío si la entrada es null
+     */
+    public SortResult<double[]> sortRationals(double[] numbers) {
+        if (numbers == null || numbers.length == 0) {
+            return new SortResult<>(new double[0], SortStrategy.DUAL_PIVOT_QUICKSORT);
         }
+        
+        return resultCache.get("sort-rationals", numbers, input -> {
+            // Crear una copia para no modificar el array original
+            double[] sortedNumbers = input.clone();
+            SortStrategy strategy = SortPlanner.sort(sortedNumbers);
+            return new SortResult<>(sortedNumbers, strategy);
+        }, result -> 8L * result.getValues().length);
+    }
+
+    /**
+     * Ordena una lista de int32 little-endian leída de {@code input} sin cargarla
+     * entera en memoria: se ordena por tramos que se vuelcan a disco y se mezclan
+     * al escribir el resultado.
+     * 
+     * @param input cuerpo empaquetado; se lee hasta el final
+     * @return tramos ordenados, que el llamador debe cerrar
+     * @throws IllegalArgumentException si la longitud no es múltiplo de 4 bytes
+     * @throws IOException si falla la lectura o los ficheros temporales
+     */
+    public SortedRuns externalSortIntegers(InputStream input) throws IOException {
+        return externalSort.sortInts(input);
     }
 
-    private void quicksortHelperDouble(List<Double> numbers, int low, int high) {
-        if (low < high) {
-            int pivotIndex = partitionDouble(numbers, low, high);
-            quicksortHelperDouble(numbers, low, pivotIndex - 1);
-            quicksortHelperDouble(numbers, pivotIndex + 1, high);
+    /**
+     * Como {@link #externalSortIntegers} para float64 little-endian, con el orden
+     * total de {@link Double#compare(double, double)}.
+     */
+    public SortedRuns externalSortRationals(InputStream input) throws IOException {
+        return externalSort.sortDoubles(input);
+    }
+
+    private static int[] toIntArray(List<Integer> numbers) {
+        int[] values = new int[numbers.size()];
+        int i = 0;
+        for (Integer number : numbers) {
+            values[i++] = number;
         }
+        return values;
     }
 
-    private int partitionInteger(List<Integer> numbers, int low, int high) {
-        int pivot = numbers.get(high);
-        int i = low - 1;
+    private static double[] toDoubleArray(List<Double> numbers) {
+        double[] values = new double[numbers.size()];
+        int i = 0;
+        for (Double number : numbers) {
+            values[i++] = number;
+        }
+        return values;
+    }
 
-        for (int j = low; j < high; j++) {
-            if (numbers.get(j) <= pivot) {
-                i++;
-                swapInteger(numbers, i, j);
-            }
+    public List<Integer> calculateMode(List<Integer> numbers) {
+        if (numbers == null || numbers.isEmpty()) {
+            return new ArrayList<>();
         }
-        swapInteger(numbers, i + 1, high);
-        return i + 1;
+        
+        int[] modes = mode(toIntArray(numbers));
+        List<Integer> result = new ArrayList<>(modes.length);
+        for (int mode : modes) {
+            result.add(mode);
+        }
+        return result;
     }
 
-    private int partitionDouble(List<Double> numbers, int low, int high) {
-        double pivot = numbers.get(high);
-        int i = low - 1;
+    /**
+     * Calcula la moda (o modas) de un array de enteros sin boxing.
+     * Las frecuencias se cuentan con un array de contadores si el rango de valores
+     * es estrecho y con un mapa primitivo de direccionamiento abierto en otro caso,
+     * repartido por particiones en paralelo para entradas grandes.
+     * 
+     * @param numbers números de los que calcular la moda (no se modifica)
+     * @return todos los valores con la frecuencia máxima, en orden ascendente;
+     *         array vacío si la entrada es null o está vacía
+     */
+    public int[] mode(int[] numbers) {
+        return reduceMode(numbers).getValue();
+    }
 
-        for (int j = low; j < high; j++) {
-            if (numbers.get(j) <= pivot) {
-                i++;
-                swapDouble(numbers, i, j);
-            }
+    /**
+     * Igual que {@link #mode}, indicando además en cuántas particiones se repartió
+     * el conteo; el conteo con array de contadores usa siempre una.
+     * El resultado también sale de la caché de resultados si la entrada se repite.
+     * 
+     * @param numbers números de los que calcular la moda (no se modifica)
+     * @return las modas en orden ascendente y las particiones usadas
+     */
+    public ReductionResult<int[]> reduceMode(int[] numbers) {
+        if (numbers == null || numbers.length == 0) {
+            return new ReductionResult<>(new int[0], 1);
         }
-        swapDouble(numbers, i + 1, high);
-        return i + 1;
+        return resultCache.get("mode", numbers,
+            input -> ModeEngine.mode(input, computePool.partitions(input.length, ModeEngine.MIN_PARTITION), computePool),
+            result -> 4L * result.getValue().length);
     }
 
-    private void swapInteger(List<Integer> numbers, int i, int j) {
-        Integer temp = numbers.get(i);
-        numbers.set(i, numbers.get(j));
-        numbers.set(j, temp);
+    /**
+     * Contadores de la caché de resultados de {@link #sortIntegers}, {@link #sortRationals}
+     * y {@link #reduceMode}.
+     */
+    public CacheStats cacheStats() {
+        return resultCache.stats();
     }
 
-    private void swapDouble(List<Double> numbers, int i, int j) {
-        Double temp = numbers.get(i);
-        numbers.set(i, numbers.get(j));
-        numbers.set(j, temp);
+    /**
+     * Estima los {@code k} valores más frecuentes con un resumen Space-Saving de
+     * {@code capacity} contadores, de modo que la memoria no depende del número de
+     * valores distintos de la entrada.
+     * 
+     * @param numbers números a resumir (null se trata como vacío)
+     * @param k número de valores a devolver, como mucho {@code capacity}
+     * @param capacity contadores del resumen; el error máximo es {@code n / capacity}
+     * @return valores más frecuentes con sus cotas de error
+     * @throws IllegalArgumentException si k o capacity están fuera de rango
+     */
+    public HeavyHittersResult approximateMode(int[] numbers, int k, int capacity) {
+        if (k < 1 || k > capacity) {
+            throw new IllegalArgumentException("k debe estar entre 1 y la capacidad (" + capacity + ")");
+        }
+        SpaceSaving summary = new SpaceSaving(capacity);
+        if (numbers != null) {
+            summary.offerAll(numbers);
+        }
+        return summary.top(k);
     }
 
-    public List<Integer> calculateMode(List<Integer> numbers) {
-        if (numbers == null || numbers.isEmpty()) {
-            return new ArrayList<>();
+    /**
+     * Estadísticos de orden sin ordenar la lista: mínimo, máximo, mediana, los
+     * percentiles pedidos y los {@code top} mayores y {@code bottom} menores
+     * valores. Los percentiles se resuelven con introselect en O(n) esperado y los
+     * extremos con un montículo acotado (ver {@link SelectionEngine}).
+     * 
+     * @param numbers números a analizar (no se modifica)
+     * @param percentiles percentiles entre 0 y 100 con interpolación lineal; puede ser null
+     * @param top número de mayores valores a devolver; se recorta al tamaño de la lista
+     * @param bottom número de menores valores a devolver; se recorta al tamaño de la lista
+     * @return estadísticos de orden de {@code numbers}
+     * @throws IllegalArgumentException si la lista está vacía, algún percentil está
+     *         fuera de [0, 100], se piden más de {@link #MAX_PERCENTILES} o top/bottom son negativos
+     */
+    public OrderStatistics orderStatistics(int[] numbers, double[] percentiles, int top, int bottom) {
+        if (numbers == null || numbers.length == 0) {
+            throw new IllegalArgumentException("La lista de números no puede estar vacía");
         }
-        
-        // Contar frecuencias
-        Map<Integer, Integer> frequencyMap = new HashMap<>();
-        for (Integer number : numbers) {
-            frequencyMap.put(number, frequencyMap.getOrDefault(number, 0) + 1);
+        double[] requested = percentiles != null ? percentiles : new double[0];
+        if (requested.length > MAX_PERCENTILES) {
+            throw new IllegalArgumentException("No se pueden pedir más de " + MAX_PERCENTILES + " percentiles");
         }
-        
-        // Encontrar la frecuencia máxima
-        int maxFrequency = 0;
-        for (int frequency : frequencyMap.values()) {
-            if (frequency > maxFrequency) {
-                maxFrequency = frequency;
+        for (double percentile : requested) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("Los percentiles deben estar entre 0 y 100");
             }
         }
+        if (top < 0 || bottom < 0) {
+            throw new IllegalArgumentException("top y bottom no pueden ser negativos");
+        }
         
-        // Recopilar todos los números con la frecuencia máxima
-        List<Integer> modes = new ArrayList<>();
-        for (Map.Entry<Integer, Integer> entry : frequencyMap.entrySet()) {
-            if (entry.getValue() == maxFrequency) {
-                modes.add(entry.getKey());
+        int length = numbers.length;
+        int min = numbers[0];
+        int max = numbers[0];
+        for (int number : numbers) {
+            if (number < min) {
+                min = number;
+            } else if (number > max) {
+                max = number;
             }
         }
+        int[] topValues = SelectionEngine.top(numbers, Math.min(top, length));
+        int[] bottomValues = SelectionEngine.bottom(numbers, Math.min(bottom, length));
         
-        // Ordenar la lista de modas para consistencia
-        Collections.sort(modes);
-        return modes;
+        // La mediana va al final de la misma selección que el resto de percentiles
+        double[] ranks = Arrays.copyOf(requested, requested.length + 1);
+        ranks[requested.length] = 50.0;
+        double[] values = SelectionEngine.percentiles(numbers.clone(), ranks);
+        Map<String, Double> byPercentile = new LinkedHashMap<>();
+        for (int i = 0; i < requested.length; i++) {
+            byPercentile.put(BigDecimal.valueOf(requested[i]).stripTrailingZeros().toPlainString(), values[i]);
+        }
+        return new OrderStatistics(length, min, max, values[requested.length], byPercentile, topValues, bottomValues);
     }
 
     /**
@@ -340,4 +715,23 @@ public class MathService {
         
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * Calcula el factorial de un número con precisión arbitraria.
+     * A diferencia de {@link #factorial(int)} no está limitado a 20!: descompone
+     * n! en potencias de primos y multiplica los productos parciales en paralelo.
+     * 
+     * @param number el número del cual calcular el factorial (entre 0 y {@link #MAX_BIG_FACTORIAL})
+     * @return el factorial exacto del número
+     * @throws IllegalArgumentException si el número es negativo o supera {@link #MAX_BIG_FACTORIAL}
+     */
+    public BigInteger bigFactorial(int number) {
+        if (number < 0) {
+            throw new IllegalArgumentException("No se puede calcular el factorial de un número negativo");
+        }
+        if (number > MAX_BIG_FACTORIAL) {
+            throw new IllegalArgumentException("El factorial de " + number + " excede el máximo permitido (" + MAX_BIG_FACTORIAL + "!)");
+        }
+        return BigFactorial.factorial(number);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ReductionResult;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Cálculo de la moda de un {@code int[]} contando frecuencias sobre primitivos.
+ *
+ * Según la forma de la entrada:
+ * <ul>
+ *   <li>rango de valores estrecho: array de contadores indexado por {@code valor - min}</li>
+ *   <li>resto: {@link IntIntHashMap}, repartiendo el conteo por particiones en el
+ *       {@link ComputePool} cuando la entrada llega al doble de {@link #MIN_PARTITION}</li>
+ * </ul>
+ * En paralelo cada partición cuenta en su propio mapa y los mapas se mezclan por
+ * parejas al volver de las subtareas, sin ninguna estructura compartida.
+ */
+final class ModeEngine {
+
+    /** Rango máximo de valores (en contadores) para contar con un array. */
+    static final int COUNTING_MAX_RANGE = SortPlanner.COUNTING_MAX_RANGE;
+
+    /**
+     * Tamaño mínimo de una partición del conteo en paralelo; menor que el de la
+     * suma porque contar en un mapa cuesta bastante más por elemento.
+     */
+    static final int MIN_PARTITION = 1 << 16;
+
+    /** Tamaño inicial de los mapas; crecen según aparecen valores distintos. */
+    private static final int INITIAL_DISTINCT = 1 << 10;
+
+    private ModeEngine() {
+    }
+
+    /**
+     * Moda calculada en el hilo actual.
+     *
+     * @param values números de los que calcular la moda (no se modifica)
+     * @return todos los valores con la frecuencia máxima, en orden ascendente
+     */
+    static int[] mode(int[] values) {
+        return mode(values, 1, null).getValue();
+    }
+
+    /**
+     * @param values números de los que calcular la moda (no se modifica)
+     * @param partitions particiones máximas del conteo con mapa; el conteo con
+     *        array es siempre secuencial
+     * @param pool pool donde se reparten las particiones; no se usa con una
+     * @return las modas en orden ascendente y las particiones usadas
+     */
+    static ReductionResult<int[]> mode(int[] values, int partitions, ComputePool pool) {
+        int length = values.length;
+        if (length == 0) {
+            return new ReductionResult<>(new int[0], 1);
+        }
+
+        int min = values[0];
+        int max = values[0];
+        for (int value : values) {
+            if (value < min) {
+                min = value;
+            } else if (value > max) {
+                max = value;
+            }
+        }
+        long range = (long) max - min + 1;
+        if (range <= COUNTING_MAX_RANGE && range <= 2L * length) {
+            return new ReductionResult<>(countingMode(values, min, (int) range), 1);
+        }
+
+        IntIntHashMap counts;
+        if (partitions > 1) {
+            counts = pool.get().invoke(new CountTask(values, 0, length, partitions));
+        } else {
+            partitions = 1;
+            counts = count(values, 0, length);
+        }
+        return new ReductionResult<>(modes(counts), partitions);
+    }
+
+    private static int[] countingMode(int[] values, int min, int range) {
+        int[] counts = new int[range];
+        int maxFrequency = 0;
+        for (int value : values) {
+            int frequency = ++counts[value - min];
+            if (frequency > maxFrequency) {
+                maxFrequency = frequency;
+            }
+        }
+        int modeCount = 0;
+        for (int count : counts) {
+            if (count == maxFrequency) {
+                modeCount++;
+            }
+        }
+        // Recorrer los contadores en orden deja las modas ya ordenadas
+        int[] modes = new int[modeCount];
+        int index = 0;
+        for (int offset = 0; index < modeCount; offset++) {
+            if (counts[offset] == maxFrequency) {
+                modes[index++] = min + offset;
+            }
+        }
+        return modes;
+    }
+
+    private static IntIntHashMap count(int[] values, int from, int to) {
+        IntIntHashMap counts = new IntIntHashMap(Math.min(to - from, INITIAL_DISTINCT));
+        for (int i = from; i < to; i++) {
+            counts.increment(values[i]);
+        }
+        return counts;
+    }
+
+    private static int[] modes(IntIntHashMap counts) {
+        int maxFrequency = 0;
+        int modeCount = 0;
+        for (int slot = 0; slot < counts.capacity(); slot++) {
+            int frequency = counts.countAt(slot);
+            if (frequency == 0) {
+                continue;
+            }
+            if (frequency > maxFrequency) {
+                maxFrequency = frequency;
+                modeCount = 1;
+            } else if (frequency == maxFrequency) {
+                modeCount++;
+            }
+        }
+        int[] modes = new int[modeCount];
+        int index = 0;
+        for (int slot = 0; index < modeCount; slot++) {
+            if (counts.countAt(slot) == maxFrequency) {
+                modes[index++] = counts.keyAt(slot);
+            }
+        }
+        IntSortEngine.sort(modes);
+        return modes;
+    }
+
+    /**
+     * Cuenta [from, to) repartiéndolo en {@code parts} particiones y mezclando el
+     * mapa menor sobre el mayor.
+     */
+    private static final class CountTask extends RecursiveTask<IntIntHashMap> {
+        private final int[] values;
+        private final int from;
+        private final int to;
+        private final int parts;
+
+        CountTask(int[] values, int from, int to, int parts) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.parts = parts;
+        }
+
+        @Override
+        protected IntIntHashMap compute() {
+            if (parts == 1) {
+                return count(values, from, to);
+            }
+            int mid = ParallelReductions.split(from, to, parts);
+            CountTask left = new CountTask(values, from, mid, parts >>> 1);
+            left.fork();
+            IntIntHashMap right = new CountTask(values, mid, to, parts - (parts >>> 1)).compute();
+            IntIntHashMap merged = left.join();
+            if (merged.size() < right.size()) {
+                IntIntHashMap swap = merged;
+                merged = right;
+                right = swap;
+            }
+            merged.addAll(right);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.service;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sumas en paralelo sobre el {@link ComputePool}.
+ *
+ * El array se reparte en tantas particiones contiguas como núcleos tenga el pool,
+ * siempre que cada una tenga al menos {@link #MIN_PARTITION} elementos; por debajo
+ * de ese tamaño repartir cuesta más de lo que se gana y la suma se hace en el hilo
+ * de la petición. Cada partición suma con {@link ReductionKernels} y los parciales
+ * se combinan al volver de las subtareas.
+ */
+final class ParallelReductions {
+
+    /** Tamaño mínimo de una partición de la suma: la entrada se reparte a partir del doble. */
+    static final int MIN_PARTITION = 1 << 18;
+
+    private ParallelReductions() {
+    }
+
+    /**
+     * @param partitions número de particiones; con 1 se suma en el hilo actual
+     * @param pool pool donde se reparten las particiones
+     * @return la suma exacta de {@code values}
+     */
+    static long sum(int[] values, int partitions, ComputePool pool) {
+        if (partitions <= 1) {
+            return ReductionKernels.sum(values);
+        }
+        return pool.get().invoke(new IntSumTask(values, 0, values.length, partitions));
+    }
+
+    /**
+     * @param partitions número de particiones; con 1 se suma en el hilo actual
+     * @param pool pool donde se reparten las particiones
+     * @return la suma de {@code values}; el orden de las sumas depende de las particiones
+     */
+    static double sum(double[] values, int partitions, ComputePool pool) {
+        if (partitions <= 1) {
+            return ReductionKernels.sum(values);
+        }
+        return pool.get().invoke(new DoubleSumTask(values, 0, values.length, partitions));
+    }
+
+    /**
+     * Punto de corte de [from, to) para repartir {@code parts} particiones en
+     * {@code parts / 2} a la izquierda y el resto a la derecha.
+     */
+    static int split(int from, int to, int parts) {
+        return from + (int) ((long) (to - from) * (parts >>> 1) / parts);
+    }
+
+    private static final class IntSumTask extends RecursiveTask<Long> {
+        private final int[] values;
+        private final int from;
+        private final int to;
+        private final int parts;
+
+        IntSumTask(int[] values, int from, int to, int parts) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.parts = parts;
+        }
+
+        @Override
+        protected Long compute() {
+            if (parts == 1) {
+                return ReductionKernels.sum(values, from, to);
+            }
+            int mid = split(from, to, parts);
+            IntSumTask left = new IntSumTask(values, from, mid, parts >>> 1);
+            left.fork();
+            long right = new IntSumTask(values, mid, to, parts - (parts >>> 1)).compute();
+            return left.join() + right;
+        }
+    }
+
+    private static final class DoubleSumTask extends RecursiveTask<Double> {
+        private final double[] values;
+        private final int from;
+        private final int to;
+        private final int parts;
+
+        DoubleSumTask(double[] values, int from, int to, int parts) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.parts = parts;
+        }
+
+        @Override
+        protected Double compute() {
+            if (parts == 1) {
+                return ReductionKernels.sum(values, from, to);
+            }
+            int mid = split(from, to, parts);
+            DoubleSumTask left = new DoubleSumTask(values, from, mid, parts >>> 1);
+            left.fork();
+            double right = new DoubleSumTask(values, mid, to, parts - (parts >>> 1)).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo.service;
+
+import com.example.demo.config.MathProperties;
+import com.example.demo.dto.SketchState;
+import com.example.demo.dto.SketchSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Servicio de resúmenes de cuantiles en streaming.
+ *
+ * Cada resumen es un {@link TDigest} que recibe valores por bloques y responde
+ * cualquier cuantil sin guardar los valores: la memoria es de unos pocos KB sea
+ * cual sea el volumen recibido. Los resúmenes se pueden exportar y mezclar en
+ * otro, de modo que cada nodo resume sus propios datos y sólo viaja el resumen.
+ *
+ * A diferencia de {@link StatisticsSessionService}, que guarda la frecuencia de
+ * cada valor distinto para calcular modas exactas, aquí la memoria no crece con
+ * los datos. Los resúmenes viven en memoria hasta que se eliminan o pasan
+ * {@code math.sketches.idle-timeout} sin usarse, y como mucho hay
+ * {@code math.sketches.max-entries}: crear otro con el máximo alcanzado lanza
+ * {@link StorageLimitExceededException}.
+ */
+@Service
+public class QuantileSketchService {
+
+    /** Número máximo de cuantiles en una consulta. */
+    public static final int MAX_QUANTILES = 1_000;
+
+    private final IdleExpiringMap<TDigest> sketches;
+
+    /**
+     * Servicio con los límites por defecto de {@link MathProperties}.
+     */
+    public QuantileSketchService() {
+        this(new MathProperties());
+    }
+
+    @Autowired
+    public QuantileSketchService(MathProperties properties) {
+        MathProperties.Retention limits = properties.getSketches();
+        this.sketches = new IdleExpiringMap<>("resúmenes", limits.getMaxEntries(), limits.getIdleTimeout());
+    }
+
+    /**
+     * Crea un resumen vacío.
+     *
+     * @param compression precisión del resumen (entre 20 y 1000, por defecto 100):
+     *        más compresión, más centroides y menos error
+     * @throws IllegalArgumentException si la compresión está fuera de rango
+     * @throws StorageLimitExceededException si ya hay el máximo de resúmenes
+     */
+    public SketchSummary create(int compression) {
+        TDigest digest = new TDigest(compression);
+        String id = UUID.randomUUID().toString();
+        sketches.put(id, digest);
+        return summary(id, digest, null);
+    }
+
+    /**
+     * Añade un bloque de valores.
+     *
+     * @param values valores a añadir (null se trata como vacío)
+     * @throws NoSuchElementException si el resumen no existe
+     * @throws IllegalArgumentException si algún valor no es finito; no se añade ninguno
+     */
+    public SketchSummary add(String id, double[] values) {
+        TDigest digest = find(id);
+        if (values != null) {
+            for (double value : values) {
+                if (!Double.isFinite(value)) {
+                    throw new IllegalArgumentException("Los valores deben ser números finitos");
+                }
+            }
+            synchronized (digest) {
+                for (double value : values) {
+                    digest.add(value);
+                }
+            }
+        }
+        return summary(id, digest, null);
+    }
+
+    /**
+     * Mezcla en el resumen otro exportado con {@link #state}, posiblemente desde
+     * otro nodo y con otra compresión; el resultado conserva la del destino.
+     *
+     * @throws NoSuchElementException si el resumen no existe
+     * @throws IllegalArgumentException si el estado recibido no es válido
+     */
+    public SketchSummary merge(String id, SketchState state) {
+        TDigest digest = find(id);
+        double[] means = state != null ? state.getMeans() : null;
+        long[] weights = state != null ? state.getWeights() : null;
+        if (means == null || weights == null || means.length != weights.length) {
+            throw new IllegalArgumentException("Los campos 'means' y 'weights' son obligatorios y deben tener la misma longitud");
+        }
+        for (int i = 0; i < means.length; i++) {
+            if (!Double.isFinite(means[i]) || weights[i] <= 0 || (i > 0 && means[i] < means[i - 1])) {
+                throw new IllegalArgumentException("Centroide inválido en la posición " + i);
+            }
+        }
+        if (means.length > 0) {
+            Double min = state.getMin();
+            Double max = state.getMax();
+            if (min == null || max == null || min > means[0] || max < means[means.length - 1]) {
+                throw new IllegalArgumentException("'min' y 'max' deben acotar los centroides");
+            }
+            synchronized (digest) {
+                digest.merge(means, weights, min, max);
+            }
+        }
+        return summary(id, digest, null);
+    }
+
+    /**
+     * @param quantiles cuantiles entre 0 y 1 (p. ej. 0.5, 0.99); puede ser null
+     * @return estado del resumen y el valor estimado de cada cuantil, o null si
+     *         el resumen está vacío
+     * @throws NoSuchElementException si el resumen no existe
+     * @throws IllegalArgumentException si algún cuantil está fuera de [0, 1]
+     */
+    public SketchSummary quantiles(String id, double[] quantiles) {
+        TDigest digest = find(id);
+        double[] requested = quantiles != null ? quantiles : new double[0];
+        if (requested.length > MAX_QUANTILES) {
+            throw new IllegalArgumentException("No se pueden pedir más de " + MAX_QUANTILES + " cuantiles");
+        }
+        for (double quantile : requested) {
+            if (!(quantile >= 0 && quantile <= 1)) {
+                throw new IllegalArgumentException("Los cuantiles deben estar entre 0 y 1");
+            }
+        }
+        Map<String, Double> values = new LinkedHashMap<>();
+        synchronized (digest) {
+            for (double quantile : requested) {
+                double value = digest.quantile(quantile);
+                values.put(BigDecimal.valueOf(quantile).stripTrailingZeros().toPlainString(),
+                    Double.isNaN(value) ? null : value);
+            }
+        }
+        return summary(id, digest, values);
+    }
+
+    /**
+     * @return contenido completo del resumen, para mezclarlo en otro con {@link #merge}
+     * @throws NoSuchElementException si el resumen no existe
+     */
+    public SketchState state(String id) {
+        TDigest digest = find(id);
+        synchronized (digest) {
+            boolean empty = digest.getCount() == 0;
+            return new SketchState(digest.getCompression(), digest.getCount(),
+                empty ? null : digest.getMin(), empty ? null : digest.getMax(),
+                digest.means(), digest.weights());
+        }
+    }
+
+    /**
+     * Elimina un resumen y libera su memoria.
+     *
+     * @return true si el resumen existía
+     */
+    public boolean delete(String id) {
+        return sketches.remove(id);
+    }
+
+    private SketchSummary summary(String id, TDigest digest, Map<String, Double> quantiles) {
+        synchronized (digest) {
+            boolean empty = digest.getCount() == 0;
+            return new SketchSummary(id, digest.getCompression(), digest.getCount(),
+                empty ? null : digest.getMin(), empty ? null : digest.getMax(),
+                digest.centroidCount(), quantiles != null ? quantiles : Map.of());
+        }
+    }
+
+    private TDigest find(String id) {
+        TDigest digest = sketches.get(id);
+        if (digest == null) {
+            throw new NoSuchElementException("No existe el resumen " + id);
+        }
+        return digest;
+    }
+}
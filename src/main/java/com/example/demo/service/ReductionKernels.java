@@ -0,0 +1,83 @@
+package com.example.demo.service;
+
+/**
+ * Reducciones (suma) sobre arrays primitivos.
+ *
+ * Usa {@link VectorReductions} si la Vector API está disponible en tiempo de
+ * ejecución y, si no, un bucle escalar equivalente. La comprobación se hace una
+ * sola vez al cargar la clase; el resultado queda en {@link #VECTORIZED}.
+ *
+ * Las sumas de enteros se acumulan siempre en {@code long}.
+ */
+final class ReductionKernels {
+
+    /** Por debajo de este tamaño el bucle escalar es igual de rápido. */
+    static final int VECTOR_MIN_LENGTH = 64;
+
+    /** true si las reducciones se ejecutan con la Vector API. */
+    static final boolean VECTORIZED = vectorApiAvailable();
+
+    private ReductionKernels() {
+    }
+
+    static long sum(int[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    /**
+     * Suma del rango [from, to), usada también por cada partición de
+     * {@link ParallelReductions}.
+     */
+    static long sum(int[] values, int from, int to) {
+        return VECTORIZED && to - from >= VECTOR_MIN_LENGTH
+            ? VectorReductions.sum(values, from, to)
+            : scalarSum(values, from, to);
+    }
+
+    static double sum(double[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    static double sum(double[] values, int from, int to) {
+        return VECTORIZED && to - from >= VECTOR_MIN_LENGTH
+            ? VectorReductions.sum(values, from, to)
+            : scalarSum(values, from, to);
+    }
+
+    static long scalarSum(int[] values) {
+        return scalarSum(values, 0, values.length);
+    }
+
+    static long scalarSum(int[] values, int from, int to) {
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    static double scalarSum(double[] values) {
+        return scalarSum(values, 0, values.length);
+    }
+
+    static double scalarSum(double[] values, int from, int to) {
+        double total = 0.0;
+        for (int i = from; i < to; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    private static boolean vectorApiAvailable() {
+        if (Boolean.getBoolean("math.vector.disabled")
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            // Fuerza la carga de la clase y de la Vector API
+            return VectorReductions.sum(new int[]{1}) == 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.demo.service;
+
+import java.util.Arrays;
+
+/**
+ * Estadísticos de orden sobre {@code int[]} sin ordenar la entrada completa.
+ *
+ * <ul>
+ *   <li>k-ésimo menor y percentiles: introselect, es decir, quickselect con
+ *       pivote mediana de tres y partición en tres vías, con el número de
+ *       particiones acotado a 2·log2(n). Si se supera, el subrango restante se
+ *       ordena con {@link IntSortEngine}, así que el caso esperado es O(n) y el
+ *       peor O(n log n).</li>
+ *   <li>top-k y bottom-k: montículo acotado de k elementos, O(n log k) sin copiar
+ *       la entrada, mientras k sea pequeño frente a n; si no, selección sobre una
+ *       copia y ordenación de los k elementos.</li>
+ * </ul>
+ */
+final class SelectionEngine {
+
+    /** Tamaño por debajo del cual el subrango se termina por inserción. */
+    static final int INSERTION_THRESHOLD = IntSortEngine.INSERTION_THRESHOLD;
+
+    /** Top-k con montículo mientras {@code k * HEAP_MAX_RATIO <= n}. */
+    static final int HEAP_MAX_RATIO = 16;
+
+    private SelectionEngine() {
+    }
+
+    /**
+     * Reordena [from, to) de modo que {@code values[k]} sea el elemento que
+     * ocuparía esa posición con el rango ordenado, los anteriores no sean mayores
+     * y los posteriores no sean menores.
+     *
+     * @return {@code values[k]}
+     */
+    static int select(int[] values, int from, int to, int k) {
+        int low = from;
+        int high = to - 1;
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (high - low + 1 > INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                IntSortEngine.sortSequential(values, low, high + 1);
+                return values[k];
+            }
+
+            int pivot = medianOfThree(values, low, low + ((high - low) >>> 1), high);
+
+            // Partición en tres vías: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int value = values[i];
+                if (value < pivot) {
+                    values[i++] = values[lt];
+                    values[lt++] = value;
+                } else if (value > pivot) {
+                    values[i] = values[gt];
+                    values[gt--] = value;
+                } else {
+                    i++;
+                }
+            }
+
+            // Seguir sólo por la parte que contiene k
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                return pivot;
+            }
+        }
+        insertionSort(values, low, high);
+        return values[k];
+    }
+
+    /**
+     * Percentiles con interpolación lineal entre rangos (el método por defecto de
+     * NumPy y de {@code PERCENTILE.INC}): para {@code p} se toma la posición
+     * {@code h = (n - 1) * p / 100} y se interpola entre los elementos de rango
+     * {@code floor(h)} y {@code floor(h) + 1}.
+     *
+     * Los rangos necesarios se seleccionan en orden ascendente y cada selección
+     * sólo recorre lo que queda a la derecha de la anterior.
+     *
+     * @param values números, no vacío (se reordena)
+     * @param percentiles percentiles entre 0 y 100
+     * @return el valor de cada percentil, en el mismo orden
+     */
+    static double[] percentiles(int[] values, double[] percentiles) {
+        int n = values.length;
+        int[] ranks = new int[2 * percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            int lower = (int) Math.floor((n - 1) * percentiles[i] / 100.0);
+            ranks[2 * i] = lower;
+            ranks[2 * i + 1] = Math.min(lower + 1, n - 1);
+        }
+        int[] sortedRanks = ranks.clone();
+        IntSortEngine.sortSequential(sortedRanks, 0, sortedRanks.length);
+        int from = 0;
+        for (int rank : sortedRanks) {
+            if (rank >= from) {
+                select(values, from, n, rank);
+                from = rank + 1;
+            }
+        }
+
+        double[] results = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            double position = (n - 1) * percentiles[i] / 100.0;
+            double lower = values[ranks[2 * i]];
+            double upper = values[ranks[2 * i + 1]];
+            results[i] = lower + (position - ranks[2 * i]) * (upper - lower);
+        }
+        return results;
+    }
+
+    /**
+     * @param values números (no se modifica)
+     * @param k número de elementos, como mucho {@code values.length}
+     * @return los {@code k} mayores en orden descendente
+     */
+    static int[] top(int[] values, int k) {
+        return extremes(values, k, 0);
+    }
+
+    /**
+     * @param values números (no se modifica)
+     * @param k número de elementos, como mucho {@code values.length}
+     * @return los {@code k} menores en orden ascendente
+     */
+    static int[] bottom(int[] values, int k) {
+        return extremes(values, k, -1);
+    }
+
+    /**
+     * Los {@code k} mayores de {@code value ^ flip}: con {@code flip = 0} son los
+     * mayores y con {@code flip = -1} ({@code ~value}, que invierte el orden sin
+     * desbordar) los menores. Se devuelven ordenados de mayor a menor clave.
+     */
+    private static int[] extremes(int[] values, int k, int flip) {
+        int n = values.length;
+        if (k == 0) {
+            return new int[0];
+        }
+        int[] keys;
+        if ((long) k * HEAP_MAX_RATIO <= n) {
+            // Montículo de mínimos con las k mayores claves vistas hasta ahora
+            keys = new int[k];
+            for (int i = 0; i < k; i++) {
+                keys[i] = values[i] ^ flip;
+            }
+            for (int i = (k >>> 1) - 1; i >= 0; i--) {
+                siftDown(keys, i, k);
+            }
+            for (int i = k; i < n; i++) {
+                int key = values[i] ^ flip;
+                if (key > keys[0]) {
+                    keys[0] = key;
+                    siftDown(keys, 0, k);
+                }
+            }
+        } else {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = values[i] ^ flip;
+            }
+            select(all, 0, n, n - k);
+            keys = Arrays.copyOfRange(all, n - k, n);
+        }
+        IntSortEngine.sortSequential(keys, 0, k);
+        int[] result = new int[k];
+        for (int i = 0; i < k; i++) {
+            result[i] = keys[k - 1 - i] ^ flip;
+        }
+        return result;
+    }
+
+    private static void siftDown(int[] heap, int node, int size) {
+        int value = heap[node];
+        int half = size >>> 1;
+        while (node < half) {
+            int child = 2 * node + 1;
+            int right = child + 1;
+            if (right < size && heap[right] < heap[child]) {
+                child = right;
+            }
+            if (heap[child] >= value) {
+                break;
+            }
+            heap[node] = heap[child];
+            node = child;
+        }
+        heap[node] = value;
+    }
+
+    private static int medianOfThree(int[] a, int i, int j, int k) {
+        int x = a[i];
+        int y = a[j];
+        int z = a[k];
+        if (x < y) {
+            return y < z ? y : Math.max(x, z);
+        }
+        return x < z ? x : Math.max(y, z);
+    }
+
+    private static void insertionSort(int[] a, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int value = a[i];
+            int j = i - 1;
+            while (j >= low && a[j] > value) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+}
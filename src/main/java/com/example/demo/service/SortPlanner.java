@@ -0,0 +1,224 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.SortStrategy;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Planificador de ordenación: mide la forma de la entrada en una sola pasada
+ * (tamaño, rango de valores y número de secuencias ya ordenadas), estima la
+ * proporción de duplicados sobre una muestra y elige el algoritmo más adecuado.
+ *
+ * Reglas para enteros, por orden de prioridad:
+ * <ul>
+ *   <li>rango estrecho (como mucho el doble del tamaño): ordenación por conteo</li>
+ *   <li>pocas secuencias largas ya ordenadas: mezcla de secuencias</li>
+ *   <li>entradas enormes: ordenación en paralelo</li>
+ *   <li>rango amplio con pocos duplicados: radix sort LSD</li>
+ *   <li>resto: introsort</li>
+ * </ul>
+ * Para doubles sólo se consideran la mezcla de secuencias, radix y paralelo, ya
+ * que el conteo no tiene sentido sobre valores en coma flotante; el resto se
+ * ordena con el quicksort de doble pivote de {@link Arrays#sort(double[])}.
+ */
+final class SortPlanner {
+
+    /** Por debajo de este tamaño no compensa medir la entrada. */
+    static final int SMALL_INPUT = 64;
+
+    /** Longitud media mínima de las secuencias para preferir la mezcla de secuencias. */
+    static final int MIN_AVERAGE_RUN = 64;
+
+    /** Rango máximo de valores (en contadores) para la ordenación por conteo. */
+    static final int COUNTING_MAX_RANGE = 1 << 22;
+
+    /** Tamaño mínimo para usar radix sort en enteros. */
+    static final int RADIX_MIN_SIZE = 1 << 12;
+
+    /** Proporción máxima de duplicados en la muestra para considerar la entrada uniforme. */
+    static final double RADIX_MAX_DUPLICATE_RATIO = 0.25;
+
+    /** Tamaño a partir del cual se ordenan enteros en paralelo. */
+    static final int PARALLEL_THRESHOLD = Math.max(IntSortEngine.PARALLEL_THRESHOLD, 1 << 20);
+
+    /** Número de elementos de la muestra usada para estimar duplicados. */
+    static final int DUPLICATE_SAMPLE_SIZE = 1024;
+
+    private SortPlanner() {
+    }
+
+    private static SortStrategy choose(int[] values, IntShape shape) {
+        int length = values.length;
+        if (length < SMALL_INPUT) {
+            return SortStrategy.INTROSORT;
+        }
+        long range = (long) shape.max - shape.min + 1;
+        if (range <= COUNTING_MAX_RANGE && range <= 2L * length) {
+            return SortStrategy.COUNTING;
+        }
+        if (shape.runs <= length / MIN_AVERAGE_RUN) {
+            return SortStrategy.RUN_MERGE;
+        }
+        if (length >= PARALLEL_THRESHOLD) {
+            return SortStrategy.PARALLEL;
+        }
+        if (length >= RADIX_MIN_SIZE && duplicateRatio(values) <= RADIX_MAX_DUPLICATE_RATIO) {
+            return SortStrategy.RADIX;
+        }
+        return SortStrategy.INTROSORT;
+    }
+
+    /**
+     * Elige la estrategia para un array de doubles sin modificarlo.
+     */
+    static SortStrategy plan(double[] values) {
+        int length = values.length;
+        if (length < SMALL_INPUT) {
+            return SortStrategy.DUAL_PIVOT_QUICKSORT;
+        }
+
+        int runs = 0;
+        int start = 0;
+        while (start < length) {
+            int end = start + 1;
+            if (end < length && Double.compare(values[end], values[start]) < 0) {
+                while (end < length && Double.compare(values[end], values[end - 1]) < 0) {
+                    end++;
+                }
+            } else {
+                while (end < length && Double.compare(values[end], values[end - 1]) >= 0) {
+                    end++;
+                }
+            }
+            runs++;
+            start = end;
+        }
+
+        if (runs <= length / MIN_AVERAGE_RUN) {
+            return SortStrategy.RUN_MERGE;
+        }
+        if (length >= DoubleSortEngine.RADIX_THRESHOLD) {
+            return SortStrategy.RADIX;
+        }
+        if (length >= DoubleSortEngine.SEQUENTIAL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return SortStrategy.PARALLEL;
+        }
+        return SortStrategy.DUAL_PIVOT_QUICKSORT;
+    }
+
+    /**
+     * Mide la entrada, elige la estrategia según las reglas de la clase y ordena
+     * in situ con ella.
+     *
+     * @return estrategia usada
+     */
+    static SortStrategy sort(int[] values) {
+        IntShape shape = IntShape.measure(values);
+        SortStrategy strategy = choose(values, shape);
+        switch (strategy) {
+            case COUNTING:
+                IntSortEngine.countingSort(values, shape.min, shape.max);
+                break;
+            case RUN_MERGE:
+                IntSortEngine.runMergeSort(values);
+                break;
+            case PARALLEL:
+                Arrays.parallelSort(values);
+                break;
+            case RADIX:
+                IntSortEngine.radixSort(values);
+                break;
+            default:
+                IntSortEngine.sortSequential(values, 0, values.length);
+                break;
+        }
+        return strategy;
+    }
+
+    /**
+     * Ordena in situ con la estrategia elegida por {@link #plan(double[])}.
+     *
+     * @return estrategia usada
+     */
+    static SortStrategy sort(double[] values) {
+        SortStrategy strategy = plan(values);
+        switch (strategy) {
+            case RUN_MERGE:
+                DoubleSortEngine.runMergeSort(values);
+                break;
+            case RADIX:
+            case PARALLEL:
+                DoubleSortEngine.sort(values);
+                break;
+            default:
+                DoubleSortEngine.sortLeaf(values, 0, values.length, false);
+                break;
+        }
+        return strategy;
+    }
+
+    /**
+     * Forma de un array de enteros medida en una sola pasada: cada secuencia
+     * ascendente o descendente aporta su mínimo y su máximo por los extremos.
+     */
+    private static final class IntShape {
+        private final int runs;
+        private final int min;
+        private final int max;
+
+        private IntShape(int runs, int min, int max) {
+            this.runs = runs;
+            this.min = min;
+            this.max = max;
+        }
+
+        static IntShape measure(int[] values) {
+            int length = values.length;
+            int runs = 0;
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            int start = 0;
+            while (start < length) {
+                int end = start + 1;
+                if (end < length && values[end] < values[start]) {
+                    while (end < length && values[end] < values[end - 1]) {
+                        end++;
+                    }
+                    min = Math.min(min, values[end - 1]);
+                    max = Math.max(max, values[start]);
+                } else {
+                    while (end < length && values[end] >= values[end - 1]) {
+                        end++;
+                    }
+                    min = Math.min(min, values[start]);
+                    max = Math.max(max, values[end - 1]);
+                }
+                runs++;
+                start = end;
+            }
+            return new IntShape(runs, min, max);
+        }
+    }
+
+    /**
+     * Estima la proporción de duplicados ordenando una muestra equiespaciada y
+     * contando los vecinos iguales.
+     */
+    private static double duplicateRatio(int[] values) {
+        int sampleSize = Math.min(DUPLICATE_SAMPLE_SIZE, values.length);
+        int[] sample = new int[sampleSize];
+        long step = values.length / sampleSize;
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = values[(int) (i * step)];
+        }
+        IntSortEngine.sortSequential(sample, 0, sampleSize);
+        int duplicates = 0;
+        for (int i = 1; i < sampleSize; i++) {
+            if (sample[i] == sample[i - 1]) {
+                duplicates++;
+            }
+        }
+        return (double) duplicates / (sampleSize - 1);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Resultado de una ordenación externa listo para escribirse: los tramos
+ * ordenados en ficheros temporales o, si la entrada cabía en uno, el array ya
+ * ordenado en memoria.
+ *
+ * {@link #writeTo} escribe los valores en el mismo formato empaquetado de la
+ * entrada; {@link #close} borra los ficheros temporales y debe llamarse aunque
+ * no se llegue a escribir nada.
+ */
+public final class SortedRuns implements Closeable {
+
+    private final boolean doubles;
+    private final long size;
+    private final Object inMemory;
+    private final List<Path> files;
+
+    SortedRuns(boolean doubles, long size, Object inMemory, List<Path> files) {
+        this.doubles = doubles;
+        this.size = size;
+        this.inMemory = inMemory;
+        this.files = files;
+    }
+
+    /** Número de valores ordenados. */
+    public long size() {
+        return size;
+    }
+
+    /** Número de tramos que se ordenaron por separado; 1 si no hizo falta disco. */
+    public int runs() {
+        return inMemory != null ? 1 : files.size();
+    }
+
+    /** Bytes que ocupa la salida empaquetada. */
+    public long byteLength() {
+        return size * (doubles ? Double.BYTES : Integer.BYTES);
+    }
+
+    /**
+     * Escribe los valores en orden ascendente, en int32 o float64 little-endian
+     * según la entrada.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (inMemory == null) {
+            ExternalMergeSort.merge(files, doubles, out);
+        } else {
+            ByteBuffer chunk = ByteBuffer.allocate(ExternalMergeSort.CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if (doubles) {
+                for (double value : (double[]) inMemory) {
+                    if (!chunk.hasRemaining()) {
+                        out.write(chunk.array(), 0, chunk.position());
+                        chunk.clear();
+                    }
+                    chunk.putDouble(value);
+                }
+            } else {
+                for (int value : (int[]) inMemory) {
+                    if (!chunk.hasRemaining()) {
+                        out.write(chunk.array(), 0, chunk.position());
+                        chunk.clear();
+                    }
+                    chunk.putInt(value);
+                }
+            }
+            out.write(chunk.array(), 0, chunk.position());
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        delete(files);
+    }
+
+    static void delete(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // Un fichero temporal que no se pueda borrar no debe tapar el resultado
+            }
+        }
+    }
+}
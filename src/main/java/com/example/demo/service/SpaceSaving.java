@@ -0,0 +1,149 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.HeavyHitter;
+import com.example.demo.dto.HeavyHittersResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Resumen Space-Saving (Metwally et al.) para estimar los valores más frecuentes
+ * de un flujo con memoria fija.
+ *
+ * Mantiene como mucho {@code capacity} contadores en un montículo de mínimos
+ * indexado por un {@link IntIntHashMap} (valor a posición + 1). Un valor ya
+ * vigilado incrementa su contador; uno nuevo ocupa un contador libre o, si no
+ * quedan, sustituye al contador mínimo heredando su cuenta como error. Así:
+ * <ul>
+ *   <li>cada contador sobreestima la frecuencia real como mucho en su error</li>
+ *   <li>el error máximo es el contador mínimo, que no pasa de {@code total / capacity}</li>
+ *   <li>todo valor con frecuencia mayor que ese mínimo está en el resumen</li>
+ * </ul>
+ */
+final class SpaceSaving {
+
+    /** Número máximo de contadores que puede pedir un cliente. */
+    static final int MAX_CAPACITY = 1 << 20;
+
+    private final int capacity;
+    private final int[] values;
+    private final long[] counts;
+    private final long[] errors;
+    private final IntIntHashMap positions;
+    private int size;
+    private long total;
+
+    SpaceSaving(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("La capacidad debe estar entre 1 y " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+        this.values = new int[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.positions = new IntIntHashMap(capacity);
+    }
+
+    /**
+     * Cuenta una aparición de {@code value}.
+     */
+    void offer(int value) {
+        total++;
+        int position = positions.get(value) - 1;
+        if (position >= 0) {
+            counts[position]++;
+            siftDown(position);
+        } else if (size < capacity) {
+            values[size] = value;
+            counts[size] = 1;
+            errors[size] = 0;
+            positions.put(value, size + 1);
+            siftUp(size++);
+        } else {
+            // Sustituir el contador mínimo: su cuenta pasa a ser el error del nuevo valor
+            positions.remove(values[0]);
+            values[0] = value;
+            errors[0] = counts[0];
+            counts[0]++;
+            positions.put(value, 1);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Cuenta todos los elementos de {@code numbers}.
+     */
+    void offerAll(int[] numbers) {
+        for (int number : numbers) {
+            offer(number);
+        }
+    }
+
+    /**
+     * Sobreestimación máxima de cualquier contador: 0 mientras quedan contadores libres.
+     */
+    long maxError() {
+        return size < capacity ? 0 : counts[0];
+    }
+
+    /**
+     * @param k número máximo de valores a devolver
+     * @return los {@code k} valores con mayor cuenta estimada; los empates se
+     *         ordenan por valor ascendente
+     */
+    HeavyHittersResult top(int k) {
+        List<HeavyHitter> hitters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            hitters.add(new HeavyHitter(values[i], counts[i], errors[i]));
+        }
+        hitters.sort(Comparator.comparingLong(HeavyHitter::getCount).reversed()
+            .thenComparingInt(HeavyHitter::getValue));
+        List<HeavyHitter> top = new ArrayList<>(hitters.subList(0, Math.min(k, size)));
+        return new HeavyHittersResult(top, total, capacity, maxError());
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (counts[parent] <= counts[position]) {
+                return;
+            }
+            swap(parent, position);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && counts[left] < counts[smallest]) {
+                smallest = left;
+            }
+            if (right < size && counts[right] < counts[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+        long count = counts[i];
+        counts[i] = counts[j];
+        counts[j] = count;
+        long error = errors[i];
+        errors[i] = errors[j];
+        errors[j] = error;
+        positions.put(values[i], i + 1);
+        positions.put(values[j], j + 1);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.StatisticsSnapshot;
+
+import java.util.Arrays;
+
+/**
+ * Estado acumulado de una sesión de estadísticas.
+ *
+ * Cada bloque añadido se resume en una sola pasada (suma, mínimo, máximo, media
+ * y suma de cuadrados de las desviaciones por Welford) y se combina con el
+ * estado previo con la fórmula de Chan et al., así que añadir cuesta
+ * O(tamaño del bloque) y nunca se recorren los números ya recibidos.
+ *
+ * Las modas también se mantienen de forma incremental: como las frecuencias sólo
+ * crecen, un valor pasa a ser moda al alcanzar la frecuencia máxima y las modas
+ * se descartan cuando algún valor la supera. De ellas sólo se guardan el número
+ * y las {@link #REPORTED_MODES} menores, en un montículo de máximos acotado, así
+ * que cada valor cuesta como mucho O(log {@code REPORTED_MODES}) y leer el
+ * estado no depende de cuántas modas haya (con todos los valores distintos,
+ * todos lo son). Sólo la tabla de frecuencias crece con los valores distintos,
+ * y como mucho hasta {@code maxDistinctValues}: un bloque que lo superaría se
+ * rechaza entero.
+ *
+ * Los métodos están sincronizados: una sesión puede recibir bloques y lecturas
+ * desde varias peticiones a la vez.
+ */
+final class StatisticsSession {
+
+    /** Número máximo de modas que devuelve una lectura: las menores. */
+    static final int REPORTED_MODES = 100;
+
+    private final String id;
+    private final int maxDistinctValues;
+    private final IntIntHashMap frequencies = new IntIntHashMap(16);
+    private long count;
+    private long sum;
+    private double mean;
+    private double m2;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+    private int maxFrequency;
+    private int modeCount;
+    /** Montículo de máximos con las modas menores; como mucho {@link #REPORTED_MODES}. */
+    private final int[] smallestModes = new int[REPORTED_MODES];
+    private int retainedModes;
+
+    StatisticsSession(String id, int maxDistinctValues) {
+        this.id = id;
+        this.maxDistinctValues = maxDistinctValues;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    /**
+     * Añade un bloque de números a la sesión.
+     *
+     * @throws StorageLimitExceededException si la sesión pasaría de
+     *         {@code maxDistinctValues} valores distintos; no se añade ninguno
+     */
+    synchronized void append(int[] numbers) {
+        int length = numbers.length;
+        if (length == 0) {
+            return;
+        }
+        if (frequencies.size() + (long) length > maxDistinctValues) {
+            checkDistinctValues(numbers);
+        }
+
+        long chunkSum = 0;
+        double chunkMean = 0.0;
+        double chunkM2 = 0.0;
+        for (int i = 0; i < length; i++) {
+            int value = numbers[i];
+            chunkSum += value;
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+            double delta = value - chunkMean;
+            chunkMean += delta / (i + 1);
+            chunkM2 += delta * (value - chunkMean);
+            countFrequency(value);
+        }
+
+        long total = count + length;
+        double delta = chunkMean - mean;
+        mean += delta * length / total;
+        m2 += chunkM2 + delta * delta * ((double) count * length / total);
+        count = total;
+        sum += chunkSum;
+    }
+
+    /** Cuenta los valores nuevos del bloque, sin repetidos, antes de tocar el estado. */
+    private void checkDistinctValues(int[] numbers) {
+        IntIntHashMap added = new IntIntHashMap(16);
+        for (int value : numbers) {
+            if (frequencies.get(value) == 0 && added.increment(value) == 1
+                    && frequencies.size() + added.size() > maxDistinctValues) {
+                throw new StorageLimitExceededException("La sesión " + id + " admite como mucho "
+                    + maxDistinctValues + " valores distintos");
+            }
+        }
+    }
+
+    private void countFrequency(int value) {
+        int frequency = frequencies.increment(value);
+        if (frequency > maxFrequency) {
+            maxFrequency = frequency;
+            modeCount = 0;
+            retainedModes = 0;
+        } else if (frequency < maxFrequency) {
+            return;
+        }
+        modeCount++;
+        if (retainedModes < REPORTED_MODES) {
+            smallestModes[retainedModes] = value;
+            siftUp(retainedModes++);
+        } else if (value < smallestModes[0]) {
+            // Las modas sólo se añaden hasta el siguiente reinicio, así que la mayor
+            // de las retenidas no vuelve a entrar entre las menores
+            smallestModes[0] = value;
+            siftDown(0);
+        }
+    }
+
+    private void siftUp(int position) {
+        int value = smallestModes[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (smallestModes[parent] >= value) {
+                break;
+            }
+            smallestModes[position] = smallestModes[parent];
+            position = parent;
+        }
+        smallestModes[position] = value;
+    }
+
+    private void siftDown(int position) {
+        int value = smallestModes[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= retainedModes) {
+                break;
+            }
+            if (child + 1 < retainedModes && smallestModes[child + 1] > smallestModes[child]) {
+                child++;
+            }
+            if (smallestModes[child] <= value) {
+                break;
+            }
+            smallestModes[position] = smallestModes[child];
+            position = child;
+        }
+        smallestModes[position] = value;
+    }
+
+    synchronized StatisticsSnapshot snapshot() {
+        if (count == 0) {
+            return new StatisticsSnapshot(id, 0, 0, 0.0, 0.0, 0.0, null, null, new int[0], 0, 0);
+        }
+        int[] sortedModes = Arrays.copyOf(smallestModes, retainedModes);
+        Arrays.sort(sortedModes);
+        return new StatisticsSnapshot(id, count, sum, mean, m2 / count,
+            count > 1 ? m2 / (count - 1) : 0.0, min, max, sortedModes, maxFrequency, modeCount);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.service;
+
+import com.example.demo.config.MathProperties;
+import com.example.demo.dto.StatisticsSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Servicio de sesiones de estadísticas incrementales.
+ *
+ * Un cliente crea una sesión, le va añadiendo bloques de números y consulta en
+ * cualquier momento suma, número de elementos, media, varianza, mínimo, máximo y
+ * modas, sin reenviar los datos ya enviados. Las sesiones viven en memoria
+ * hasta que se eliminan o pasan {@code math.sessions.idle-timeout} sin usarse.
+ * Como mucho hay {@code math.sessions.max-entries} sesiones, cada una con
+ * {@code math.sessions.max-distinct-values} valores distintos; superar
+ * cualquiera de los dos límites lanza {@link StorageLimitExceededException}.
+ */
+@Service
+public class StatisticsSessionService {
+
+    private final IdleExpiringMap<StatisticsSession> sessions;
+    private final int maxDistinctValues;
+
+    /**
+     * Servicio con los límites por defecto de {@link MathProperties}.
+     */
+    public StatisticsSessionService() {
+        this(new MathProperties());
+    }
+
+    @Autowired
+    public StatisticsSessionService(MathProperties properties) {
+        MathProperties.Sessions limits = properties.getSessions();
+        this.sessions = new IdleExpiringMap<>("sesiones", limits.getMaxEntries(), limits.getIdleTimeout());
+        this.maxDistinctValues = limits.getMaxDistinctValues();
+    }
+
+    /**
+     * Crea una sesión vacía.
+     *
+     * @return estadísticas iniciales, con el identificador de la sesión
+     * @throws StorageLimitExceededException si ya hay el máximo de sesiones
+     */
+    public StatisticsSnapshot create() {
+        StatisticsSession session = new StatisticsSession(UUID.randomUUID().toString(), maxDistinctValues);
+        sessions.put(session.getId(), session);
+        return session.snapshot();
+    }
+
+    /**
+     * Añade un bloque de números a una sesión.
+     *
+     * @param numbers números a añadir (null se trata como vacío)
+     * @return estadísticas acumuladas tras añadir el bloque
+     * @throws NoSuchElementException si la sesión no existe
+     * @throws StorageLimitExceededException si la sesión pasaría del máximo de valores distintos
+     */
+    public StatisticsSnapshot append(String id, int[] numbers) {
+        StatisticsSession session = find(id);
+        if (numbers != null) {
+            session.append(numbers);
+        }
+        return session.snapshot();
+    }
+
+    /**
+     * @return estadísticas acumuladas de la sesión
+     * @throws NoSuchElementException si la sesión no existe
+     */
+    public StatisticsSnapshot snapshot(String id) {
+        return find(id).snapshot();
+    }
+
+    /**
+     * Elimina una sesión y libera su memoria.
+     *
+     * @return true si la sesión existía
+     */
+    public boolean delete(String id) {
+        return sessions.remove(id);
+    }
+
+    private StatisticsSession find(String id) {
+        StatisticsSession session = sessions.get(id);
+        if (session == null) {
+            throw new NoSuchElementException("No existe la sesión " + id);
+        }
+        return session;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.service;
+
+/**
+ * Guardar un objeto más en memoria superaría el límite configurado para su
+ * registro (grafos, sesiones, sketches).
+ */
+public class StorageLimitExceededException extends RuntimeException {
+
+    public StorageLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.demo.service;
+
+import java.util.Arrays;
+
+/**
+ * Resumen t-digest (Dunning y Ertl) en su variante de mezcla, para estimar
+ * cuantiles de un flujo con memoria acotada.
+ *
+ * Los datos se resumen en centroides (media y peso) ordenados por media. El
+ * tamaño máximo de cada centroide lo fija la función de escala
+ * {@code k(q) = compression / (2π) · asin(2q - 1)}: un centroide no puede abarcar
+ * más de una unidad de {@code k}, así que cerca de las colas (q → 0 o q → 1) los
+ * centroides son muy pequeños y los cuantiles extremos (p99, p99.9) son casi
+ * exactos, mientras que en el centro se agrupan más valores. El número de
+ * centroides queda por debajo de {@code compression · π / 2}.
+ *
+ * Los valores nuevos se acumulan en un buffer; al llenarse se ordenan, se mezclan
+ * con los centroides (ya ordenados) y se vuelve a comprimir en una sola pasada.
+ * Dos resúmenes se combinan igual, lo que permite construirlos en nodos distintos
+ * y mezclarlos después.
+ *
+ * No es seguro para varios hilos; quien lo comparta debe sincronizar.
+ */
+final class TDigest {
+
+    /** Compresión por defecto: unos 160 centroides, del orden de 4 KB con el buffer. */
+    static final int DEFAULT_COMPRESSION = 100;
+
+    static final int MIN_COMPRESSION = 20;
+
+    static final int MAX_COMPRESSION = 1_000;
+
+    /** Tamaño del buffer de valores pendientes, en múltiplos de la compresión. */
+    private static final int BUFFER_FACTOR = 5;
+
+    private final int compression;
+    private double[] means;
+    private long[] weights;
+    private int centroids;
+    private final double[] buffer;
+    private int buffered;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    TDigest(int compression) {
+        if (compression < MIN_COMPRESSION || compression > MAX_COMPRESSION) {
+            throw new IllegalArgumentException(
+                "La compresión debe estar entre " + MIN_COMPRESSION + " y " + MAX_COMPRESSION);
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression * Math.PI / 2) + 1;
+        this.means = new double[capacity];
+        this.weights = new long[capacity];
+        this.buffer = new double[BUFFER_FACTOR * compression];
+    }
+
+    /**
+     * Añade un valor con peso 1.
+     */
+    void add(double value) {
+        if (buffered == buffer.length) {
+            flush();
+        }
+        buffer[buffered++] = value;
+        count++;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Combina con este resumen los centroides de otro, dados en orden ascendente
+     * de media y con pesos positivos.
+     */
+    void merge(double[] otherMeans, long[] otherWeights, double otherMin, double otherMax) {
+        flush();
+        long otherCount = 0;
+        for (long weight : otherWeights) {
+            otherCount += weight;
+        }
+        if (otherCount == 0) {
+            return;
+        }
+        compress(otherMeans, otherWeights, otherWeights.length);
+        count += otherCount;
+        min = Math.min(min, otherMin);
+        max = Math.max(max, otherMax);
+    }
+
+    /**
+     * Cuantil estimado interpolando linealmente entre los centros de los
+     * centroides; los extremos se interpolan hacia el mínimo y el máximo exactos.
+     *
+     * @param q cuantil entre 0 y 1
+     * @return el valor estimado, o NaN si el resumen está vacío
+     */
+    double quantile(double q) {
+        flush();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (q <= 0) {
+            return min;
+        }
+        if (q >= 1) {
+            return max;
+        }
+        double index = q * count;
+        double firstHalf = weights[0] / 2.0;
+        if (index < firstHalf) {
+            return min + (means[0] - min) * (index / firstHalf);
+        }
+        double lastHalf = weights[centroids - 1] / 2.0;
+        if (index > count - lastHalf) {
+            return max - (max - means[centroids - 1]) * ((count - index) / lastHalf);
+        }
+        // Centro del centroide i: peso acumulado anterior más la mitad del suyo
+        double center = firstHalf;
+        for (int i = 0; i < centroids - 1; i++) {
+            double gap = (weights[i] + weights[i + 1]) / 2.0;
+            if (index <= center + gap) {
+                return means[i] + (means[i + 1] - means[i]) * ((index - center) / gap);
+            }
+            center += gap;
+        }
+        return means[centroids - 1];
+    }
+
+    int getCompression() {
+        return compression;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    double getMin() {
+        return min;
+    }
+
+    double getMax() {
+        return max;
+    }
+
+    /** Número de centroides tras volcar el buffer. */
+    int centroidCount() {
+        flush();
+        return centroids;
+    }
+
+    double[] means() {
+        flush();
+        return Arrays.copyOf(means, centroids);
+    }
+
+    long[] weights() {
+        flush();
+        return Arrays.copyOf(weights, centroids);
+    }
+
+    /**
+     * Vuelca el buffer en los centroides.
+     */
+    private void flush() {
+        if (buffered == 0) {
+            return;
+        }
+        Arrays.sort(buffer, 0, buffered);
+        long[] unit = new long[buffered];
+        Arrays.fill(unit, 1L);
+        compress(buffer, unit, buffered);
+        buffered = 0;
+    }
+
+    /**
+     * Mezcla los centroides actuales con {@code length} centroides ordenados y
+     * recomprime el resultado en una pasada.
+     */
+    private void compress(double[] incomingMeans, long[] incomingWeights, int length) {
+        int total = centroids + length;
+        double[] mergedMeans = new double[total];
+        long[] mergedWeights = new long[total];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < total; k++) {
+            if (j == length || (i < centroids && means[i] <= incomingMeans[j])) {
+                mergedMeans[k] = means[i];
+                mergedWeights[k] = weights[i++];
+            } else {
+                mergedMeans[k] = incomingMeans[j];
+                mergedWeights[k] = incomingWeights[j++];
+            }
+        }
+
+        long totalWeight = 0;
+        for (long weight : mergedWeights) {
+            totalWeight += weight;
+        }
+        int capacity = Math.max(means.length, 1);
+        double[] newMeans = new double[capacity];
+        long[] newWeights = new long[capacity];
+        int size = 0;
+        double currentMean = mergedMeans[0];
+        long currentWeight = mergedWeights[0];
+        long weightSoFar = 0;
+        double weightLimit = totalWeight * quantileOf(scale(0) + 1);
+        for (int k = 1; k < total; k++) {
+            long weight = mergedWeights[k];
+            if (weightSoFar + currentWeight + weight <= weightLimit) {
+                currentWeight += weight;
+                currentMean += (mergedMeans[k] - currentMean) * weight / currentWeight;
+            } else {
+                if (size == newMeans.length) {
+                    newMeans = Arrays.copyOf(newMeans, size << 1);
+                    newWeights = Arrays.copyOf(newWeights, size << 1);
+                }
+                newMeans[size] = currentMean;
+                newWeights[size++] = currentWeight;
+                weightSoFar += currentWeight;
+                weightLimit = totalWeight * quantileOf(scale((double) weightSoFar / totalWeight) + 1);
+                currentMean = mergedMeans[k];
+                currentWeight = weight;
+            }
+        }
+        if (size == newMeans.length) {
+            newMeans = Arrays.copyOf(newMeans, size + 1);
+            newWeights = Arrays.copyOf(newWeights, size + 1);
+        }
+        newMeans[size] = currentMean;
+        newWeights[size++] = currentWeight;
+        means = newMeans;
+        weights = newWeights;
+        centroids = size;
+    }
+
+    /** Función de escala {@code k(q)}. */
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * q - 1);
+    }
+
+    /** Inversa de {@link #scale}, saturada en 1 más allá de la cola derecha. */
+    private double quantileOf(double k) {
+        if (k >= compression / 4.0) {
+            return 1.0;
+        }
+        return (Math.sin(k * 2 * Math.PI / compression) + 1) / 2;
+    }
+}
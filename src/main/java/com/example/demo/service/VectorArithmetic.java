@@ -0,0 +1,122 @@
+package com.example.demo.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Aritmética elemento a elemento con la Vector API ({@code jdk.incubator.vector}).
+ *
+ * Como {@link VectorReductions}, sólo se carga desde {@link ArithmeticKernels}
+ * cuando el módulo está disponible. Las posiciones inválidas se marcan en un
+ * bitmap de {@code long}: el bit {@code i & 63} de la palabra {@code i >>> 6}.
+ * Los vectores de doubles tienen como mucho 8 lanes y empiezan en múltiplos de su
+ * longitud, así que la máscara de cada vector cae entera dentro de una palabra.
+ */
+final class VectorArithmetic {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorArithmetic() {
+    }
+
+    static void add(double[] a, double[] b, double[] out) {
+        lanewise(VectorOperators.ADD, a, b, out);
+        for (int i = DOUBLES.loopBound(a.length); i < a.length; i++) {
+            out[i] = a[i] + b[i];
+        }
+    }
+
+    static void subtract(double[] a, double[] b, double[] out) {
+        lanewise(VectorOperators.SUB, a, b, out);
+        for (int i = DOUBLES.loopBound(a.length); i < a.length; i++) {
+            out[i] = a[i] - b[i];
+        }
+    }
+
+    static void multiply(double[] a, double[] b, double[] out) {
+        lanewise(VectorOperators.MUL, a, b, out);
+        for (int i = DOUBLES.loopBound(a.length); i < a.length; i++) {
+            out[i] = a[i] * b[i];
+        }
+    }
+
+    /**
+     * {@code out[i] = a[i] / b[i]}; los divisores 0 dejan NaN y se marcan en {@code invalid}.
+     *
+     * @return número de posiciones inválidas
+     */
+    static int divide(double[] a, double[] b, double[] out, long[] invalid) {
+        int step = DOUBLES.length();
+        int bound = DOUBLES.loopBound(a.length);
+        int count = 0;
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector divisor = DoubleVector.fromArray(DOUBLES, b, i);
+            VectorMask<Double> zero = divisor.eq(0.0);
+            DoubleVector quotient = DoubleVector.fromArray(DOUBLES, a, i).div(divisor);
+            if (zero.anyTrue()) {
+                quotient = quotient.blend(Double.NaN, zero);
+                long bits = zero.toLong();
+                invalid[i >>> 6] |= bits << (i & 63);
+                count += Long.bitCount(bits);
+            }
+            quotient.intoArray(out, i);
+        }
+        for (; i < a.length; i++) {
+            if (b[i] == 0) {
+                out[i] = Double.NaN;
+                invalid[i >>> 6] |= 1L << i;
+                count++;
+            } else {
+                out[i] = a[i] / b[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@code out[i] = sqrt(a[i])}; los negativos dejan NaN y se marcan en {@code invalid}.
+     *
+     * @return número de posiciones inválidas
+     */
+    static int sqrt(double[] a, double[] out, long[] invalid) {
+        int step = DOUBLES.length();
+        int bound = DOUBLES.loopBound(a.length);
+        int count = 0;
+        int i = 0;
+        for (; i < bound; i += step) {
+            DoubleVector values = DoubleVector.fromArray(DOUBLES, a, i);
+            // La raíz de un negativo ya es NaN; sólo falta marcar la posición
+            values.lanewise(VectorOperators.SQRT).intoArray(out, i);
+            VectorMask<Double> negative = values.lt(0.0);
+            if (negative.anyTrue()) {
+                long bits = negative.toLong();
+                invalid[i >>> 6] |= bits << (i & 63);
+                count += Long.bitCount(bits);
+            }
+        }
+        for (; i < a.length; i++) {
+            out[i] = Math.sqrt(a[i]);
+            if (a[i] < 0) {
+                invalid[i >>> 6] |= 1L << i;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Aplica {@code op} a la parte de los arrays que ocupa vectores completos.
+     */
+    private static void lanewise(VectorOperators.Binary op, double[] a, double[] b, double[] out) {
+        int step = DOUBLES.length();
+        int bound = DOUBLES.loopBound(a.length);
+        for (int i = 0; i < bound; i += step) {
+            DoubleVector.fromArray(DOUBLES, a, i)
+                .lanewise(op, DoubleVector.fromArray(DOUBLES, b, i))
+                .intoArray(out, i);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.service;
+
+/**
+ * Operaciones elemento a elemento sobre arrays de doubles.
+ *
+ * A diferencia de {@link BatchOperation}, operan en coma flotante sin las reglas
+ * de enteros de los métodos escalares ({@code add} admite negativos y nada
+ * desborda como {@code int}). Sólo la división por 0 y la raíz de un negativo
+ * invalidan una posición.
+ */
+enum VectorOperation {
+
+    ADD(true) {
+        @Override
+        int apply(double[] a, double[] b, double[] out, long[] invalid) {
+            ArithmeticKernels.add(a, b, out);
+            return 0;
+        }
+    },
+    SUBTRACT(true) {
+        @Override
+        int apply(double[] a, double[] b, double[] out, long[] invalid) {
+            ArithmeticKernels.subtract(a, b, out);
+            return 0;
+        }
+    },
+    MULTIPLY(true) {
+        @Override
+        int apply(double[] a, double[] b, double[] out, long[] invalid) {
+            ArithmeticKernels.multiply(a, b, out);
+            return 0;
+        }
+    },
+    DIVIDE(true) {
+        @Override
+        int apply(double[] a, double[] b, double[] out, long[] invalid) {
+            return ArithmeticKernels.divide(a, b, out, invalid);
+        }
+    },
+    SQRT(false) {
+        @Override
+        int apply(double[] a, double[] b, double[] out, long[] invalid) {
+            return ArithmeticKernels.sqrt(a, out, invalid);
+        }
+    };
+
+    private final boolean binary;
+
+    VectorOperation(boolean binary) {
+        this.binary = binary;
+    }
+
+    /**
+     * @return true si la operación usa el segundo operando
+     */
+    boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * Calcula {@code out} y marca en {@code invalid} las posiciones sin resultado.
+     *
+     * @return número de posiciones inválidas
+     */
+    abstract int apply(double[] a, double[] b, double[] out, long[] invalid);
+
+    /**
+     * Usa los mismos nombres que {@link BatchOperation#fromName}, incluido el
+     * alias {@code sum}, para que ambos endpoints acepten siempre las mismas
+     * operaciones; cada constante se llama igual que la de {@link BatchOperation}.
+     *
+     * @return la operación con ese nombre, o null si no existe
+     */
+    static VectorOperation fromName(String name) {
+        BatchOperation operation = BatchOperation.fromName(name);
+        return operation != null ? valueOf(operation.name()) : null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Reducciones con la Vector API ({@code jdk.incubator.vector}).
+ *
+ * Sólo se carga desde {@link ReductionKernels} cuando el módulo está presente en
+ * tiempo de ejecución ({@code --add-modules jdk.incubator.vector}); en otro caso
+ * esta clase no llega a resolverse y se usa el camino escalar.
+ */
+final class VectorReductions {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    /** Enteros de la mitad de ancho, para que cada carga se amplíe a un vector de longs completo. */
+    private static final VectorSpecies<Integer> INTS =
+        IntVector.SPECIES_PREFERRED.withShape(VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorReductions() {
+    }
+
+    /**
+     * Suma exacta de enteros: cada carga se convierte a lanes de 64 bits antes de
+     * acumular, así que no hay desbordamiento para menos de 2^32 elementos.
+     */
+    static long sum(int[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    /**
+     * Suma exacta de enteros del rango [from, to).
+     */
+    static long sum(int[] values, int from, int to) {
+        int step = INTS.length();
+        int bound = from + INTS.loopBound(to - from);
+        LongVector first = LongVector.zero(LONGS);
+        LongVector second = LongVector.zero(LONGS);
+        int i = from;
+        // Dos acumuladores para solapar la latencia de la suma
+        for (; i < bound - step; i += 2 * step) {
+            first = first.add((LongVector) IntVector.fromArray(INTS, values, i).castShape(LONGS, 0));
+            second = second.add((LongVector) IntVector.fromArray(INTS, values, i + step).castShape(LONGS, 0));
+        }
+        for (; i < bound; i += step) {
+            first = first.add((LongVector) IntVector.fromArray(INTS, values, i).castShape(LONGS, 0));
+        }
+        long total = first.add(second).reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    /**
+     * Suma de doubles con cuatro acumuladores vectoriales. El orden de las sumas
+     * difiere del escalar, así que el resultado puede variar en el último bit.
+     */
+    static double sum(double[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    /**
+     * Suma de doubles del rango [from, to).
+     */
+    static double sum(double[] values, int from, int to) {
+        int step = DOUBLES.length();
+        int bound = from + DOUBLES.loopBound(to - from);
+        DoubleVector a = DoubleVector.zero(DOUBLES);
+        DoubleVector b = DoubleVector.zero(DOUBLES);
+        DoubleVector c = DoubleVector.zero(DOUBLES);
+        DoubleVector d = DoubleVector.zero(DOUBLES);
+        int i = from;
+        for (; i < bound - 3 * step; i += 4 * step) {
+            a = a.add(DoubleVector.fromArray(DOUBLES, values, i));
+            b = b.add(DoubleVector.fromArray(DOUBLES, values, i + step));
+            c = c.add(DoubleVector.fromArray(DOUBLES, values, i + 2 * step));
+            d = d.add(DoubleVector.fromArray(DOUBLES, values, i + 3 * step));
+        }
+        for (; i < bound; i += step) {
+            a = a.add(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double total = a.add(b).add(c.add(d)).reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+}
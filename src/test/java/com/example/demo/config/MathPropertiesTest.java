@@ -0,0 +1,73 @@
+package com.example.demo.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MathProperties Tests")
+class MathPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(PropertiesConfiguration.class);
+
+    @Configuration
+    @EnableConfigurationProperties(MathProperties.class)
+    static class PropertiesConfiguration {
+    }
+
+    @Test
+    @DisplayName("Should use one compute thread per core by default")
+    void testDefaults() {
+        contextRunner.run(context -> {
+            MathProperties properties = context.getBean(MathProperties.class);
+            assertEquals(Runtime.getRuntime().availableProcessors(), properties.getCompute().getParallelism());
+            assertEquals(64L << 20, properties.getCache().getMaxBytes());
+            assertEquals(0, properties.getCache().getMaxEntryBytes());
+            assertEquals(1 << 22, properties.getExternal().getRunLength());
+            assertEquals(System.getProperty("java.io.tmpdir"), properties.getExternal().getTempDir());
+            assertEquals(256L << 20, properties.getExternal().getMemoryBudget());
+            assertEquals(1_000, properties.getGraphs().getMaxGraphs());
+            assertEquals(20_000_000, properties.getGraphs().getMaxTotalEdges());
+            assertEquals(500, properties.getSessions().getMaxEntries());
+            assertEquals(Duration.ofMinutes(30), properties.getSessions().getIdleTimeout());
+            assertEquals(1 << 16, properties.getSessions().getMaxDistinctValues());
+            assertEquals(10_000, properties.getSketches().getMaxEntries());
+            assertEquals(Duration.ofMinutes(30), properties.getSketches().getIdleTimeout());
+        });
+    }
+
+    @Test
+    @DisplayName("Should bind math.* properties from the environment")
+    void testBinding() {
+        contextRunner
+            .withPropertyValues("math.compute.parallelism=3", "math.cache.max-bytes=1024",
+                "math.cache.max-entry-bytes=512", "math.external.run-length=100",
+                "math.external.temp-dir=/var/tmp", "math.external.memory-budget=4096",
+                "math.graphs.max-graphs=5", "math.graphs.max-total-edges=50",
+                "math.sessions.max-entries=7", "math.sessions.idle-timeout=10m",
+                "math.sessions.max-distinct-values=99", "math.sketches.max-entries=3",
+                "math.sketches.idle-timeout=1h")
+            .run(context -> {
+                MathProperties properties = context.getBean(MathProperties.class);
+                assertEquals(3, properties.getCompute().getParallelism());
+                assertEquals(1024, properties.getCache().getMaxBytes());
+                assertEquals(512, properties.getCache().getMaxEntryBytes());
+                assertEquals(100, properties.getExternal().getRunLength());
+                assertEquals("/var/tmp", properties.getExternal().getTempDir());
+                assertEquals(4096, properties.getExternal().getMemoryBudget());
+                assertEquals(5, properties.getGraphs().getMaxGraphs());
+                assertEquals(50, properties.getGraphs().getMaxTotalEdges());
+                assertEquals(7, properties.getSessions().getMaxEntries());
+                assertEquals(Duration.ofMinutes(10), properties.getSessions().getIdleTimeout());
+                assertEquals(99, properties.getSessions().getMaxDistinctValues());
+                assertEquals(3, properties.getSketches().getMaxEntries());
+                assertEquals(Duration.ofHours(1), properties.getSketches().getIdleTimeout());
+            });
+    }
+}
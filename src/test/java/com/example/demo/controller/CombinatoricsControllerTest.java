@@ -0,0 +1,87 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.CombinatoricsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = CombinatoricsController.class,
+    excludeAutoConfiguration = org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class)
+@DisplayName("CombinatoricsController Tests")
+class CombinatoricsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CombinatoricsService combinatoricsService;
+
+    @Test
+    @DisplayName("Should return binomial coefficients modulo p")
+    void testBinomial() throws Exception {
+        when(combinatoricsService.binomialMod(52, 5)).thenReturn(2_598_960);
+
+        mockMvc.perform(get("/api/math/combinatorics/binomial")
+                .param("n", "52")
+                .param("k", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value(2_598_960))
+                .andExpect(jsonPath("$.operation").value("binomial-mod"))
+                .andExpect(jsonPath("$.modulus").value(CombinatoricsService.MODULUS));
+    }
+
+    @Test
+    @DisplayName("Should evaluate binomial batches")
+    void testBinomialBatch() throws Exception {
+        when(combinatoricsService.binomialModBatch(aryEq(new int[]{10, 6}), aryEq(new int[]{3, 2})))
+            .thenReturn(new int[]{120, 15});
+
+        mockMvc.perform(post("/api/math/combinatorics/binomial")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"n\": [10, 6], \"k\": [3, 2]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result[0]").value(120))
+                .andExpect(jsonPath("$.result[1]").value(15));
+    }
+
+    @Test
+    @DisplayName("Should return permutations, factorials and logarithms")
+    void testOtherOperations() throws Exception {
+        when(combinatoricsService.permutationMod(10, 3)).thenReturn(720);
+        when(combinatoricsService.factorialMod(10)).thenReturn(3_628_800);
+        when(combinatoricsService.logFactorial(1_000_000_000L)).thenReturn(1.9723265848226566e10);
+        when(combinatoricsService.logGamma(0.5)).thenReturn(0.5723649429247001);
+
+        mockMvc.perform(get("/api/math/combinatorics/permutation").param("n", "10").param("k", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value(720));
+        mockMvc.perform(get("/api/math/combinatorics/factorial").param("n", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value(3_628_800));
+        mockMvc.perform(get("/api/math/combinatorics/log-factorial").param("n", "1000000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value(1.9723265848226566e10));
+        mockMvc.perform(get("/api/math/combinatorics/lgamma").param("x", "0.5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.operation").value("lgamma"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 with the reason for invalid arguments")
+    void testInvalidArguments() throws Exception {
+        when(combinatoricsService.binomialMod(-1, 2)).thenThrow(new IllegalArgumentException("n no puede ser negativo"));
+
+        mockMvc.perform(get("/api/math/combinatorics/binomial").param("n", "-1").param("k", "2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("n no puede ser negativo"));
+    }
+}
@@ -2,7 +2,7 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.DijkstraResult;
 import com.example.demo.dto.Graph;
-import com.example.demo.dto.GraphEdge;
+import com.example.demo.dto.ShortestPathTree;
 import com.example.demo.service.DijkstraService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,14 +32,10 @@ class DijkstraControllerTest {
     @MockBean
     private DijkstraService dijkstraService;
 
-    private Graph defaultGraph;
     private DijkstraResult successResult;
 
     @BeforeEach
     void setUp() {
-        Map<String, List<GraphEdge>> adjacencyList = new HashMap<>();
-        adjacencyList.put("A", Arrays.asList(new GraphEdge("B", 4), new GraphEdge("C", 2)));
-        defaultGraph = new Graph(adjacencyList);
         successResult = new DijkstraResult("A", "F", Arrays.asList("A", "B", "D", "E", "F"), 13, true);
     }
 
@@ -50,8 +46,7 @@ class DijkstraControllerTest {
         @Test
         @DisplayName("Should return shortest path when valid parameters provided")
         void shouldReturnShortestPathWhenValidParametersProvided() throws Exception {
-            when(dijkstraService.createDefaultGraph()).thenReturn(defaultGraph);
-            when(dijkstraService.findShortestPath(any(Graph.class), eq("A"), eq("F")))
+            when(dijkstraService.findShortestPathInDefaultGraph("A", "F"))
                 .thenReturn(successResult);
 
             mockMvc.perform(get("/api/dijkstra/shortest-path")
@@ -62,5 +57,55 @@ class DijkstraControllerTest {
                 .andExpect(jsonPath("$.source").value("A"))
                 .andExpect(jsonPath("$.destination").value("F"));
         }
+
+        @Test
+        @DisplayName("Should return 400 when the default graph lookup rejects a node")
+        void shouldReturnBadRequestWhenLookupRejectsNode() throws Exception {
+            when(dijkstraService.findShortestPathInDefaultGraph("A", "X"))
+                .thenThrow(new IllegalArgumentException("El nodo destino 'X' no existe en el grafo"));
+
+            mockMvc.perform(get("/api/dijkstra/shortest-path")
+                    .param("source", "A")
+                    .param("destination", "X"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.pathFound").value(false))
+                .andExpect(jsonPath("$.distance").value(-1));
+
+            verify(dijkstraService, never()).findShortestPath(any(Graph.class), anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Shortest path tree Tests")
+    class ShortestPathTreeTests {
+
+        @Test
+        @DisplayName("Should return the default graph tree in compact form")
+        void shouldReturnDefaultGraphTree() throws Exception {
+            when(dijkstraService.findShortestPathTreeInDefaultGraph("A"))
+                .thenReturn(new ShortestPathTree("A", new String[]{"A", "C"}, new int[]{0, 2}, new int[]{-1, 0}));
+
+            mockMvc.perform(get("/api/dijkstra/shortest-path-tree")
+                    .param("source", "A"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.source").value("A"))
+                .andExpect(jsonPath("$.nodes[1]").value("C"))
+                .andExpect(jsonPath("$.distances[1]").value(2))
+                .andExpect(jsonPath("$.predecessors[0]").value(-1));
+        }
+
+        @Test
+        @DisplayName("Should return 400 with the reason for an invalid custom graph source")
+        void shouldReturnBadRequestForInvalidSource() throws Exception {
+            when(dijkstraService.findShortestPathTree(any(Graph.class), eq("X")))
+                .thenThrow(new IllegalArgumentException("El nodo origen 'X' no existe en el grafo"));
+
+            mockMvc.perform(post("/api/dijkstra/shortest-path-tree")
+                    .param("source", "X")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"adjacencyList\": {\"A\": []}}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("El nodo origen 'X' no existe en el grafo"));
+        }
     }
 }
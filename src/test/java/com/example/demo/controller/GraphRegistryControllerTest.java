@@ -0,0 +1,175 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.DijkstraResult;
+import com.example.demo.dto.GraphInfo;
+import com.example.demo.dto.ShortestPathTree;
+import com.example.demo.service.GraphRegistryService;
+import com.example.demo.service.GraphVersionConflictException;
+import com.example.demo.service.StorageLimitExceededException;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = GraphRegistryController.class,
+    excludeAutoConfiguration = org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class)
+@DisplayName("GraphRegistryController Tests")
+class GraphRegistryControllerTest {
+
+    private static final String GRAPH_JSON = "{\"adjacencyList\": {\"A\": [{\"to\": \"B\", \"weight\": 3}], \"B\": []}}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GraphRegistryService registryService;
+
+    @Test
+    @DisplayName("Should register a graph with 201 and return id and version")
+    void testRegister() throws Exception {
+        when(registryService.register(any())).thenReturn(new GraphInfo("g1", 1, 2, 1));
+
+        mockMvc.perform(post("/api/dijkstra/graphs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(GRAPH_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value("g1"))
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.nodes").value(2))
+                .andExpect(jsonPath("$.edges").value(1));
+    }
+
+    @Test
+    @DisplayName("Should return 400 with the reason for an invalid graph")
+    void testRegisterInvalid() throws Exception {
+        when(registryService.register(any()))
+            .thenThrow(new IllegalArgumentException("El grafo no puede ser nulo"));
+
+        mockMvc.perform(post("/api/dijkstra/graphs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("El grafo no puede ser nulo"));
+    }
+
+    @Test
+    @DisplayName("Should replace a graph and return the new version")
+    void testReplace() throws Exception {
+        when(registryService.replace(eq("g1"), any())).thenReturn(new GraphInfo("g1", 2, 2, 1));
+
+        mockMvc.perform(put("/api/dijkstra/graphs/g1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(GRAPH_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(2));
+    }
+
+    @Test
+    @DisplayName("Should query a registered graph")
+    void testShortestPath() throws Exception {
+        when(registryService.findShortestPath("g1", null, "A", "B"))
+            .thenReturn(new DijkstraResult("A", "B", Arrays.asList("A", "B"), 3, true));
+
+        mockMvc.perform(get("/api/dijkstra/graphs/g1/shortest-path")
+                .param("source", "A")
+                .param("destination", "B"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.distance").value(3))
+                .andExpect(jsonPath("$.path[1]").value("B"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 with an empty result for unknown nodes")
+    void testShortestPathUnknownNode() throws Exception {
+        when(registryService.findShortestPath(eq("g1"), isNull(), eq("A"), eq("X")))
+            .thenThrow(new IllegalArgumentException("El nodo destino 'X' no existe en el grafo"));
+
+        mockMvc.perform(get("/api/dijkstra/graphs/g1/shortest-path")
+                .param("source", "A")
+                .param("destination", "X"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.pathFound").value(false))
+                .andExpect(jsonPath("$.distance").value(-1));
+    }
+
+    @Test
+    @DisplayName("Should return 409 for a stale version and 404 for an unknown graph")
+    void testStaleAndUnknown() throws Exception {
+        when(registryService.findShortestPath("g1", 1L, "A", "B"))
+            .thenThrow(new GraphVersionConflictException("g1", 2, 1));
+        when(registryService.info("missing")).thenThrow(new NoSuchElementException("No existe el grafo missing"));
+
+        mockMvc.perform(get("/api/dijkstra/graphs/g1/shortest-path")
+                .param("source", "A")
+                .param("destination", "B")
+                .param("version", "1"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("El grafo g1 está en la versión 2, no en la 1"));
+
+        mockMvc.perform(get("/api/dijkstra/graphs/missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("No existe el grafo missing"));
+    }
+
+    @Test
+    @DisplayName("Should return 507 when the registry is full")
+    void testRegistryFull() throws Exception {
+        when(registryService.register(any())).thenThrow(new StorageLimitExceededException("Registro lleno"));
+
+        mockMvc.perform(post("/api/dijkstra/graphs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(GRAPH_JSON))
+                .andExpect(status().isInsufficientStorage())
+                .andExpect(jsonPath("$.error").value("Registro lleno"));
+    }
+
+    @Test
+    @DisplayName("Should not map other illegal states to 409")
+    void testOtherIllegalStateIsNotAConflict() {
+        when(registryService.info("g1")).thenThrow(new IllegalStateException("fallo interno"));
+
+        ServletException thrown = assertThrows(ServletException.class,
+            () -> mockMvc.perform(get("/api/dijkstra/graphs/g1")));
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+    }
+
+    @Test
+    @DisplayName("Should delete a graph with 204 and 404 when unknown")
+    void testDelete() throws Exception {
+        when(registryService.delete("g1")).thenReturn(true);
+
+        mockMvc.perform(delete("/api/dijkstra/graphs/g1"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/dijkstra/graphs/g2"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return the shortest path tree of a registered graph")
+    void testShortestPathTree() throws Exception {
+        when(registryService.findShortestPathTree("g1", null, "A"))
+            .thenReturn(new ShortestPathTree("A", new String[]{"A", "B"}, new int[]{0, 3}, new int[]{-1, 0}));
+
+        mockMvc.perform(get("/api/dijkstra/graphs/g1/shortest-path-tree")
+                .param("source", "A"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nodes[1]").value("B"))
+                .andExpect(jsonPath("$.distances[1]").value(3));
+    }
+}
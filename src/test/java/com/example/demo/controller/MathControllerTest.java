@@ -1,6 +1,18 @@
 package com.example.demo.controller;
 
+import com.example.demo.converter.PackedArrayMediaTypes;
+import com.example.demo.dto.BatchResult;
+import com.example.demo.dto.BatchStatus;
+import com.example.demo.dto.CacheStats;
+import com.example.demo.dto.HeavyHitter;
+import com.example.demo.dto.HeavyHittersResult;
+import com.example.demo.dto.OrderStatistics;
+import com.example.demo.dto.ReductionResult;
+import com.example.demo.dto.SortResult;
+import com.example.demo.dto.SortStrategy;
+import com.example.demo.dto.VectorResult;
 import com.example.demo.service.MathService;
+import com.example.demo.service.SortedRuns;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,11 +23,17 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -35,6 +53,14 @@ class MathControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    private static int[] toInts(List<Integer> numbers) {
+        return numbers.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static double[] toDoubles(List<Double> numbers) {
+        return numbers.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
     @Nested
     @DisplayName("POST /api/math/sum endpoint tests")
     class SumEndpointTests {
@@ -107,6 +133,52 @@ class MathControllerTest {
 
             verify(mathService, never()).add(anyInt(), anyInt());
         }
+
+        @Test
+        @DisplayName("Should reject null operands and omit fields the operation does not report")
+        void testSumNullOperandAndOptionalFields() throws Exception {
+            // Given
+            when(mathService.add(2, 2)).thenReturn(4);
+
+            // When & Then
+            mockMvc.perform(post("/api/math/sum")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"a\": 2, \"b\": null}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Invalid input"));
+
+            mockMvc.perform(post("/api/math/sum")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"a\": 2, \"b\": 2}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value(4))
+                    .andExpect(jsonPath("$.partitions").doesNotExist())
+                    .andExpect(jsonPath("$.strategy").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should reject decimal and string operands instead of coercing them")
+        void testSumRejectsDecimalAndStringOperands() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/math/sum")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"a\": 3.5, \"b\": 1}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Invalid input"));
+
+            mockMvc.perform(post("/api/math/sum")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"a\": \"5\", \"b\": 1}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Invalid input"));
+
+            mockMvc.perform(post("/api/math/sum")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"a\": 3000000000, \"b\": 1}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(mathService, never()).add(anyInt(), anyInt());
+        }
     }
 
     @Nested
@@ -119,7 +191,6 @@ class MathControllerTest {
             // Given
             List<Integer> numbers = Arrays.asList(1, 2, 3, 4, 5);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.sumList(numbers)).thenReturn(15);
 
             // When & Then
             mockMvc.perform(post("/api/math/sum-list")
@@ -132,7 +203,33 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operands[0]").value(1))
                     .andExpect(jsonPath("$.operands[4]").value(5));
 
-            verify(mathService, times(1)).sumList(numbers);
+            verifyNoInteractions(mathService);
+        }
+
+        @Test
+        @DisplayName("Should sum beyond the int range while reading the list")
+        void testSumListBeyondIntRange() throws Exception {
+            mockMvc.perform(post("/api/math/sum-list")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\":[2147483647,2147483647]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value(2L * Integer.MAX_VALUE))
+                    .andExpect(jsonPath("$.partitions").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should not keep operands of lists beyond the echo limit, even when requested")
+        void testSumListLargeOperandsNotKept() throws Exception {
+            int[] numbers = new int[MathController.OPERANDS_ECHO_LIMIT + 1];
+            Arrays.fill(numbers, 1);
+
+            mockMvc.perform(post("/api/math/sum-list")
+                    .param("fields", "result,operands")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("numbers", numbers))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value(numbers.length))
+                    .andExpect(jsonPath("$.operands").doesNotExist());
         }
 
         @Test
@@ -147,26 +244,16 @@ class MathControllerTest {
                     .content(objectMapper.writeValueAsString(request)))
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.error").value("Invalid input"));
-
-            verify(mathService, never()).sumList(anyList());
         }
 
         @Test
-        @DisplayName("Should return error when service throws exception")
-        void testSumListServiceException() throws Exception {
-            // Given
-            List<Integer> numbers = Arrays.asList(1, 2, 3);
-            Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.sumList(numbers)).thenThrow(new RuntimeException("Service error"));
-
-            // When & Then
+        @DisplayName("Should return error when numbers is missing")
+        void testSumListMissingNumbers() throws Exception {
             mockMvc.perform(post("/api/math/sum-list")
                     .contentType(MediaType.APPLICATION_JSON)
-                    .content(objectMapper.writeValueAsString(request)))
+                    .content("{}"))
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.error").value("Invalid input"));
-
-            verify(mathService, times(1)).sumList(numbers);
         }
 
         @Test
@@ -175,7 +262,6 @@ class MathControllerTest {
             // Given
             List<Integer> numbers = Arrays.asList();
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.sumList(numbers)).thenReturn(0);
 
             // When & Then
             mockMvc.perform(post("/api/math/sum-list")
@@ -183,9 +269,29 @@ class MathControllerTest {
                     .content(objectMapper.writeValueAsString(request)))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.result").value(0))
-                    .andExpect(jsonPath("$.operation").value("sum-list"));
+                    .andExpect(jsonPath("$.operation").value("sum-list"))
+                    .andExpect(jsonPath("$.operands").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should ignore other fields and stream only the numbers array")
+        void testSumListIgnoresOtherFields() throws Exception {
+            mockMvc.perform(post("/api/math/sum-list")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"label\": {\"nested\": [true]}, \"numbers\": [1, 2]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value(3))
+                    .andExpect(jsonPath("$.operands[1]").value(2));
+        }
 
-            verify(mathService, times(1)).sumList(numbers);
+        @Test
+        @DisplayName("Should reject non integer elements")
+        void testSumListRejectsNonIntegerElements() throws Exception {
+            mockMvc.perform(post("/api/math/sum-list")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\": [1, \"two\"]}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Invalid input"));
         }
     }
 
@@ -270,6 +376,31 @@ class MathControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/math/cache/stats endpoint tests")
+    class CacheStatsEndpointTests {
+
+        @Test
+        @DisplayName("Should return the result cache counters")
+        void testCacheStats() throws Exception {
+            // Given
+            when(mathService.cacheStats()).thenReturn(new CacheStats(3, 1, 0, 2, 1, 512, 1024, 204));
+
+            // When & Then
+            mockMvc.perform(get("/api/math/cache/stats"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hits").value(3))
+                    .andExpect(jsonPath("$.misses").value(1))
+                    .andExpect(jsonPath("$.evictions").value(0))
+                    .andExpect(jsonPath("$.oversized").value(2))
+                    .andExpect(jsonPath("$.entries").value(1))
+                    .andExpect(jsonPath("$.bytes").value(512))
+                    .andExpect(jsonPath("$.maxBytes").value(1024))
+                    .andExpect(jsonPath("$.maxEntryBytes").value(204))
+                    .andExpect(jsonPath("$.hitRate").value(0.75));
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/math/multiply endpoint tests")
     class MultiplyEndpointTests {
@@ -344,6 +475,25 @@ class MathControllerTest {
 
             verify(mathService, times(1)).multiply(5, 0);
         }
+
+        @Test
+        @DisplayName("Should reject decimal and numeric string operands")
+        void testMultiplyRejectsDecimalAndStringOperands() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/math/multiply")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"a\": 3.5, \"b\": 2}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Invalid input"));
+
+            mockMvc.perform(post("/api/math/multiply")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"a\": \"5\", \"b\": 2}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Invalid input"));
+
+            verify(mathService, never()).multiply(anyInt(), anyInt());
+        }
     }
 
     @Nested
@@ -356,7 +506,7 @@ class MathControllerTest {
             // Given - Escenario 1: [1, 2, 3, 4, 5] -> 3.0
             List<Integer> numbers = Arrays.asList(1, 2, 3, 4, 5);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMean(numbers)).thenReturn(3.0);
+            when(mathService.mean(15L, 5L)).thenReturn(3.0);
 
             // When & Then
             mockMvc.perform(post("/api/math/mean")
@@ -371,7 +521,20 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operands[3]").value(4))
                     .andExpect(jsonPath("$.operands[4]").value(5));
 
-            verify(mathService, times(1)).calculateMean(numbers);
+            verify(mathService, times(1)).mean(15L, 5L);
+        }
+
+        @Test
+        @DisplayName("Should pass the sum and count read from the list to the service")
+        void testMeanStreamedSumAndCount() throws Exception {
+            when(mathService.mean(6L, 2L)).thenReturn(3.0);
+
+            mockMvc.perform(post("/api/math/mean")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\":[2,4]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value(3.0))
+                    .andExpect(jsonPath("$.partitions").doesNotExist());
         }
 
         @Test
@@ -380,7 +543,7 @@ class MathControllerTest {
             // Given - Escenario 2: [7] -> 7.0
             List<Integer> numbers = Arrays.asList(7);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMean(numbers)).thenReturn(7.0);
+            when(mathService.mean(7L, 1L)).thenReturn(7.0);
 
             // When & Then
             mockMvc.perform(post("/api/math/mean")
@@ -391,7 +554,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operation").value("mean"))
                     .andExpect(jsonPath("$.operands[0]").value(7));
 
-            verify(mathService, times(1)).calculateMean(numbers);
+            verify(mathService, times(1)).mean(7L, 1L);
         }
 
         @Test
@@ -400,7 +563,7 @@ class MathControllerTest {
             // Given - Escenario 3: [] -> 0.0
             List<Integer> numbers = Collections.emptyList();
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMean(numbers)).thenReturn(0.0);
+            when(mathService.mean(0L, 0L)).thenReturn(0.0);
 
             // When & Then
             mockMvc.perform(post("/api/math/mean")
@@ -411,7 +574,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operation").value("mean"))
                     .andExpect(jsonPath("$.operands").isEmpty());
 
-            verify(mathService, times(1)).calculateMean(numbers);
+            verify(mathService, times(1)).mean(0L, 0L);
         }
 
         @Test
@@ -420,7 +583,7 @@ class MathControllerTest {
             // Given - Escenario 4: [-1, 0, 1] -> 0.0
             List<Integer> numbers = Arrays.asList(-1, 0, 1);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMean(numbers)).thenReturn(0.0);
+            when(mathService.mean(0L, 3L)).thenReturn(0.0);
 
             // When & Then
             mockMvc.perform(post("/api/math/mean")
@@ -433,7 +596,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operands[1]").value(0))
                     .andExpect(jsonPath("$.operands[2]").value(1));
 
-            verify(mathService, times(1)).calculateMean(numbers);
+            verify(mathService, times(1)).mean(0L, 3L);
         }
 
         @Test
@@ -449,7 +612,7 @@ class MathControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.error").value("Invalid input"));
 
-            verify(mathService, never()).calculateMean(anyList());
+            verify(mathService, never()).mean(anyLong(), anyLong());
         }
 
         @Test
@@ -457,7 +620,7 @@ class MathControllerTest {
         void testMeanNullNumbers() throws Exception {
             // Given
             Map<String, List<Integer>> request = Map.of();
-            when(mathService.calculateMean(null)).thenReturn(0.0);
+            when(mathService.mean(0L, 0L)).thenReturn(0.0);
 
             // When & Then
             mockMvc.perform(post("/api/math/mean")
@@ -468,7 +631,42 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operation").value("mean"))
                     .andExpect(jsonPath("$.operands").isEmpty());
 
-            verify(mathService, times(1)).calculateMean(null);
+            verify(mathService, times(1)).mean(0L, 0L);
+    }
+        }
+
+    @Nested
+    @DisplayName("POST /api/math/mean-rational endpoint tests")
+    class MeanRationalEndpointTests {
+
+        @Test
+        @DisplayName("Should calculate mean for valid decimal list")
+        void testMeanRationalValidNumbers() throws Exception {
+            double[] numbers = {1.5, 2.5, 3.5};
+            when(mathService.reduceMeanRational(aryEq(numbers))).thenReturn(new ReductionResult<>(2.5, 1));
+
+            mockMvc.perform(post("/api/math/mean-rational")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\":[1.5,2.5,3.5]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value(2.5))
+                    .andExpect(jsonPath("$.operation").value("mean-rational"))
+                    .andExpect(jsonPath("$.operands[0]").value(1.5))
+                    .andExpect(jsonPath("$.operands[2]").value(3.5));
+
+            verify(mathService, times(1)).reduceMeanRational(aryEq(numbers));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the service fails")
+        void testMeanRationalServiceException() throws Exception {
+            when(mathService.reduceMeanRational(any())).thenThrow(new RuntimeException("Service error"));
+
+            mockMvc.perform(post("/api/math/mean-rational")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\":[1.0]}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Invalid input"));
         }
     }
 
@@ -476,6 +674,116 @@ class MathControllerTest {
     @DisplayName("POST /api/math/quicksort endpoint tests")
     class QuicksortEndpointTests {
 
+        @Test
+        @DisplayName("Should stream an external sort with its run count")
+        void testExternalQuicksort() throws Exception {
+            // Given
+            byte[] sorted = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putInt(1).putInt(2).array();
+            SortedRuns runs = mock(SortedRuns.class);
+            when(runs.byteLength()).thenReturn((long) sorted.length);
+            when(runs.runs()).thenReturn(3);
+            doAnswer(invocation -> {
+                invocation.<OutputStream>getArgument(0).write(sorted);
+                return null;
+            }).when(runs).writeTo(any());
+            when(mathService.externalSortIntegers(any())).thenReturn(runs);
+
+            // When & Then
+            mockMvc.perform(post("/api/math/quicksort/external")
+                    .contentType(PackedArrayMediaTypes.INT32_LE)
+                    .accept(PackedArrayMediaTypes.INT32_LE)
+                    .content(new byte[]{2, 0, 0, 0, 1, 0, 0, 0}))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(MathController.RUNS_HEADER, "3"))
+                    .andExpect(content().contentType(PackedArrayMediaTypes.INT32_LE))
+                    .andExpect(content().bytes(sorted));
+
+            verify(runs).close();
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the external sort input is truncated")
+        void testExternalQuicksortTruncated() throws Exception {
+            // Given
+            when(mathService.externalSortIntegers(any()))
+                .thenThrow(new IllegalArgumentException("La longitud del cuerpo no es múltiplo de 4 bytes"));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/quicksort/external")
+                    .contentType(PackedArrayMediaTypes.INT32_LE)
+                    .content(new byte[]{1, 0, 0}))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.error").value("La longitud del cuerpo no es múltiplo de 4 bytes"));
+        }
+
+        @Test
+        @DisplayName("Should return a JSON error when the external rational sort input is truncated")
+        void testExternalQuicksortRationalTruncated() throws Exception {
+            // Given
+            when(mathService.externalSortRationals(any()))
+                .thenThrow(new IllegalArgumentException("La longitud del cuerpo no es múltiplo de 8 bytes"));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/quicksort-rational/external")
+                    .contentType(PackedArrayMediaTypes.FLOAT64_LE)
+                    .content(new byte[]{1, 0, 0}))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("La longitud del cuerpo no es múltiplo de 8 bytes"));
+        }
+
+        @Test
+        @DisplayName("Should project the response onto the requested fields")
+        void testQuicksortFieldsProjection() throws Exception {
+            // Given
+            when(mathService.sortIntegers(aryEq(new int[]{3, 1, 2})))
+                .thenReturn(new SortResult<>(new int[]{1, 2, 3}, SortStrategy.INTROSORT));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/quicksort")
+                    .param("fields", "result,strategy")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\": [3, 1, 2]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result[2]").value(3))
+                    .andExpect(jsonPath("$.strategy").value(SortStrategy.INTROSORT.getLabel()))
+                    .andExpect(jsonPath("$.operation").doesNotExist())
+                    .andExpect(jsonPath("$.operands").doesNotExist());
+
+            mockMvc.perform(post("/api/math/quicksort")
+                    .param("fields", "result,input")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\": [3, 1, 2]}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Invalid input"));
+        }
+
+        @Test
+        @DisplayName("Should omit large operands unless they are requested")
+        void testQuicksortLargeOperandsOmitted() throws Exception {
+            // Given
+            int[] numbers = new int[MathController.OPERANDS_ECHO_LIMIT + 1];
+            when(mathService.sortIntegers(aryEq(numbers)))
+                .thenReturn(new SortResult<>(numbers, SortStrategy.COUNTING));
+            String request = objectMapper.writeValueAsString(Map.of("numbers", numbers));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/quicksort")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result.length()").value(numbers.length))
+                    .andExpect(jsonPath("$.operation").value("quicksort"))
+                    .andExpect(jsonPath("$.operands").doesNotExist());
+
+            mockMvc.perform(post("/api/math/quicksort")
+                    .param("fields", "result,operands")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.operands.length()").value(numbers.length));
+        }
+
         @Test
         @DisplayName("Should sort valid number list")
         void testQuicksortValidNumbers() throws Exception {
@@ -483,7 +791,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6);
             List<Integer> sortedNumbers = Arrays.asList(1, 1, 2, 3, 4, 5, 6, 9);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.quicksort(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortIntegers(aryEq(toInts(numbers)))).thenReturn(new SortResult<>(toInts(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort")
@@ -504,7 +812,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operands[0]").value(3))
                     .andExpect(jsonPath("$.operands[1]").value(1));
 
-            verify(mathService, times(1)).quicksort(numbers);
+            verify(mathService, times(1)).sortIntegers(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -514,7 +822,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(42);
             List<Integer> sortedNumbers = Arrays.asList(42);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.quicksort(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortIntegers(aryEq(toInts(numbers)))).thenReturn(new SortResult<>(toInts(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort")
@@ -526,7 +834,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operation").value("quicksort"))
                     .andExpect(jsonPath("$.operands[0]").value(42));
 
-            verify(mathService, times(1)).quicksort(numbers);
+            verify(mathService, times(1)).sortIntegers(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -536,7 +844,7 @@ class MathControllerTest {
             List<Integer> numbers = Collections.emptyList();
             List<Integer> sortedNumbers = Collections.emptyList();
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.quicksort(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortIntegers(aryEq(toInts(numbers)))).thenReturn(new SortResult<>(toInts(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort")
@@ -548,7 +856,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operation").value("quicksort"))
                     .andExpect(jsonPath("$.operands").isEmpty());
 
-            verify(mathService, times(1)).quicksort(numbers);
+            verify(mathService, times(1)).sortIntegers(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -558,7 +866,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(-3, 1, -2, 5, 0);
             List<Integer> sortedNumbers = Arrays.asList(-3, -2, 0, 1, 5);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.quicksort(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortIntegers(aryEq(toInts(numbers)))).thenReturn(new SortResult<>(toInts(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort")
@@ -573,7 +881,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[4]").value(5))
                     .andExpect(jsonPath("$.operation").value("quicksort"));
 
-            verify(mathService, times(1)).quicksort(numbers);
+            verify(mathService, times(1)).sortIntegers(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -583,7 +891,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(1, 2, 3, 4, 5);
             List<Integer> sortedNumbers = Arrays.asList(1, 2, 3, 4, 5);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.quicksort(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortIntegers(aryEq(toInts(numbers)))).thenReturn(new SortResult<>(toInts(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort")
@@ -598,7 +906,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[4]").value(5))
                     .andExpect(jsonPath("$.operation").value("quicksort"));
 
-            verify(mathService, times(1)).quicksort(numbers);
+            verify(mathService, times(1)).sortIntegers(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -608,7 +916,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(5, 4, 3, 2, 1);
             List<Integer> sortedNumbers = Arrays.asList(1, 2, 3, 4, 5);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.quicksort(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortIntegers(aryEq(toInts(numbers)))).thenReturn(new SortResult<>(toInts(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort")
@@ -623,7 +931,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[4]").value(5))
                     .andExpect(jsonPath("$.operation").value("quicksort"));
 
-            verify(mathService, times(1)).quicksort(numbers);
+            verify(mathService, times(1)).sortIntegers(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -639,7 +947,7 @@ class MathControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.error").value("Invalid input"));
 
-            verify(mathService, never()).quicksort(anyList());
+            verify(mathService, never()).sortIntegers(any());
         }
 
         @Test
@@ -647,7 +955,7 @@ class MathControllerTest {
         void testQuicksortNullNumbers() throws Exception {
             // Given
             Map<String, List<Integer>> request = Map.of();
-            when(mathService.quicksort(null)).thenReturn(Collections.emptyList());
+            when(mathService.sortIntegers(aryEq(new int[0]))).thenReturn(new SortResult<>(new int[0], SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort")
@@ -659,7 +967,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operation").value("quicksort"))
                     .andExpect(jsonPath("$.operands").isEmpty());
 
-            verify(mathService, times(1)).quicksort(null);
+            verify(mathService, times(1)).sortIntegers(aryEq(new int[0]));
         }
 
         @Test
@@ -668,7 +976,7 @@ class MathControllerTest {
             // Given
             List<Integer> numbers = Arrays.asList(1, 2, 3);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.quicksort(numbers)).thenThrow(new RuntimeException("Service error"));
+            when(mathService.sortIntegers(aryEq(toInts(numbers)))).thenThrow(new RuntimeException("Service error"));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort")
@@ -677,7 +985,7 @@ class MathControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.error").value("Invalid input"));
 
-            verify(mathService, times(1)).quicksort(numbers);
+            verify(mathService, times(1)).sortIntegers(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -687,7 +995,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(3, 1, 3, 1, 2);
             List<Integer> sortedNumbers = Arrays.asList(1, 1, 2, 3, 3);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.quicksort(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortIntegers(aryEq(toInts(numbers)))).thenReturn(new SortResult<>(toInts(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort")
@@ -702,7 +1010,24 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[4]").value(3))
                     .andExpect(jsonPath("$.operation").value("quicksort"));
 
-            verify(mathService, times(1)).quicksort(numbers);
+            verify(mathService, times(1)).sortIntegers(aryEq(toInts(numbers)));
+        }
+        @Test
+        @DisplayName("Should report the strategy chosen by the sort planner")
+        void testQuicksortReportsStrategy() throws Exception {
+            // Given
+            List<Integer> numbers = Arrays.asList(2, 1, 2, 1);
+            Map<String, List<Integer>> request = Map.of("numbers", numbers);
+            when(mathService.sortIntegers(aryEq(toInts(numbers))))
+                .thenReturn(new SortResult<>(new int[]{1, 1, 2, 2}, SortStrategy.COUNTING));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/quicksort")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result[3]").value(2))
+                    .andExpect(jsonPath("$.strategy").value("counting"));
         }
     }
 
@@ -717,7 +1042,7 @@ class MathControllerTest {
             List<Double> numbers = Arrays.asList(3.14, 1.41, 2.71, 9.81);
             List<Double> sortedNumbers = Arrays.asList(1.41, 2.71, 3.14, 9.81);
             Map<String, List<Double>> request = Map.of("numbers", numbers);
-            when(mathService.quicksortRational(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortRationals(aryEq(toDoubles(numbers)))).thenReturn(new SortResult<>(toDoubles(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort-rational")
@@ -736,7 +1061,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operands[2]").value(2.71))
                     .andExpect(jsonPath("$.operands[3]").value(9.81));
 
-            verify(mathService, times(1)).quicksortRational(numbers);
+            verify(mathService, times(1)).sortRationals(aryEq(toDoubles(numbers)));
         }
 
         @Test
@@ -746,7 +1071,7 @@ class MathControllerTest {
             List<Double> numbers = Arrays.asList(42.5);
             List<Double> sortedNumbers = Arrays.asList(42.5);
             Map<String, List<Double>> request = Map.of("numbers", numbers);
-            when(mathService.quicksortRational(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortRationals(aryEq(toDoubles(numbers)))).thenReturn(new SortResult<>(toDoubles(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort-rational")
@@ -757,7 +1082,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[0]").value(42.5))
                     .andExpect(jsonPath("$.operation").value("quicksort-rational"));
 
-            verify(mathService, times(1)).quicksortRational(numbers);
+            verify(mathService, times(1)).sortRationals(aryEq(toDoubles(numbers)));
         }
 
         @Test
@@ -767,7 +1092,7 @@ class MathControllerTest {
             List<Double> numbers = Arrays.asList(-2.5, 1.5, 0.0, -1.5, 2.5);
             List<Double> sortedNumbers = Arrays.asList(-2.5, -1.5, 0.0, 1.5, 2.5);
             Map<String, List<Double>> request = Map.of("numbers", numbers);
-            when(mathService.quicksortRational(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortRationals(aryEq(toDoubles(numbers)))).thenReturn(new SortResult<>(toDoubles(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort-rational")
@@ -782,7 +1107,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[4]").value(2.5))
                     .andExpect(jsonPath("$.operation").value("quicksort-rational"));
 
-            verify(mathService, times(1)).quicksortRational(numbers);
+            verify(mathService, times(1)).sortRationals(aryEq(toDoubles(numbers)));
         }
 
         @Test
@@ -792,7 +1117,7 @@ class MathControllerTest {
             List<Double> numbers = Collections.emptyList();
             List<Double> sortedNumbers = Collections.emptyList();
             Map<String, List<Double>> request = Map.of("numbers", numbers);
-            when(mathService.quicksortRational(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortRationals(aryEq(toDoubles(numbers)))).thenReturn(new SortResult<>(toDoubles(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort-rational")
@@ -804,14 +1129,14 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operation").value("quicksort-rational"))
                     .andExpect(jsonPath("$.operands").isEmpty());
 
-            verify(mathService, times(1)).quicksortRational(numbers);
+            verify(mathService, times(1)).sortRationals(aryEq(toDoubles(numbers)));
         }
 
         @Test
         @DisplayName("Should handle null rational list")
         void testQuicksortRationalNullList() throws Exception {
             // Given
-            when(mathService.quicksortRational(null)).thenReturn(Collections.emptyList());
+            when(mathService.sortRationals(aryEq(new double[0]))).thenReturn(new SortResult<>(new double[0], SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort-rational")
@@ -823,7 +1148,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operation").value("quicksort-rational"))
                     .andExpect(jsonPath("$.operands").isEmpty());
 
-            verify(mathService, times(1)).quicksortRational(null);
+            verify(mathService, times(1)).sortRationals(aryEq(new double[0]));
         }
 
         @Test
@@ -832,7 +1157,7 @@ class MathControllerTest {
             // Given
             List<Double> numbers = Arrays.asList(1.1, 2.2, 3.3);
             Map<String, List<Double>> request = Map.of("numbers", numbers);
-            when(mathService.quicksortRational(numbers)).thenThrow(new RuntimeException("Service error"));
+            when(mathService.sortRationals(aryEq(toDoubles(numbers)))).thenThrow(new RuntimeException("Service error"));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort-rational")
@@ -841,7 +1166,7 @@ class MathControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.error").value("Invalid input"));
 
-            verify(mathService, times(1)).quicksortRational(numbers);
+            verify(mathService, times(1)).sortRationals(aryEq(toDoubles(numbers)));
         }
 
         @Test
@@ -851,7 +1176,7 @@ class MathControllerTest {
             List<Double> numbers = Arrays.asList(3.3, 1.1, 3.3, 1.1, 2.2);
             List<Double> sortedNumbers = Arrays.asList(1.1, 1.1, 2.2, 3.3, 3.3);
             Map<String, List<Double>> request = Map.of("numbers", numbers);
-            when(mathService.quicksortRational(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortRationals(aryEq(toDoubles(numbers)))).thenReturn(new SortResult<>(toDoubles(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort-rational")
@@ -866,7 +1191,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[4]").value(3.3))
                     .andExpect(jsonPath("$.operation").value("quicksort-rational"));
 
-            verify(mathService, times(1)).quicksortRational(numbers);
+            verify(mathService, times(1)).sortRationals(aryEq(toDoubles(numbers)));
         }
 
         @Test
@@ -876,7 +1201,7 @@ class MathControllerTest {
             List<Double> numbers = Arrays.asList(1.0001, 1.0002, 1.0000);
             List<Double> sortedNumbers = Arrays.asList(1.0000, 1.0001, 1.0002);
             Map<String, List<Double>> request = Map.of("numbers", numbers);
-            when(mathService.quicksortRational(numbers)).thenReturn(sortedNumbers);
+            when(mathService.sortRationals(aryEq(toDoubles(numbers)))).thenReturn(new SortResult<>(toDoubles(sortedNumbers), SortStrategy.INTROSORT));
 
             // When & Then
             mockMvc.perform(post("/api/math/quicksort-rational")
@@ -889,7 +1214,24 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[2]").value(1.0002))
                     .andExpect(jsonPath("$.operation").value("quicksort-rational"));
 
-            verify(mathService, times(1)).quicksortRational(numbers);
+            verify(mathService, times(1)).sortRationals(aryEq(toDoubles(numbers)));
+        }
+        @Test
+        @DisplayName("Should report the strategy chosen by the sort planner")
+        void testQuicksortRationalReportsStrategy() throws Exception {
+            // Given
+            List<Double> numbers = Arrays.asList(0.5, 1.5, 2.5);
+            Map<String, List<Double>> request = Map.of("numbers", numbers);
+            when(mathService.sortRationals(aryEq(toDoubles(numbers))))
+                .thenReturn(new SortResult<>(toDoubles(numbers), SortStrategy.RUN_MERGE));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/quicksort-rational")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result[0]").value(0.5))
+                    .andExpect(jsonPath("$.strategy").value("run-merge"));
         }
     }
 
@@ -904,7 +1246,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(1, 2, 2, 3, 2);
             List<Integer> modeResult = Arrays.asList(2);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMode(numbers)).thenReturn(modeResult);
+            when(mathService.reduceMode(aryEq(toInts(numbers)))).thenReturn(new ReductionResult<>(toInts(modeResult), 1));
 
             // When & Then
             mockMvc.perform(post("/api/math/mode")
@@ -921,7 +1263,20 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operands[3]").value(3))
                     .andExpect(jsonPath("$.operands[4]").value(2));
 
-            verify(mathService, times(1)).calculateMode(numbers);
+            verify(mathService, times(1)).reduceMode(aryEq(toInts(numbers)));
+        }
+
+        @Test
+        @DisplayName("Should report the partitions used by the service")
+        void testModePartitions() throws Exception {
+            when(mathService.reduceMode(aryEq(new int[]{5, 5, 9}))).thenReturn(new ReductionResult<>(new int[]{5}, 2));
+
+            mockMvc.perform(post("/api/math/mode")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\":[5,5,9]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result[0]").value(5))
+                    .andExpect(jsonPath("$.partitions").value(2));
         }
 
         @Test
@@ -931,7 +1286,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(1, 1, 2, 2, 3);
             List<Integer> modeResult = Arrays.asList(1, 2);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMode(numbers)).thenReturn(modeResult);
+            when(mathService.reduceMode(aryEq(toInts(numbers)))).thenReturn(new ReductionResult<>(toInts(modeResult), 1));
 
             // When & Then
             mockMvc.perform(post("/api/math/mode")
@@ -943,7 +1298,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[1]").value(2))
                     .andExpect(jsonPath("$.operation").value("mode"));
 
-            verify(mathService, times(1)).calculateMode(numbers);
+            verify(mathService, times(1)).reduceMode(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -953,7 +1308,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(42);
             List<Integer> modeResult = Arrays.asList(42);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMode(numbers)).thenReturn(modeResult);
+            when(mathService.reduceMode(aryEq(toInts(numbers)))).thenReturn(new ReductionResult<>(toInts(modeResult), 1));
 
             // When & Then
             mockMvc.perform(post("/api/math/mode")
@@ -965,7 +1320,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operation").value("mode"))
                     .andExpect(jsonPath("$.operands[0]").value(42));
 
-            verify(mathService, times(1)).calculateMode(numbers);
+            verify(mathService, times(1)).reduceMode(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -975,7 +1330,7 @@ class MathControllerTest {
             List<Integer> numbers = Collections.emptyList();
             List<Integer> modeResult = Collections.emptyList();
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMode(numbers)).thenReturn(modeResult);
+            when(mathService.reduceMode(aryEq(toInts(numbers)))).thenReturn(new ReductionResult<>(toInts(modeResult), 1));
 
             // When & Then
             mockMvc.perform(post("/api/math/mode")
@@ -987,7 +1342,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operation").value("mode"))
                     .andExpect(jsonPath("$.operands").isEmpty());
 
-            verify(mathService, times(1)).calculateMode(numbers);
+            verify(mathService, times(1)).reduceMode(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -997,7 +1352,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(-1, -1, 0, 1, -1);
             List<Integer> modeResult = Arrays.asList(-1);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMode(numbers)).thenReturn(modeResult);
+            when(mathService.reduceMode(aryEq(toInts(numbers)))).thenReturn(new ReductionResult<>(toInts(modeResult), 1));
 
             // When & Then
             mockMvc.perform(post("/api/math/mode")
@@ -1008,7 +1363,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[0]").value(-1))
                     .andExpect(jsonPath("$.operation").value("mode"));
 
-            verify(mathService, times(1)).calculateMode(numbers);
+            verify(mathService, times(1)).reduceMode(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -1018,7 +1373,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(1, 2, 3, 4);
             List<Integer> modeResult = Arrays.asList(1, 2, 3, 4);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMode(numbers)).thenReturn(modeResult);
+            when(mathService.reduceMode(aryEq(toInts(numbers)))).thenReturn(new ReductionResult<>(toInts(modeResult), 1));
 
             // When & Then
             mockMvc.perform(post("/api/math/mode")
@@ -1032,7 +1387,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[3]").value(4))
                     .andExpect(jsonPath("$.operation").value("mode"));
 
-            verify(mathService, times(1)).calculateMode(numbers);
+            verify(mathService, times(1)).reduceMode(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -1048,7 +1403,7 @@ class MathControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.error").value("Invalid input"));
 
-            verify(mathService, never()).calculateMode(anyList());
+            verify(mathService, never()).reduceMode(any());
         }
 
         @Test
@@ -1056,7 +1411,7 @@ class MathControllerTest {
         void testModeNullNumbers() throws Exception {
             // Given
             Map<String, List<Integer>> request = Map.of();
-            when(mathService.calculateMode(null)).thenReturn(Collections.emptyList());
+            when(mathService.reduceMode(null)).thenReturn(new ReductionResult<>(new int[0], 1));
 
             // When & Then
             mockMvc.perform(post("/api/math/mode")
@@ -1068,7 +1423,7 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.operation").value("mode"))
                     .andExpect(jsonPath("$.operands").isEmpty());
 
-            verify(mathService, times(1)).calculateMode(null);
+            verify(mathService, times(1)).reduceMode(null);
         }
 
         @Test
@@ -1077,7 +1432,7 @@ class MathControllerTest {
             // Given
             List<Integer> numbers = Arrays.asList(1, 2, 3);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMode(numbers)).thenThrow(new RuntimeException("Service error"));
+            when(mathService.reduceMode(aryEq(toInts(numbers)))).thenThrow(new RuntimeException("Service error"));
 
             // When & Then
             mockMvc.perform(post("/api/math/mode")
@@ -1086,7 +1441,7 @@ class MathControllerTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.error").value("Invalid input"));
 
-            verify(mathService, times(1)).calculateMode(numbers);
+            verify(mathService, times(1)).reduceMode(aryEq(toInts(numbers)));
         }
 
         @Test
@@ -1096,7 +1451,7 @@ class MathControllerTest {
             List<Integer> numbers = Arrays.asList(1, 2, 3, 1, 2, 1, 4, 4, 4);
             List<Integer> modeResult = Arrays.asList(1, 4);
             Map<String, List<Integer>> request = Map.of("numbers", numbers);
-            when(mathService.calculateMode(numbers)).thenReturn(modeResult);
+            when(mathService.reduceMode(aryEq(toInts(numbers)))).thenReturn(new ReductionResult<>(toInts(modeResult), 1));
 
             // When & Then
             mockMvc.perform(post("/api/math/mode")
@@ -1108,7 +1463,332 @@ class MathControllerTest {
                     .andExpect(jsonPath("$.result[1]").value(4))
                     .andExpect(jsonPath("$.operation").value("mode"));
 
-            verify(mathService, times(1)).calculateMode(numbers);
+            verify(mathService, times(1)).reduceMode(aryEq(toInts(numbers)));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/math/mode/approximate endpoint tests")
+    class ApproximateModeEndpointTests {
+
+        @Test
+        @DisplayName("Should return heavy hitters with error bounds")
+        void testApproximateModeSuccess() throws Exception {
+            // Given
+            HeavyHittersResult result = new HeavyHittersResult(
+                List.of(new HeavyHitter(7, 3, 1), new HeavyHitter(2, 2, 0)), 6, 4, 1);
+            when(mathService.approximateMode(aryEq(new int[]{7, 2, 7, 2, 7, 9}), eq(2), eq(4))).thenReturn(result);
+
+            // When & Then
+            mockMvc.perform(post("/api/math/mode/approximate")
+                    .param("k", "2")
+                    .param("capacity", "4")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\": [7, 2, 7, 2, 7, 9]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.operation").value("mode-approximate"))
+                    .andExpect(jsonPath("$.result[0].value").value(7))
+                    .andExpect(jsonPath("$.result[0].count").value(3))
+                    .andExpect(jsonPath("$.result[0].minCount").value(2))
+                    .andExpect(jsonPath("$.result[1].value").value(2))
+                    .andExpect(jsonPath("$.total").value(6))
+                    .andExpect(jsonPath("$.capacity").value(4))
+                    .andExpect(jsonPath("$.maxError").value(1));
+        }
+
+        @Test
+        @DisplayName("Should use default k and capacity")
+        void testApproximateModeDefaults() throws Exception {
+            // Given
+            when(mathService.approximateMode(aryEq(new int[]{1}), eq(10), eq(1000)))
+                .thenReturn(new HeavyHittersResult(List.of(new HeavyHitter(1, 1, 0)), 1, 1000, 0));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/mode/approximate")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\": [1]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result[0].value").value(1));
+        }
+
+        @Test
+        @DisplayName("Should return 400 with the validation message for invalid sizes")
+        void testApproximateModeInvalidSizes() throws Exception {
+            // Given
+            when(mathService.approximateMode(any(), eq(5), eq(2)))
+                .thenThrow(new IllegalArgumentException("k debe estar entre 1 y la capacidad (2)"));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/mode/approximate")
+                    .param("k", "5")
+                    .param("capacity", "2")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\": [1, 2]}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("k debe estar entre 1 y la capacidad (2)"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/math/batch endpoint tests")
+    class BatchEndpointTests {
+
+        @Test
+        @DisplayName("Should return results and statuses in request order")
+        void testBatchSuccess() throws Exception {
+            // Given
+            when(mathService.batch(aryEq(new String[]{"add", "divide"}), aryEq(new double[]{2, 5}), aryEq(new double[]{3, 0})))
+                .thenReturn(new BatchResult(new double[]{5, 0},
+                    new BatchStatus[]{BatchStatus.OK, BatchStatus.DIVISION_BY_ZERO}, 1));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"ops\": [\"add\", \"divide\"], \"a\": [2, 5], \"b\": [3, 0]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.operation").value("batch"))
+                    .andExpect(jsonPath("$.results[0]").value(5.0))
+                    .andExpect(jsonPath("$.statuses[0]").value("OK"))
+                    .andExpect(jsonPath("$.statuses[1]").value("DIVISION_BY_ZERO"))
+                    .andExpect(jsonPath("$.failed").value(1));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for malformed batches")
+        void testBatchMalformed() throws Exception {
+            // Given
+            when(mathService.batch(any(), any(), any()))
+                .thenThrow(new IllegalArgumentException("Los campos 'ops', 'a' y 'b' deben tener la misma longitud"));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"ops\": [\"add\"], \"a\": [1, 2]}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Los campos 'ops', 'a' y 'b' deben tener la misma longitud"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/math/order-statistics endpoint tests")
+    class OrderStatisticsEndpointTests {
+
+        @Test
+        @DisplayName("Should return the order statistics for the requested percentiles")
+        void testOrderStatistics() throws Exception {
+            // Given
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            percentiles.put("90", 9.1);
+            percentiles.put("99.9", 9.99);
+            when(mathService.orderStatistics(aryEq(new int[]{3, 1, 10}), aryEq(new double[]{90, 99.9}), eq(2), eq(1)))
+                .thenReturn(new OrderStatistics(3, 1, 10, 3.0, percentiles, new int[]{10, 3}, new int[]{1}));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/order-statistics")
+                    .param("percentiles", "90,99.9")
+                    .param("top", "2")
+                    .param("bottom", "1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\": [3, 1, 10]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.operation").value("order-statistics"))
+                    .andExpect(jsonPath("$.count").value(3))
+                    .andExpect(jsonPath("$.median").value(3.0))
+                    .andExpect(jsonPath("$.percentiles['99.9']").value(9.99))
+                    .andExpect(jsonPath("$.top[0]").value(10))
+                    .andExpect(jsonPath("$.bottom[0]").value(1));
+        }
+
+        @Test
+        @DisplayName("Should default to no percentiles and no top/bottom values")
+        void testOrderStatisticsDefaults() throws Exception {
+            // Given
+            when(mathService.orderStatistics(aryEq(new int[]{4, 2}), isNull(), eq(0), eq(0)))
+                .thenReturn(new OrderStatistics(2, 2, 4, 3.0, Map.of(), new int[0], new int[0]));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/order-statistics")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\": [4, 2]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.median").value(3.0))
+                    .andExpect(jsonPath("$.percentiles").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should return 400 with the reason for invalid arguments")
+        void testOrderStatisticsInvalid() throws Exception {
+            // Given
+            when(mathService.orderStatistics(any(), any(), anyInt(), anyInt()))
+                .thenThrow(new IllegalArgumentException("Los percentiles deben estar entre 0 y 100"));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/order-statistics")
+                    .param("percentiles", "150")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"numbers\": [1]}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Los percentiles deben estar entre 0 y 100"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/math/vector/{operation} endpoint tests")
+    class VectorEndpointTests {
+
+        @Test
+        @DisplayName("Should return results, invalid bitmap and count")
+        void testVectorDivide() throws Exception {
+            // Given
+            when(mathService.elementwise(eq("divide"), aryEq(new double[]{1, 4, 9}), aryEq(new double[]{2, 0, 3})))
+                .thenReturn(new VectorResult(new double[]{0.5, Double.NaN, 3.0}, new byte[]{2}, 1));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/vector/divide")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"a\": [1, 4, 9], \"b\": [2, 0, 3]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.operation").value("vector-divide"))
+                    .andExpect(jsonPath("$.result[0]").value(0.5))
+                    .andExpect(jsonPath("$.result[2]").value(3.0))
+                    .andExpect(jsonPath("$.invalid").value("Ag=="))
+                    .andExpect(jsonPath("$.invalidCount").value(1));
+        }
+
+        @Test
+        @DisplayName("Should answer float64 results with the invalid count header")
+        void testVectorPacked() throws Exception {
+            // Given
+            when(mathService.elementwise(eq("sqrt"), aryEq(new double[]{4, -1}), isNull()))
+                .thenReturn(new VectorResult(new double[]{2.0, Double.NaN}, new byte[]{2}, 1));
+            ByteBuffer expected = ByteBuffer.allocate(2 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            expected.asDoubleBuffer().put(new double[]{2.0, Double.NaN});
+
+            // When & Then
+            mockMvc.perform(post("/api/math/vector/sqrt")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(PackedArrayMediaTypes.FLOAT64_LE)
+                    .content("{\"a\": [4, -1]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(MathController.INVALID_COUNT_HEADER, "1"))
+                    .andExpect(content().bytes(expected.array()));
+        }
+
+        @Test
+        @DisplayName("Should return 400 with the reason for malformed requests")
+        void testVectorMalformed() throws Exception {
+            // Given
+            when(mathService.elementwise(eq("power"), any(), any()))
+                .thenThrow(new IllegalArgumentException("Operación desconocida: power"));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/vector/power")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"a\": [1], \"b\": [2]}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Operación desconocida: power"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Packed binary format tests")
+    class PackedBinaryFormatTests {
+
+        private byte[] packInts(int... values) {
+            ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.asIntBuffer().put(values);
+            return buffer.array();
+        }
+
+        private byte[] packDoubles(double... values) {
+            ByteBuffer buffer = ByteBuffer.allocate(values.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.asDoubleBuffer().put(values);
+            return buffer.array();
+        }
+
+        @Test
+        @DisplayName("Should sort packed int32 input and answer in int32")
+        void testQuicksortPackedRoundTrip() throws Exception {
+            // Given
+            when(mathService.sortIntegers(aryEq(new int[]{3, -1, 2})))
+                .thenReturn(new SortResult<>(new int[]{-1, 2, 3}, SortStrategy.INTROSORT));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/quicksort")
+                    .contentType(PackedArrayMediaTypes.INT32_LE)
+                    .accept(PackedArrayMediaTypes.INT32_LE)
+                    .content(packInts(3, -1, 2)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(PackedArrayMediaTypes.INT32_LE))
+                    .andExpect(header().string("X-Sort-Strategy", "introsort"))
+                    .andExpect(content().bytes(packInts(-1, 2, 3)));
+        }
+
+        @Test
+        @DisplayName("Should answer in JSON by default for packed input")
+        void testQuicksortPackedInputJsonOutput() throws Exception {
+            // Given
+            when(mathService.sortIntegers(aryEq(new int[]{2, 1})))
+                .thenReturn(new SortResult<>(new int[]{1, 2}, SortStrategy.INTROSORT));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/quicksort")
+                    .contentType(PackedArrayMediaTypes.INT32_LE)
+                    .content(packInts(2, 1)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.result[0]").value(1))
+                    .andExpect(jsonPath("$.operands[0]").value(2));
+        }
+
+        @Test
+        @DisplayName("Should sort packed float64 input and answer in float64")
+        void testQuicksortRationalPacked() throws Exception {
+            // Given
+            when(mathService.sortRationals(aryEq(new double[]{2.5, -0.5})))
+                .thenReturn(new SortResult<>(new double[]{-0.5, 2.5}, SortStrategy.INTROSORT));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/quicksort-rational")
+                    .contentType(PackedArrayMediaTypes.FLOAT64_LE)
+                    .accept(PackedArrayMediaTypes.FLOAT64_LE)
+                    .content(packDoubles(2.5, -0.5)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().bytes(packDoubles(-0.5, 2.5)));
+        }
+
+        @Test
+        @DisplayName("Should accept packed input on mean and answer modes in int32")
+        void testMeanAndModePacked() throws Exception {
+            // Given
+            when(mathService.mean(5L, 3L)).thenReturn(5.0 / 3);
+            when(mathService.mode(aryEq(new int[]{1, 2, 2}))).thenReturn(new int[]{2});
+
+            // When & Then
+            mockMvc.perform(post("/api/math/mean")
+                    .contentType(PackedArrayMediaTypes.INT32_LE)
+                    .content(packInts(1, 2, 2)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value(5.0 / 3));
+
+            mockMvc.perform(post("/api/math/mode")
+                    .contentType(PackedArrayMediaTypes.INT32_LE)
+                    .accept(PackedArrayMediaTypes.INT32_LE)
+                    .content(packInts(1, 2, 2)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().bytes(packInts(2)));
+        }
+
+        @Test
+        @DisplayName("Should reject a body that is not a whole number of int32 values")
+        void testRejectTruncatedBody() throws Exception {
+            mockMvc.perform(post("/api/math/quicksort")
+                    .contentType(PackedArrayMediaTypes.INT32_LE)
+                    .content(new byte[]{1, 0, 0}))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Invalid input"));
+
+            verify(mathService, never()).sortIntegers(any());
         }
     }
 
@@ -1275,7 +1955,7 @@ class MathControllerTest {
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(request))
                     .andExpect(status().isBadRequest())
-                    .andExpect(jsonPath("$.error").exists());
+                    .andExpect(jsonPath("$.error").value("El campo 'number' debe ser un número entero"));
 
             verify(mathService, never()).factorial(anyInt());
         }
@@ -1291,7 +1971,20 @@ class MathControllerTest {
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(request))
                     .andExpect(status().isBadRequest())
-                    .andExpect(jsonPath("$.error").exists());
+                    .andExpect(jsonPath("$.error").value("El campo 'number' debe ser un número entero"));
+
+            verify(mathService, never()).factorial(anyInt());
+        }
+
+        @Test
+        @DisplayName("Should reject a numeric string instead of coercing it")
+        void testFactorialNumericString() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/math/factorial")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"number\": \"5\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("El campo 'number' debe ser un número entero"));
 
             verify(mathService, never()).factorial(anyInt());
         }
@@ -1384,4 +2077,89 @@ class MathControllerTest {
             verifyNoMoreInteractions(mathService);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("POST /api/math/factorial/big endpoint tests")
+    class BigFactorialEndpointTests {
+
+        private final BigInteger factorial25 = new BigInteger("15511210043330985984000000");
+
+        @Test
+        @DisplayName("Should return the decimal digits as a JSON string")
+        void testBigFactorialJson() throws Exception {
+            // Given
+            when(mathService.bigFactorial(25)).thenReturn(factorial25);
+
+            // When & Then
+            mockMvc.perform(post("/api/math/factorial/big")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"number\": 25}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result").value("15511210043330985984000000"))
+                    .andExpect(jsonPath("$.operation").value("factorial-big"))
+                    .andExpect(jsonPath("$.operand").value(25))
+                    .andExpect(jsonPath("$.digits").value(26));
+        }
+
+        @Test
+        @DisplayName("Should return plain text or binary when asked")
+        void testBigFactorialTextAndBinary() throws Exception {
+            // Given
+            when(mathService.bigFactorial(25)).thenReturn(factorial25);
+
+            // When & Then
+            mockMvc.perform(post("/api/math/factorial/big")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_PLAIN)
+                    .content("{\"number\": 25}"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("15511210043330985984000000"));
+
+            mockMvc.perform(post("/api/math/factorial/big")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_OCTET_STREAM)
+                    .content("{\"number\": 25}"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().bytes(factorial25.toByteArray()));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for missing, non integer or rejected numbers")
+        void testBigFactorialErrors() throws Exception {
+            // Given
+            when(mathService.bigFactorial(-3))
+                .thenThrow(new IllegalArgumentException("No se puede calcular el factorial de un número negativo"));
+
+            // When & Then
+            mockMvc.perform(post("/api/math/factorial/big")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("El campo 'number' es obligatorio"));
+
+            mockMvc.perform(post("/api/math/factorial/big")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"number\": 2.5}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("El campo 'number' debe ser un número entero"));
+
+            mockMvc.perform(post("/api/math/factorial/big")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"number\": -3}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("No se puede calcular el factorial de un número negativo"));
+
+            mockMvc.perform(post("/api/math/factorial/big")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"number\": null}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("El campo 'number' es obligatorio"));
+
+            mockMvc.perform(post("/api/math/factorial/big")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"number\": \"25\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("El campo 'number' debe ser un número entero"));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.SketchState;
+import com.example.demo.dto.SketchSummary;
+import com.example.demo.service.QuantileSketchService;
+import com.example.demo.service.StorageLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = QuantileSketchController.class,
+    excludeAutoConfiguration = org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class)
+@DisplayName("QuantileSketchController Tests")
+class QuantileSketchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private QuantileSketchService sketchService;
+
+    private static SketchSummary summary(long count, Map<String, Double> quantiles) {
+        return new SketchSummary("k1", 100, count, count > 0 ? 1.0 : null, count > 0 ? 9.0 : null, 3, quantiles);
+    }
+
+    @Test
+    @DisplayName("Should create a sketch with 201 and the requested compression")
+    void testCreate() throws Exception {
+        when(sketchService.create(200)).thenReturn(summary(0, Map.of()));
+
+        mockMvc.perform(post("/api/math/sketches").param("compression", "200"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value("k1"))
+                .andExpect(jsonPath("$.count").value(0));
+    }
+
+    @Test
+    @DisplayName("Should add a chunk of values")
+    void testAdd() throws Exception {
+        when(sketchService.add(eq("k1"), aryEq(new double[]{1.5, 9}))).thenReturn(summary(2, Map.of()));
+
+        mockMvc.perform(post("/api/math/sketches/k1/values")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"numbers\": [1.5, 9]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.max").value(9.0));
+    }
+
+    @Test
+    @DisplayName("Should answer the requested quantiles")
+    void testQuantiles() throws Exception {
+        Map<String, Double> quantiles = new LinkedHashMap<>();
+        quantiles.put("0.5", 4.0);
+        quantiles.put("0.99", 8.9);
+        when(sketchService.quantiles(eq("k1"), aryEq(new double[]{0.5, 0.99}))).thenReturn(summary(10, quantiles));
+
+        mockMvc.perform(get("/api/math/sketches/k1").param("q", "0.5,0.99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantiles['0.5']").value(4.0))
+                .andExpect(jsonPath("$.quantiles['0.99']").value(8.9));
+    }
+
+    @Test
+    @DisplayName("Should export and merge sketch states")
+    void testStateAndMerge() throws Exception {
+        when(sketchService.state("k2"))
+            .thenReturn(new SketchState(100, 3, 1.0, 9.0, new double[]{1, 5, 9}, new long[]{1, 1, 1}));
+        when(sketchService.merge(eq("k1"), any(SketchState.class))).thenReturn(summary(5, Map.of()));
+
+        mockMvc.perform(get("/api/math/sketches/k2/state"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.compression").value(100))
+                .andExpect(jsonPath("$.means[2]").value(9.0))
+                .andExpect(jsonPath("$.weights[0]").value(1));
+        mockMvc.perform(post("/api/math/sketches/k1/merge")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"compression\": 100, \"count\": 3, \"min\": 1, \"max\": 9,"
+                    + " \"means\": [1, 5, 9], \"weights\": [1, 1, 1]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(5));
+
+        verify(sketchService).merge(eq("k1"), argThat(state -> state.getMeans().length == 3 && state.getMax() == 9.0));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown sketches and 400 for invalid arguments")
+    void testErrors() throws Exception {
+        when(sketchService.quantiles(eq("missing"), any())).thenThrow(new NoSuchElementException("No existe el resumen missing"));
+        when(sketchService.create(5)).thenThrow(new IllegalArgumentException("La compresión debe estar entre 20 y 1000"));
+        when(sketchService.delete("missing")).thenReturn(false);
+
+        mockMvc.perform(get("/api/math/sketches/missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("No existe el resumen missing"));
+        mockMvc.perform(post("/api/math/sketches").param("compression", "5"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("La compresión debe estar entre 20 y 1000"));
+        mockMvc.perform(delete("/api/math/sketches/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return 507 when the sketch limit is reached")
+    void testSketchLimit() throws Exception {
+        when(sketchService.create(100)).thenThrow(new StorageLimitExceededException("Ya hay 10000 resúmenes en memoria"));
+
+        mockMvc.perform(post("/api/math/sketches"))
+                .andExpect(status().isInsufficientStorage())
+                .andExpect(jsonPath("$.error").value("Ya hay 10000 resúmenes en memoria"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.StatisticsSnapshot;
+import com.example.demo.service.StatisticsSessionService;
+import com.example.demo.service.StorageLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.NoSuchElementException;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = StatisticsSessionController.class,
+    excludeAutoConfiguration = org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class)
+@DisplayName("StatisticsSessionController Tests")
+class StatisticsSessionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StatisticsSessionService sessionService;
+
+    @Test
+    @DisplayName("Should create a session with 201")
+    void testCreate() throws Exception {
+        when(sessionService.create())
+            .thenReturn(new StatisticsSnapshot("s1", 0, 0, 0.0, 0.0, 0.0, null, null, new int[0], 0, 0));
+
+        mockMvc.perform(post("/api/math/sessions"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value("s1"))
+                .andExpect(jsonPath("$.count").value(0));
+    }
+
+    @Test
+    @DisplayName("Should append a chunk and return running statistics")
+    void testAppend() throws Exception {
+        when(sessionService.append(eq("s1"), aryEq(new int[]{2, 4})))
+            .thenReturn(new StatisticsSnapshot("s1", 2, 6, 3.0, 1.0, 2.0, 2, 4, new int[]{2, 4}, 1, 2));
+
+        mockMvc.perform(post("/api/math/sessions/s1/numbers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"numbers\": [2, 4]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sum").value(6))
+                .andExpect(jsonPath("$.mean").value(3.0))
+                .andExpect(jsonPath("$.variance").value(1.0))
+                .andExpect(jsonPath("$.min").value(2))
+                .andExpect(jsonPath("$.modes[1]").value(4))
+                .andExpect(jsonPath("$.modeFrequency").value(1))
+                .andExpect(jsonPath("$.modeCount").value(2));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown sessions")
+    void testUnknownSession() throws Exception {
+        when(sessionService.snapshot("missing")).thenThrow(new NoSuchElementException("No existe la sesión missing"));
+        when(sessionService.delete("missing")).thenReturn(false);
+
+        mockMvc.perform(get("/api/math/sessions/missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("No existe la sesión missing"));
+        mockMvc.perform(delete("/api/math/sessions/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should delete a session with 204")
+    void testDelete() throws Exception {
+        when(sessionService.delete("s1")).thenReturn(true);
+
+        mockMvc.perform(delete("/api/math/sessions/s1"))
+                .andExpect(status().isNoContent());
+        verify(sessionService).delete("s1");
+    }
+
+    @Test
+    @DisplayName("Should return 507 when the session limit is reached")
+    void testSessionLimit() throws Exception {
+        when(sessionService.create()).thenThrow(new StorageLimitExceededException("Ya hay 500 sesiones en memoria"));
+
+        mockMvc.perform(post("/api/math/sessions"))
+                .andExpect(status().isInsufficientStorage())
+                .andExpect(jsonPath("$.error").value("Ya hay 500 sesiones en memoria"));
+    }
+}
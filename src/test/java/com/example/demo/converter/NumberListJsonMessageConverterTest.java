@@ -0,0 +1,156 @@
+package com.example.demo.converter;
+
+import com.example.demo.dto.DoubleListRequest;
+import com.example.demo.dto.IntListRequest;
+import com.example.demo.dto.IntListSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NumberListJsonMessageConverter Tests")
+class NumberListJsonMessageConverterTest {
+
+    private final NumberListJsonMessageConverter converter = new NumberListJsonMessageConverter(new ObjectMapper());
+
+    private IntListRequest read(String json) throws Exception {
+        return (IntListRequest) converter.read(IntListRequest.class, input(json));
+    }
+
+    private DoubleListRequest readDoubles(String json) throws Exception {
+        return (DoubleListRequest) converter.read(DoubleListRequest.class, input(json));
+    }
+
+    private IntListSummary readSummary(String json) throws Exception {
+        return (IntListSummary) converter.read(IntListSummary.class, input(json));
+    }
+
+    private static MockHttpInputMessage input(String json) {
+        return new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should read numbers into a primitive array")
+    void testReadNumbers() throws Exception {
+        assertArrayEquals(new int[]{1, -2, 3}, read("{\"numbers\": [1, -2, 3]}").getNumbers());
+    }
+
+    @Test
+    @DisplayName("Should grow the buffer for long lists")
+    void testReadLongList() throws Exception {
+        StringBuilder json = new StringBuilder("{\"numbers\": [");
+        for (int i = 0; i < 10_000; i++) {
+            json.append(i > 0 ? "," : "").append(i);
+        }
+        json.append("]}");
+
+        int[] numbers = read(json.toString()).getNumbers();
+        assertEquals(10_000, numbers.length);
+        assertEquals(9_999, numbers[9_999]);
+    }
+
+    @Test
+    @DisplayName("Should skip unrelated fields, including nested ones")
+    void testSkipOtherFields() throws Exception {
+        String json = "{\"meta\": {\"numbers\": [9]}, \"numbers\": [4, 5], \"tags\": [\"a\"]}";
+        assertArrayEquals(new int[]{4, 5}, read(json).getNumbers());
+    }
+
+    @Test
+    @DisplayName("Should return null numbers when the field is missing or null")
+    void testMissingOrNullNumbers() throws Exception {
+        assertNull(read("{}").getNumbers());
+        assertNull(read("{\"numbers\": null}").getNumbers());
+    }
+
+    @Test
+    @DisplayName("Should read an empty list")
+    void testEmptyList() throws Exception {
+        assertEquals(0, read("{\"numbers\": []}").getNumbers().length);
+    }
+
+    @Test
+    @DisplayName("Should reject non integer values")
+    void testRejectInvalidValues() {
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"numbers\": \"invalid\"}"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"numbers\": [1, \"2\"]}"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"numbers\": [1.5]}"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"numbers\": [1, null]}"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"numbers\": [3000000000]}"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("[1, 2]"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"numbers\": [1, 2"));
+    }
+
+    @Test
+    @DisplayName("Should read integers and decimals into a primitive double array")
+    void testReadDoubles() throws Exception {
+        assertArrayEquals(new double[]{1.5, -2.0, 3.0}, readDoubles("{\"numbers\": [1.5, -2.0, 3]}").getNumbers());
+        assertNull(readDoubles("{\"numbers\": null}").getNumbers());
+    }
+
+    @Test
+    @DisplayName("Should reject non numeric values in double lists")
+    void testRejectInvalidDoubles() {
+        assertThrows(HttpMessageNotReadableException.class, () -> readDoubles("{\"numbers\": [1.5, \"2\"]}"));
+        assertThrows(HttpMessageNotReadableException.class, () -> readDoubles("{\"numbers\": [true]}"));
+    }
+
+    @Test
+    @DisplayName("Should sum and count integers without storing the list")
+    void testReadSummary() throws Exception {
+        IntListSummary summary = readSummary("{\"tag\": [1], \"numbers\": [2147483647, 2147483647, -4]}");
+        assertTrue(summary.hasNumbers());
+        assertEquals(3, summary.getCount());
+        assertEquals(2L * Integer.MAX_VALUE - 4, summary.getSum());
+        assertArrayEquals(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, -4}, summary.getOperands());
+
+        assertFalse(readSummary("{}").hasNumbers());
+        assertFalse(readSummary("{\"numbers\": null}").hasNumbers());
+        assertEquals(0, readSummary("{\"numbers\": []}").getOperands().length);
+        assertThrows(HttpMessageNotReadableException.class, () -> readSummary("{\"numbers\": [1.5]}"));
+    }
+
+    @Test
+    @DisplayName("Should drop the operands of lists beyond the limit and keep summing")
+    void testReadLongSummary() throws Exception {
+        StringBuilder json = new StringBuilder("{\"numbers\": [");
+        for (int i = 0; i <= IntListSummary.MAX_OPERANDS; i++) {
+            json.append(i > 0 ? "," : "").append(i);
+        }
+        json.append("]}");
+
+        IntListSummary summary = readSummary(json.toString());
+        long n = IntListSummary.MAX_OPERANDS;
+        assertEquals(n + 1, summary.getCount());
+        assertEquals(n * (n + 1) / 2, summary.getSum());
+        assertNull(summary.getOperands());
+
+        json.setLength(json.lastIndexOf(","));
+        assertEquals(IntListSummary.MAX_OPERANDS, readSummary(json.append("]}").toString()).getOperands().length);
+    }
+
+    @Test
+    @DisplayName("Should only read number list requests from JSON")
+    void testSupportedTypes() {
+        assertTrue(converter.canRead(IntListRequest.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canRead(DoubleListRequest.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canRead(IntListSummary.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(Object.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(IntListRequest.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should fail as an unwritable message when asked to write")
+    void testWriteIsNotWritable() {
+        assertThrows(HttpMessageNotWritableException.class, () -> converter.write(
+            new IntListRequest(new int[]{1}), MediaType.APPLICATION_JSON, new MockHttpOutputMessage()));
+    }
+}
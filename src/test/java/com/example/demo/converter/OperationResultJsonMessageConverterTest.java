@@ -0,0 +1,119 @@
+package com.example.demo.converter;
+
+import com.example.demo.dto.OperationResult;
+import com.example.demo.dto.SortStrategy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OperationResultJsonMessageConverter Tests")
+class OperationResultJsonMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OperationResultJsonMessageConverter converter = new OperationResultJsonMessageConverter(objectMapper);
+
+    private String write(OperationResult<?> response) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, output);
+        return output.getBodyAsString();
+    }
+
+    private void assertSameAsJackson(OperationResult<?> response) throws IOException {
+        assertEquals(objectMapper.writeValueAsString(response), write(response));
+    }
+
+    @Test
+    @DisplayName("Should only write OperationResult as JSON")
+    void testSupportedTypes() {
+        assertTrue(converter.canWrite(OperationResult.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(OperationResult.class, null));
+        assertFalse(converter.canWrite(OperationResult.class, PackedArrayMediaTypes.INT32_LE));
+        assertFalse(converter.canWrite(Map.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(OperationResult.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should fail as an unreadable message when asked to read")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testReadIsNotReadable() {
+        Class<? extends OperationResult<?>> type = (Class) OperationResult.class;
+        assertThrows(HttpMessageNotReadableException.class,
+            () -> converter.read(type, new MockHttpInputMessage("{}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as Jackson for every result shape")
+    void testMatchesJackson() throws IOException {
+        assertSameAsJackson(new OperationResult<>(
+            new int[]{Integer.MIN_VALUE, -1, 0, 7, Integer.MAX_VALUE}, "quicksort", new int[]{7, 0, -1},
+            SortStrategy.INTROSORT.getLabel()));
+        assertSameAsJackson(new OperationResult<>(
+            new double[]{-0.0, 1.5, 1e-300, 6.02e23, Double.NaN, Double.NEGATIVE_INFINITY, Double.MAX_VALUE},
+            "quicksort-rational", new double[0], "radix"));
+        assertSameAsJackson(new OperationResult<>(Long.MIN_VALUE, "sum-list", new int[]{1}, 4));
+        assertSameAsJackson(new OperationResult<>(Double.NaN, "mean", new int[0], 1));
+        assertSameAsJackson(new OperationResult<>(42, "sum", new int[]{40, 2}));
+        assertSameAsJackson(new OperationResult<>(List.of(1, 2), "mode", null));
+        assertSameAsJackson(new OperationResult<>(1, "tab\t\"quote\"\\ \u0001 ñ €", null));
+    }
+
+    @Test
+    @DisplayName("Should omit the fields dropped by a projection")
+    void testProjection() throws IOException {
+        OperationResult<int[]> response = new OperationResult<>(new int[]{1, 2}, "quicksort", new int[]{2, 1}, "insertion");
+        assertEquals("{\"result\":[1,2]}", write(response.project(Set.of("result"))));
+        assertEquals("{\"operands\":[2,1],\"strategy\":\"insertion\"}",
+            write(response.project(Set.of("strategy", "operands"))));
+        assertEquals("{}", write(response.project(Set.of())));
+    }
+
+    @Test
+    @DisplayName("Should stream arrays larger than a chunk in bounded writes")
+    void testLargeArraysAreChunked() throws IOException {
+        Random random = new Random(5);
+        int[] ints = random.ints(200_000).toArray();
+        double[] doubles = random.doubles(50_000).toArray();
+        OperationResult<int[]> response = new OperationResult<>(ints, "quicksort", doubles, "radix");
+
+        ByteArrayOutputStream collected = new ByteArrayOutputStream();
+        int[] largestWrite = {0};
+        OutputStream body = new OutputStream() {
+            @Override
+            public void write(int b) {
+                collected.write(b);
+                largestWrite[0] = Math.max(largestWrite[0], 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                collected.write(b, off, len);
+                largestWrite[0] = Math.max(largestWrite[0], len);
+            }
+        };
+        MockHttpOutputMessage output = new MockHttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+        };
+        converter.write(response, MediaType.APPLICATION_JSON, output);
+
+        assertEquals(objectMapper.writeValueAsString(response), collected.toString());
+        assertTrue(largestWrite[0] <= OperationResultJsonMessageConverter.CHUNK_SIZE);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.demo.converter;
+
+import com.example.demo.dto.DoubleListRequest;
+import com.example.demo.dto.IntListRequest;
+import com.example.demo.dto.IntListSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PackedArrayMessageConverter Tests")
+class PackedArrayMessageConverterTest {
+
+    private final PackedArrayMessageConverter converter = new PackedArrayMessageConverter();
+
+    private static byte[] packInts(int... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(values);
+        return buffer.array();
+    }
+
+    private static byte[] packDoubles(double... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asDoubleBuffer().put(values);
+        return buffer.array();
+    }
+
+    private static MockHttpInputMessage input(byte[] body, MediaType contentType) {
+        MockHttpInputMessage message = new MockHttpInputMessage(body);
+        message.getHeaders().setContentType(contentType);
+        message.getHeaders().setContentLength(body.length);
+        return message;
+    }
+
+    @Test
+    @DisplayName("Should read little-endian int32 values")
+    void testReadInts() throws Exception {
+        byte[] body = packInts(1, -2, Integer.MAX_VALUE, Integer.MIN_VALUE);
+        assertEquals(1, body[0]);
+
+        IntListRequest request = (IntListRequest) converter.read(IntListRequest.class,
+            input(body, PackedArrayMediaTypes.INT32_LE));
+        assertArrayEquals(new int[]{1, -2, Integer.MAX_VALUE, Integer.MIN_VALUE}, request.getNumbers());
+    }
+
+    @Test
+    @DisplayName("Should read little-endian float64 values")
+    void testReadDoubles() throws Exception {
+        double[] values = {1.5, -0.0, Double.NaN, Double.NEGATIVE_INFINITY};
+        DoubleListRequest request = (DoubleListRequest) converter.read(DoubleListRequest.class,
+            input(packDoubles(values), PackedArrayMediaTypes.FLOAT64_LE));
+        assertArrayEquals(values, request.getNumbers());
+    }
+
+    @Test
+    @DisplayName("Should read a body without Content-Length")
+    void testReadWithoutContentLength() throws Exception {
+        MockHttpInputMessage message = new MockHttpInputMessage(packInts(7, 8, 9));
+        message.getHeaders().setContentType(PackedArrayMediaTypes.INT32_LE);
+
+        IntListRequest request = (IntListRequest) converter.read(IntListRequest.class, message);
+        assertArrayEquals(new int[]{7, 8, 9}, request.getNumbers());
+    }
+
+    @Test
+    @DisplayName("Should sum int32 values across chunks and keep only the first operands")
+    void testReadSummary() throws Exception {
+        IntListSummary small = (IntListSummary) converter.read(IntListSummary.class,
+            input(packInts(Integer.MAX_VALUE, Integer.MAX_VALUE, -1), PackedArrayMediaTypes.INT32_LE));
+        assertEquals(3, small.getCount());
+        assertEquals(2L * Integer.MAX_VALUE - 1, small.getSum());
+        assertArrayEquals(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, -1}, small.getOperands());
+
+        int[] ints = new int[PackedArrayMessageConverter.CHUNK_SIZE + 3];
+        Arrays.fill(ints, 2);
+        IntListSummary large = (IntListSummary) converter.read(IntListSummary.class,
+            input(packInts(ints), PackedArrayMediaTypes.INT32_LE));
+        assertEquals(ints.length, large.getCount());
+        assertEquals(2L * ints.length, large.getSum());
+        assertNull(large.getOperands());
+
+        assertThrows(HttpMessageNotReadableException.class, () -> converter.read(IntListSummary.class,
+            input(new byte[]{1, 0, 0, 0, 2, 0}, PackedArrayMediaTypes.INT32_LE)));
+    }
+
+    @Test
+    @DisplayName("Should reject bodies that are not a whole number of elements")
+    void testRejectPartialElement() {
+        assertThrows(HttpMessageNotReadableException.class, () -> converter.read(IntListRequest.class,
+            input(new byte[]{1, 0, 0, 0, 2, 0}, PackedArrayMediaTypes.INT32_LE)));
+        assertThrows(HttpMessageNotReadableException.class, () -> converter.read(DoubleListRequest.class,
+            input(packInts(1, 2, 3), PackedArrayMediaTypes.FLOAT64_LE)));
+    }
+
+    @Test
+    @DisplayName("Should write int[] and double[] across several chunks")
+    void testWriteLargeArrays() throws Exception {
+        int[] ints = new int[PackedArrayMessageConverter.CHUNK_SIZE + 3];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = i - 5;
+        }
+        MockHttpOutputMessage intOutput = new MockHttpOutputMessage();
+        converter.write(ints, null, intOutput);
+        assertArrayEquals(packInts(ints), intOutput.getBodyAsBytes());
+        assertEquals(PackedArrayMediaTypes.INT32_LE, intOutput.getHeaders().getContentType());
+        assertEquals(ints.length * 4L, intOutput.getHeaders().getContentLength());
+
+        double[] doubles = {3.25, -1.0, 0.0};
+        MockHttpOutputMessage doubleOutput = new MockHttpOutputMessage();
+        converter.write(doubles, PackedArrayMediaTypes.FLOAT64_LE, doubleOutput);
+        assertArrayEquals(packDoubles(doubles), doubleOutput.getBodyAsBytes());
+    }
+
+    @Test
+    @DisplayName("Should only pair each type with its own media type")
+    void testSupportedTypes() {
+        assertTrue(converter.canRead(IntListRequest.class, PackedArrayMediaTypes.INT32_LE));
+        assertFalse(converter.canRead(IntListRequest.class, PackedArrayMediaTypes.FLOAT64_LE));
+        assertTrue(converter.canRead(IntListSummary.class, PackedArrayMediaTypes.INT32_LE));
+        assertFalse(converter.canRead(IntListSummary.class, PackedArrayMediaTypes.FLOAT64_LE));
+        assertTrue(converter.canRead(DoubleListRequest.class, PackedArrayMediaTypes.FLOAT64_LE));
+        assertFalse(converter.canRead(DoubleListRequest.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(int[].class, PackedArrayMediaTypes.INT32_LE));
+        assertFalse(converter.canWrite(int[].class, PackedArrayMediaTypes.FLOAT64_LE));
+        assertFalse(converter.canWrite(int[].class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(double[].class, PackedArrayMediaTypes.FLOAT64_LE));
+        assertFalse(converter.canWrite(Object.class, PackedArrayMediaTypes.INT32_LE));
+    }
+}
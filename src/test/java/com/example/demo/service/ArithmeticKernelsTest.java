@@ -0,0 +1,119 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("ArithmeticKernels Tests")
+class ArithmeticKernelsTest {
+
+    /** Longitudes alrededor del umbral vectorial, de una palabra del bitmap y de los restos. */
+    private static final int[] LENGTHS = {0, 1, 63, 64, 65, 127, 128, 1000, 4099};
+
+    /** Operandos con ceros y negativos repartidos al azar, también en las colas. */
+    private static double[] operands(Random random, int length) {
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            int kind = random.nextInt(8);
+            values[i] = kind == 0 ? 0.0 : kind == 1 ? -random.nextDouble() * 100 : random.nextDouble() * 100;
+        }
+        return values;
+    }
+
+    @Test
+    @DisplayName("Should compute binary operations position by position")
+    void testBinaryOperations() {
+        Random random = new Random(1);
+        for (int length : LENGTHS) {
+            double[] a = operands(random, length);
+            double[] b = operands(random, length);
+            double[] sum = new double[length];
+            double[] difference = new double[length];
+            double[] product = new double[length];
+            ArithmeticKernels.add(a, b, sum);
+            ArithmeticKernels.subtract(a, b, difference);
+            ArithmeticKernels.multiply(a, b, product);
+            for (int i = 0; i < length; i++) {
+                assertEquals(a[i] + b[i], sum[i]);
+                assertEquals(a[i] - b[i], difference[i]);
+                assertEquals(a[i] * b[i], product[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the scalar divide and sqrt including the bitmap")
+    void testDivideAndSqrtMatchScalar() {
+        Random random = new Random(2);
+        for (int length : LENGTHS) {
+            double[] a = operands(random, length);
+            double[] b = operands(random, length);
+            int words = ArithmeticKernels.bitmapWords(length);
+
+            double[] quotient = new double[length];
+            long[] invalid = new long[words];
+            double[] expectedQuotient = new double[length];
+            long[] expectedInvalid = new long[words];
+            assertEquals(ArithmeticKernels.scalarDivide(a, b, expectedQuotient, expectedInvalid),
+                ArithmeticKernels.divide(a, b, quotient, invalid), "length " + length);
+            assertArrayEquals(expectedQuotient, quotient);
+            assertArrayEquals(expectedInvalid, invalid);
+
+            double[] root = new double[length];
+            invalid = new long[words];
+            double[] expectedRoot = new double[length];
+            expectedInvalid = new long[words];
+            assertEquals(ArithmeticKernels.scalarSqrt(a, expectedRoot, expectedInvalid),
+                ArithmeticKernels.sqrt(a, root, invalid), "length " + length);
+            assertArrayEquals(expectedRoot, root);
+            assertArrayEquals(expectedInvalid, invalid);
+        }
+    }
+
+    @Test
+    @DisplayName("Should mark exactly the zero divisors and negative radicands")
+    void testInvalidPositions() {
+        double[] a = new double[130];
+        double[] b = new double[130];
+        Arrays.fill(a, 4.0);
+        Arrays.fill(b, 2.0);
+        b[0] = 0.0;
+        b[64] = -0.0;
+        b[129] = 0.0;
+        a[3] = -1.0;
+        a[127] = -0.5;
+        a[128] = -0.0;
+
+        long[] invalid = new long[ArithmeticKernels.bitmapWords(a.length)];
+        assertEquals(3, ArithmeticKernels.divide(a, b, new double[a.length], invalid));
+        assertArrayEquals(new long[]{1L, 1L, 1L << 1}, invalid);
+
+        invalid = new long[ArithmeticKernels.bitmapWords(a.length)];
+        double[] root = new double[a.length];
+        assertEquals(2, ArithmeticKernels.sqrt(a, root, invalid));
+        assertArrayEquals(new long[]{1L << 3, 1L << 63, 0L}, invalid);
+        assertEquals(-0.0, root[128]);
+    }
+
+    @Test
+    @DisplayName("Should use the Vector API kernels directly when available")
+    void testVectorKernels() {
+        assumeTrue(ReductionKernels.VECTORIZED);
+        Random random = new Random(3);
+        double[] a = operands(random, 1001);
+        double[] b = operands(random, 1001);
+        long[] invalid = new long[ArithmeticKernels.bitmapWords(a.length)];
+        long[] expectedInvalid = new long[invalid.length];
+        double[] quotient = new double[a.length];
+        double[] expected = new double[a.length];
+        assertEquals(ArithmeticKernels.scalarDivide(a, b, expected, expectedInvalid),
+            VectorArithmetic.divide(a, b, quotient, invalid));
+        assertArrayEquals(expected, quotient);
+        assertArrayEquals(expectedInvalid, invalid);
+    }
+}
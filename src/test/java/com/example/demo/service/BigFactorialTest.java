@@ -0,0 +1,50 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BigFactorial Tests")
+class BigFactorialTest {
+
+    private static BigInteger naiveFactorial(int n) {
+        BigInteger result = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("Should match the naive product for every n up to 300")
+    void testSmallValues() {
+        for (int n = 0; n <= 300; n++) {
+            assertEquals(naiveFactorial(n), BigFactorial.factorial(n), "n = " + n);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the naive product for large n split across parallel products")
+    void testLargeValue() {
+        assertEquals(naiveFactorial(20_000), BigFactorial.factorial(20_000));
+    }
+
+    @Test
+    @DisplayName("Should sieve odd primes")
+    void testOddPrimes() {
+        assertArrayEquals(new int[]{3, 5, 7, 11, 13, 17, 19, 23, 29}, BigFactorial.oddPrimes(30));
+        assertArrayEquals(new int[0], BigFactorial.oddPrimes(2));
+        assertEquals(78_497, BigFactorial.oddPrimes(1_000_000).length);
+    }
+
+    @Test
+    @DisplayName("Should compute prime exponents with Legendre's formula")
+    void testLegendre() {
+        assertEquals(97, BigFactorial.legendre(100, 2));
+        assertEquals(24, BigFactorial.legendre(100, 5));
+        assertEquals(0, BigFactorial.legendre(4, 5));
+    }
+}
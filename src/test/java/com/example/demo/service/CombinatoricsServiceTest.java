@@ -0,0 +1,111 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CombinatoricsService Tests")
+class CombinatoricsServiceTest {
+
+    private static final BigInteger P = BigInteger.valueOf(CombinatoricsService.MODULUS);
+
+    private static CombinatoricsService combinatoricsService;
+
+    @BeforeAll
+    static void setUp() {
+        combinatoricsService = new CombinatoricsService(5_000);
+    }
+
+    private static BigInteger factorial(int n) {
+        BigInteger result = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+
+    @Nested
+    @DisplayName("Modular operations")
+    class ModularTests {
+
+        @Test
+        @DisplayName("Should compute factorials modulo p")
+        void testFactorialMod() {
+            assertEquals(1, combinatoricsService.factorialMod(0));
+            assertEquals(3_628_800, combinatoricsService.factorialMod(10));
+            assertEquals(factorial(4_999).mod(P).intValue(), combinatoricsService.factorialMod(4_999));
+        }
+
+        @Test
+        @DisplayName("Should compute binomial coefficients modulo p")
+        void testBinomialMod() {
+            assertEquals(120, combinatoricsService.binomialMod(10, 3));
+            assertEquals(2_598_960, combinatoricsService.binomialMod(52, 5));
+            assertEquals(1, combinatoricsService.binomialMod(7, 0));
+            assertEquals(0, combinatoricsService.binomialMod(3, 4));
+            BigInteger exact = factorial(4_000).divide(factorial(1_500).multiply(factorial(2_500)));
+            assertEquals(exact.mod(P).intValue(), combinatoricsService.binomialMod(4_000, 1_500));
+        }
+
+        @Test
+        @DisplayName("Should compute permutations modulo p")
+        void testPermutationMod() {
+            assertEquals(720, combinatoricsService.permutationMod(10, 3));
+            assertEquals(1, combinatoricsService.permutationMod(5, 0));
+            assertEquals(0, combinatoricsService.permutationMod(2, 3));
+            assertEquals(factorial(3_000).divide(factorial(1_000)).mod(P).intValue(),
+                combinatoricsService.permutationMod(3_000, 2_000));
+        }
+
+        @Test
+        @DisplayName("Should evaluate binomial batches")
+        void testBinomialModBatch() {
+            assertArrayEquals(new int[]{120, 2_598_960, 0},
+                combinatoricsService.binomialModBatch(new int[]{10, 52, 3}, new int[]{3, 5, 4}));
+            assertThrows(IllegalArgumentException.class,
+                () -> combinatoricsService.binomialModBatch(new int[]{1, 2}, new int[]{1}));
+            assertThrows(IllegalArgumentException.class,
+                () -> combinatoricsService.binomialModBatch(new int[]{1, 5_000}, new int[]{1, 1}));
+        }
+
+        @Test
+        @DisplayName("Should reject arguments out of range")
+        void testOutOfRange() {
+            assertThrows(IllegalArgumentException.class, () -> combinatoricsService.factorialMod(-1));
+            assertThrows(IllegalArgumentException.class, () -> combinatoricsService.factorialMod(5_000));
+            assertThrows(IllegalArgumentException.class, () -> combinatoricsService.binomialMod(5, -1));
+            assertThrows(IllegalArgumentException.class, () -> combinatoricsService.permutationMod(5, -1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Logarithmic operations")
+    class LogarithmTests {
+
+        @Test
+        @DisplayName("Should compute log-factorials inside and beyond the table")
+        void testLogFactorial() {
+            assertEquals(0.0, combinatoricsService.logFactorial(0));
+            assertEquals(Math.log(3_628_800), combinatoricsService.logFactorial(10), 1e-12);
+            double tableEdge = combinatoricsService.logFactorial(4_999) + Math.log(5_000);
+            assertEquals(tableEdge, combinatoricsService.logFactorial(5_000), tableEdge * 1e-13);
+            // ln(10^9!) según Stirling, referencia calculada con precisión extendida
+            assertEquals(1.9723265848226566e10, combinatoricsService.logFactorial(1_000_000_000L), 1e-3);
+        }
+
+        @Test
+        @DisplayName("Should compute lgamma for real arguments")
+        void testLogGamma() {
+            assertEquals(0.5 * Math.log(Math.PI), combinatoricsService.logGamma(0.5), 1e-13);
+            assertEquals(0.0, combinatoricsService.logGamma(1.0), 1e-13);
+            assertEquals(combinatoricsService.logFactorial(20), combinatoricsService.logGamma(21.0), 1e-12);
+            assertThrows(IllegalArgumentException.class, () -> combinatoricsService.logGamma(0.0));
+            assertThrows(IllegalArgumentException.class, () -> combinatoricsService.logGamma(Double.NaN));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.Graph;
+import com.example.demo.dto.GraphEdge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompiledGraph Tests")
+class CompiledGraphTest {
+
+    @Test
+    @DisplayName("Should keep every node and edge of the default graph")
+    void testCompileDefaultGraph() {
+        Graph graph = new DijkstraService().createDefaultGraph();
+        CompiledGraph compiled = CompiledGraph.compile(graph);
+
+        assertEquals(6, compiled.nodeCount());
+        assertEquals(18, compiled.edgeCount());
+        for (Map.Entry<String, List<GraphEdge>> entry : graph.getAdjacencyList().entrySet()) {
+            int node = compiled.indexOf(entry.getKey());
+            assertEquals(entry.getKey(), compiled.name(node));
+
+            Set<String> expected = new HashSet<>();
+            for (GraphEdge edge : entry.getValue()) {
+                expected.add(edge.getTo() + ":" + edge.getWeight());
+            }
+            Set<String> actual = new HashSet<>();
+            for (int edge = compiled.edgesFrom(node); edge < compiled.edgesTo(node); edge++) {
+                actual.add(compiled.name(compiled.target(edge)) + ":" + compiled.weight(edge));
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return -1 for unknown or null node names")
+    void testIndexOfUnknown() {
+        CompiledGraph compiled = CompiledGraph.compile(new DijkstraService().createDefaultGraph());
+        assertEquals(-1, compiled.indexOf("X"));
+        assertEquals(-1, compiled.indexOf(null));
+    }
+
+    @Test
+    @DisplayName("Should treat a null neighbor list as a node without edges")
+    void testNullNeighbors() {
+        Map<String, List<GraphEdge>> adjacencyList = new HashMap<>();
+        adjacencyList.put("A", null);
+        adjacencyList.put("B", new ArrayList<>(Arrays.asList(new GraphEdge("A", 3))));
+        CompiledGraph compiled = CompiledGraph.compile(new Graph(adjacencyList));
+
+        int a = compiled.indexOf("A");
+        assertEquals(compiled.edgesFrom(a), compiled.edgesTo(a));
+        assertEquals(1, compiled.edgeCount());
+    }
+
+    @Test
+    @DisplayName("Should reject null graphs, dangling edges and negative weights")
+    void testInvalidGraphs() {
+        IllegalArgumentException nullGraph = assertThrows(IllegalArgumentException.class,
+            () -> CompiledGraph.compile(new Graph(null)));
+        assertEquals("El grafo no puede ser nulo", nullGraph.getMessage());
+
+        Map<String, List<GraphEdge>> dangling = new HashMap<>();
+        dangling.put("A", Arrays.asList(new GraphEdge("Z", 1)));
+        IllegalArgumentException danglingEdge = assertThrows(IllegalArgumentException.class,
+            () -> CompiledGraph.compile(new Graph(dangling)));
+        assertEquals("El nodo 'A' tiene una arista a un nodo que no existe en el grafo", danglingEdge.getMessage());
+
+        Map<String, List<GraphEdge>> negative = new HashMap<>();
+        negative.put("A", Arrays.asList(new GraphEdge("B", -1)));
+        negative.put("B", new ArrayList<>());
+        assertThrows(IllegalArgumentException.class, () -> CompiledGraph.compile(new Graph(negative)));
+    }
+}
@@ -3,6 +3,7 @@ package com.example.demo.service;
 import com.example.demo.dto.DijkstraResult;
 import com.example.demo.dto.Graph;
 import com.example.demo.dto.GraphEdge;
+import com.example.demo.dto.ShortestPathTree;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -328,4 +329,195 @@ class DijkstraServiceTest {
             assertEquals(-1, result.getDistance());
         }
     }
+
+    @Nested
+    @DisplayName("Compiled Graph Tests")
+    class CompiledGraphSearchTests {
+
+        @Test
+        @DisplayName("Should find the same A to F path on a compiled graph")
+        void shouldFindSamePathOnCompiledGraph() {
+            // Arrange
+            CompiledGraph compiled = CompiledGraph.compile(defaultGraph);
+
+            // Act
+            DijkstraResult result = dijkstraService.findShortestPathCompiled(compiled, "A", "F");
+
+            // Assert
+            assertTrue(result.isPathFound());
+            assertEquals(12, result.getDistance());
+            assertEquals(Arrays.asList("A", "C", "B", "D", "E", "F"), result.getPath());
+        }
+
+        @Test
+        @DisplayName("Should validate nodes against the compiled graph")
+        void shouldValidateNodesOnCompiledGraph() {
+            // Arrange
+            CompiledGraph compiled = CompiledGraph.compile(defaultGraph);
+
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> dijkstraService.findShortestPathCompiled(compiled, "X", "A")
+            );
+            assertEquals("El nodo origen 'X' no existe en el grafo", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should match Bellman-Ford distances on a random graph")
+        void shouldMatchBellmanFordOnRandomGraph() {
+            // Arrange
+            Random random = new Random(3);
+            int nodes = 300;
+            Map<String, List<GraphEdge>> adjacencyList = new HashMap<>();
+            for (int i = 0; i < nodes; i++) {
+                List<GraphEdge> edges = new ArrayList<>();
+                for (int e = 0; e < 4; e++) {
+                    edges.add(new GraphEdge("n" + random.nextInt(nodes), random.nextInt(100)));
+                }
+                adjacencyList.put("n" + i, edges);
+            }
+            CompiledGraph compiled = CompiledGraph.compile(new Graph(adjacencyList));
+
+            long[] expected = new long[nodes];
+            Arrays.fill(expected, Long.MAX_VALUE);
+            expected[0] = 0;
+            for (int round = 0; round < nodes; round++) {
+                for (int i = 0; i < nodes; i++) {
+                    if (expected[i] == Long.MAX_VALUE) {
+                        continue;
+                    }
+                    for (GraphEdge edge : adjacencyList.get("n" + i)) {
+                        int to = Integer.parseInt(edge.getTo().substring(1));
+                        expected[to] = Math.min(expected[to], expected[i] + edge.getWeight());
+                    }
+                }
+            }
+
+            // Act & Assert
+            for (int i = 0; i < nodes; i++) {
+                DijkstraResult result = dijkstraService.findShortestPathCompiled(compiled, "n0", "n" + i);
+                if (expected[i] == Long.MAX_VALUE) {
+                    assertFalse(result.isPathFound());
+                    continue;
+                }
+                assertEquals(expected[i], result.getDistance());
+                int length = 0;
+                List<String> path = result.getPath();
+                for (int step = 1; step < path.size(); step++) {
+                    String from = path.get(step - 1);
+                    String to = path.get(step);
+                    length += adjacencyList.get(from).stream()
+                        .filter(edge -> edge.getTo().equals(to))
+                        .mapToInt(GraphEdge::getWeight).min().orElseThrow();
+                }
+                assertEquals(expected[i], length);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Default Graph Table Tests")
+    class DefaultGraphTableTests {
+
+        @Test
+        @DisplayName("Should match a live search for every pair of the default graph")
+        void shouldMatchLiveSearchForEveryPair() {
+            for (String source : defaultGraph.getAdjacencyList().keySet()) {
+                for (String destination : defaultGraph.getAdjacencyList().keySet()) {
+                    // Act
+                    DijkstraResult expected = dijkstraService.findShortestPath(defaultGraph, source, destination);
+                    DijkstraResult actual = dijkstraService.findShortestPathInDefaultGraph(source, destination);
+
+                    // Assert
+                    assertEquals(expected.getDistance(), actual.getDistance());
+                    assertEquals(expected.getPath(), actual.getPath());
+                    assertEquals(expected.isPathFound(), actual.isPathFound());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should share an unmodifiable path and validate nodes")
+        void shouldShareUnmodifiablePathAndValidateNodes() {
+            // Act
+            DijkstraResult result = dijkstraService.findShortestPathInDefaultGraph("A", "F");
+
+            // Assert
+            assertEquals(12, result.getDistance());
+            assertThrows(UnsupportedOperationException.class, () -> result.getPath().add("G"));
+            IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> dijkstraService.findShortestPathInDefaultGraph("A", "X")
+            );
+            assertEquals("El nodo destino 'X' no existe en el grafo", exception.getMessage());
+            assertThrows(IllegalArgumentException.class,
+                () -> dijkstraService.findShortestPathInDefaultGraph(null, "A"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Shortest Path Tree Tests")
+    class ShortestPathTreeTests {
+
+        @Test
+        @DisplayName("Should return the tree from A in settle order")
+        void shouldReturnTreeFromAInSettleOrder() {
+            // Act
+            ShortestPathTree tree = dijkstraService.findShortestPathTree(defaultGraph, "A");
+
+            // Assert
+            assertEquals("A", tree.getSource());
+            assertArrayEquals(new String[]{"A", "C", "B", "D", "E", "F"}, tree.getNodes());
+            assertArrayEquals(new int[]{0, 2, 3, 8, 10, 12}, tree.getDistances());
+            assertArrayEquals(new int[]{-1, 0, 1, 2, 3, 4}, tree.getPredecessors());
+        }
+
+        @Test
+        @DisplayName("Should agree with single-destination queries for every source")
+        void shouldAgreeWithSingleDestinationQueries() {
+            for (String source : defaultGraph.getAdjacencyList().keySet()) {
+                // Act
+                ShortestPathTree tree = dijkstraService.findShortestPathTreeInDefaultGraph(source);
+
+                // Assert
+                assertEquals(defaultGraph.getAdjacencyList().size(), tree.getNodes().length);
+                for (int i = 0; i < tree.getNodes().length; i++) {
+                    DijkstraResult result = dijkstraService.findShortestPath(defaultGraph, source, tree.getNodes()[i]);
+                    assertEquals(result.getDistance(), tree.getDistances()[i]);
+
+                    List<String> path = new ArrayList<>();
+                    for (int node = i; node >= 0; node = tree.getPredecessors()[node]) {
+                        path.add(0, tree.getNodes()[node]);
+                    }
+                    assertEquals(result.getPath(), path);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should only include reachable nodes and validate the source")
+        void shouldOnlyIncludeReachableNodes() {
+            // Arrange
+            Map<String, List<GraphEdge>> adjacencyList = new HashMap<>();
+            adjacencyList.put("A", Arrays.asList(new GraphEdge("B", 1)));
+            adjacencyList.put("B", new ArrayList<>());
+            adjacencyList.put("C", Arrays.asList(new GraphEdge("A", 1)));
+            Graph graph = new Graph(adjacencyList);
+
+            // Act
+            ShortestPathTree tree = dijkstraService.findShortestPathTree(graph, "A");
+
+            // Assert
+            assertArrayEquals(new String[]{"A", "B"}, tree.getNodes());
+            assertArrayEquals(new int[]{-1, 0}, tree.getPredecessors());
+            IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> dijkstraService.findShortestPathTree(graph, "X")
+            );
+            assertEquals("El nodo origen 'X' no existe en el grafo", exception.getMessage());
+            assertThrows(IllegalArgumentException.class,
+                () -> dijkstraService.findShortestPathTreeInDefaultGraph(null));
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DoubleSortEngine Tests")
+class DoubleSortEngineTest {
+
+    private static final double[] SPECIAL_VALUES = {
+        Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+        Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, 1.5, -1.5
+    };
+
+    private static double[] randomWithSpecials(int size, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(10) == 0
+                ? SPECIAL_VALUES[random.nextInt(SPECIAL_VALUES.length)]
+                : random.nextGaussian() * 1e6;
+        }
+        return values;
+    }
+
+    @Nested
+    @DisplayName("Total ordering")
+    class TotalOrderingTests {
+
+        @Test
+        @DisplayName("Should place -0.0 before 0.0 and NaN last")
+        void testSpecialValuesOrder() {
+            double[] values = {Double.NaN, 0.0, -0.0, 1.0, Double.NEGATIVE_INFINITY};
+            DoubleSortEngine.sort(values);
+            assertArrayEquals(new double[]{Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.0, Double.NaN}, values);
+            assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(values[1]));
+        }
+
+        @Test
+        @DisplayName("Should map sortable bits consistently with Double.compare")
+        void testSortableBitsOrder() {
+            for (double a : SPECIAL_VALUES) {
+                for (double b : SPECIAL_VALUES) {
+                    int expected = Integer.signum(Double.compare(a, b));
+                    int actual = Integer.signum(Long.compareUnsigned(
+                        DoubleSortEngine.toSortableBits(a), DoubleSortEngine.toSortableBits(b)));
+                    assertEquals(expected, actual, "Comparando " + a + " con " + b);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should round trip sortable bits")
+        void testSortableBitsRoundTrip() {
+            for (double value : SPECIAL_VALUES) {
+                assertEquals(0, Double.compare(value,
+                    DoubleSortEngine.fromSortableBits(DoubleSortEngine.toSortableBits(value))));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel merge sort")
+    class ParallelTests {
+
+        @ParameterizedTest
+        @DisplayName("Should sort like Arrays.sort for different sizes")
+        @ValueSource(ints = {0, 1, 2, 100, 8_191, 8_192, 100_000, 300_000})
+        void testMatchesArraysSort(int size) {
+            double[] values = randomWithSpecials(size, size);
+            double[] expected = values.clone();
+            Arrays.sort(expected);
+
+            DoubleSortEngine.sort(values);
+            assertArrayEquals(expected, values);
+        }
+
+        @Test
+        @DisplayName("Should sort on a dedicated pool")
+        void testDedicatedPool() {
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                double[] values = randomWithSpecials(200_000, 11);
+                double[] expected = values.clone();
+                Arrays.sort(expected);
+
+                DoubleSortEngine.sort(values, pool);
+                assertArrayEquals(expected, values);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should sort already sorted input")
+        void testAlreadySorted() {
+            double[] values = new double[100_000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i * 0.5;
+            }
+            double[] expected = values.clone();
+
+            DoubleSortEngine.sort(values);
+            assertArrayEquals(expected, values);
+        }
+    }
+
+    @Nested
+    @DisplayName("Radix mode")
+    class RadixTests {
+
+        @Test
+        @DisplayName("Should radix sort a range like Arrays.sort")
+        void testRadixLeaf() {
+            double[] values = randomWithSpecials(50_000, 3);
+            double[] expected = values.clone();
+            Arrays.sort(expected, 10, 40_000);
+
+            DoubleSortEngine.sortLeaf(values, 10, 40_000, true);
+            assertArrayEquals(expected, values);
+        }
+
+        @Test
+        @DisplayName("Should radix sort input with all equal values")
+        void testRadixAllEqual() {
+            double[] values = new double[1_000];
+            Arrays.fill(values, 3.25);
+            DoubleSortEngine.sortLeaf(values, 0, values.length, true);
+            for (double value : values) {
+                assertEquals(3.25, value);
+            }
+        }
+    }
+}
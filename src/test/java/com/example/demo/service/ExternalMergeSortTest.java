@@ -0,0 +1,184 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExternalMergeSort Tests")
+class ExternalMergeSortTest {
+
+    private static final ComputePool POOL = new ComputePool(2);
+
+    @TempDir
+    Path tempDirectory;
+
+    private static byte[] packInts(int[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(values);
+        return buffer.array();
+    }
+
+    private static byte[] packDoubles(double[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asDoubleBuffer().put(values);
+        return buffer.array();
+    }
+
+    private static int[] unpackInts(byte[] bytes) {
+        int[] values = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(values);
+        return values;
+    }
+
+    private static double[] unpackDoubles(byte[] bytes) {
+        double[] values = new double[bytes.length / Double.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(values);
+        return values;
+    }
+
+    private long tempFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDirectory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort integers across many spilled runs and delete them on close")
+    void testSortIntsInRuns() throws IOException {
+        int[] values = new Random(3).ints(10_007, -5_000, 5_000).toArray();
+        ExternalMergeSort sorter = new ExternalMergeSort(1_000, tempDirectory, POOL);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SortedRuns runs = sorter.sortInts(new ByteArrayInputStream(packInts(values)))) {
+            assertEquals(11, runs.runs());
+            assertEquals(values.length, runs.size());
+            assertEquals(values.length * 4L, runs.byteLength());
+            assertEquals(11, tempFiles());
+            runs.writeTo(out);
+        }
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, unpackInts(out.toByteArray()));
+        assertEquals(0, tempFiles());
+    }
+
+    @Test
+    @DisplayName("Should sort doubles in the total order of Double.compare")
+    void testSortDoublesInRuns() throws IOException {
+        double[] values = new Random(8).doubles(2_500, -1e6, 1e6).toArray();
+        values[10] = Double.NaN;
+        values[20] = -0.0;
+        values[30] = 0.0;
+        values[40] = Double.NEGATIVE_INFINITY;
+        values[50] = Double.POSITIVE_INFINITY;
+        values[60] = -Double.MIN_VALUE;
+        ExternalMergeSort sorter = new ExternalMergeSort(700, tempDirectory, POOL);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SortedRuns runs = sorter.sortDoubles(new ByteArrayInputStream(packDoubles(values)))) {
+            assertEquals(4, runs.runs());
+            runs.writeTo(out);
+        }
+
+        double[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, unpackDoubles(out.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Should bound the runs held in memory by the pool size and the budget")
+    void testMaxRunsInMemory() {
+        assertEquals(5, ExternalMergeSort.maxRunsInMemory(4, Long.MAX_VALUE, 1_000));
+        assertEquals(3, ExternalMergeSort.maxRunsInMemory(4, 3_999, 1_000));
+        assertEquals(1, ExternalMergeSort.maxRunsInMemory(4, 10, 1_000));
+    }
+
+    @Test
+    @DisplayName("Should sort run by run when the budget only fits one run")
+    void testSortWithinOneRunBudget() throws IOException {
+        int[] values = new Random(5).ints(3_000).toArray();
+        ExternalMergeSort sorter = new ExternalMergeSort(500, 500L * Integer.BYTES, tempDirectory, POOL);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SortedRuns runs = sorter.sortInts(new ByteArrayInputStream(packInts(values)))) {
+            assertEquals(6, runs.runs());
+            runs.writeTo(out);
+        }
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, unpackInts(out.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Should grow the first run as data arrives, in memory and when it spills")
+    void testFirstRunGrows() throws IOException {
+        int[] small = new Random(6).ints(ExternalMergeSort.INITIAL_RUN_CAPACITY * 2 + 7).toArray();
+        ExternalMergeSort large = new ExternalMergeSort(1 << 22, tempDirectory, POOL);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SortedRuns runs = large.sortInts(new ByteArrayInputStream(packInts(small)))) {
+            assertEquals(1, runs.runs());
+            assertEquals(0, tempFiles());
+            runs.writeTo(out);
+        }
+        int[] expected = small.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, unpackInts(out.toByteArray()));
+
+        int[] spilled = new Random(7).ints(120_000).toArray();
+        ExternalMergeSort sorter = new ExternalMergeSort(50_000, tempDirectory, POOL);
+
+        out.reset();
+        try (SortedRuns runs = sorter.sortInts(new ByteArrayInputStream(packInts(spilled)))) {
+            assertEquals(3, runs.runs());
+            runs.writeTo(out);
+        }
+        expected = spilled.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, unpackInts(out.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Should sort in memory without temp files when the input fits in one run")
+    void testSingleRunStaysInMemory() throws IOException {
+        ExternalMergeSort sorter = new ExternalMergeSort(1_000, tempDirectory, POOL);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SortedRuns runs = sorter.sortInts(new ByteArrayInputStream(packInts(new int[]{3, -1, 2})))) {
+            assertEquals(1, runs.runs());
+            assertEquals(0, tempFiles());
+            runs.writeTo(out);
+        }
+        assertArrayEquals(new int[]{-1, 2, 3}, unpackInts(out.toByteArray()));
+
+        try (SortedRuns runs = sorter.sortInts(new ByteArrayInputStream(new byte[0]))) {
+            assertEquals(0, runs.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject truncated input and clean up spilled runs")
+    void testTruncatedInput() throws IOException {
+        ExternalMergeSort sorter = new ExternalMergeSort(100, tempDirectory, POOL);
+        byte[] body = Arrays.copyOf(packInts(new int[1_000]), 3_999);
+
+        assertThrows(IllegalArgumentException.class, () -> sorter.sortInts(new ByteArrayInputStream(body)));
+        assertEquals(0, tempFiles());
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMergeSort(0, tempDirectory, POOL));
+    }
+}
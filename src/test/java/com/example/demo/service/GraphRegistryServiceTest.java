@@ -0,0 +1,175 @@
+package com.example.demo.service;
+
+import com.example.demo.config.MathProperties;
+import com.example.demo.dto.DijkstraResult;
+import com.example.demo.dto.Graph;
+import com.example.demo.dto.GraphEdge;
+import com.example.demo.dto.GraphInfo;
+import com.example.demo.dto.ShortestPathTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GraphRegistryService Tests")
+class GraphRegistryServiceTest {
+
+    private DijkstraService dijkstraService;
+    private GraphRegistryService registryService;
+
+    @BeforeEach
+    void setUp() {
+        dijkstraService = new DijkstraService();
+        registryService = new GraphRegistryService(dijkstraService, new MathProperties());
+    }
+
+    private static Graph line(int weight) {
+        Map<String, List<GraphEdge>> adjacencyList = new HashMap<>();
+        adjacencyList.put("A", Arrays.asList(new GraphEdge("B", weight)));
+        adjacencyList.put("B", Arrays.asList());
+        return new Graph(adjacencyList);
+    }
+
+    @Nested
+    @DisplayName("Graph lifecycle")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("Should register a graph with version 1 and its size")
+        void testRegister() {
+            GraphInfo info = registryService.register(dijkstraService.createDefaultGraph());
+
+            assertNotNull(info.getId());
+            assertEquals(1, info.getVersion());
+            assertEquals(6, info.getNodes());
+            assertEquals(18, info.getEdges());
+            assertEquals(info.getId(), registryService.info(info.getId()).getId());
+        }
+
+        @Test
+        @DisplayName("Should bump the version when a graph is replaced")
+        void testReplace() {
+            GraphInfo info = registryService.register(line(3));
+            GraphInfo replaced = registryService.replace(info.getId(), line(7));
+
+            assertEquals(info.getId(), replaced.getId());
+            assertEquals(2, replaced.getVersion());
+            assertEquals(7, registryService.findShortestPath(info.getId(), null, "A", "B").getDistance());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid graphs without registering them")
+        void testRegisterInvalid() {
+            assertThrows(IllegalArgumentException.class, () -> registryService.register(new Graph(null)));
+
+            GraphInfo info = registryService.register(line(3));
+            Map<String, List<GraphEdge>> dangling = new HashMap<>();
+            dangling.put("A", Arrays.asList(new GraphEdge("Z", 1)));
+            assertThrows(IllegalArgumentException.class, () -> registryService.replace(info.getId(), new Graph(dangling)));
+            assertEquals(1, registryService.info(info.getId()).getVersion());
+        }
+
+        @Test
+        @DisplayName("Should delete a graph and report unknown ids")
+        void testDelete() {
+            GraphInfo info = registryService.register(line(3));
+
+            assertTrue(registryService.delete(info.getId()));
+            assertFalse(registryService.delete(info.getId()));
+            assertThrows(NoSuchElementException.class, () -> registryService.info(info.getId()));
+            assertThrows(NoSuchElementException.class, () -> registryService.replace(info.getId(), line(1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Shortest path queries")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Should answer repeated queries on the registered default graph")
+        void testQueries() {
+            String id = registryService.register(dijkstraService.createDefaultGraph()).getId();
+
+            for (int i = 0; i < 3; i++) {
+                DijkstraResult result = registryService.findShortestPath(id, null, "A", "F");
+                assertEquals(12, result.getDistance());
+                assertEquals(Arrays.asList("A", "C", "B", "D", "E", "F"), result.getPath());
+            }
+            assertEquals(12, registryService.findShortestPath(id, 1L, "A", "F").getDistance());
+        }
+
+        @Test
+        @DisplayName("Should reject a stale version and unknown nodes")
+        void testStaleVersionAndUnknownNodes() {
+            String id = registryService.register(line(3)).getId();
+            registryService.replace(id, line(4));
+
+            assertThrows(GraphVersionConflictException.class, () -> registryService.findShortestPath(id, 1L, "A", "B"));
+            assertThrows(IllegalArgumentException.class, () -> registryService.findShortestPath(id, 2L, "A", "X"));
+            assertThrows(NoSuchElementException.class, () -> registryService.findShortestPath("missing", null, "A", "B"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Shortest path tree queries")
+    class TreeTests {
+
+        @Test
+        @DisplayName("Should return the tree of a registered graph and check its version")
+        void testTree() {
+            String id = registryService.register(dijkstraService.createDefaultGraph()).getId();
+
+            ShortestPathTree tree = registryService.findShortestPathTree(id, 1L, "A");
+
+            assertEquals(6, tree.getNodes().length);
+            assertEquals(12, tree.getDistances()[5]);
+            registryService.replace(id, line(2));
+            assertThrows(GraphVersionConflictException.class, () -> registryService.findShortestPathTree(id, 1L, "A"));
+            assertArrayEquals(new int[]{0, 2}, registryService.findShortestPathTree(id, null, "A").getDistances());
+        }
+    }
+
+    @Nested
+    @DisplayName("Registry limits")
+    class LimitTests {
+
+        @Test
+        @DisplayName("Should reject new graphs beyond the graph count limit until one is deleted")
+        void testGraphCountLimit() {
+            GraphRegistryService limited = new GraphRegistryService(dijkstraService, 2, 100);
+            GraphInfo first = limited.register(line(1));
+            limited.register(line(2));
+
+            assertThrows(StorageLimitExceededException.class, () -> limited.register(line(3)));
+            assertTrue(limited.delete(first.getId()));
+            assertEquals(1, limited.register(line(3)).getVersion());
+        }
+
+        @Test
+        @DisplayName("Should count edges across registrations, replacements and deletions")
+        void testTotalEdgeLimit() {
+            GraphRegistryService limited = new GraphRegistryService(dijkstraService, 10, 20);
+            GraphInfo defaultGraph = limited.register(dijkstraService.createDefaultGraph());
+            GraphInfo small = limited.register(line(1));
+
+            // 18 + 1 aristas: no cabe otro grafo por defecto ni sustituir el pequeño por él
+            assertThrows(StorageLimitExceededException.class,
+                () -> limited.register(dijkstraService.createDefaultGraph()));
+            assertThrows(StorageLimitExceededException.class,
+                () -> limited.replace(small.getId(), dijkstraService.createDefaultGraph()));
+            assertEquals(1, limited.info(small.getId()).getVersion());
+
+            // Sustituir el grande por uno pequeño libera sus aristas
+            limited.replace(defaultGraph.getId(), line(2));
+            assertEquals(2, limited.replace(small.getId(), dijkstraService.createDefaultGraph()).getVersion());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IdleExpiringMap Tests")
+class IdleExpiringMapTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private IdleExpiringMap<String> map(int maxEntries, Duration idleTimeout) {
+        return new IdleExpiringMap<>("entradas", maxEntries, idleTimeout, now::get);
+    }
+
+    @Test
+    @DisplayName("Should reject new entries beyond the limit until one is removed")
+    void testMaxEntries() {
+        IdleExpiringMap<String> map = map(2, Duration.ofMinutes(1));
+        map.put("a", "A");
+        map.put("b", "B");
+
+        assertThrows(StorageLimitExceededException.class, () -> map.put("c", "C"));
+        assertTrue(map.remove("a"));
+        assertFalse(map.remove("a"));
+        map.put("c", "C");
+        assertEquals("C", map.get("c"));
+    }
+
+    @Test
+    @DisplayName("Should expire idle entries and renew the ones that are read")
+    void testIdleTimeout() {
+        IdleExpiringMap<String> map = map(2, Duration.ofSeconds(10));
+        map.put("a", "A");
+        map.put("b", "B");
+
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertEquals("A", map.get("a"));
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertEquals("A", map.get("a"));
+        assertNull(map.get("b"));
+        assertFalse(map.remove("b"));
+    }
+
+    @Test
+    @DisplayName("Should purge expired entries to make room for new ones")
+    void testPurgeOnPut() {
+        IdleExpiringMap<String> map = map(2, Duration.ofSeconds(10));
+        map.put("a", "A");
+        map.put("b", "B");
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        map.put("c", "C");
+        assertEquals(1, map.size());
+        assertNull(map.get("a"));
+    }
+
+    @Test
+    @DisplayName("Should never expire entries with a zero timeout")
+    void testNoTimeout() {
+        IdleExpiringMap<String> map = map(1, Duration.ZERO);
+        map.put("a", "A");
+        now.addAndGet(Long.MAX_VALUE / 2);
+        assertEquals("A", map.get("a"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IndexedDaryHeap Tests")
+class IndexedDaryHeapTest {
+
+    @Test
+    @DisplayName("Should poll nodes in key order")
+    void testPollOrder() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(6);
+        heap.insertOrDecrease(0, 5);
+        heap.insertOrDecrease(1, 3);
+        heap.insertOrDecrease(2, 9);
+        heap.insertOrDecrease(3, 1);
+        heap.insertOrDecrease(4, 7);
+        assertEquals(5, heap.size());
+
+        assertEquals(3, heap.pollMin());
+        assertEquals(1, heap.pollMin());
+        assertEquals(0, heap.pollMin());
+        assertEquals(4, heap.pollMin());
+        assertEquals(2, heap.pollMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should move a node up on decrease-key without duplicating it")
+    void testDecreaseKey() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(4);
+        heap.insertOrDecrease(0, 10);
+        heap.insertOrDecrease(1, 20);
+        heap.insertOrDecrease(2, 30);
+        heap.insertOrDecrease(2, 5);
+
+        assertEquals(3, heap.size());
+        assertEquals(2, heap.pollMin());
+        assertEquals(0, heap.pollMin());
+        assertEquals(1, heap.pollMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject raising a key and polling an empty heap")
+    void testInvalidOperations() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(2);
+        heap.insertOrDecrease(0, 4);
+        assertThrows(IllegalArgumentException.class, () -> heap.insertOrDecrease(0, 8));
+        heap.pollMin();
+        assertThrows(IllegalStateException.class, heap::pollMin);
+    }
+
+    @Test
+    @DisplayName("Should match a sorted order on random inserts and decreases")
+    void testRandomMatchesSort() {
+        Random random = new Random(5);
+        int n = 10_000;
+        int[] keys = new int[n];
+        IndexedDaryHeap heap = new IndexedDaryHeap(n);
+        for (int node = 0; node < n; node++) {
+            keys[node] = random.nextInt(1_000_000);
+            heap.insertOrDecrease(node, keys[node]);
+        }
+        for (int i = 0; i < n; i++) {
+            int node = random.nextInt(n);
+            keys[node] -= random.nextInt(1_000);
+            heap.insertOrDecrease(node, keys[node]);
+        }
+
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+        for (int i = 0; i < n; i++) {
+            int node = heap.pollMin();
+            assertEquals(expected[i], keys[node]);
+        }
+        assertTrue(heap.isEmpty());
+    }
+}
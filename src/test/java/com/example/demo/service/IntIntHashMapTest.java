@@ -0,0 +1,88 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntIntHashMap Tests")
+class IntIntHashMapTest {
+
+    @Test
+    @DisplayName("Should count keys including zero and negatives")
+    void testIncrement() {
+        IntIntHashMap map = new IntIntHashMap(4);
+        assertEquals(1, map.increment(0));
+        assertEquals(2, map.increment(0));
+        assertEquals(1, map.increment(-7));
+        assertEquals(1, map.increment(Integer.MIN_VALUE));
+        assertEquals(2, map.get(0));
+        assertEquals(1, map.get(-7));
+        assertEquals(0, map.get(42));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    @DisplayName("Should grow and match a boxed HashMap on random keys")
+    void testGrowMatchesHashMap() {
+        Random random = new Random(11);
+        IntIntHashMap map = new IntIntHashMap(0);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(20_000) * 65_536;
+            map.increment(key);
+            expected.merge(key, 1, Integer::sum);
+        }
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, count) -> assertEquals(count, map.get(key)));
+
+        int total = 0;
+        for (int slot = 0; slot < map.capacity(); slot++) {
+            total += map.countAt(slot);
+        }
+        assertEquals(50_000, total);
+    }
+
+    @Test
+    @DisplayName("Should merge counters from another map")
+    void testAddAll() {
+        IntIntHashMap left = new IntIntHashMap(4);
+        left.add(1, 3);
+        left.add(2, 1);
+        IntIntHashMap right = new IntIntHashMap(4);
+        right.add(2, 4);
+        right.add(3, 1);
+
+        left.addAll(right);
+        assertEquals(3, left.get(1));
+        assertEquals(5, left.get(2));
+        assertEquals(1, left.get(3));
+        assertEquals(3, left.size());
+    }
+
+    @Test
+    @DisplayName("Should keep colliding chains reachable after removals")
+    void testPutAndRemove() {
+        Random random = new Random(3);
+        IntIntHashMap map = new IntIntHashMap(8);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(512);
+            if (random.nextBoolean()) {
+                map.put(key, i + 1);
+                expected.put(key, i + 1);
+            } else {
+                assertEquals(expected.getOrDefault(key, 0), map.remove(key));
+                expected.remove(key);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (int key = 0; key < 512; key++) {
+            assertEquals(expected.getOrDefault(key, 0), map.get(key));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntSortEngine Tests")
+class IntSortEngineTest {
+
+    private static void assertSortsLikeArraysSort(int[] input) {
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+        int[] actual = input.clone();
+        IntSortEngine.sort(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Nested
+    @DisplayName("Sequential introsort")
+    class SequentialTests {
+
+        @ParameterizedTest
+        @DisplayName("Should sort random arrays of different sizes")
+        @ValueSource(ints = {0, 1, 2, 3, 23, 24, 25, 100, 1000, 50_000})
+        void testRandomArrays(int size) {
+            int[] input = new Random(size).ints(size).toArray();
+            assertSortsLikeArraysSort(input);
+        }
+
+        @Test
+        @DisplayName("Should sort already sorted input")
+        void testAlreadySorted() {
+            int[] input = new int[50_000];
+            for (int i = 0; i < input.length; i++) {
+                input[i] = i;
+            }
+            assertSortsLikeArraysSort(input);
+        }
+
+        @Test
+        @DisplayName("Should sort reverse sorted input")
+        void testReverseSorted() {
+            int[] input = new int[50_000];
+            for (int i = 0; i < input.length; i++) {
+                input[i] = input.length - i;
+            }
+            assertSortsLikeArraysSort(input);
+        }
+
+        @Test
+        @DisplayName("Should sort input with all equal values")
+        void testAllEqual() {
+            int[] input = new int[50_000];
+            Arrays.fill(input, 7);
+            assertSortsLikeArraysSort(input);
+        }
+
+        @Test
+        @DisplayName("Should sort input with few distinct values")
+        void testFewDistinctValues() {
+            int[] input = new Random(42).ints(50_000, 0, 4).toArray();
+            assertSortsLikeArraysSort(input);
+        }
+
+        @Test
+        @DisplayName("Should handle extreme values")
+        void testExtremeValues() {
+            int[] input = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1, Integer.MAX_VALUE, Integer.MIN_VALUE};
+            assertSortsLikeArraysSort(input);
+        }
+
+        @Test
+        @DisplayName("Should sort only the requested range")
+        void testSortRange() {
+            int[] input = {9, 8, 5, 3, 4, 1, 0};
+            IntSortEngine.sort(input, 2, 5);
+            assertArrayEquals(new int[]{9, 8, 3, 4, 5, 1, 0}, input);
+        }
+
+        @Test
+        @DisplayName("Should sort organ-pipe input that defeats median-of-three")
+        void testOrganPipe() {
+            int[] input = new int[40_000];
+            int half = input.length / 2;
+            for (int i = 0; i < half; i++) {
+                input[i] = i;
+                input[input.length - 1 - i] = i;
+            }
+            assertSortsLikeArraysSort(input);
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel threshold")
+    class ParallelTests {
+
+        @Test
+        @DisplayName("Should sort arrays above the parallel threshold")
+        void testAboveParallelThreshold() {
+            int size = (int) Math.min(IntSortEngine.PARALLEL_THRESHOLD + 1L, 200_000);
+            int[] input = new Random(7).ints(size).toArray();
+            assertSortsLikeArraysSort(input);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CacheStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("MathResultCache Tests")
+class MathResultCacheTest {
+
+    /** Entradas de 64 enteros: 128 + 256 de entrada + 256 de resultado. */
+    private static final long ENTRY_BYTES = MathResultCache.ENTRY_OVERHEAD + 512;
+
+    private static int[] input(int seed) {
+        int[] values = new int[64];
+        values[0] = seed;
+        return values;
+    }
+
+    private static int[] cached(MathResultCache cache, int seed, AtomicInteger computations) {
+        return cache.get("copy", input(seed), values -> {
+            computations.incrementAndGet();
+            return values.clone();
+        }, result -> 4L * result.length);
+    }
+
+    @Test
+    @DisplayName("Should compute once and return the same instance on hits")
+    void testHitReturnsSameInstance() {
+        MathResultCache cache = new MathResultCache(1 << 20);
+        AtomicInteger computations = new AtomicInteger();
+
+        int[] first = cached(cache, 1, computations);
+        int[] second = cached(cache, 1, computations);
+
+        assertSame(first, second);
+        assertEquals(1, computations.get());
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(ENTRY_BYTES, stats.getBytes());
+    }
+
+    @Test
+    @DisplayName("Should key on operation and full content, not only the hash")
+    void testKeysCompareContent() {
+        MathResultCache cache = new MathResultCache(1 << 20);
+        int[] values = {1, 2, 3};
+
+        assertEquals("a", cache.get("a", values, v -> "a", r -> 0));
+        assertEquals("b", cache.get("b", values, v -> "b", r -> 0));
+        assertEquals("c", cache.get("a", new int[]{1, 2, 4}, v -> "c", r -> 0));
+        assertEquals("d", cache.get("a", new double[]{1, 2, 3}, v -> "d", r -> 0));
+        assertEquals("a", cache.get("a", new int[]{1, 2, 3}, v -> "x", r -> 0));
+        assertEquals(1, cache.stats().getHits());
+    }
+
+    @Test
+    @DisplayName("Should spread similar inputs over distinct hashes")
+    void testHashSpread() {
+        Set<Long> hashes = new HashSet<>();
+        for (int length = 0; length < 20; length++) {
+            for (int position = 0; position < length; position++) {
+                int[] values = new int[length];
+                values[position] = 1;
+                assertTrue(hashes.add(MathResultCache.hash(values)));
+            }
+            assertTrue(hashes.add(MathResultCache.hash(new int[length])));
+        }
+        assertNotEquals(MathResultCache.hash(new double[]{0.0}), MathResultCache.hash(new double[]{-0.0}));
+        assertEquals(MathResultCache.hash(new double[]{Double.NaN}),
+            MathResultCache.hash(new double[]{Double.longBitsToDouble(0x7FF0000000000001L)}));
+    }
+
+    @Test
+    @DisplayName("Should evict within the byte budget and keep entries hit more than once")
+    void testSegmentedEviction() {
+        MathResultCache cache = new MathResultCache(10 * ENTRY_BYTES);
+        AtomicInteger computations = new AtomicInteger();
+
+        // Dos entradas repetidas pasan al segmento protegido
+        cached(cache, 1, computations);
+        cached(cache, 2, computations);
+        cached(cache, 1, computations);
+        cached(cache, 2, computations);
+
+        // Un barrido de entradas vistas una sola vez sólo se desplaza a sí mismo
+        for (int seed = 100; seed < 200; seed++) {
+            cached(cache, seed, computations);
+        }
+        CacheStats stats = cache.stats();
+        assertTrue(stats.getBytes() <= stats.getMaxBytes());
+        assertTrue(stats.getEvictions() > 0);
+
+        int before = computations.get();
+        cached(cache, 1, computations);
+        cached(cache, 2, computations);
+        assertEquals(before, computations.get());
+    }
+
+    @Test
+    @DisplayName("Should not store entries too large for the probation segment or when disabled")
+    void testNotAdmitted() {
+        AtomicInteger computations = new AtomicInteger();
+        MathResultCache small = new MathResultCache(ENTRY_BYTES);
+        cached(small, 1, computations);
+        cached(small, 1, computations);
+        assertEquals(2, computations.get());
+        assertEquals(0, small.stats().getEntries());
+        assertEquals(2, small.stats().getOversized());
+
+        MathResultCache disabled = new MathResultCache(0);
+        cached(disabled, 1, computations);
+        cached(disabled, 1, computations);
+        assertEquals(4, computations.get());
+        assertEquals(0, disabled.stats().getMisses());
+    }
+
+    @Test
+    @DisplayName("Should admit entries up to the configured entry limit")
+    void testConfiguredEntryLimit() {
+        AtomicInteger computations = new AtomicInteger();
+        MathResultCache cache = new MathResultCache(2 * ENTRY_BYTES, ENTRY_BYTES);
+        assertEquals(ENTRY_BYTES, cache.stats().getMaxEntryBytes());
+        cached(cache, 1, computations);
+        cached(cache, 1, computations);
+        assertEquals(1, computations.get());
+        assertEquals(0, cache.stats().getOversized());
+
+        // El límite nunca supera el presupuesto
+        assertEquals(ENTRY_BYTES, new MathResultCache(ENTRY_BYTES, 10 * ENTRY_BYTES).stats().getMaxEntryBytes());
+    }
+
+    @Test
+    @DisplayName("Should not copy inputs whose entry is over the limit")
+    void testOversizedInputIsNotCopied() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        MathResultCache cache = new MathResultCache(1 << 20);
+        int[] input = new int[1 << 20];
+        Function<int[], String> compute = values -> "sorted";
+        ToLongFunction<String> resultBytes = result -> 0;
+        cache.get("sort", input, compute, resultBytes);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        cache.get("sort", input, compute, resultBytes);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < 4L * input.length, "allocated " + allocated + " bytes");
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.getOversized());
+        assertEquals(0, stats.getEntries());
+    }
+
+    @Test
+    @DisplayName("Should match sorted results computed without the cache")
+    void testRandomInputs() {
+        MathResultCache cache = new MathResultCache(1 << 16);
+        Random random = new Random(17);
+        for (int i = 0; i < 500; i++) {
+            int[] values = new int[1 + random.nextInt(8)];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = random.nextInt(4);
+            }
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+            int[] result = cache.get("sort", values, v -> {
+                int[] copy = v.clone();
+                Arrays.sort(copy);
+                return copy;
+            }, r -> 4L * r.length);
+            assertArrayEquals(expected, result);
+        }
+        assertTrue(cache.stats().getHits() > 0);
+    }
+}
@@ -1,5 +1,14 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.BatchResult;
+import com.example.demo.dto.BatchStatus;
+import com.example.demo.dto.CacheStats;
+import com.example.demo.dto.HeavyHitter;
+import com.example.demo.dto.HeavyHittersResult;
+import com.example.demo.dto.OrderStatistics;
+import com.example.demo.dto.ReductionResult;
+import com.example.demo.dto.SortResult;
+import com.example.demo.dto.VectorResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,9 +19,11 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.Arguments;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.ArrayList;
 import java.util.stream.Stream;
 
@@ -187,6 +198,42 @@ class MathServiceTest {
             List<Integer> numbers = Arrays.asList(42);
             assertEquals(42, mathService.sumList(numbers));
         }
+
+        @Test
+        @DisplayName("Should sum primitive arrays")
+        void testSumPrimitiveArray() {
+            assertEquals(15, mathService.sum(new int[]{1, 2, 3, 4, 5}));
+            assertEquals(0, mathService.sum(new int[0]));
+            assertEquals(0, mathService.sum(null));
+        }
+
+        @Test
+        @DisplayName("Should not overflow when the sum exceeds the int range")
+        void testSumOverflow() {
+            assertEquals(2147483648L, mathService.sum(new int[]{Integer.MAX_VALUE, 1}));
+            int[] large = new int[1000];
+            Arrays.fill(large, Integer.MAX_VALUE);
+            assertEquals(1000L * Integer.MAX_VALUE, mathService.sum(large));
+            assertEquals(2L * Integer.MAX_VALUE, mathService.sumList(Arrays.asList(Integer.MAX_VALUE, Integer.MAX_VALUE)));
+        }
+
+        @Test
+        @DisplayName("Should report partitions alongside the reduced values")
+        void testReductionsReportPartitions() {
+            int[] small = {1, 2, 2, 3};
+            assertEquals(8L, mathService.reduceSum(small).getValue());
+            assertEquals(1, mathService.reduceSum(small).getPartitions());
+            assertEquals(2.0, mathService.reduceMean(small).getValue(), 0.0001);
+            assertArrayEquals(new int[]{2}, mathService.reduceMode(small).getValue());
+            assertEquals(1, mathService.reduceSum(null).getPartitions());
+
+            int[] large = new int[4 * ParallelReductions.MIN_PARTITION];
+            Arrays.fill(large, 3);
+            ReductionResult<Long> sum = mathService.reduceSum(large);
+            assertEquals(3L * large.length, sum.getValue());
+            assertEquals(Math.min(4, Runtime.getRuntime().availableProcessors()), sum.getPartitions());
+            assertEquals(3.0, mathService.reduceMean(large).getValue(), 0.0001);
+        }
     }
 
     @Nested
@@ -294,6 +341,35 @@ class MathServiceTest {
             assertEquals(0.0, mathService.calculateMean(null), 0.0001);
         }
 
+        @Test
+        @DisplayName("Should calculate mean of primitive arrays")
+        void testMeanPrimitiveArray() {
+            assertEquals(2.5, mathService.mean(new int[]{1, 2, 3, 4}), 0.0001);
+            assertEquals(0.0, mathService.mean(new int[0]), 0.0001);
+            assertEquals(0.0, mathService.mean(null), 0.0001);
+        }
+
+        @Test
+        @DisplayName("Should calculate mean from a sum and a count")
+        void testMeanFromSumAndCount() {
+            assertEquals(2.5, mathService.mean(10L, 4L), 0.0001);
+            assertEquals(Integer.MAX_VALUE, mathService.mean(2L * Integer.MAX_VALUE, 2L), 0.0001);
+            assertEquals(0.0, mathService.mean(0L, 0L), 0.0001);
+        }
+
+        @Test
+        @DisplayName("Should calculate mean of decimal arrays")
+        void testMeanRational() {
+            assertEquals(2.5, mathService.meanRational(new double[]{1.5, 2.5, 3.5}), 0.0001);
+            assertEquals(0.0, mathService.meanRational(new double[0]), 0.0001);
+            assertEquals(0.0, mathService.meanRational(null), 0.0001);
+            double[] large = new double[1001];
+            for (int i = 0; i < large.length; i++) {
+                large[i] = i * 0.5;
+            }
+            assertEquals(250.0, mathService.meanRational(large), 1e-9);
+        }
+
         @Test
         @DisplayName("Should calculate mean correctly with negative numbers")
         void testCalculateMeanWithNegatives() {
@@ -453,6 +529,35 @@ class MathServiceTest {
             );
         }
 
+        @Test
+        @DisplayName("Should sort large already sorted and all-equal lists without stack overflow")
+        void testQuicksortLargeDegenerateInputs() {
+            List<Integer> sorted = new ArrayList<>();
+            List<Integer> equal = new ArrayList<>();
+            for (int i = 0; i < 100_000; i++) {
+                sorted.add(i);
+                equal.add(5);
+            }
+
+            assertEquals(sorted, mathService.quicksort(sorted));
+            assertEquals(equal, mathService.quicksort(equal));
+        }
+
+        @Test
+        @DisplayName("Should sort primitive array without modifying the input")
+        void testQuicksortPrimitiveArray() {
+            int[] input = {3, 1, 4, 1, 5};
+            int[] result = mathService.sortIntegers(input).getValues();
+            assertArrayEquals(new int[]{1, 1, 3, 4, 5}, result);
+            assertArrayEquals(new int[]{3, 1, 4, 1, 5}, input);
+        }
+
+        @Test
+        @DisplayName("Should return empty array for null primitive input")
+        void testQuicksortPrimitiveNull() {
+            assertEquals(0, mathService.sortIntegers(null).getValues().length);
+        }
+
         // ===============================
         // Tests para Quicksort Rational Numbers
         // ===============================
@@ -595,6 +700,23 @@ class MathServiceTest {
             assertEquals(numbers.size(), result.size());
         }
 
+        @Test
+        @DisplayName("Should order -0.0, 0.0 and NaN with Double.compare total order")
+        void testQuicksortRationalTotalOrder() {
+            List<Double> numbers = Arrays.asList(Double.NaN, 0.0, 1.5, -0.0, -2.0);
+            List<Double> result = mathService.quicksortRational(numbers);
+            assertEquals(Arrays.asList(-2.0, -0.0, 0.0, 1.5, Double.NaN), result);
+        }
+
+        @Test
+        @DisplayName("Should sort primitive double array without modifying the input")
+        void testSortRationalsPrimitiveArray() {
+            double[] input = {2.5, -1.0, 0.5};
+            double[] result = mathService.sortRationals(input).getValues();
+            assertArrayEquals(new double[]{-1.0, 0.5, 2.5}, result);
+            assertArrayEquals(new double[]{2.5, -1.0, 0.5}, input);
+        }
+
         @ParameterizedTest
         @DisplayName("Should sort various rational number lists correctly")
         @MethodSource("provideRationalSortTestCases")
@@ -621,6 +743,14 @@ class MathServiceTest {
     @DisplayName("Calculate Mode Tests")
     class CalculateModeTests {
 
+        @Test
+        @DisplayName("Should calculate sorted modes of primitive arrays")
+        void testModePrimitiveArray() {
+            assertArrayEquals(new int[]{-1, 4}, mathService.mode(new int[]{4, -1, 3, 4, -1}));
+            assertArrayEquals(new int[0], mathService.mode(new int[0]));
+            assertArrayEquals(new int[0], mathService.mode(null));
+        }
+
         @Test
         @DisplayName("Should return empty list for null input")
         void testCalculateModeNullList() {
@@ -754,6 +884,234 @@ class MathServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Elementwise Tests")
+    class ElementwiseTests {
+
+        @Test
+        @DisplayName("Should apply each operation position by position")
+        void testElementwiseOperations() {
+            double[] a = {1.5, -2, 9};
+            double[] b = {0.5, 4, 3};
+
+            assertArrayEquals(new double[]{2, 2, 12}, mathService.elementwise("add", a, b).getResults());
+            assertArrayEquals(new double[]{2, 2, 12}, mathService.elementwise("sum", a, b).getResults());
+            assertArrayEquals(new double[]{1, -6, 6}, mathService.elementwise("subtract", a, b).getResults());
+            assertArrayEquals(new double[]{0.75, -8, 27}, mathService.elementwise("multiply", a, b).getResults());
+            assertArrayEquals(new double[]{3, -0.5, 3}, mathService.elementwise("divide", a, b).getResults());
+            assertArrayEquals(new double[]{2, 3}, mathService.elementwise("sqrt", new double[]{4, 9}, null).getResults());
+        }
+
+        @Test
+        @DisplayName("Should accept the same operation names as the batch endpoint")
+        void testElementwiseSharesBatchNames() {
+            for (BatchOperation operation : BatchOperation.values()) {
+                String name = operation.name().toLowerCase(Locale.ROOT);
+                assertEquals(operation.name(), VectorOperation.fromName(name).name());
+            }
+            assertEquals(VectorOperation.ADD, VectorOperation.fromName("sum"));
+            assertNull(VectorOperation.fromName("pow"));
+            assertNull(VectorOperation.fromName(null));
+        }
+
+        @Test
+        @DisplayName("Should mark zero divisors and negative roots in the bitmap")
+        void testElementwiseInvalidBitmap() {
+            int length = 200;
+            double[] a = new double[length];
+            double[] b = new double[length];
+            for (int i = 0; i < length; i++) {
+                a[i] = i % 7 == 0 ? -i - 1 : i;
+                b[i] = i % 5 == 0 ? 0 : 2;
+            }
+
+            VectorResult divide = mathService.elementwise("divide", a, b);
+            VectorResult sqrt = mathService.elementwise("sqrt", a, null);
+
+            assertEquals((length + 7) / 8, divide.getInvalid().length);
+            int zeros = 0;
+            int negatives = 0;
+            for (int i = 0; i < length; i++) {
+                assertEquals(i % 5 == 0, divide.isInvalid(i), "divide " + i);
+                assertEquals(i % 7 == 0, sqrt.isInvalid(i), "sqrt " + i);
+                if (i % 5 == 0) {
+                    zeros++;
+                    assertTrue(Double.isNaN(divide.getResults()[i]));
+                } else {
+                    assertEquals(a[i] / 2, divide.getResults()[i]);
+                }
+                if (i % 7 == 0) {
+                    negatives++;
+                    assertTrue(Double.isNaN(sqrt.getResults()[i]));
+                }
+            }
+            assertEquals(zeros, divide.getInvalidCount());
+            assertEquals(negatives, sqrt.getInvalidCount());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown operations and mismatched columns")
+        void testElementwiseValidation() {
+            double[] a = {1, 2};
+            assertThrows(IllegalArgumentException.class, () -> mathService.elementwise("power", a, a));
+            assertThrows(IllegalArgumentException.class, () -> mathService.elementwise("add", null, a));
+            assertThrows(IllegalArgumentException.class, () -> mathService.elementwise("add", a, null));
+            assertThrows(IllegalArgumentException.class, () -> mathService.elementwise("divide", a, new double[]{1}));
+            assertEquals(0, mathService.elementwise("add", new double[0], new double[0]).getResults().length);
+        }
+    }
+
+    @Nested
+    @DisplayName("Order Statistics Tests")
+    class OrderStatisticsTests {
+
+        @Test
+        @DisplayName("Should return extremes, median, percentiles and top/bottom values")
+        void testOrderStatistics() {
+            int[] numbers = {7, 1, 9, 3, 5, 3, 10, 2};
+
+            OrderStatistics result = mathService.orderStatistics(numbers, new double[]{0, 25, 99.9, 100}, 3, 2);
+
+            assertEquals(8, result.getCount());
+            assertEquals(1, result.getMin());
+            assertEquals(10, result.getMax());
+            assertEquals(4.0, result.getMedian(), 1e-9);
+            assertEquals(List.of("0", "25", "99.9", "100"), new ArrayList<>(result.getPercentiles().keySet()));
+            assertEquals(1.0, result.getPercentiles().get("0"), 1e-9);
+            assertEquals(2.75, result.getPercentiles().get("25"), 1e-9);
+            assertEquals(9.993, result.getPercentiles().get("99.9"), 1e-9);
+            assertEquals(10.0, result.getPercentiles().get("100"), 1e-9);
+            assertArrayEquals(new int[]{10, 9, 7}, result.getTop());
+            assertArrayEquals(new int[]{1, 2}, result.getBottom());
+            assertArrayEquals(new int[]{7, 1, 9, 3, 5, 3, 10, 2}, numbers);
+        }
+
+        @Test
+        @DisplayName("Should clamp top and bottom to the list size")
+        void testOrderStatisticsClamp() {
+            OrderStatistics result = mathService.orderStatistics(new int[]{2, 1}, null, 5, 5);
+
+            assertEquals(1.5, result.getMedian(), 1e-9);
+            assertTrue(result.getPercentiles().isEmpty());
+            assertArrayEquals(new int[]{2, 1}, result.getTop());
+            assertArrayEquals(new int[]{1, 2}, result.getBottom());
+        }
+
+        @Test
+        @DisplayName("Should reject empty lists and out of range arguments")
+        void testOrderStatisticsValidation() {
+            int[] numbers = {1, 2, 3};
+            assertThrows(IllegalArgumentException.class, () -> mathService.orderStatistics(null, null, 0, 0));
+            assertThrows(IllegalArgumentException.class, () -> mathService.orderStatistics(new int[0], null, 0, 0));
+            assertThrows(IllegalArgumentException.class, () -> mathService.orderStatistics(numbers, new double[]{101}, 0, 0));
+            assertThrows(IllegalArgumentException.class, () -> mathService.orderStatistics(numbers, new double[]{Double.NaN}, 0, 0));
+            assertThrows(IllegalArgumentException.class, () -> mathService.orderStatistics(numbers, null, -1, 0));
+            assertThrows(IllegalArgumentException.class,
+                () -> mathService.orderStatistics(numbers, new double[MathService.MAX_PERCENTILES + 1], 0, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Tests")
+    class BatchTests {
+
+        @Test
+        @DisplayName("Should match the scalar operations item by item")
+        void testBatchMatchesScalarOperations() {
+            String[] ops = {"add", "sum", "subtract", "multiply", "divide", "sqrt"};
+            double[] a = {2, Integer.MAX_VALUE, 3, 70_000, 7, 16};
+            double[] b = {3, 1, 10, 70_000, 2, 0};
+
+            BatchResult result = mathService.batch(ops, a, b);
+
+            assertEquals(0, result.getFailed());
+            assertArrayEquals(new double[]{
+                mathService.add(2, 3),
+                mathService.add(Integer.MAX_VALUE, 1),
+                mathService.subtract(3, 10),
+                mathService.multiply(70_000, 70_000),
+                mathService.divide(7, 2),
+                mathService.sqrt(16)
+            }, result.getResults());
+        }
+
+        @Test
+        @DisplayName("Should report per-item errors without failing the batch")
+        void testBatchPerItemErrors() {
+            String[] ops = {"add", "divide", "sqrt", "multiply", "modulo", "add"};
+            double[] a = {-1, 5, -4, 1.5, 1, 1};
+            double[] b = {2, 0, 0, 2, 1, 1};
+
+            BatchResult result = mathService.batch(ops, a, b);
+
+            assertArrayEquals(new BatchStatus[]{
+                BatchStatus.NEGATIVE_OPERAND, BatchStatus.DIVISION_BY_ZERO, BatchStatus.NEGATIVE_OPERAND,
+                BatchStatus.INVALID_OPERAND, BatchStatus.UNKNOWN_OPERATION, BatchStatus.OK
+            }, result.getStatuses());
+            assertEquals(5, result.getFailed());
+            assertEquals(2.0, result.getResults()[5]);
+        }
+
+        @Test
+        @DisplayName("Should allow omitting b for unary operations only")
+        void testBatchWithoutSecondOperand() {
+            BatchResult result = mathService.batch(new String[]{"sqrt", "add"}, new double[]{9, 1}, null);
+
+            assertEquals(3.0, result.getResults()[0]);
+            assertEquals(BatchStatus.INVALID_OPERAND, result.getStatuses()[1]);
+        }
+
+        @Test
+        @DisplayName("Should reject malformed batches")
+        void testBatchStructureErrors() {
+            assertThrows(IllegalArgumentException.class, () -> mathService.batch(null, new double[0], null));
+            assertThrows(IllegalArgumentException.class,
+                () -> mathService.batch(new String[]{"add"}, new double[]{1, 2}, null));
+            assertThrows(IllegalArgumentException.class,
+                () -> mathService.batch(new String[]{"add"}, new double[]{1}, new double[0]));
+            int tooMany = MathService.MAX_BATCH_SIZE + 1;
+            assertThrows(IllegalArgumentException.class,
+                () -> mathService.batch(new String[tooMany], new double[tooMany], null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Approximate Mode Tests")
+    class ApproximateModeTests {
+
+        @Test
+        @DisplayName("Should find the dominant values with bounded error")
+        void testApproximateModeDominantValues() {
+            int[] numbers = new int[10_000];
+            for (int i = 0; i < numbers.length; i++) {
+                numbers[i] = i % 4 == 0 ? 7 : (i % 10 == 1 ? -3 : 1_000 + i);
+            }
+
+            HeavyHittersResult result = mathService.approximateMode(numbers, 2, 100);
+
+            assertEquals(10_000, result.getTotal());
+            assertEquals(100, result.getCapacity());
+            assertEquals(2, result.getHitters().size());
+            assertEquals(7, result.getHitters().get(0).getValue());
+            assertEquals(-3, result.getHitters().get(1).getValue());
+            assertTrue(result.getMaxError() <= 10_000 / 100);
+            for (HeavyHitter hitter : result.getHitters()) {
+                long exact = Arrays.stream(numbers).filter(n -> n == hitter.getValue()).count();
+                assertTrue(hitter.getMinCount() <= exact && exact <= hitter.getCount());
+            }
+        }
+
+        @Test
+        @DisplayName("Should handle null input and reject invalid sizes")
+        void testApproximateModeArguments() {
+            assertTrue(mathService.approximateMode(null, 1, 10).getHitters().isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> mathService.approximateMode(new int[]{1}, 0, 10));
+            assertThrows(IllegalArgumentException.class, () -> mathService.approximateMode(new int[]{1}, 11, 10));
+            assertThrows(IllegalArgumentException.class,
+                () -> mathService.approximateMode(new int[]{1}, 1, SpaceSaving.MAX_CAPACITY + 1));
+        }
+    }
+
     @Nested
     @DisplayName("Factorial Tests")
     class FactorialTests {
@@ -948,4 +1306,70 @@ class MathServiceTest {
             assertTrue(result instanceof Long, "Result should be of type Long");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Result Cache Tests")
+    class ResultCacheTests {
+
+        @Test
+        @DisplayName("Should serve repeated sorts and modes from the cache")
+        void testRepeatedRequestsHitTheCache() {
+            int[] numbers = {5, 3, 9, 3, 1};
+            SortResult<int[]> first = mathService.sortIntegers(numbers);
+            SortResult<int[]> second = mathService.sortIntegers(numbers.clone());
+            assertSame(first, second);
+            assertArrayEquals(new int[]{1, 3, 3, 5, 9}, second.getValues());
+
+            double[] rationals = {2.5, -1.0, 0.5};
+            assertSame(mathService.sortRationals(rationals), mathService.sortRationals(rationals.clone()));
+            assertSame(mathService.reduceMode(numbers), mathService.reduceMode(numbers.clone()));
+
+            CacheStats stats = mathService.cacheStats();
+            assertEquals(3, stats.getHits());
+            assertEquals(3, stats.getMisses());
+            assertEquals(3, stats.getEntries());
+        }
+
+        @Test
+        @DisplayName("Should keep operations and inputs apart")
+        void testDistinctKeys() {
+            int[] numbers = {4, 4, 2};
+            assertArrayEquals(new int[]{2, 4, 4}, mathService.sortIntegers(numbers).getValues());
+            assertArrayEquals(new int[]{4}, mathService.mode(numbers));
+            assertArrayEquals(new int[]{2, 2, 4}, mathService.sortIntegers(new int[]{2, 4, 2}).getValues());
+
+            // Modificar la entrada después de ordenarla no altera lo guardado
+            numbers[0] = 1;
+            assertArrayEquals(new int[]{1, 2, 4}, mathService.sortIntegers(numbers).getValues());
+            assertEquals(0, mathService.cacheStats().getHits());
+        }
+    }
+
+    @Nested
+    @DisplayName("Big Factorial Tests")
+    class BigFactorialTests {
+
+        @Test
+        @DisplayName("Should agree with the long factorial up to 20")
+        void testBigFactorialMatchesLongFactorial() {
+            for (int n = 0; n <= 20; n++) {
+                assertEquals(BigInteger.valueOf(mathService.factorial(n)), mathService.bigFactorial(n));
+            }
+        }
+
+        @Test
+        @DisplayName("Should compute factorials beyond Long.MAX_VALUE")
+        void testBigFactorialBeyondLong() {
+            assertEquals(new BigInteger("15511210043330985984000000"), mathService.bigFactorial(25));
+            assertEquals(35_660, mathService.bigFactorial(10_000).toString().length());
+        }
+
+        @Test
+        @DisplayName("Should reject negative and too large numbers")
+        void testBigFactorialLimits() {
+            assertThrows(IllegalArgumentException.class, () -> mathService.bigFactorial(-1));
+            assertThrows(IllegalArgumentException.class,
+                () -> mathService.bigFactorial(MathService.MAX_BIG_FACTORIAL + 1));
+        }
+    }
+}
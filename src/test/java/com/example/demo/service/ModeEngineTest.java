@@ -0,0 +1,114 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ReductionResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ModeEngine Tests")
+class ModeEngineTest {
+
+    private static final ComputePool POOL = new ComputePool(4);
+
+    /** Moda de referencia: ordenar y recorrer los bloques de valores iguales. */
+    private static int[] referenceMode(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int maxFrequency = 0;
+        for (int start = 0, end; start < sorted.length; start = end) {
+            end = start + 1;
+            while (end < sorted.length && sorted[end] == sorted[start]) {
+                end++;
+            }
+            maxFrequency = Math.max(maxFrequency, end - start);
+        }
+        int[] modes = new int[sorted.length];
+        int count = 0;
+        for (int start = 0, end; start < sorted.length; start = end) {
+            end = start + 1;
+            while (end < sorted.length && sorted[end] == sorted[start]) {
+                end++;
+            }
+            if (end - start == maxFrequency) {
+                modes[count++] = sorted[start];
+            }
+        }
+        return Arrays.copyOf(modes, count);
+    }
+
+    @Test
+    @DisplayName("Should use the counting path for narrow ranges")
+    void testNarrowRange() {
+        assertArrayEquals(new int[]{-3, 5}, ModeEngine.mode(new int[]{5, -3, 0, 5, -3, 1}));
+        assertArrayEquals(new int[]{7}, ModeEngine.mode(new int[]{7}));
+    }
+
+    @Test
+    @DisplayName("Should use the hash path for wide ranges")
+    void testWideRange() {
+        int[] values = {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, 12};
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE}, ModeEngine.mode(values));
+    }
+
+    @Test
+    @DisplayName("Should return every value when all are distinct")
+    void testAllDistinct() {
+        int[] values = {1_000_000, -5, 300, 42};
+        assertArrayEquals(new int[]{-5, 42, 300, 1_000_000}, ModeEngine.mode(values));
+    }
+
+    @Test
+    @DisplayName("Should match the reference on random inputs of every shape")
+    void testRandomInputs() {
+        Random random = new Random(5);
+        for (int bound : new int[]{10, 1_000, 1 << 24, Integer.MAX_VALUE}) {
+            int[] values = new int[20_000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(bound) - bound / 2;
+            }
+            assertArrayEquals(referenceMode(values), ModeEngine.mode(values), "bound " + bound);
+        }
+    }
+
+    @Test
+    @DisplayName("Should count high cardinality inputs in parallel partitions")
+    void testLargeHighCardinality() {
+        Random random = new Random(9);
+        int[] values = new int[(1 << 19) + 17];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1 << 28) * 4;
+        }
+        values[values.length - 1] = values[3];
+        values[values.length - 2] = values[3];
+        values[values.length - 3] = values[3];
+        assertArrayEquals(referenceMode(values), ModeEngine.mode(values));
+    }
+
+    @Test
+    @DisplayName("Should give the same modes for any number of partitions")
+    void testExplicitPartitions() {
+        Random random = new Random(13);
+        int[] values = new int[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1 << 20) * 8;
+        }
+        int[] expected = referenceMode(values);
+        for (int partitions : new int[]{2, 3, 8}) {
+            ReductionResult<int[]> result = ModeEngine.mode(values, partitions, POOL);
+            assertArrayEquals(expected, result.getValue(), "partitions " + partitions);
+            assertEquals(partitions, result.getPartitions());
+        }
+    }
+
+    @Test
+    @DisplayName("Should count narrow ranges sequentially in a single partition")
+    void testCountingPathSinglePartition() {
+        ReductionResult<int[]> result = ModeEngine.mode(new int[]{1, 2, 2, 3}, 8, POOL);
+        assertArrayEquals(new int[]{2}, result.getValue());
+        assertEquals(1, result.getPartitions());
+    }
+}
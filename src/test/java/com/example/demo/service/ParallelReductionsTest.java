@@ -0,0 +1,83 @@
+package com.example.demo.service;
+
+import com.example.demo.config.MathProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParallelReductions Tests")
+class ParallelReductionsTest {
+
+    private static final ComputePool POOL = new ComputePool(4);
+
+    @Test
+    @DisplayName("Should not split inputs below twice the minimum partition")
+    void testPartitionsSmallInput() {
+        int min = ParallelReductions.MIN_PARTITION;
+        assertEquals(1, POOL.partitions(0, min));
+        assertEquals(1, POOL.partitions(min, min));
+        assertEquals(1, POOL.partitions(2 * min - 1, min));
+        assertEquals(2, POOL.partitions(2 * min, min));
+    }
+
+    @Test
+    @DisplayName("Should never use more partitions than pool threads")
+    void testPartitionsBoundedByPool() {
+        assertEquals(4, POOL.parallelism());
+        assertEquals(4, POOL.partitions(Integer.MAX_VALUE, ParallelReductions.MIN_PARTITION));
+        assertEquals(4, POOL.partitions(Integer.MAX_VALUE, 1));
+        assertEquals(1, new ComputePool(0).parallelism());
+    }
+
+    @Test
+    @DisplayName("Should split ranges into the requested number of contiguous parts")
+    void testSplit() {
+        assertEquals(5, ParallelReductions.split(0, 10, 2));
+        assertEquals(3, ParallelReductions.split(0, 10, 3));
+        assertEquals(Integer.MAX_VALUE / 2, ParallelReductions.split(0, Integer.MAX_VALUE, 2));
+    }
+
+    @Test
+    @DisplayName("Should give the same int sum for any number of partitions")
+    void testIntSumPartitions() {
+        int[] values = new Random(3).ints(100_003).toArray();
+        long expected = ReductionKernels.scalarSum(values);
+        for (int partitions : new int[]{1, 2, 3, 7, 64}) {
+            assertEquals(expected, ParallelReductions.sum(values, partitions, POOL), "partitions " + partitions);
+        }
+    }
+
+    @Test
+    @DisplayName("Should give the same double sum within rounding for any number of partitions")
+    void testDoubleSumPartitions() {
+        double[] values = new Random(5).doubles(100_003, -1, 1).toArray();
+        double expected = ReductionKernels.scalarSum(values);
+        for (int partitions : new int[]{1, 2, 3, 7, 64}) {
+            assertEquals(expected, ParallelReductions.sum(values, partitions, POOL), 1e-9, "partitions " + partitions);
+        }
+    }
+
+    @Test
+    @DisplayName("Should run partitioned work on the dedicated pool, not the common pool")
+    void testDedicatedPool() {
+        assertNotSame(ForkJoinPool.commonPool(), POOL.get());
+        String thread = POOL.get().submit(() -> Thread.currentThread().getName()).join();
+        assertTrue(thread.startsWith("math-compute-"), thread);
+    }
+
+    @Test
+    @DisplayName("Should size the pool from math.compute.parallelism")
+    void testConfiguredParallelism() {
+        MathProperties properties = new MathProperties();
+        properties.getCompute().setParallelism(3);
+        ComputePool pool = new ComputePool(properties);
+        assertEquals(3, pool.parallelism());
+        assertEquals(3, pool.get().getParallelism());
+        pool.shutdown();
+        assertTrue(pool.get().isShutdown());
+    }
+}
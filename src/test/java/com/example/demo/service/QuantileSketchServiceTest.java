@@ -0,0 +1,151 @@
+package com.example.demo.service;
+
+import com.example.demo.config.MathProperties;
+import com.example.demo.dto.SketchState;
+import com.example.demo.dto.SketchSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QuantileSketchService Tests")
+class QuantileSketchServiceTest {
+
+    private QuantileSketchService sketchService;
+
+    @BeforeEach
+    void setUp() {
+        sketchService = new QuantileSketchService();
+    }
+
+    @Nested
+    @DisplayName("Sketch lifecycle")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("Should create an empty sketch")
+        void testCreate() {
+            SketchSummary summary = sketchService.create(200);
+
+            assertNotNull(summary.getId());
+            assertEquals(200, summary.getCompression());
+            assertEquals(0, summary.getCount());
+            assertNull(summary.getMin());
+            assertTrue(summary.getQuantiles().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should fail on unknown or deleted sketches")
+        void testUnknownSketch() {
+            String id = sketchService.create(100).getId();
+
+            assertTrue(sketchService.delete(id));
+            assertFalse(sketchService.delete(id));
+            assertThrows(NoSuchElementException.class, () -> sketchService.add(id, new double[]{1}));
+            assertThrows(NoSuchElementException.class, () -> sketchService.quantiles(id, null));
+            assertThrows(NoSuchElementException.class, () -> sketchService.state(id));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid compressions, values and quantiles")
+        void testValidation() {
+            assertThrows(IllegalArgumentException.class, () -> sketchService.create(5));
+            String id = sketchService.create(100).getId();
+            assertThrows(IllegalArgumentException.class, () -> sketchService.add(id, new double[]{1, Double.NaN}));
+            assertEquals(0, sketchService.quantiles(id, null).getCount());
+            assertThrows(IllegalArgumentException.class, () -> sketchService.quantiles(id, new double[]{1.5}));
+        }
+    }
+
+    @Nested
+    @DisplayName("Quantiles and merging")
+    class QuantileTests {
+
+        @Test
+        @DisplayName("Should answer quantiles keyed as requested")
+        void testQuantiles() {
+            String id = sketchService.create(100).getId();
+            double[] values = new double[1001];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i;
+            }
+            sketchService.add(id, values);
+            sketchService.add(id, null);
+
+            SketchSummary summary = sketchService.quantiles(id, new double[]{0, 0.5, 0.99, 1});
+
+            assertEquals(1001, summary.getCount());
+            assertEquals(0.0, summary.getMin());
+            assertEquals(1000.0, summary.getMax());
+            assertEquals(List.of("0", "0.5", "0.99", "1"), new ArrayList<>(summary.getQuantiles().keySet()));
+            assertEquals(0.0, summary.getQuantiles().get("0"));
+            assertEquals(500.0, summary.getQuantiles().get("0.5"), 5.0);
+            assertEquals(990.0, summary.getQuantiles().get("0.99"), 2.0);
+            assertEquals(1000.0, summary.getQuantiles().get("1"));
+        }
+
+        @Test
+        @DisplayName("Should merge a sketch exported from another node")
+        void testMergeExportedState() {
+            String left = sketchService.create(100).getId();
+            String right = sketchService.create(50).getId();
+            double[] low = new double[500];
+            double[] high = new double[500];
+            for (int i = 0; i < 500; i++) {
+                low[i] = i;
+                high[i] = 500 + i;
+            }
+            sketchService.add(left, low);
+            sketchService.add(right, high);
+
+            SketchState state = sketchService.state(right);
+            assertEquals(50, state.getCompression());
+            assertEquals(500, state.getCount());
+            SketchSummary merged = sketchService.merge(left, state);
+
+            assertEquals(1000, merged.getCount());
+            assertEquals(100, merged.getCompression());
+            assertEquals(999.0, merged.getMax());
+            assertEquals(500.0, sketchService.quantiles(left, new double[]{0.5}).getQuantiles().get("0.5"), 10.0);
+        }
+
+        @Test
+        @DisplayName("Should reject malformed states")
+        void testMergeValidation() {
+            String id = sketchService.create(100).getId();
+            assertThrows(IllegalArgumentException.class, () -> sketchService.merge(id, new SketchState()));
+            assertThrows(IllegalArgumentException.class, () -> sketchService.merge(id,
+                new SketchState(100, 2, 1.0, 2.0, new double[]{2, 1}, new long[]{1, 1})));
+            assertThrows(IllegalArgumentException.class, () -> sketchService.merge(id,
+                new SketchState(100, 1, 1.0, 2.0, new double[]{1}, new long[]{0})));
+            assertThrows(IllegalArgumentException.class, () -> sketchService.merge(id,
+                new SketchState(100, 1, 5.0, 6.0, new double[]{1}, new long[]{1})));
+            assertEquals(0, sketchService.merge(id,
+                new SketchState(100, 0, null, null, new double[0], new long[0])).getCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sketch limits")
+    class LimitTests {
+
+        @Test
+        @DisplayName("Should reject new sketches beyond the limit until one is deleted")
+        void testMaxSketches() {
+            MathProperties properties = new MathProperties();
+            properties.getSketches().setMaxEntries(1);
+            QuantileSketchService limited = new QuantileSketchService(properties);
+            String id = limited.create(100).getId();
+
+            assertThrows(StorageLimitExceededException.class, () -> limited.create(100));
+            assertTrue(limited.delete(id));
+            assertNotNull(limited.create(100).getId());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark de las reducciones de {@link ReductionKernels} frente a la suma
+ * con boxing que hacía antes {@code sumList}. No se ejecuta con los tests; se
+ * lanza desde el IDE o con:
+ * <pre>
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.example.demo.service.ReductionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ReductionBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<Integer> boxed;
+    private int[] ints;
+    private double[] doubles;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ints = random.ints(size).toArray();
+        doubles = random.doubles(size).toArray();
+        boxed = Arrays.stream(ints).boxed().toList();
+    }
+
+    /** La suma tal como estaba en {@code sumList}, en {@code int} y con desbordamiento. */
+    @Benchmark
+    public int boxedStreamSum() {
+        return boxed.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Benchmark
+    public long scalarIntSum() {
+        return ReductionKernels.scalarSum(ints);
+    }
+
+    @Benchmark
+    public long vectorIntSum() {
+        return VectorReductions.sum(ints);
+    }
+
+    @Benchmark
+    public double scalarDoubleSum() {
+        return ReductionKernels.scalarSum(doubles);
+    }
+
+    @Benchmark
+    public double vectorDoubleSum() {
+        return VectorReductions.sum(doubles);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ReductionBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
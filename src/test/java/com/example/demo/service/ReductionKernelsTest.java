@@ -0,0 +1,72 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("ReductionKernels Tests")
+class ReductionKernelsTest {
+
+    /** Longitudes alrededor del umbral vectorial y de los restos de un vector. */
+    private static final int[] LENGTHS = {0, 1, 7, 63, 64, 65, 127, 1000, 4099, 100_003};
+
+    @Test
+    @DisplayName("Should match the scalar int sum for every length")
+    void testIntSumMatchesScalar() {
+        Random random = new Random(42);
+        for (int length : LENGTHS) {
+            int[] values = random.ints(length).toArray();
+            assertEquals(ReductionKernels.scalarSum(values), ReductionKernels.sum(values), "length " + length);
+        }
+    }
+
+    @Test
+    @DisplayName("Should accumulate int sums in long without overflow")
+    void testIntSumOverflow() {
+        for (int length : LENGTHS) {
+            int[] max = new int[length];
+            Arrays.fill(max, Integer.MAX_VALUE);
+            int[] min = new int[length];
+            Arrays.fill(min, Integer.MIN_VALUE);
+            assertEquals((long) length * Integer.MAX_VALUE, ReductionKernels.sum(max), "length " + length);
+            assertEquals((long) length * Integer.MIN_VALUE, ReductionKernels.sum(min), "length " + length);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the scalar double sum within rounding")
+    void testDoubleSumMatchesScalar() {
+        Random random = new Random(7);
+        for (int length : LENGTHS) {
+            double[] values = random.doubles(length, -1000, 1000).toArray();
+            double expected = ReductionKernels.scalarSum(values);
+            assertEquals(expected, ReductionKernels.sum(values), 1e-9 * Math.max(1, length), "length " + length);
+        }
+    }
+
+    @Test
+    @DisplayName("Should sum exactly representable doubles exactly")
+    void testDoubleSumExact() {
+        double[] values = new double[1025];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 0.25;
+        }
+        assertEquals(1024 * 1025 / 2 * 0.25, ReductionKernels.sum(values));
+    }
+
+    @Test
+    @DisplayName("Should use the Vector API kernels directly when available")
+    void testVectorKernels() {
+        assumeTrue(ReductionKernels.VECTORIZED);
+        Random random = new Random(11);
+        int[] ints = random.ints(10_007).toArray();
+        assertEquals(ReductionKernels.scalarSum(ints), VectorReductions.sum(ints));
+        double[] doubles = random.doubles(10_007).toArray();
+        assertEquals(ReductionKernels.scalarSum(doubles), VectorReductions.sum(doubles), 1e-9);
+    }
+}
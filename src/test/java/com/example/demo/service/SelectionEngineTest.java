@@ -0,0 +1,109 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SelectionEngine Tests")
+class SelectionEngineTest {
+
+    /** Percentil de referencia con interpolación lineal sobre la lista ordenada. */
+    private static double referencePercentile(int[] sorted, double percentile) {
+        double position = (sorted.length - 1) * percentile / 100.0;
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (position - lower) * ((double) sorted[upper] - sorted[lower]);
+    }
+
+    private static int[] shapes(Random random, int shape, int length) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            switch (shape) {
+                case 0 -> values[i] = random.nextInt();
+                case 1 -> values[i] = random.nextInt(5);
+                case 2 -> values[i] = i;
+                case 3 -> values[i] = length - i;
+                default -> values[i] = i % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            }
+        }
+        return values;
+    }
+
+    @Test
+    @DisplayName("Should select the k-th smallest element for every k")
+    void testSelectEveryRank() {
+        Random random = new Random(1);
+        int[] values = random.ints(300, -50, 50).toArray();
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int k = 0; k < values.length; k++) {
+            int[] copy = values.clone();
+            assertEquals(sorted[k], SelectionEngine.select(copy, 0, copy.length, k), "k " + k);
+            for (int i = 0; i < k; i++) {
+                assertTrue(copy[i] <= copy[k]);
+            }
+            for (int i = k + 1; i < copy.length; i++) {
+                assertTrue(copy[i] >= copy[k]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match sorted percentiles on every input shape")
+    void testPercentilesMatchReference() {
+        Random random = new Random(2);
+        double[] percentiles = {0, 1, 25, 50, 75, 90, 99, 99.9, 100};
+        for (int shape = 0; shape < 5; shape++) {
+            for (int length : new int[]{1, 2, 3, 10, 1000, 100_001}) {
+                int[] values = shapes(random, shape, length);
+                int[] sorted = values.clone();
+                Arrays.sort(sorted);
+                double[] results = SelectionEngine.percentiles(values.clone(), percentiles);
+                for (int i = 0; i < percentiles.length; i++) {
+                    assertEquals(referencePercentile(sorted, percentiles[i]), results[i], 1e-6,
+                        "shape " + shape + ", length " + length + ", p" + percentiles[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should interpolate the median of even-sized inputs")
+    void testEvenMedian() {
+        assertArrayEquals(new double[]{2.5}, SelectionEngine.percentiles(new int[]{4, 1, 3, 2}, new double[]{50}));
+    }
+
+    @Test
+    @DisplayName("Should return top-k descending and bottom-k ascending with both strategies")
+    void testTopAndBottom() {
+        Random random = new Random(3);
+        int[] values = random.ints(10_000).toArray();
+        values[17] = Integer.MAX_VALUE;
+        values[42] = Integer.MIN_VALUE;
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        // 5 usa el montículo y 5000 la selección sobre una copia
+        for (int k : new int[]{0, 1, 5, 5000, values.length}) {
+            int[] expectedTop = new int[k];
+            int[] expectedBottom = Arrays.copyOf(sorted, k);
+            for (int i = 0; i < k; i++) {
+                expectedTop[i] = sorted[sorted.length - 1 - i];
+            }
+            assertArrayEquals(expectedTop, SelectionEngine.top(values, k), "top " + k);
+            assertArrayEquals(expectedBottom, SelectionEngine.bottom(values, k), "bottom " + k);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not modify the input when computing top and bottom")
+    void testTopBottomKeepInput() {
+        int[] values = {5, 3, 9, 1, 7};
+        SelectionEngine.top(values, 2);
+        SelectionEngine.bottom(values, 4);
+        assertArrayEquals(new int[]{5, 3, 9, 1, 7}, values);
+    }
+}
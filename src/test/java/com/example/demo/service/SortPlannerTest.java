@@ -0,0 +1,121 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.SortStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SortPlanner Tests")
+class SortPlannerTest {
+
+    private static void assertSortedWith(SortStrategy expected, int[] input) {
+        int[] sorted = input.clone();
+        Arrays.sort(sorted);
+        int[] actual = input.clone();
+        assertEquals(expected, SortPlanner.sort(actual));
+        assertArrayEquals(sorted, actual);
+    }
+
+    private static void assertSortedWith(SortStrategy expected, double[] input) {
+        double[] sorted = input.clone();
+        Arrays.sort(sorted);
+        double[] actual = input.clone();
+        assertEquals(expected, SortPlanner.sort(actual));
+        assertArrayEquals(sorted, actual);
+    }
+
+    @Nested
+    @DisplayName("Integer planning")
+    class IntegerTests {
+
+        @Test
+        @DisplayName("Should use introsort for small inputs")
+        void testSmallInput() {
+            assertSortedWith(SortStrategy.INTROSORT, new int[]{5, 3, 9, 1});
+        }
+
+        @Test
+        @DisplayName("Should use counting sort for narrow ranges")
+        void testNarrowRange() {
+            int[] input = new Random(1).ints(10_000, -50, 50).toArray();
+            assertSortedWith(SortStrategy.COUNTING, input);
+        }
+
+        @Test
+        @DisplayName("Should merge runs for nearly sorted input")
+        void testNearlySorted() {
+            int[] input = new int[10_000];
+            for (int i = 0; i < input.length; i++) {
+                input[i] = i * 1_000;
+            }
+            // Unas pocas perturbaciones rompen el orden en algunos puntos
+            input[100] = -5;
+            input[5_000] = Integer.MAX_VALUE;
+            assertSortedWith(SortStrategy.RUN_MERGE, input);
+        }
+
+        @Test
+        @DisplayName("Should merge runs for reverse sorted input")
+        void testReverseSorted() {
+            int[] input = new int[10_000];
+            for (int i = 0; i < input.length; i++) {
+                input[i] = (input.length - i) * 1_000;
+            }
+            assertSortedWith(SortStrategy.RUN_MERGE, input);
+        }
+
+        @Test
+        @DisplayName("Should use radix sort for wide uniform input")
+        void testWideUniform() {
+            int[] input = new Random(2).ints(50_000).toArray();
+            assertSortedWith(SortStrategy.RADIX, input);
+        }
+
+        @Test
+        @DisplayName("Should use introsort for wide input with many duplicates")
+        void testWideWithDuplicates() {
+            Random random = new Random(3);
+            int[] input = new int[50_000];
+            for (int i = 0; i < input.length; i++) {
+                input[i] = random.nextInt(8) * 100_000_000;
+            }
+            assertSortedWith(SortStrategy.INTROSORT, input);
+        }
+    }
+
+    @Nested
+    @DisplayName("Double planning")
+    class DoubleTests {
+
+        @Test
+        @DisplayName("Should use the dual-pivot quicksort for small inputs")
+        void testSmallInput() {
+            assertSortedWith(SortStrategy.DUAL_PIVOT_QUICKSORT, new double[]{2.5, -1.0, Double.NaN, -0.0, 0.0});
+        }
+
+        @Test
+        @DisplayName("Should merge runs for nearly sorted input")
+        void testNearlySorted() {
+            double[] input = new double[10_000];
+            for (int i = 0; i < input.length; i++) {
+                input[i] = i * 0.25;
+            }
+            input[42] = Double.NaN;
+            assertSortedWith(SortStrategy.RUN_MERGE, input);
+        }
+
+        @Test
+        @DisplayName("Should sort random input in parallel when the pool allows it")
+        void testRandomInput() {
+            double[] input = new Random(4).doubles(50_000).toArray();
+            SortStrategy expected = SortPlanner.plan(input);
+            assertTrue(expected == SortStrategy.PARALLEL || expected == SortStrategy.DUAL_PIVOT_QUICKSORT);
+            assertSortedWith(expected, input);
+        }
+    }
+}
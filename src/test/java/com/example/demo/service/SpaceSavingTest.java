@@ -0,0 +1,65 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.HeavyHitter;
+import com.example.demo.dto.HeavyHittersResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpaceSaving Tests")
+class SpaceSavingTest {
+
+    @Test
+    @DisplayName("Should count exactly while there are free counters")
+    void testExactWhenNotFull() {
+        SpaceSaving summary = new SpaceSaving(10);
+        summary.offerAll(new int[]{3, 1, 3, 2, 3, 1});
+
+        HeavyHittersResult result = summary.top(3);
+        assertEquals(0, result.getMaxError());
+        assertEquals(3, result.getHitters().get(0).getValue());
+        assertEquals(3, result.getHitters().get(0).getCount());
+        assertEquals(1, result.getHitters().get(1).getValue());
+        assertEquals(2, result.getHitters().get(2).getValue());
+        assertEquals(0, result.getHitters().get(2).getError());
+    }
+
+    @Test
+    @DisplayName("Should bound every estimate on a skewed stream with a long tail")
+    void testSkewedStream() {
+        Random random = new Random(17);
+        SpaceSaving summary = new SpaceSaving(64);
+        Map<Integer, Integer> exact = new HashMap<>();
+        int total = 200_000;
+        for (int i = 0; i < total; i++) {
+            // Un 30% para tres valores dominantes, el resto disperso
+            int value = random.nextInt(10) < 3 ? random.nextInt(3) : random.nextInt(1_000_000) + 10;
+            summary.offer(value);
+            exact.merge(value, 1, Integer::sum);
+        }
+
+        HeavyHittersResult result = summary.top(64);
+        assertEquals(total, result.getTotal());
+        assertTrue(result.getMaxError() <= total / 64);
+        for (HeavyHitter hitter : result.getHitters()) {
+            int real = exact.getOrDefault(hitter.getValue(), 0);
+            assertTrue(hitter.getMinCount() <= real, "cota inferior de " + hitter.getValue());
+            assertTrue(real <= hitter.getCount(), "cota superior de " + hitter.getValue());
+        }
+        for (int i = 0; i < 3; i++) {
+            assertTrue(result.getHitters().get(i).getValue() < 3);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject capacities out of range")
+    void testCapacityBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSaving(0));
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSaving(SpaceSaving.MAX_CAPACITY + 1));
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.demo.service;
+
+import com.example.demo.config.MathProperties;
+import com.example.demo.dto.StatisticsSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StatisticsSessionService Tests")
+class StatisticsSessionServiceTest {
+
+    private StatisticsSessionService sessionService;
+
+    @BeforeEach
+    void setUp() {
+        sessionService = new StatisticsSessionService();
+    }
+
+    @Nested
+    @DisplayName("Session lifecycle")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("Should create an empty session")
+        void testCreate() {
+            StatisticsSnapshot snapshot = sessionService.create();
+
+            assertNotNull(snapshot.getId());
+            assertEquals(0, snapshot.getCount());
+            assertEquals(0.0, snapshot.getMean());
+            assertNull(snapshot.getMin());
+            assertEquals(0, snapshot.getModes().length);
+        }
+
+        @Test
+        @DisplayName("Should fail on unknown or deleted sessions")
+        void testUnknownSession() {
+            String id = sessionService.create().getId();
+
+            assertTrue(sessionService.delete(id));
+            assertFalse(sessionService.delete(id));
+            assertThrows(NoSuchElementException.class, () -> sessionService.snapshot(id));
+            assertThrows(NoSuchElementException.class, () -> sessionService.append(id, new int[]{1}));
+        }
+    }
+
+    @Nested
+    @DisplayName("Running statistics")
+    class RunningStatisticsTests {
+
+        @Test
+        @DisplayName("Should accumulate statistics across chunks")
+        void testAppendChunks() {
+            String id = sessionService.create().getId();
+            sessionService.append(id, new int[]{2, 4, 4});
+            sessionService.append(id, null);
+            StatisticsSnapshot snapshot = sessionService.append(id, new int[]{4, 5, 5, 7, 9});
+
+            assertEquals(8, snapshot.getCount());
+            assertEquals(40, snapshot.getSum());
+            assertEquals(5.0, snapshot.getMean(), 1e-12);
+            assertEquals(4.0, snapshot.getVariance(), 1e-12);
+            assertEquals(32.0 / 7, snapshot.getSampleVariance(), 1e-12);
+            assertEquals(2, snapshot.getMin());
+            assertEquals(9, snapshot.getMax());
+            assertArrayEquals(new int[]{4}, snapshot.getModes());
+        }
+
+        @Test
+        @DisplayName("Should track ties and new leaders in the modes")
+        void testModesAcrossChunks() {
+            String id = sessionService.create().getId();
+
+            assertArrayEquals(new int[]{1, 3}, sessionService.append(id, new int[]{3, 1}).getModes());
+            assertArrayEquals(new int[]{3}, sessionService.append(id, new int[]{3}).getModes());
+            assertArrayEquals(new int[]{-2, 1, 3}, sessionService.append(id, new int[]{1, -2, -2}).getModes());
+        }
+
+        @Test
+        @DisplayName("Should match whole-array statistics for many random chunks")
+        void testMatchesWholeArray() {
+            Random random = new Random(21);
+            String id = sessionService.create().getId();
+            int[] all = new int[0];
+            for (int chunk = 0; chunk < 50; chunk++) {
+                int[] numbers = random.ints(random.nextInt(500), -1_000_000, 1_000_000).toArray();
+                sessionService.append(id, numbers);
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + numbers.length);
+                System.arraycopy(numbers, 0, all, offset, numbers.length);
+            }
+
+            double mean = Arrays.stream(all).average().orElse(0);
+            double variance = Arrays.stream(all).mapToDouble(n -> (n - mean) * (n - mean)).sum() / all.length;
+            StatisticsSnapshot snapshot = sessionService.snapshot(id);
+            assertEquals(all.length, snapshot.getCount());
+            assertEquals(Arrays.stream(all).asLongStream().sum(), snapshot.getSum());
+            assertEquals(mean, snapshot.getMean(), 1e-6);
+            assertEquals(variance, snapshot.getVariance(), variance * 1e-9);
+            assertEquals(Arrays.stream(all).min().getAsInt(), snapshot.getMin());
+            assertEquals(Arrays.stream(all).max().getAsInt(), snapshot.getMax());
+            int[] modes = ModeEngine.mode(all);
+            assertEquals(modes.length, snapshot.getModeCount());
+            assertArrayEquals(Arrays.copyOf(modes, Math.min(modes.length, StatisticsSession.REPORTED_MODES)),
+                snapshot.getModes());
+        }
+
+        @Test
+        @DisplayName("Should report only the smallest modes when every value is distinct")
+        void testBoundedModesForDistinctValues() {
+            String id = sessionService.create().getId();
+            int reported = StatisticsSession.REPORTED_MODES;
+            for (int chunk = 0; chunk < 10; chunk++) {
+                int[] numbers = new int[1_000];
+                for (int i = 0; i < numbers.length; i++) {
+                    // Valores distintos y desordenados entre bloques
+                    numbers[i] = (chunk * 7_919 + i * 104_729) % 1_000_003;
+                }
+                StatisticsSnapshot snapshot = sessionService.append(id, numbers);
+                assertEquals(1, snapshot.getModeFrequency());
+                assertEquals((chunk + 1) * 1_000, snapshot.getModeCount());
+                assertEquals(reported, snapshot.getModes().length);
+            }
+
+            StatisticsSnapshot snapshot = sessionService.append(id, new int[]{5, 5});
+            assertEquals(2, snapshot.getModeFrequency());
+            assertEquals(1, snapshot.getModeCount());
+            assertArrayEquals(new int[]{5}, snapshot.getModes());
+        }
+    }
+
+    @Nested
+    @DisplayName("Session limits")
+    class LimitTests {
+
+        private StatisticsSessionService limited(int maxEntries, int maxDistinctValues) {
+            MathProperties properties = new MathProperties();
+            properties.getSessions().setMaxEntries(maxEntries);
+            properties.getSessions().setMaxDistinctValues(maxDistinctValues);
+            return new StatisticsSessionService(properties);
+        }
+
+        @Test
+        @DisplayName("Should reject new sessions beyond the limit until one is deleted")
+        void testMaxSessions() {
+            StatisticsSessionService service = limited(2, 100);
+            String first = service.create().getId();
+            service.create();
+
+            assertThrows(StorageLimitExceededException.class, service::create);
+            assertTrue(service.delete(first));
+            assertNotNull(service.create().getId());
+        }
+
+        @Test
+        @DisplayName("Should reject a whole chunk that exceeds the distinct value limit")
+        void testMaxDistinctValues() {
+            StatisticsSessionService service = limited(10, 4);
+            String id = service.create().getId();
+            service.append(id, new int[]{1, 2, 2, 3});
+
+            // Repetidos y valores ya vistos no cuentan como nuevos
+            assertEquals(7, service.append(id, new int[]{1, 4, 4}).getCount());
+            assertThrows(StorageLimitExceededException.class, () -> service.append(id, new int[]{1, 5}));
+            StatisticsSnapshot snapshot = service.snapshot(id);
+            assertEquals(7, snapshot.getCount());
+            assertEquals(4, snapshot.getMax());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TDigest Tests")
+class TDigestTest {
+
+    private static final double[] QUANTILES = {0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+
+    /** Cuantil empírico del valor estimado: proporción de datos que no lo superan. */
+    private static double rankOf(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        int position = index >= 0 ? index : -index - 1;
+        return (double) position / sorted.length;
+    }
+
+    /** Error de rango admitido: menor en las colas, como promete la función de escala. */
+    private static double rankTolerance(double q) {
+        return Math.max(0.0005, 0.02 * Math.sqrt(q * (1 - q)));
+    }
+
+    @Test
+    @DisplayName("Should be exact for tiny inputs and NaN when empty")
+    void testSmallInputs() {
+        TDigest digest = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        assertTrue(Double.isNaN(digest.quantile(0.5)));
+
+        digest.add(7.0);
+        assertEquals(7.0, digest.quantile(0.0));
+        assertEquals(7.0, digest.quantile(0.5));
+        assertEquals(7.0, digest.quantile(1.0));
+
+        digest.add(1.0);
+        digest.add(4.0);
+        assertEquals(1.0, digest.quantile(0.0));
+        assertEquals(4.0, digest.quantile(0.5));
+        assertEquals(7.0, digest.quantile(1.0));
+        assertEquals(3, digest.getCount());
+    }
+
+    @Test
+    @DisplayName("Should estimate quantiles of skewed data within the rank error bound")
+    void testAccuracy() {
+        Random random = new Random(1);
+        double[] values = new double[200_000];
+        TDigest digest = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        for (int i = 0; i < values.length; i++) {
+            // Latencias con cola larga: exponencial
+            values[i] = -Math.log(1 - random.nextDouble()) * 50;
+            digest.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : QUANTILES) {
+            assertEquals(q, rankOf(values, digest.quantile(q)), rankTolerance(q), "q " + q);
+        }
+        assertEquals(values[0], digest.quantile(0));
+        assertEquals(values[values.length - 1], digest.quantile(1));
+    }
+
+    @Test
+    @DisplayName("Should keep the number of centroids bounded by the compression")
+    void testBoundedSize() {
+        Random random = new Random(2);
+        TDigest digest = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        for (int i = 0; i < 500_000; i++) {
+            digest.add(random.nextGaussian());
+        }
+        assertTrue(digest.centroidCount() <= Math.ceil(TDigest.DEFAULT_COMPRESSION * Math.PI / 2) + 1,
+            "centroids " + digest.centroidCount());
+        assertEquals(500_000, Arrays.stream(digest.weights()).sum());
+        double[] means = digest.means();
+        for (int i = 1; i < means.length; i++) {
+            assertTrue(means[i - 1] <= means[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should merge digests built separately with the same accuracy")
+    void testMerge() {
+        Random random = new Random(3);
+        double[] values = new double[100_000];
+        TDigest merged = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        for (int part = 0; part < 10; part++) {
+            TDigest node = new TDigest(TDigest.DEFAULT_COMPRESSION);
+            for (int i = part * 10_000; i < (part + 1) * 10_000; i++) {
+                // Cada nodo ve un rango distinto de valores
+                values[i] = part * 100 + random.nextDouble() * 150;
+                node.add(values[i]);
+            }
+            merged.merge(node.means(), node.weights(), node.getMin(), node.getMax());
+        }
+        Arrays.sort(values);
+
+        assertEquals(values.length, merged.getCount());
+        assertEquals(values[0], merged.getMin());
+        assertEquals(values[values.length - 1], merged.getMax());
+        for (double q : QUANTILES) {
+            assertEquals(q, rankOf(values, merged.quantile(q)), 2 * rankTolerance(q), "q " + q);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject compressions out of range")
+    void testCompressionRange() {
+        assertThrows(IllegalArgumentException.class, () -> new TDigest(TDigest.MIN_COMPRESSION - 1));
+        assertThrows(IllegalArgumentException.class, () -> new TDigest(TDigest.MAX_COMPRESSION + 1));
+    }
+}